@@ -0,0 +1,75 @@
+package cyclops.async;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per element cost of a trivial map stage, one executor task per element vs one task per chunk of 64 elements
+ */
+@State(Scope.Benchmark)
+public class LazyReactChunking {
+
+ static final int ELEMENTS = 100000;
+
+ ExecutorService exec;
+ LazyReact perElement;
+ LazyReact chunked;
+
+ @Setup
+ public void setup(){
+  exec = Executors.newFixedThreadPool(4);
+  perElement = new LazyReact(exec);
+  chunked = perElement.withChunking(64);
+ }
+
+ @TearDown
+ public void tearDown(){
+  exec.shutdownNow();
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.AverageTime)
+ @OutputTimeUnit(TimeUnit.NANOSECONDS)
+ @OperationsPerInvocation(ELEMENTS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void perElement(Blackhole bh){
+
+   run(perElement,bh);
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.AverageTime)
+ @OutputTimeUnit(TimeUnit.NANOSECONDS)
+ @OperationsPerInvocation(ELEMENTS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void chunked(Blackhole bh){
+
+   run(chunked,bh);
+
+ }
+
+ private void run(LazyReact react, Blackhole bh){
+   react.iterate(1,i->i+1)
+        .limit(ELEMENTS)
+        .map(i->i+1)
+        .forEach(bh::consume);
+ }
+
+
+}
@@ -0,0 +1,75 @@
+package cyclops.async;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FutureStream with object pooling on vs off, run with -prof gc and compare gc.alloc.rate.norm (bytes allocated per element)
+ */
+@State(Scope.Benchmark)
+public class LazyReactPooling {
+
+ static final int ELEMENTS = 100000;
+
+ ExecutorService exec;
+ LazyReact pooled;
+ LazyReact unpooled;
+
+ @Setup
+ public void setup(){
+  exec = Executors.newFixedThreadPool(4);
+  unpooled = new LazyReact(exec);
+  pooled = unpooled.objectPoolingOn();
+ }
+
+ @TearDown
+ public void tearDown(){
+  exec.shutdownNow();
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.AverageTime)
+ @OutputTimeUnit(TimeUnit.NANOSECONDS)
+ @OperationsPerInvocation(ELEMENTS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void poolingOn(Blackhole bh){
+
+   run(pooled,bh);
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.AverageTime)
+ @OutputTimeUnit(TimeUnit.NANOSECONDS)
+ @OperationsPerInvocation(ELEMENTS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void poolingOff(Blackhole bh){
+
+   run(unpooled,bh);
+
+ }
+
+ private void run(LazyReact react, Blackhole bh){
+   react.iterate(1,i->i+1)
+        .limit(ELEMENTS)
+        .map(i->i+1)
+        .forEach(bh::consume);
+ }
+
+
+}
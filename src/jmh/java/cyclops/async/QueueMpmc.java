@@ -0,0 +1,86 @@
+package cyclops.async;
+
+import cyclops.async.adapters.Queue;
+import cyclops.async.adapters.QueueFactory;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 4 producers and 4 consumers exchanging data through a single bounded Queue
+ */
+@State(Scope.Benchmark)
+public class QueueMpmc {
+
+ static final int THREADS = 4;
+ static final int PER_PRODUCER = 25000;
+
+ ExecutorService exec;
+
+ @Setup
+ public void setup(){
+  exec = Executors.newFixedThreadPool(THREADS*2);
+ }
+
+ @TearDown
+ public void tearDown(){
+  exec.shutdownNow();
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void boundedQueue(Blackhole bh) throws Exception {
+
+   run(QueueFactories.boundedQueue(1024),bh);
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void boundedMpmcQueue(Blackhole bh) throws Exception {
+
+   run(QueueFactories.boundedMpmcQueue(1024),bh);
+
+ }
+
+ private void run(QueueFactory<Integer> factory, Blackhole bh) throws Exception {
+   Queue<Integer> queue = factory.build();
+   List<Future<?>> tasks = new ArrayList<>();
+   for(int i=0;i<THREADS;i++){
+     tasks.add(exec.submit(()->{
+       for(int j=0;j<PER_PRODUCER;j++)
+         queue.offer(j);
+     }));
+     tasks.add(exec.submit(()->{
+       for(int j=0;j<PER_PRODUCER;j++)
+         bh.consume(queue.get());
+     }));
+   }
+   for(Future<?> next : tasks)
+     next.get();
+ }
+
+
+}
@@ -0,0 +1,62 @@
+package cyclops.reactiveSeq;
+
+import com.aol.cyclops2.internal.stream.ReactiveStreamX;
+import com.aol.cyclops2.internal.stream.spliterators.push.FilterOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.MapOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.Operator;
+import com.aol.cyclops2.internal.stream.spliterators.push.RangeIntOperator;
+import cyclops.stream.Spouts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Per element cost of a 6 stage map / filter chain over 10,000 elements with and without operator fusion.
+ * The unfused variant builds the Operator chain directly (one MapOperator / FilterOperator per stage), the fused variant
+ * goes via ReactiveSeq#map / filter which collapse the chain into a single FusedOperator.
+ */
+public class Map5Fusion {
+
+ @Benchmark
+ @BenchmarkMode(Mode.AverageTime)
+ @OutputTimeUnit(TimeUnit.MICROSECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void unfused(Blackhole bh){
+  Operator<Integer> op = new RangeIntOperator(0,10_000);
+  op = new MapOperator<Integer,Integer>(op,i -> i * 2);
+  op = new MapOperator<Integer,Integer>(op,i -> i * 2);
+  op = new FilterOperator<Integer>(op,i -> i % 3 != 0);
+  op = new MapOperator<Integer,Integer>(op,i -> i * 2);
+  op = new MapOperator<Integer,Integer>(op,i -> i * 2);
+  op = new MapOperator<Integer,Integer>(op,i -> i * 2);
+  new ReactiveStreamX<>(op).forEach(bh::consume);
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.AverageTime)
+ @OutputTimeUnit(TimeUnit.MICROSECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void fused(Blackhole bh) {
+  Spouts.range(0,10_000)
+          .map(i -> i * 2)
+          .map(i -> i * 2)
+          .filter(i -> i % 3 != 0)
+          .map(i -> i * 2)
+          .map(i -> i * 2)
+          .map(i -> i * 2)
+          .forEach(bh::consume);
+ }
+
+}
@@ -0,0 +1,54 @@
+package cyclops.reactiveSeq;
+
+import cyclops.stream.Spouts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * A CPU bound map stage over 10,000 elements executed sequentially and across 4 rails (merged in order).
+ */
+public class ParallelRails {
+
+ static int work(int in){
+  int result = in;
+  for(int i=0;i<1000;i++)
+   result = result * 31 + i;
+  return result;
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.AverageTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void sequential(Blackhole bh){
+  Spouts.range(0,10_000)
+          .map(ParallelRails::work)
+          .forEach(bh::consume);
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.AverageTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void rails(Blackhole bh) {
+  Spouts.range(0,10_000)
+          .parallel(4)
+          .map(ParallelRails::work)
+          .sequentialOrdered()
+          .forEach(bh::consume);
+ }
+
+}
@@ -0,0 +1,105 @@
+package cyclops.reactiveSeq;
+
+import cyclops.companion.Monoids;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+
+public class SlidingLarge {
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void slidingVectorX(Blackhole bh){
+
+   ReactiveSeq.range(0,100000)
+           .sliding(1000,1)
+           .map(w->w.size())
+           .forEach(bh::consume);
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void slidingView(Blackhole bh){
+
+   ReactiveSeq.range(0,100000)
+           .slidingView(1000,1)
+           .map(w->w.size())
+           .forEach(bh::consume);
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void spoutsSlidingBuffer(Blackhole bh){
+
+   Spouts.range(0,100000)
+           .slidingBuffer(1000,1)
+           .map(w->w.get(0))
+           .forEach(bh::consume);
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void slidingSum(Blackhole bh){
+
+   ReactiveSeq.range(0,100000)
+           .slidingSum(1000,i->i)
+           .forEach(bh::consume);
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void spoutsSlidingReduce(Blackhole bh){
+
+   Spouts.range(0,100000)
+           .slidingReduce(1000,Monoids.intMax)
+           .forEach(bh::consume);
+
+ }
+
+
+}
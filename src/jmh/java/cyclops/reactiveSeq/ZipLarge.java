@@ -0,0 +1,67 @@
+package cyclops.reactiveSeq;
+
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+
+public class ZipLarge {
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void reactiveSeqZipLarge(Blackhole bh){
+
+   ReactiveSeq.range(0,100000)
+           .zipS(ReactiveSeq.range(0,100000),(a,b)->a+b)
+           .forEach(bh::consume);
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void spoutsZipLarge(Blackhole bh) {
+
+   Spouts.range(0,100000)
+           .zipS(Spouts.range(0,100000),(a,b)->a+b)
+           .forEach(bh::consume);
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void spoutsZip4Large(Blackhole bh) {
+
+   Spouts.range(0,100000)
+           .zip4(Spouts.range(0,100000),Spouts.range(0,100000),Spouts.range(0,100000),(a,b,c,d)->a+b+c+d)
+           .forEach(bh::consume);
+
+ }
+
+
+}
@@ -32,6 +32,7 @@ public class FastFuture<T> {
     private volatile boolean done = false;
     private volatile Consumer<OnComplete> forXOf;
     private volatile Consumer<OnComplete> essential;
+    private volatile Consumer<OnComplete> monitor;
     @Getter
     private volatile boolean completedExceptionally = false;
     private final AtomicReference result = new AtomicReference(
@@ -284,6 +285,26 @@ public class FastFuture<T> {
 
     }
 
+    /**
+     * Set the result, running the first stage of the pipeline on the calling thread rather than
+     * handing it off to it's executor (the caller is already running as a task, e.g. for a chunk of Futures)
+     * 
+     */
+    public void setInline(final T result) {
+        try {
+            if (pipeline == null || pipeline.functions.length == 0) {
+                this.result.lazySet(result);
+                done();
+                return;
+            }
+            final Function op = pipeline.functions[0];
+            set(() -> (T) op.apply(result), 1);
+        } catch (final Throwable t) {
+
+            completeExceptionally(t);
+        }
+    }
+
     private void set(final Supplier<T> result, final int index) {
         try {
 
@@ -327,6 +348,7 @@ public class FastFuture<T> {
         exception.set(UNSET);
         this.forXOf = null;
         this.essential = null;
+        this.monitor = null;
         this.count.set(0);
         this.max.set(0);
         this.completedExceptionally = false;
@@ -357,6 +379,18 @@ public class FastFuture<T> {
         }
     }
 
+    /**
+     * Called at least once on complete, reserved for instrumentation (e.g. sampling task latency)
+     * so it does not displace the listeners registered via onComplete / essential
+     * 
+     */
+    public void monitor(final Consumer<OnComplete> fn) {
+        this.monitor = fn; //set - could also be called on a separate thread
+        if (done) { //can be called again
+            fn.accept(buildOnComplete());
+        }
+    }
+
     private void handleOnComplete(final boolean force) {
         if (forXOf != null)
             forXOf.accept(buildOnComplete());
@@ -364,6 +398,9 @@ public class FastFuture<T> {
         if (this.essential != null)
             this.essential.accept(buildOnComplete());
 
+        if (this.monitor != null)
+            this.monitor.accept(buildOnComplete());
+
     }
 
     private OnComplete buildOnComplete() {
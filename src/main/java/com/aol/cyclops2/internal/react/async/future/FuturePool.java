@@ -1,39 +1,178 @@
 package com.aol.cyclops2.internal.react.async.future;
 
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 
-import lombok.AllArgsConstructor;
-
 /**
  * Single consumer / multiple producer future pool
- * 
+ *
+ * Futures are acquired by the thread driving the Stream and released on whichever thread completes them (typically a worker thread).
+ * Each releasing thread returns Futures to its own cache (selected by thread id and owned by this pool, so nothing outlives the Stream),
+ * only falling back to the shared overflow queue when that cache is full. When it runs out of Futures the acquiring thread takes
+ * over a whole cache at a time, rather than contending with the releasing threads for every Future. Futures are dropped (left for
+ * the GC) when both the cache and the overflow are full.
+ *
  * @author johnmcclean
  *
  */
-@AllArgsConstructor
 public class FuturePool {
 
-    private final ManyToOneConcurrentArrayQueue<FastFuture> pool;
-    private final int max;
+    private static final int MAX_CACHE_SIZE = 32;
+    private static final Stats global = new Stats();
 
-    public <T> FastFuture<T> next(final Supplier<FastFuture<T>> factory) {
-        if (pool.size() > 0) {
+    private final ReleaseCache[] caches;
+    private final int mask;
+    private final ManyToOneConcurrentArrayQueue<FastFuture> overflow;
+    private final Stats stats = new Stats();
+
+    //only accessed by the acquiring thread
+    private FastFuture[] acquired;
+    private int available = 0;
+    private int nextCache = 0;
 
-            final FastFuture next = pool.poll();
+    /**
+     * @param max Max number of Futures held in the shared overflow, and in each releasing thread's cache (up to 32)
+     */
+    public FuturePool(final int max) {
+        final int cacheSize = Math.max(1, Math.min(MAX_CACHE_SIZE, max));
+        final int threads = Runtime.getRuntime()
+                                   .availableProcessors() * 2;
+        int size = 1;
+        while (size < threads)
+            size = size << 1;
+        this.caches = new ReleaseCache[size];
+        for (int i = 0; i < size; i++)
+            caches[i] = new ReleaseCache(cacheSize);
+        this.mask = size - 1;
+        this.acquired = new FastFuture[cacheSize];
+        this.overflow = new ManyToOneConcurrentArrayQueue<>(
+                                                            Math.max(2, max));
+    }
+
+    public <T> FastFuture<T> next(final Supplier<FastFuture<T>> factory) {
+        final FastFuture next = available > 0 || takeCache() ? take() : overflow.poll();
+        if (next != null) {
             next.clearFast();
+            stats.hits.increment();
+            global.hits.increment();
             return next;
         }
-
+        stats.misses.increment();
+        global.misses.increment();
         return factory.get();
     }
 
     public <T> void done(final FastFuture<T> f) {
-        if (pool.size() < max) {
+        final ReleaseCache cache = caches[(int) Thread.currentThread()
+                                                      .getId()
+                & mask];
+        if (cache.offer(f))
+            return;
+        if (!overflow.offer(f)) {
+            stats.drops.increment();
+            global.drops.increment();
+        }
+    }
+
+    private FastFuture take() {
+        final FastFuture next = acquired[--available];
+        acquired[available] = null;
+        return next;
+    }
+
+    //swap the (empty) acquired array with the contents of the first non-empty release cache
+    private boolean takeCache() {
+        for (int i = 0; i < caches.length; i++) {
+            final ReleaseCache cache = caches[(nextCache + i) & mask];
+            if (cache.size == 0)
+                continue;
+            synchronized (cache) {
+                if (cache.size > 0) {
+                    final FastFuture[] taken = cache.futures;
+                    available = cache.size;
+                    cache.futures = acquired;
+                    cache.size = 0;
+                    acquired = taken;
+                    nextCache = nextCache + i + 1;
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Hit, miss and drop counts for this pool
+     */
+    public Stats stats() {
+        return stats;
+    }
+
+    /**
+     * @return Hit, miss and drop counts across all Future pools
+     */
+    public static Stats globalStats() {
+        return global;
+    }
 
-            pool.offer(f);
+    /**
+     * Futures released by the threads that map to this cache, uncontended unless the acquiring thread is taking them
+     */
+    private static final class ReleaseCache {
+        private FastFuture[] futures;
+        private int size = 0;
+
+        ReleaseCache(final int cacheSize) {
+            this.futures = new FastFuture[cacheSize];
         }
 
+        synchronized boolean offer(final FastFuture f) {
+            if (size == futures.length)
+                return false;
+            futures[size++] = f;
+            return true;
+        }
+    }
+
+    /**
+     * Future pool counters
+     * <ul>
+     * <li>hits : Futures reused from the pool
+     * <li>misses : Futures created because the pool was empty
+     * <li>drops : Futures released when the pool was full
+     * </ul>
+     */
+    public static class Stats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder drops = new LongAdder();
+
+        public long getHits() {
+            return hits.sum();
+        }
+
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        public long getDrops() {
+            return drops.sum();
+        }
+
+        /**
+         * @return Proportion of Futures served from the pool, 0 if no Futures have been requested
+         */
+        public double getHitRate() {
+            final long h = getHits();
+            final long total = h + getMisses();
+            return total == 0 ? 0 : (double) h / total;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats[hits=" + getHits() + ", misses=" + getMisses() + ", drops=" + getDrops() + "]";
+        }
     }
 }
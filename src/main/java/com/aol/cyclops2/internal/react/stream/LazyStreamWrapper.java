@@ -1,12 +1,13 @@
 package com.aol.cyclops2.internal.react.stream;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
-import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
-
 import cyclops.async.LazyReact;
 import cyclops.stream.ReactiveSeq;
 import com.aol.cyclops2.internal.react.async.future.FastFuture;
@@ -35,9 +36,6 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
         this.react = react;
         if (react.isPoolingActive())
             pool = new FuturePool(
-                                  new ManyToOneConcurrentArrayQueue<>(
-                                                                      react.getMaxActive()
-                                                                           .getMaxActive()),
                                   react.getMaxActive()
                                        .getMaxActive());
         else
@@ -62,12 +60,94 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
         };
         if (react.isStreamOfFutures())
             return convertCompletableFutures(f.getPipeline());
+        if (react.getChunkSize() > 1 && f.getPipeline().executors.length > 0 && f.getPipeline().executors[0] != null)
+            return injectChunked(f.getPipeline());
 
         final Stream<FastFuture> result = values.get().map(factory);
 
         return result;
     }
 
+    //each Future is emitted as soon as it's value is read and added to the current chunk, the source is never read ahead
+    private Stream<FastFuture> injectChunked(final FinalPipeline pipeline) {
+        final Executor executor = pipeline.executors[0];
+        final int chunkSize = react.getChunkSize();
+        final Chunk[] current = { null };
+        return values.get()
+                     .map(v -> {
+                         if (current[0] == null || current[0].isFull())
+                             current[0] = new Chunk(
+                                                    executor, chunkSize);
+                         final FastFuture next = buildPool(pipeline);
+                         current[0].add(next, v);
+                         return next;
+                     });
+    }
+
+    /**
+     * Up to size Futures that are set in turn by a single task. A task is submitted whenever a value is added while no task is
+     * running for the chunk, so a partial chunk is processed as soon as it's values are available rather than once it is full.
+     * Values are added by a single (reading) thread.
+     */
+    private static class Chunk implements Runnable {
+        private final Executor executor;
+        private final FastFuture[] futures;
+        private final Object[] values;
+        private final AtomicInteger wip = new AtomicInteger(0);
+        private volatile int added = 0;
+        private int processed = 0;
+
+        Chunk(final Executor executor, final int size) {
+            this.executor = executor;
+            this.futures = new FastFuture[size];
+            this.values = new Object[size];
+        }
+
+        boolean isFull() {
+            return added == futures.length;
+        }
+
+        void add(final FastFuture future, final Object value) {
+            final int index = added;
+            futures[index] = future;
+            values[index] = value;
+            added = index + 1;
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (final RejectedExecutionException e) {
+                    //no task is running, hand each value to the executor individually (as without chunking), so any that are
+                    //rejected complete exceptionally rather than never completing
+                    for (; processed < added; processed++) {
+                        futures[processed].set(values[processed]);
+                        release(processed);
+                    }
+                    wip.set(0);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            for (;;) {
+                final int end = added;
+                for (; processed < end; processed++) {
+                    futures[processed].setInline(values[processed]);
+                    release(processed);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    return;
+            }
+        }
+
+        private void release(final int index) {
+            values[index] = null;
+            futures[index] = null;
+        }
+    }
+
     public LazyStreamWrapper<U> concat(final Stream<U> concatWith) {
         return this.withValues(()->Stream.concat(values.get(), concatWith));
     }
@@ -1,6 +1,7 @@
 package com.aol.cyclops2.internal.stream;
 
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
+import com.aol.cyclops2.internal.stream.spliterators.SortingSpliterator;
 import com.aol.cyclops2.types.Unwrapable;
 import com.aol.cyclops2.types.anyM.AnyMSeq;
 import com.aol.cyclops2.types.stream.HeadAndTail;
@@ -12,6 +13,7 @@ import cyclops.function.Reducer;
 import cyclops.monads.AnyM;
 import cyclops.monads.Witness;
 import cyclops.stream.ReactiveSeq;
+import cyclops.stream.SortOptions;
 import cyclops.stream.Streamable;
 
 import java.io.BufferedReader;
@@ -345,7 +347,13 @@ public abstract class BaseExtendedStream<T> implements Unwrapable, ReactiveSeq<T
     }
     @Override
     public final ReactiveSeq<T> sorted() {
-        return createSeq(unwrapStream().sorted());
+        return sorted((Comparator<? super T>)Comparator.naturalOrder(),SortOptions.inMemory());
+    }
+
+    @Override
+    public ReactiveSeq<T> sorted(final Comparator<? super T> c, final SortOptions<T> options) {
+        final SortingSpliterator<T> sorting = new SortingSpliterator<>(unwrapStream().spliterator(),c,options);
+        return createSeq(StreamSupport.stream(sorting,false)).onClose(sorting::close);
     }
 
     public  abstract <R> ReactiveSeq<R> mapLazyFn(Supplier<Function<? super T, ? extends R>> fn);
@@ -0,0 +1,68 @@
+package com.aol.cyclops2.internal.stream;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import cyclops.async.Future;
+import cyclops.stream.DoubleReactiveSeq;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Push based DoubleReactiveSeq implementation, the DoubleOperator source is used directly by the primitive operators.
+ */
+public class DoubleReactiveStreamX extends ReactiveStreamX<Double> implements DoubleReactiveSeq {
+
+    final DoubleOperator doubles;
+
+    public DoubleReactiveStreamX(DoubleOperator source){
+        super(source);
+        this.doubles = source;
+    }
+    DoubleReactiveStreamX(DoubleOperator source, Consumer<? super Throwable> defaultErrorHandler, Type async){
+        super(source,defaultErrorHandler,async);
+        this.doubles = source;
+    }
+
+    private DoubleReactiveSeq createDoubles(DoubleOperator source){
+        return new DoubleReactiveStreamX(source,defaultErrorHandler,async);
+    }
+
+    @Override
+    public DoubleReactiveSeq mapDoubles(DoubleUnaryOperator fn) {
+        if(doubles instanceof DoubleMapOperator)
+            return createDoubles(((DoubleMapOperator)doubles).compose(fn));
+        return createDoubles(new DoubleMapOperator(doubles,fn));
+    }
+
+    @Override
+    public DoubleReactiveSeq filterDoubles(DoublePredicate fn) {
+        if(doubles instanceof DoubleFilterOperator)
+            return createDoubles(((DoubleFilterOperator)doubles).and(fn));
+        return createDoubles(new DoubleFilterOperator(doubles,fn));
+    }
+
+    @Override
+    public double reduceDoubles(double identity, DoubleBinaryOperator accumulator) {
+        double[] result = {identity};
+        Future<Boolean> complete = Future.future();
+        if(async==Type.NO_BACKPRESSURE) {
+            doubles.subscribeAllDoubles(e->result[0]=accumulator.applyAsDouble(result[0],e), this.defaultErrorHandler, () -> complete.complete(true));
+        }else{
+            doubles.subscribeDoubles(e->result[0]=accumulator.applyAsDouble(result[0],e), this.defaultErrorHandler, () -> complete.complete(true)).request(Long.MAX_VALUE);
+        }
+        complete.get();
+        return result[0];
+    }
+
+    @Override
+    public DoubleReactiveSeq limit(long num) {
+        return createDoubles(new DoubleLimitOperator(doubles,num));
+    }
+
+    @Override
+    public DoubleReactiveSeq skip(long num) {
+        return createDoubles(new DoubleSkipOperator(doubles,num));
+    }
+}
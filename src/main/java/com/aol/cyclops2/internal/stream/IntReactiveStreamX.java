@@ -0,0 +1,68 @@
+package com.aol.cyclops2.internal.stream;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import cyclops.async.Future;
+import cyclops.stream.IntReactiveSeq;
+
+import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Push based IntReactiveSeq implementation, the IntOperator source is used directly by the primitive operators.
+ */
+public class IntReactiveStreamX extends ReactiveStreamX<Integer> implements IntReactiveSeq {
+
+    final IntOperator ints;
+
+    public IntReactiveStreamX(IntOperator source){
+        super(source);
+        this.ints = source;
+    }
+    IntReactiveStreamX(IntOperator source, Consumer<? super Throwable> defaultErrorHandler, Type async){
+        super(source,defaultErrorHandler,async);
+        this.ints = source;
+    }
+
+    private IntReactiveSeq createInts(IntOperator source){
+        return new IntReactiveStreamX(source,defaultErrorHandler,async);
+    }
+
+    @Override
+    public IntReactiveSeq mapInts(IntUnaryOperator fn) {
+        if(ints instanceof IntMapOperator)
+            return createInts(((IntMapOperator)ints).compose(fn));
+        return createInts(new IntMapOperator(ints,fn));
+    }
+
+    @Override
+    public IntReactiveSeq filterInts(IntPredicate fn) {
+        if(ints instanceof IntFilterOperator)
+            return createInts(((IntFilterOperator)ints).and(fn));
+        return createInts(new IntFilterOperator(ints,fn));
+    }
+
+    @Override
+    public int reduceInts(int identity, IntBinaryOperator accumulator) {
+        int[] result = {identity};
+        Future<Boolean> complete = Future.future();
+        if(async==Type.NO_BACKPRESSURE) {
+            ints.subscribeAllInts(e->result[0]=accumulator.applyAsInt(result[0],e), this.defaultErrorHandler, () -> complete.complete(true));
+        }else{
+            ints.subscribeInts(e->result[0]=accumulator.applyAsInt(result[0],e), this.defaultErrorHandler, () -> complete.complete(true)).request(Long.MAX_VALUE);
+        }
+        complete.get();
+        return result[0];
+    }
+
+    @Override
+    public IntReactiveSeq limit(long num) {
+        return createInts(new IntLimitOperator(ints,num));
+    }
+
+    @Override
+    public IntReactiveSeq skip(long num) {
+        return createInts(new IntSkipOperator(ints,num));
+    }
+}
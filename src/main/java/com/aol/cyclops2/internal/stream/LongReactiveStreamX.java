@@ -0,0 +1,68 @@
+package com.aol.cyclops2.internal.stream;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import cyclops.async.Future;
+import cyclops.stream.LongReactiveSeq;
+
+import java.util.function.Consumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Push based LongReactiveSeq implementation, the LongOperator source is used directly by the primitive operators.
+ */
+public class LongReactiveStreamX extends ReactiveStreamX<Long> implements LongReactiveSeq {
+
+    final LongOperator longs;
+
+    public LongReactiveStreamX(LongOperator source){
+        super(source);
+        this.longs = source;
+    }
+    LongReactiveStreamX(LongOperator source, Consumer<? super Throwable> defaultErrorHandler, Type async){
+        super(source,defaultErrorHandler,async);
+        this.longs = source;
+    }
+
+    private LongReactiveSeq createLongs(LongOperator source){
+        return new LongReactiveStreamX(source,defaultErrorHandler,async);
+    }
+
+    @Override
+    public LongReactiveSeq mapLongs(LongUnaryOperator fn) {
+        if(longs instanceof LongMapOperator)
+            return createLongs(((LongMapOperator)longs).compose(fn));
+        return createLongs(new LongMapOperator(longs,fn));
+    }
+
+    @Override
+    public LongReactiveSeq filterLongs(LongPredicate fn) {
+        if(longs instanceof LongFilterOperator)
+            return createLongs(((LongFilterOperator)longs).and(fn));
+        return createLongs(new LongFilterOperator(longs,fn));
+    }
+
+    @Override
+    public long reduceLongs(long identity, LongBinaryOperator accumulator) {
+        long[] result = {identity};
+        Future<Boolean> complete = Future.future();
+        if(async==Type.NO_BACKPRESSURE) {
+            longs.subscribeAllLongs(e->result[0]=accumulator.applyAsLong(result[0],e), this.defaultErrorHandler, () -> complete.complete(true));
+        }else{
+            longs.subscribeLongs(e->result[0]=accumulator.applyAsLong(result[0],e), this.defaultErrorHandler, () -> complete.complete(true)).request(Long.MAX_VALUE);
+        }
+        complete.get();
+        return result[0];
+    }
+
+    @Override
+    public LongReactiveSeq limit(long num) {
+        return createLongs(new LongLimitOperator(longs,num));
+    }
+
+    @Override
+    public LongReactiveSeq skip(long num) {
+        return createLongs(new LongSkipOperator(longs,num));
+    }
+}
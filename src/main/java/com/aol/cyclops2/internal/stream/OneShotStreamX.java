@@ -28,6 +28,14 @@ public class OneShotStreamX<T> extends SpliteratorBasedStream<T> {
     public OneShotStreamX(Stream<T> stream, Optional<ReversableSpliterator> rev) {
         super(stream, rev);
     }
+
+    public OneShotStreamX(Spliterator<T> stream, Optional<ReversableSpliterator> rev, Runnable closeHandler) {
+        super(stream, rev, closeHandler);
+    }
+
+    public OneShotStreamX(Stream<T> stream, Optional<ReversableSpliterator> rev, Runnable closeHandler) {
+        super(stream, rev, closeHandler);
+    }
     @Override
     public ReactiveSeq<T> reverse() {
         if (reversible.isPresent()) {
@@ -150,12 +158,17 @@ public class OneShotStreamX<T> extends SpliteratorBasedStream<T> {
 
     @Override
     <X> ReactiveSeq<X> createSeq(Stream<X> stream, Optional<ReversableSpliterator> reversible) {
-        return new OneShotStreamX<X>(stream,reversible);
+        return new OneShotStreamX<X>(stream,reversible,closeHandler);
     }
 
     @Override
     <X> ReactiveSeq<X> createSeq(Spliterator<X> stream, Optional<ReversableSpliterator> reversible) {
-        return new OneShotStreamX<X>(stream,reversible);
+        return new OneShotStreamX<X>(stream,reversible,closeHandler);
+    }
+
+    @Override
+    <X> ReactiveSeq<X> createSeq(Spliterator<X> stream, Optional<ReversableSpliterator> reversible, Runnable closeHandler) {
+        return new OneShotStreamX<X>(stream,reversible,closeHandler);
     }
     /**
 
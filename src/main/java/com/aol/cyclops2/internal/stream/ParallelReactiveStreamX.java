@@ -0,0 +1,118 @@
+package com.aol.cyclops2.internal.stream;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import cyclops.stream.ParallelReactiveSeq;
+import cyclops.stream.ReactiveSeq;
+
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * Push based ParallelReactiveSeq implementation.
+ *
+ * The per rail stages are recorded as a {@link RailsMergeOperator.Pipeline}, a fresh {@link RailDispatcher} is created and the
+ * pipeline applied to each of it's rails each time the merged Stream is subscribed to.
+ */
+public class ParallelReactiveStreamX<T> implements ParallelReactiveSeq<T> {
+
+    public static final int DEFAULT_PREFETCH = 256;
+
+    final Operator<Object> source;
+    final int rails;
+    final Executor executor;
+    final int prefetch;
+    final Function<Object, ?> key;
+    final RailsMergeOperator.Pipeline pipeline;
+
+    public ParallelReactiveStreamX(Operator<T> source, int rails, Executor executor, int prefetch, Function<? super T, ?> key){
+        this((Operator)source,rails,executor,prefetch,(Function)key,(rail,index,ordered)->rail);
+    }
+    private ParallelReactiveStreamX(Operator<Object> source, int rails, Executor executor, int prefetch, Function<Object, ?> key,
+                                    RailsMergeOperator.Pipeline pipeline){
+        if(rails<=0)
+            throw new IllegalArgumentException("Number of rails must be greater than 0, but was " + rails);
+        this.source = source;
+        this.rails = rails;
+        this.executor = executor;
+        this.prefetch = prefetch;
+        this.key = key;
+        this.pipeline = pipeline;
+    }
+
+    private <R> ParallelReactiveSeq<R> andThen(RailsMergeOperator.Pipeline next){
+        RailsMergeOperator.Pipeline current = pipeline;
+        return new ParallelReactiveStreamX<R>(source,rails,executor,prefetch,key,
+                (rail,index,ordered)->next.apply(current.apply(rail,index,ordered),index,ordered));
+    }
+
+    @Override
+    public int rails() {
+        return rails;
+    }
+
+    @Override
+    public <R> ParallelReactiveSeq<R> map(Function<? super T, ? extends R> fn) {
+        Function<Object,Object> mapper = (Function)fn;
+        return andThen((rail,index,ordered)->Fusion.map(rail, e->e.isSkip() ? e : e.with(mapper.apply(e.value()))));
+    }
+
+    @Override
+    public ParallelReactiveSeq<T> filter(Predicate<? super T> fn) {
+        Predicate<Object> predicate = (Predicate)fn;
+        return andThen((rail,index,ordered)->{
+            if(ordered)
+                return Fusion.map(rail, e->e.isSkip() || predicate.test(e.value()) ? e : e.skip());
+            return Fusion.filter(rail,e->predicate.test(e.value()));
+        });
+    }
+
+    @Override
+    public <R> ParallelReactiveSeq<R> flatMap(Function<? super T, ? extends Stream<? extends R>> fn) {
+        Function<Object,Stream<Object>> mapper = (Function)fn;
+        return andThen((rail,index,ordered)->{
+            if(ordered) {
+                return new FlatMapOperator<RailElement<Object>, RailElement<Object>>(rail, e -> {
+                    if (e.isSkip())
+                        return Stream.of(e);
+                    Stream<RailElement<Object>> expanded = mapper.apply(e.value()).map(r -> new RailElement<>(e.index(), r, true));
+                    return Stream.concat(expanded, Stream.of(e.skip()));
+                });
+            }
+            return new FlatMapOperator<RailElement<Object>, RailElement<Object>>(rail,
+                                    e -> mapper.apply(e.value()).map(r -> new RailElement<>(e.index(), r)));
+        });
+    }
+
+    @Override
+    public <R> ParallelReactiveSeq<R> reduce(Supplier<R> identity, BiFunction<R, ? super T, R> accumulator) {
+        BiFunction<Object,Object,Object> fn = (BiFunction)accumulator;
+        return andThen((rail,index,ordered)-> new CollectAllOperator<RailElement<Object>,Object[],RailElement<Object>>(rail,
+                Collector.of(()->new Object[]{identity.get()},
+                        (a,e)->{
+                            if(!e.isSkip())
+                                a[0]=fn.apply(a[0],e.value());
+                        },
+                        (a,b)->a,
+                        a->new RailElement<>(index,a[0]))));
+    }
+
+    @Override
+    public ReactiveSeq<T> sequential() {
+        return merge(false);
+    }
+
+    @Override
+    public ReactiveSeq<T> sequentialOrdered() {
+        return merge(true);
+    }
+
+    private ReactiveSeq<T> merge(boolean ordered){
+        return new ReactiveStreamX<T>(new RailsMergeOperator<T>(()->new RailDispatcher<>(source,rails,executor,prefetch,key),
+                                                                pipeline,prefetch,ordered),ReactiveStreamX.Type.BACKPRESSURE);
+    }
+}
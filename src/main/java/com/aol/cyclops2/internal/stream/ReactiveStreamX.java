@@ -4,6 +4,9 @@ import com.aol.cyclops2.internal.stream.spliterators.push.*;
 import com.aol.cyclops2.types.futurestream.Continuation;
 import com.aol.cyclops2.types.stream.HotStream;
 import com.aol.cyclops2.types.reactive.QueueBasedSubscriber;
+import com.aol.cyclops2.internal.stream.spliterators.SlidingWindow;
+import com.aol.cyclops2.util.BloomFilter;
+import com.aol.cyclops2.util.BoundedKeySet;
 import com.aol.cyclops2.util.ExceptionSoftener;
 
 import cyclops.async.Future;
@@ -18,9 +21,12 @@ import cyclops.async.wait.DirectWaitStrategy;
 import cyclops.collections.mutable.ListX;
 import cyclops.control.lazy.Either;
 import cyclops.control.Maybe;
+import cyclops.function.Fn3;
+import cyclops.function.Fn4;
 import cyclops.function.Monoid;
 import cyclops.monads.AnyM;
 import cyclops.monads.Witness;
+import cyclops.stream.ParallelReactiveSeq;
 import cyclops.stream.ReactiveSeq;
 import cyclops.stream.Spouts;
 import lombok.AllArgsConstructor;
@@ -36,7 +42,10 @@ import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -276,6 +285,26 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
         return createSeq(new SlidingOperator<>( source,Function.identity(), windowSize,increment));
     }
 
+    @Override
+    public ReactiveSeq<List<T>> slidingView(int windowSize, int increment) {
+        return createSeq(new SlidingWindowOperator<T,List<T>>(source,()->SlidingWindow.views(windowSize,increment)));
+    }
+
+    @Override
+    public ReactiveSeq<List<T>> slidingBuffer(int windowSize, int increment) {
+        return createSeq(new SlidingWindowOperator<T,List<T>>(source,()->SlidingWindow.buffer(windowSize,increment)));
+    }
+
+    @Override
+    public ReactiveSeq<T> slidingReduce(int windowSize, Monoid<T> monoid) {
+        return createSeq(new SlidingWindowOperator<T,T>(source,()->SlidingWindow.reduce(windowSize,monoid)));
+    }
+
+    @Override
+    public ReactiveSeq<Double> slidingSum(int windowSize, ToDoubleFunction<? super T> fn) {
+        return createSeq(new SlidingWindowOperator<T,Double>(source,()->SlidingWindow.sum(windowSize,fn)));
+    }
+
     @Override
     public ReactiveSeq<ListX<T>> grouped(final int groupSize) {
         return createSeq(new GroupingOperator<T,List<T>,ListX<T>>( source,()->new ArrayList(groupSize), c->ListX.fromIterable(c),groupSize));
@@ -310,6 +339,22 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
         return this.filterLazyPredicate(predicate);
     }
 
+    @Override
+    public ReactiveSeq<T> distinct(int maxKeys) {
+        return this.filterLazyPredicate(()->new BoundedKeySet<T>(maxKeys)::add);
+    }
+
+    @Override
+    public ReactiveSeq<T> distinct(int maxKeys, long window, TimeUnit unit) {
+        long windowNanos = unit.toNanos(window);
+        return this.filterLazyPredicate(()->new BoundedKeySet<T>(maxKeys,windowNanos)::add);
+    }
+
+    @Override
+    public ReactiveSeq<T> distinctApprox(long expectedItems, double fpp) {
+        return this.filterLazyPredicate(()->new BloomFilter<T>(expectedItems,fpp)::put);
+    }
+
     @Override
     public final ReactiveSeq<T> scanLeft(final Monoid<T> monoid) {
         return scanLeft(monoid.zero(),monoid);
@@ -372,7 +417,7 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
     public final <R> ReactiveSeq<R> map(final Function<? super T, ? extends R> fn) {
 
 
-        return createSeq(new MapOperator<T,R>(this. source,fn));
+        return createSeq(Fusion.map(this. source,fn));
     }
 
 
@@ -542,7 +587,7 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public final ReactiveSeq<T> filter(final Predicate<? super T> fn) {
-        return createSeq(new FilterOperator<T>( source,fn));
+        return createSeq(Fusion.filter( source,fn));
 
     }
 
@@ -592,11 +637,11 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public <R> ReactiveSeq<R> mapLazyFn(Supplier<Function<? super T, ? extends R>> fn) {
-        return createSeq(new LazyMapOperator<>(source,fn));
+        return createSeq(Fusion.mapLazy(source,fn));
     }
 
     public final ReactiveSeq<T> filterLazyPredicate(final Supplier<Predicate<? super T>> fn) {
-        return createSeq(new LazyFilterOperator<T>( source,fn));
+        return createSeq(Fusion.filterLazy( source,fn));
 
     }
 
@@ -657,6 +702,54 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
         return createSeq(new ZippingLatestOperator<>(source,right,zipper),Type.BACKPRESSURE);
     }
 
+    @Override
+    public ParallelReactiveSeq<T> parallel(int rails, ForkJoinPool fj) {
+        return new ParallelReactiveStreamX<>(source,rails,fj,ParallelReactiveStreamX.DEFAULT_PREFETCH,null);
+    }
+
+    @Override
+    public ParallelReactiveSeq<T> parallel(int rails, ForkJoinPool fj, Function<? super T, ?> key) {
+        return new ParallelReactiveStreamX<>(source,rails,fj,ParallelReactiveStreamX.DEFAULT_PREFETCH,key);
+    }
+
+    @Override
+    public <K> ReactiveSeq<Tuple2<K, ReactiveSeq<T>>> groupByStream(Function<? super T, ? extends K> keyFn, int maxGroups,
+                                                                   long idleTime, TimeUnit unit) {
+        ReactiveStreamX<Tuple2<K, Operator<T>>> groups = createSeq(new GroupByStreamOperator<T,K>(source,keyFn,maxGroups,
+                                                                    Math.max(0,unit.toNanos(idleTime)),GroupByStreamOperator.DEFAULT_PREFETCH),Type.BACKPRESSURE);
+        return groups.map(t->t.map2(group->createSeq(group,Type.BACKPRESSURE)));
+    }
+
+    @Override
+    public ReactiveSeq<T> publishOn(Executor ex, int prefetch) {
+        return createSeq(new PublishOnOperator<>(source,ex,prefetch),Type.BACKPRESSURE);
+    }
+
+    @Override
+    public ReactiveSeq<T> subscribeOn(Executor ex) {
+        return createSeq(new SubscribeOnOperator<>(source,ex),Type.BACKPRESSURE);
+    }
+
+    @Override
+    public ReactiveSeq<T> rateLimit(long permits, long per, TimeUnit unit, long burst) {
+        return createSeq(new RateLimitOperator<>(source,permits,per,unit,burst),Type.BACKPRESSURE);
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> mapAsyncOrdered(Function<? super T, ? extends CompletableFuture<? extends R>> fn, int maxInFlight) {
+        return createSeq(new MapAsyncOrderedOperator<>(source,fn,maxInFlight),Type.BACKPRESSURE);
+    }
+
+    @Override
+    public ReactiveSeq<T> onePer(final long time, final TimeUnit t) {
+        return rateLimit(1,time,t,1);
+    }
+
+    @Override
+    public ReactiveSeq<T> xPer(final int x, final long time, final TimeUnit t) {
+        return rateLimit(x,time,t,x);
+    }
+
     @Override
     public void forEachAsync(final Consumer<? super T> action) {
         if(async==Type.NO_BACKPRESSURE)
@@ -1149,13 +1242,25 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public <U, R> ReactiveSeq<R> zipS(Stream<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
+        return zipS(other,zipper,ZippingOperator.DEFAULT_PREFETCH);
+    }
+
+    @Override
+    public <U, R> ReactiveSeq<R> zipS(Stream<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper, int prefetch) {
         Operator<U> right;
         if(other instanceof ReactiveStreamX){
             right = ((ReactiveStreamX<U>)other).source;
         }else{
             right = new SpliteratorToOperator<U>(((Stream<U>)other).spliterator());
         }
-        return createSeq(new ZippingOperator<>(source,right,zipper),async);
+        return createSeq(new ZippingOperator<>(source,right,zipper,prefetch),async);
+    }
+
+    private static <U> Operator<U> zipSource(Iterable<? extends U> other){
+        if(other instanceof ReactiveStreamX){
+            return ((ReactiveStreamX<U>)other).source;
+        }
+        return new IterableSourceOperator<U>((Iterable<U>)other);
     }
 
 
@@ -1179,11 +1284,11 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public ReactiveSeq<T> limit(long num){
-        return createSeq(new LimitOperator<>(source,num));
+        return createSeq(Fusion.limit(source,num));
     }
     @Override
     public ReactiveSeq<T> skip(long num){
-        return createSeq(new SkipOperator<>(source,num));
+        return createSeq(Fusion.skip(source,num));
     }
     @Override
     public ReactiveSeq<T> cycle() {
@@ -1261,29 +1366,21 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
         }
         if(this.async==Type.BACKPRESSURE){
-            ConcurrentLinkedQueue<Subscriber> subs = new ConcurrentLinkedQueue<>();
-            ListX<ReactiveSeq<T>> result = ListX.empty();
-            Subscription sub = forEachSubscribe(e -> subs.forEach(s -> s.onNext(e)), ex -> subs.forEach(s -> s.onError(ex)), () -> subs.forEach(s -> s.onComplete()));
-            for(int i=0;i<num;i++) {
-                ReactiveSeq<T> seq = new ReactiveStreamX<T>(new PublisherToOperator<T>(new Publisher<T>() {
-                    @Override
-                    public void subscribe(Subscriber<? super T> s) {
-
-                        subs.add(s);
-                        s.onSubscribe(sub);
-
-
-                    }
-                }));
-
-                result.add(seq);
-            }
-            return result;
+            return multicast(num,MultiCastOperator.DEFAULT_BUFFER_SIZE,0,Topic.SlowSubscriberPolicy.BLOCK);
 
         }
         return Streams.toBufferingCopier(() -> iterator(),num,()->new ArrayDeque<T>(100))
                                 .map(ReactiveSeq::fromIterable);
     }
+    @Override
+    public ListX<ReactiveSeq<T>> multicast(int num, int bufferSize, int replay, Topic.SlowSubscriberPolicy policy){
+        MultiCastOperator<T> multicast = new MultiCastOperator<>(source,num,bufferSize,replay,policy);
+        ListX<ReactiveSeq<T>> result = ListX.empty();
+        for(int i=0;i<num;i++) {
+            result.add(createSeq(multicast,Type.BACKPRESSURE));
+        }
+        return result;
+    }
 
 
     @Override
@@ -1365,13 +1462,33 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public <S, U> ReactiveSeq<Tuple3<T, S, U>> zip3(Iterable<? extends S> second, Iterable<? extends U> third) {
-        return zip(second,Tuple::tuple).zip(third,(a,b)->Tuple.tuple(a.v1,a.v2,b));
+        return zip3(second,third,Tuple::tuple);
+    }
+
+    @Override
+    public <S, U, R> ReactiveSeq<R> zip3(Iterable<? extends S> second, Iterable<? extends U> third, Fn3<? super T, ? super S, ? super U, ? extends R> fn3) {
+        ReactiveStreamX<R> res = createSeq(new Zipping3Operator<>(source, zipSource(second), zipSource(third), fn3));
+        if(this.async == Type.SYNC){
+            //inputs may be asynchronous Streams so we force onto the async path
+            return res.withAsync(Type.BACKPRESSURE);
+        }
+        return res;
     }
 
     @Override
     public <T2, T3, T4> ReactiveSeq<Tuple4<T, T2, T3, T4>> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth) {
-        return zip(second,Tuple::tuple).zip(third,(a,b)->Tuple.tuple(a.v1,a.v2,b))
-                .zip(fourth,(a,b)->(Tuple4<T,T2,T3,T4>)Tuple.tuple(a.v1,a.v2,a.v3,b));
+        return zip4(second,third,fourth,Tuple::tuple);
+    }
+
+    @Override
+    public <T2, T3, T4, R> ReactiveSeq<R> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth,
+                                               Fn4<? super T, ? super T2, ? super T3, ? super T4, ? extends R> fn) {
+        ReactiveStreamX<R> res = createSeq(new Zipping4Operator<>(source, zipSource(second), zipSource(third), zipSource(fourth), fn));
+        if(this.async == Type.SYNC){
+            //inputs may be asynchronous Streams so we force onto the async path
+            return res.withAsync(Type.BACKPRESSURE);
+        }
+        return res;
     }
 
     @Override
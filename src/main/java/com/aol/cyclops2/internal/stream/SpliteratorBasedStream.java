@@ -2,6 +2,8 @@ package com.aol.cyclops2.internal.stream;
 
 
 import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import com.aol.cyclops2.util.BloomFilter;
+import com.aol.cyclops2.util.BoundedKeySet;
 import com.aol.cyclops2.types.futurestream.Continuation;
 import com.aol.cyclops2.types.reactive.QueueBasedSubscriber;
 import com.aol.cyclops2.types.reactive.QueueBasedSubscriber.Counter;
@@ -23,6 +25,7 @@ import cyclops.monads.Witness;
 import cyclops.function.Monoid;
 import cyclops.monads.AnyM;
 import cyclops.stream.ReactiveSeq;
+import cyclops.stream.SortOptions;
 import org.jooq.lambda.Collectable;
 import org.jooq.lambda.Seq;
 import org.jooq.lambda.tuple.Tuple;
@@ -53,26 +56,52 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
     
     final Optional<ReversableSpliterator> reversible;
 
+    //run on close, shared with all Streams derived from this one (may be null)
+    final Runnable closeHandler;
+
     public SpliteratorBasedStream(final Stream<T> stream) {
 
         this.stream = stream.spliterator();
         this.reversible = Optional.empty();
-        
+        this.closeHandler = null;
 
     }
     public SpliteratorBasedStream(final Spliterator<T> stream, final Optional<ReversableSpliterator> rev) {
+        this(stream,rev,null);
+    }
+    public SpliteratorBasedStream(final Spliterator<T> stream, final Optional<ReversableSpliterator> rev, final Runnable closeHandler) {
         this.stream = stream;
         this.reversible = rev;
-        
+        this.closeHandler = closeHandler;
 
     }
     public SpliteratorBasedStream(final Stream<T> stream, final Optional<ReversableSpliterator> rev) {
+        this(stream,rev,null);
+    }
+    public SpliteratorBasedStream(final Stream<T> stream, final Optional<ReversableSpliterator> rev, final Runnable closeHandler) {
         this.stream = stream.spliterator();
         this.reversible = rev;
-        
+        this.closeHandler = closeHandler;
 
     }
     @Override
+    public ReactiveSeq<T> onClose(final Runnable closeHandler) {
+        final Runnable current = this.closeHandler;
+        return createSeq(stream,reversible,current==null ? closeHandler : ()->{
+            try {
+                current.run();
+            }finally {
+                closeHandler.run();
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        if(closeHandler!=null)
+            closeHandler.run();
+    }
+    @Override
     public Iterator<T> iterator(){
         return Spliterators.iterator(copy());
 
@@ -185,6 +214,26 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
         return createSeq(new SlidingSpliterator<>(get(),Function.identity(), windowSize,increment), reversible);
     }
 
+    @Override
+    public ReactiveSeq<List<T>> slidingView(int windowSize, int increment) {
+        return createSeq(new SlidingWindowSpliterator<T,List<T>>(get(),()->SlidingWindow.views(windowSize,increment)), Optional.empty());
+    }
+
+    @Override
+    public ReactiveSeq<List<T>> slidingBuffer(int windowSize, int increment) {
+        return createSeq(new SlidingWindowSpliterator<T,List<T>>(get(),()->SlidingWindow.buffer(windowSize,increment)), Optional.empty());
+    }
+
+    @Override
+    public ReactiveSeq<T> slidingReduce(int windowSize, Monoid<T> monoid) {
+        return createSeq(new SlidingWindowSpliterator<T,T>(get(),()->SlidingWindow.reduce(windowSize,monoid)), Optional.empty());
+    }
+
+    @Override
+    public ReactiveSeq<Double> slidingSum(int windowSize, ToDoubleFunction<? super T> fn) {
+        return createSeq(new SlidingWindowSpliterator<T,Double>(get(),()->SlidingWindow.sum(windowSize,fn)), Optional.empty());
+    }
+
     @Override
     public ReactiveSeq<ListX<T>> grouped(final int groupSize) {
         return createSeq(new GroupingSpliterator<T,List<T>,ListX<T>>(get(),()->new ArrayList(groupSize), c->ListX.fromIterable(c),groupSize), this.reversible);
@@ -214,6 +263,28 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
         return createSeq(new DistinctSpliterator<T,T>(get()), reversible);
     }
 
+    @Override
+    public ReactiveSeq<T> distinct(int maxKeys) {
+        return createSeq(new DistinctSpliterator<T,T>(get(),()->new BoundedKeySet<T>(maxKeys)::add), reversible);
+    }
+
+    @Override
+    public ReactiveSeq<T> distinct(int maxKeys, long window, TimeUnit unit) {
+        long windowNanos = unit.toNanos(window);
+        return createSeq(new DistinctSpliterator<T,T>(get(),()->new BoundedKeySet<T>(maxKeys,windowNanos)::add), reversible);
+    }
+
+    @Override
+    public ReactiveSeq<T> distinctApprox(long expectedItems, double fpp) {
+        return createSeq(new DistinctSpliterator<T,T>(get(),()->new BloomFilter<T>(expectedItems,fpp)::put), reversible);
+    }
+
+    @Override
+    public ReactiveSeq<T> sorted(final Comparator<? super T> c, final SortOptions<T> options) {
+        final SortingSpliterator<T> sorting = new SortingSpliterator<>(get(),c,options);
+        return createSeq(sorting, Optional.empty()).onClose(sorting::close);
+    }
+
 
     @Override
     public final <U> ReactiveSeq<U> scanLeft(final U seed, final BiFunction<? super U, ? super T, ? extends U> function) {
@@ -445,6 +516,7 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
 
     abstract <X> ReactiveSeq<X> createSeq(Stream<X> stream,Optional<ReversableSpliterator> reversible);
     abstract <X> ReactiveSeq<X> createSeq(Spliterator<X> stream,Optional<ReversableSpliterator> reversible);
+    abstract <X> ReactiveSeq<X> createSeq(Spliterator<X> stream,Optional<ReversableSpliterator> reversible,Runnable closeHandler);
      <X> ReactiveSeq<X> createSeq(Spliterator<X> stream){
 
          return createSeq(stream, Optional.empty());
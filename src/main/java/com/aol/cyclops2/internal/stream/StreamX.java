@@ -32,6 +32,14 @@ public class StreamX<T> extends SpliteratorBasedStream<T> {
     public StreamX(Stream<T> stream, Optional<ReversableSpliterator> rev) {
         super(stream, rev);
     }
+
+    public StreamX(Spliterator<T> stream, Optional<ReversableSpliterator> rev, Runnable closeHandler) {
+        super(stream, rev, closeHandler);
+    }
+
+    public StreamX(Stream<T> stream, Optional<ReversableSpliterator> rev, Runnable closeHandler) {
+        super(stream, rev, closeHandler);
+    }
     @Override
     public ReactiveSeq<T> reverse() {
         if(this.stream instanceof ReversableSpliterator){
@@ -49,12 +57,17 @@ public class StreamX<T> extends SpliteratorBasedStream<T> {
 
     @Override
     <X> ReactiveSeq<X> createSeq(Stream<X> stream, Optional<ReversableSpliterator> reversible) {
-        return new StreamX<X>(stream,reversible);
+        return new StreamX<X>(stream,reversible,closeHandler);
     }
 
     @Override
     <X> ReactiveSeq<X> createSeq(Spliterator<X> stream, Optional<ReversableSpliterator> reversible) {
-        return new StreamX<X>(stream,reversible);
+        return new StreamX<X>(stream,reversible,closeHandler);
+    }
+
+    @Override
+    <X> ReactiveSeq<X> createSeq(Spliterator<X> stream, Optional<ReversableSpliterator> reversible, Runnable closeHandler) {
+        return new StreamX<X>(stream,reversible,closeHandler);
     }
 
 
@@ -5,33 +5,45 @@ import java.util.Set;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Created by johnmcclean on 22/12/2016.
  */
 public class DistinctSpliterator<IN,T> extends BaseComposableSpliterator<IN,T,DistinctSpliterator<IN,?>> implements CopyableSpliterator<T> {
     Spliterator<IN> source;
-    Set<IN> values;
+    final Supplier<? extends Predicate<? super IN>> unseenFactory;
+    Predicate<? super IN> unseen;
     public DistinctSpliterator(final Spliterator<IN> source) {
-        super(source.estimateSize(),source.characteristics() & Spliterator.ORDERED,null);
+        this(source,()->{
+            Set<IN> values = new HashSet<>();
+            return values::add;
+        });
 
-        this.source = source;
-        this.values = new HashSet<>();
+    }
 
+    /**
+     * @param source Spliterator to remove duplicates from
+     * @param unseenFactory Creates a Predicate that records each value and returns true if it has not been seen before,
+     *                      a new Predicate is created for each copy of this Spliterator
+     */
+    public DistinctSpliterator(final Spliterator<IN> source, final Supplier<? extends Predicate<? super IN>> unseenFactory) {
+        this(null,source,unseenFactory);
     }
-    DistinctSpliterator(Function<? super IN, ? extends T> fn,final Spliterator<IN> source) {
+    DistinctSpliterator(Function<? super IN, ? extends T> fn,final Spliterator<IN> source, final Supplier<? extends Predicate<? super IN>> unseenFactory) {
         super(source.estimateSize(),source.characteristics() & Spliterator.ORDERED,fn);
 
         this.source = source;
-        this.values = new HashSet<>();
+        this.unseenFactory = unseenFactory;
+        this.unseen = unseenFactory.get();
 
     }
     @Override
     public void forEachRemaining(Consumer<? super T> action) {
         final Consumer<? super IN> toUse = apply(action);
         source.forEachRemaining(e->{
-            if(!values.contains(e)){
-                values.add(e);
+            if(unseen.test(e)){
                 toUse.accept(e);
             }
         });
@@ -47,8 +59,7 @@ public class DistinctSpliterator<IN,T> extends BaseComposableSpliterator<IN,T,Di
         do {
 
             advance = source.tryAdvance(t -> {
-                if (!values.contains(t)) {
-                    values.add(t);
+                if (unseen.test(t)) {
                     toUse.accept(t);
                     accepted[0] = true;
                 }
@@ -60,11 +71,11 @@ public class DistinctSpliterator<IN,T> extends BaseComposableSpliterator<IN,T,Di
 
     @Override
     public Spliterator<T> copy() {
-        return new DistinctSpliterator<IN,T>(fn,CopyableSpliterator.copy(source));
+        return new DistinctSpliterator<IN,T>(fn,CopyableSpliterator.copy(source),unseenFactory);
     }
 
     @Override
     <R2> DistinctSpliterator<IN, ?> create(Function<? super IN, ? extends R2> after) {
-        return new DistinctSpliterator(after,CopyableSpliterator.copy(source));
+        return new DistinctSpliterator(after,CopyableSpliterator.copy(source),unseenFactory);
     }
 }
@@ -0,0 +1,301 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import cyclops.function.Monoid;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * The state of a single sliding window, shared by the push and pull based sliding stages. A new instance is created for each
+ * subscription / copy of a Stream.
+ *
+ * A window is emitted each time it fills to windowSize elements, after which the oldest increment elements are removed. If the
+ * most recent element did not complete a window, the remaining (partial) window is emitted when the Stream completes. This matches
+ * the behaviour of {@link cyclops.stream.ReactiveSeq#sliding(int, int)}.
+ *
+ * @param <T> Type of the elements in the window
+ * @param <R> Type emitted for each window
+ */
+public abstract class SlidingWindow<T,R> {
+
+    protected final int windowSize;
+    private final int increment;
+    private boolean sent = false;
+    private int pending = 0;
+
+    protected SlidingWindow(int windowSize, int increment) {
+        if(windowSize<=0)
+            throw new IllegalArgumentException("Window size must be greater than 0, but was " + windowSize);
+        if(increment<=0)
+            throw new IllegalArgumentException("Increment must be greater than 0, but was " + increment);
+        this.windowSize = windowSize;
+        this.increment = increment;
+    }
+
+    /**
+     * @param next Element to add to the window
+     * @return true if the window is now full and should be emitted with {@link #take()}
+     */
+    public final boolean offer(T next){
+        evictPending();
+        append(next);
+        sent = size()==windowSize;
+        return sent;
+    }
+
+    /**
+     * @return The full window, the oldest increment elements are removed when the window is next updated (so a view over the
+     * window remains valid until then)
+     */
+    public final R take(){
+        pending = Math.min(increment,size());
+        return current();
+    }
+
+    /**
+     * @return true if there is a partial window that should be emitted on completion
+     */
+    public final boolean hasPartial(){
+        evictPending();
+        return !sent && size()>0;
+    }
+
+    public final R partial(){
+        evictPending();
+        sent = true;
+        return current();
+    }
+
+    private void evictPending(){
+        if(pending>0){
+            evict(pending);
+            pending = 0;
+        }
+    }
+
+    protected abstract void append(T next);
+    protected abstract int size();
+    protected abstract R current();
+    protected abstract void evict(int n);
+
+    /**
+     * Windows are emitted as read only Lists that remain valid after later windows have been emitted.
+     *
+     * Elements are appended to an array with room for two windows, when it fills the current window is copied to the start of a
+     * new array (earlier arrays are never written to again, so views over them are unaffected). Copying is amortized to O(1) per
+     * element, with no per window allocation other than the view itself.
+     */
+    public static <T> SlidingWindow<T,List<T>> views(int windowSize, int increment){
+        return new SlidingWindow<T, List<T>>(windowSize,increment) {
+            Object[] buffer = new Object[Math.max(2,windowSize*2)];
+            int start = 0;
+            int end = 0;
+
+            @Override
+            protected void append(T next) {
+                if(end==buffer.length){
+                    Object[] grown = new Object[buffer.length];
+                    System.arraycopy(buffer,start,grown,0,end-start);
+                    end = end-start;
+                    start = 0;
+                    buffer = grown;
+                }
+                buffer[end++] = next;
+            }
+
+            @Override
+            protected int size() {
+                return end-start;
+            }
+
+            @Override
+            protected List<T> current() {
+                return new ArrayView<>(buffer,start,end-start);
+            }
+
+            @Override
+            protected void evict(int n) {
+                start+=n;
+            }
+        };
+    }
+
+    /**
+     * Windows are emitted as read only Lists backed directly by a single circular array, each List is only valid until the next
+     * element is added to the window (i.e. it should be consumed before the next window is requested and must not be retained).
+     */
+    public static <T> SlidingWindow<T,List<T>> buffer(int windowSize, int increment){
+        return new SlidingWindow<T, List<T>>(windowSize,increment) {
+            final Object[] ring = new Object[windowSize];
+            int head = 0;
+            int size = 0;
+            final List<T> view = new AbstractList<T>() {
+                @Override
+                public T get(int index) {
+                    if(index<0 || index>=size)
+                        throw new IndexOutOfBoundsException("Index: "+index+", Size: "+size);
+                    return (T)ring[(head+index)%ring.length];
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+
+            @Override
+            protected void append(T next) {
+                ring[(head+size)%ring.length] = next;
+                size++;
+            }
+
+            @Override
+            protected int size() {
+                return size;
+            }
+
+            @Override
+            protected List<T> current() {
+                return view;
+            }
+
+            @Override
+            protected void evict(int n) {
+                for(int i=0;i<n;i++)
+                    ring[(head+i)%ring.length] = null;
+                head = (head+n)%ring.length;
+                size-=n;
+            }
+        };
+    }
+
+    /**
+     * Reduces each window (of windowSize, moving forward one element at a time) with the supplied Monoid.
+     *
+     * Uses two stacks : new elements are pushed onto a back stack with a running reduction, elements are removed from a front stack
+     * that stores the reduction of itself and every element above it. When the front stack is empty the back stack is moved across
+     * in one pass. Each element is combined a constant number of times, so each window costs O(1) amortized combines. Elements are
+     * always combined in Stream order, so the Monoid need not be commutative.
+     */
+    public static <T> SlidingWindow<T,T> reduce(int windowSize, Monoid<T> monoid){
+        return new SlidingWindow<T, T>(windowSize,1) {
+            final Object[] back = new Object[windowSize];
+            final Object[] front = new Object[windowSize];
+            int backCount = 0;
+            int frontCount = 0;
+            T backReduced = monoid.zero();
+
+            @Override
+            protected void append(T next) {
+                back[backCount++] = next;
+                backReduced = monoid.apply(backReduced,next);
+            }
+
+            @Override
+            protected int size() {
+                return backCount+frontCount;
+            }
+
+            @Override
+            protected T current() {
+                T frontReduced = frontCount==0 ? monoid.zero() : (T)front[frontCount-1];
+                return monoid.apply(frontReduced,backReduced);
+            }
+
+            @Override
+            protected void evict(int n) {
+                for(int i=0;i<n;i++){
+                    if(frontCount==0)
+                        flip();
+                    front[--frontCount] = null;
+                }
+            }
+
+            private void flip(){
+                T reduced = monoid.zero();
+                for(int i=backCount-1;i>=0;i--){
+                    reduced = monoid.apply((T)back[i],reduced);
+                    front[frontCount++] = reduced;
+                    back[i] = null;
+                }
+                backCount = 0;
+                backReduced = monoid.zero();
+            }
+        };
+    }
+
+    /**
+     * Sums each window (of windowSize, moving forward one element at a time) by adding the newest value and subtracting the oldest.
+     * The total is recalculated from the window once per windowSize elements, so rounding errors can not accumulate
+     * (this adds O(1) amortized work per element).
+     */
+    public static <T> SlidingWindow<T,Double> sum(int windowSize, ToDoubleFunction<? super T> fn){
+        return new SlidingWindow<T, Double>(windowSize,1) {
+            final double[] ring = new double[windowSize];
+            int head = 0;
+            int size = 0;
+            double sum = 0;
+            int evicted = 0;
+
+            @Override
+            protected void append(T next) {
+                double value = fn.applyAsDouble(next);
+                ring[(head+size)%ring.length] = value;
+                size++;
+                sum+=value;
+            }
+
+            @Override
+            protected int size() {
+                return size;
+            }
+
+            @Override
+            protected Double current() {
+                return sum;
+            }
+
+            @Override
+            protected void evict(int n) {
+                for(int i=0;i<n;i++){
+                    sum-=ring[head];
+                    head = (head+1)%ring.length;
+                    size--;
+                }
+                evicted+=n;
+                if(evicted>=windowSize){
+                    evicted = 0;
+                    sum = 0;
+                    for(int i=0;i<size;i++)
+                        sum+=ring[(head+i)%ring.length];
+                }
+            }
+        };
+    }
+
+    private static class ArrayView<T> extends AbstractList<T> implements RandomAccess {
+        private final Object[] array;
+        private final int offset;
+        private final int size;
+
+        ArrayView(Object[] array, int offset, int size) {
+            this.array = array;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        public T get(int index) {
+            if(index<0 || index>=size)
+                throw new IndexOutOfBoundsException("Index: "+index+", Size: "+size);
+            return (T)array[offset+index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Sliding windows over a Spliterator, windows are built by a {@link SlidingWindow} created for each copy.
+ */
+public class SlidingWindowSpliterator<T,R> extends Spliterators.AbstractSpliterator<R> implements CopyableSpliterator<R> {
+    private final Spliterator<T> source;
+    private final Supplier<? extends SlidingWindow<T,R>> windowFactory;
+    private final SlidingWindow<T,R> window;
+    private boolean ready = false;
+    private boolean canAdvance = true;
+
+    public SlidingWindowSpliterator(final Spliterator<T> source, Supplier<? extends SlidingWindow<T,R>> windowFactory) {
+        super(source.estimateSize(),source.characteristics() & Spliterator.ORDERED);
+        this.source = source;
+        this.windowFactory = windowFactory;
+        this.window = windowFactory.get();
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super R> action) {
+        if(!canAdvance)
+            return;
+        source.forEachRemaining(t->{
+            if(window.offer(t))
+                action.accept(window.take());
+        });
+        canAdvance = false;
+        if(window.hasPartial())
+            action.accept(window.partial());
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        while(canAdvance && !ready){
+            canAdvance = source.tryAdvance(t->ready = window.offer(t));
+        }
+        if(ready){
+            ready = false;
+            action.accept(window.take());
+            return true;
+        }
+        if(window.hasPartial()){
+            action.accept(window.partial());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Spliterator<R> copy() {
+        return new SlidingWindowSpliterator<T, R>(CopyableSpliterator.copy(source),windowFactory);
+    }
+}
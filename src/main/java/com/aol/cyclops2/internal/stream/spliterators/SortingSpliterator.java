@@ -0,0 +1,433 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import com.aol.cyclops2.util.ExceptionSoftener;
+import com.aol.cyclops2.util.Serializer;
+import cyclops.stream.SortOptions;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Sorts the elements of a source Spliterator, the source is consumed in full on the first advance.
+ *
+ * Elements are sorted in memory in runs of up to {@link SortOptions#getRunSize()} elements. If the source is larger than a single run,
+ * each full run is written to a temporary file and the runs are merged lazily through a heap. Ties are broken by run order, so the
+ * sort is stable. At most {@link SortOptions#getMergeFactor()} runs are merged (and open) at a time, if there are more runs they are
+ * first merged in groups into longer runs on disk, over as many passes as needed.
+ *
+ * When only the first n elements are required (see {@link #take(long)} and {@link #skip(long)}) and n is smaller than a run, only the
+ * smallest n elements are retained in a bounded heap and nothing is written to disk.
+ *
+ * A temporary file is deleted once it has been fully read, and all remaining temporary files are deleted when the sorted elements are
+ * exhausted, reading them fails, the sort fails or {@link #close()} is called (e.g. from the onClose handler of the sorted Stream).
+ */
+public class SortingSpliterator<T> implements CopyableSpliterator<T>, Indexable<T>, AutoCloseable {
+
+    private final Spliterator<T> source;
+    private final Comparator<? super T> comparator;
+    private final SortOptions<T> options;
+    private final long skip;
+    private final long limit;
+    //instances (this and it's copies) that currently hold temporary files
+    private final Set<SortingSpliterator<T>> open;
+    private final List<RunIterator<T>> spilled = new ArrayList<>();
+    private Iterator<T> sorted;
+
+    public SortingSpliterator(final Spliterator<T> source, final Comparator<? super T> comparator, final SortOptions<T> options) {
+        this(source, comparator, options, 0, Long.MAX_VALUE, ConcurrentHashMap.newKeySet());
+    }
+
+    private SortingSpliterator(final Spliterator<T> source, final Comparator<? super T> comparator, final SortOptions<T> options,
+                               final long skip, final long limit, final Set<SortingSpliterator<T>> open) {
+        this.source = source;
+        this.comparator = comparator;
+        this.options = options;
+        this.skip = skip;
+        this.limit = limit;
+        this.open = open;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        final Iterator<T> it = sorted();
+        final T next;
+        try {
+            if (!it.hasNext()) {
+                release();
+                return false;
+            }
+            next = it.next();
+        } catch (final RuntimeException | Error e) {
+            release();
+            throw e;
+        }
+        action.accept(next);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        final Iterator<T> it = sorted();
+        try {
+            it.forEachRemaining(action);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Close any open runs and delete the temporary files held by this Spliterator and all of it's copies
+     */
+    @Override
+    public void close() {
+        for (final SortingSpliterator<T> next : open)
+            next.release();
+    }
+
+    private synchronized void release() {
+        sorted = Collections.emptyIterator();
+        for (final RunIterator<T> run : spilled)
+            run.close();
+        spilled.clear();
+        open.remove(this);
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        final long size = source.estimateSize();
+        if (size == Long.MAX_VALUE)
+            return limit;
+        return Math.min(limit, Math.max(0, size - skip));
+    }
+
+    @Override
+    public int characteristics() {
+        return (source.characteristics() & Spliterator.SIZED) | Spliterator.ORDERED;
+    }
+
+    @Override
+    public Spliterator<T> copy() {
+        return new SortingSpliterator<>(CopyableSpliterator.copy(source), comparator, options, skip, limit, open);
+    }
+
+    @Override
+    public Spliterator<T> skip(final long start) {
+        return new SortingSpliterator<>(CopyableSpliterator.copy(source), comparator, options, add(skip, start),
+                                        limit == Long.MAX_VALUE ? limit : Math.max(0, limit - start), open);
+    }
+
+    @Override
+    public Spliterator<T> take(final long end) {
+        return new SortingSpliterator<>(CopyableSpliterator.copy(source), comparator, options, skip, Math.min(limit, end), open);
+    }
+
+    private static long add(final long a, final long b) {
+        final long total = a + b;
+        return total < 0 ? Long.MAX_VALUE : total;
+    }
+
+    private Iterator<T> sorted() {
+        if (sorted == null) {
+            final Iterator<T> it;
+            try {
+                it = sort();
+                for (long i = 0; i < skip && it.hasNext(); i++)
+                    it.next();
+            } catch (final RuntimeException | Error e) {
+                release();
+                throw e;
+            }
+            sorted = limit == Long.MAX_VALUE ? it : new Iterator<T>() {
+                long remaining = limit;
+
+                @Override
+                public boolean hasNext() {
+                    return remaining > 0 && it.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    if (remaining <= 0)
+                        throw new NoSuchElementException();
+                    remaining--;
+                    return it.next();
+                }
+            };
+        }
+        return sorted;
+    }
+
+    private Iterator<T> sort() {
+        final long retain = add(skip, limit);
+        if (retain < options.getRunSize())
+            return topK((int) retain);
+
+        final List<T> run = new ArrayList<>();
+        final List<Iterator<T>> runs = new ArrayList<>();
+        source.forEachRemaining(e -> {
+            run.add(e);
+            if (run.size() >= options.getRunSize()) {
+                run.sort(comparator);
+                runs.add(spill(run.iterator()));
+                run.clear();
+            }
+        });
+        run.sort(comparator);
+        if (runs.isEmpty())
+            return run.iterator();
+        runs.add(run.iterator());
+        return merge(reduce(runs));
+    }
+
+    /**
+     * Merge groups of up to mergeFactor adjacent runs into longer runs on disk until no more than mergeFactor runs remain. Adjacent
+     * runs are merged in order, so ties are still broken by their original order.
+     */
+    private List<Iterator<T>> reduce(final List<Iterator<T>> runs) {
+        final int factor = options.getMergeFactor();
+        List<Iterator<T>> remaining = runs;
+        while (remaining.size() > factor) {
+            final List<Iterator<T>> next = new ArrayList<>();
+            for (int i = 0; i < remaining.size(); i += factor) {
+                final List<Iterator<T>> group = remaining.subList(i, Math.min(remaining.size(), i + factor));
+                next.add(group.size() == 1 ? group.get(0) : spill(merge(group)));
+            }
+            remaining = next;
+        }
+        return remaining;
+    }
+
+    /**
+     * Retain the smallest k elements in a heap ordered largest first (by comparator, then by arrival), an element replaces the head
+     * only if it is strictly smaller, so equal elements keep their original order.
+     */
+    private Iterator<T> topK(final int k) {
+        if (k == 0)
+            return Collections.emptyIterator();
+        final PriorityQueue<Indexed<T>> heap = new PriorityQueue<>(Math.min(k, 1024), (a, b) -> {
+            final int result = comparator.compare(b.value, a.value);
+            return result != 0 ? result : Long.compare(b.index, a.index);
+        });
+        final long[] index = { 0 };
+        source.forEachRemaining(e -> {
+            final long next = index[0]++;
+            if (heap.size() < k)
+                heap.add(new Indexed<>(e, next));
+            else if (comparator.compare(e, heap.peek().value) < 0) {
+                heap.poll();
+                heap.add(new Indexed<>(e, next));
+            }
+        });
+        final Object[] result = new Object[heap.size()];
+        for (int i = result.length - 1; i >= 0; i--)
+            result[i] = heap.poll().value;
+        return Arrays.asList((T[]) result).iterator();
+    }
+
+    private Iterator<T> merge(final List<Iterator<T>> runs) {
+        final PriorityQueue<Head<T>> heap = new PriorityQueue<>(runs.size(), (a, b) -> {
+            final int result = comparator.compare(a.value, b.value);
+            return result != 0 ? result : Integer.compare(a.run, b.run);
+        });
+        for (int i = 0; i < runs.size(); i++) {
+            final Iterator<T> run = runs.get(i);
+            if (run.hasNext())
+                heap.add(new Head<>(run.next(), i, run));
+        }
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return !heap.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                final Head<T> head = heap.poll();
+                if (head == null)
+                    throw new NoSuchElementException();
+                final T value = head.value;
+                if (head.remaining.hasNext()) {
+                    head.value = head.remaining.next();
+                    heap.add(head);
+                }
+                return value;
+            }
+        };
+    }
+
+    private RunIterator<T> spill(final Iterator<T> run) {
+        final Serializer<T> serializer = options.getSerializer();
+        final RunIterator<T> result;
+        try {
+            final Path file = options.getDirectory() == null ? Files.createTempFile("cyclops-sort-", ".run")
+                    : Files.createTempFile(options.getDirectory(), "cyclops-sort-", ".run");
+            result = new RunIterator<>(file, serializer, options.getBufferSize());
+        } catch (final IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+        synchronized (this) {
+            spilled.add(result);
+            open.add(this);
+        }
+        long size = 0;
+        try (FileChannel channel = FileChannel.open(result.file, StandardOpenOption.WRITE)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(options.getBufferSize());
+            while (run.hasNext()) {
+                final byte[] bytes = serializer.serialize(run.next());
+                if (buffer.remaining() < bytes.length + 4)
+                    write(channel, buffer);
+                if (buffer.remaining() < bytes.length + 4) {
+                    final ByteBuffer large = ByteBuffer.allocate(bytes.length + 4);
+                    large.putInt(bytes.length)
+                         .put(bytes);
+                    write(channel, large);
+                } else {
+                    buffer.putInt(bytes.length)
+                          .put(bytes);
+                }
+                size++;
+            }
+            write(channel, buffer);
+        } catch (final IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+        result.remaining = size;
+        return result;
+    }
+
+    private static void write(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+    private static void delete(final Path file) {
+        if (file == null)
+            return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException e) {
+            //best effort, the original error is more useful
+        }
+    }
+
+    private static class Indexed<T> {
+        final T value;
+        final long index;
+
+        Indexed(final T value, final long index) {
+            this.value = value;
+            this.index = index;
+        }
+    }
+
+    private static class Head<T> {
+        T value;
+        final int run;
+        final Iterator<T> remaining;
+
+        Head(final T value, final int run, final Iterator<T> remaining) {
+            this.value = value;
+            this.run = run;
+            this.remaining = remaining;
+        }
+    }
+
+    /**
+     * Reads a spilled run back from disk, the file is opened on the first read and closed and deleted after the last element.
+     */
+    private static class RunIterator<T> implements Iterator<T> {
+        private final Path file;
+        private final Serializer<T> serializer;
+        private final int bufferSize;
+        private long remaining;
+        private FileChannel channel;
+        private ByteBuffer buffer;
+
+        RunIterator(final Path file, final Serializer<T> serializer, final int bufferSize) {
+            this.file = file;
+            this.serializer = serializer;
+            this.bufferSize = bufferSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public T next() {
+            if (remaining <= 0)
+                throw new NoSuchElementException();
+            try {
+                if (channel == null) {
+                    channel = FileChannel.open(file, StandardOpenOption.READ);
+                    buffer = ByteBuffer.allocate(bufferSize);
+                    buffer.flip();
+                }
+                if (buffer.remaining() < 4)
+                    fill(4);
+                final byte[] bytes = new byte[buffer.getInt()];
+                int offset = 0;
+                while (offset < bytes.length) {
+                    if (!buffer.hasRemaining())
+                        fill(1);
+                    final int length = Math.min(buffer.remaining(), bytes.length - offset);
+                    buffer.get(bytes, offset, length);
+                    offset += length;
+                }
+                if (--remaining == 0)
+                    close();
+                return serializer.deserialize(bytes);
+            } catch (final IOException e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
+
+        void close() {
+            remaining = 0;
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (final IOException e) {
+                    //best effort, the file is deleted regardless
+                }
+                channel = null;
+                buffer = null;
+            }
+            delete(file);
+        }
+
+        private void fill(final int min) throws IOException {
+            buffer.compact();
+            while (buffer.position() < min) {
+                if (channel.read(buffer) < 0)
+                    throw new EOFException("Unexpected end of sorted run " + file);
+            }
+            buffer.flip();
+        }
+    }
+}
@@ -80,10 +80,17 @@ public class ArrayOfValuesOperator<T> implements Operator<T> {
 
             private void pushAll() {
                 int local = index[0];
-                for (; local < values.length; local++) {
-                    if(!isOpen)
-                        break;
-                   ((Consumer) onNext).accept(values[local]);
+                if(BatchConsumer.isBatching(onNext)){
+                    if(isOpen && local < values.length) {
+                        index[0] = values.length;
+                        pushBatch((BatchConsumer<? super T>) onNext, local);
+                    }
+                }else {
+                    for (; local < values.length; local++) {
+                        if (!isOpen)
+                            break;
+                        ((Consumer) onNext).accept(values[local]);
+                    }
                 }
 
                 if(!completeSent.get()) {
@@ -103,8 +110,20 @@ public class ArrayOfValuesOperator<T> implements Operator<T> {
 
     @Override
     public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
-        for(int i=0;i<values.length;i++)
-            ((Consumer)onNext).accept(values[i]);
+        if(BatchConsumer.isBatching(onNext)){
+            if(values.length>0)
+                pushBatch((BatchConsumer<? super T>)onNext,0);
+        }else {
+            for (int i = 0; i < values.length; i++)
+                ((Consumer) onNext).accept(values[i]);
+        }
         onCompleteDs.run();
     }
+
+    private void pushBatch(BatchConsumer<? super T> onNext, int from){
+        if(from==0)
+            onNext.onNextBatch(values,values.length);
+        else
+            onNext.onNextBatch(Arrays.copyOfRange(values,from,values.length),values.length-from);
+    }
 }
@@ -0,0 +1,83 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Subscription shared by the primitive array Operators, emits the element at each index of the array as it is requested.
+ */
+abstract class ArraySubscription extends StreamSubscription {
+
+    final int length;
+    final Consumer<? super Throwable> onError;
+    final Runnable onComplete;
+    int index = 0;
+    boolean completeSent = false;
+
+    final LongConsumer work = this::drain;
+
+    ArraySubscription(int length, Consumer<? super Throwable> onError, Runnable onComplete) {
+        this.length = length;
+        this.onError = onError;
+        this.onComplete = onComplete;
+    }
+
+    /**
+     * Pass the element at the supplied index downstream
+     */
+    abstract void emit(int index);
+
+    @Override
+    public void request(long n) {
+        if(!SignalSubscription.validRequest(n,onError))
+            return;
+        singleActiveRequest(n,work);
+    }
+
+    private void drain(long n){
+        if (n == Long.MAX_VALUE) {
+            pushAll();
+            return;
+        }
+        long reqs = n;
+        int delivered = 0;
+        do{
+            while (delivered < reqs && index < length) {
+                if (!isOpen)
+                    return;
+                emit(index++);
+                delivered++;
+            }
+            if (index >= length) {
+                complete();
+                return;
+            }
+            reqs = requested.get();
+            if(reqs==delivered) {
+                reqs = requested.accumulateAndGet(delivered, (a, b) -> a - b);
+                if(reqs==0)
+                    return;
+                delivered=0;
+            }
+        }while(true);
+    }
+
+    private void pushAll() {
+        int local = index;
+        for (; local < length; local++) {
+            if(!isOpen)
+                break;
+            emit(local);
+        }
+        index = local;
+        complete();
+    }
+
+    private void complete(){
+        if(!completeSent) {
+            completeSent = true;
+            onComplete.run();
+            cancel();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * An onNext Consumer that can also accept elements in array chunks.
+ *
+ * Batching is negotiated per subscription : a source only emits via {@link #onNextBatch(Object[], int)} when the
+ * onNext Consumer it was subscribed with is a BatchConsumer, and an intermediate stage only passes a BatchConsumer upstream
+ * when it's own downstream is one. Any stage that does not support batching therefore switches the whole chain
+ * above it back to per-element delivery.
+ *
+ * The buffer passed to onNextBatch is owned by the caller, it must be treated as read only and must not be retained after
+ * the call returns.
+ */
+public interface BatchConsumer<T> extends Consumer<T> {
+
+    int BATCH_SIZE = 256;
+
+    void onNextBatch(Object[] buf, int len);
+
+    static boolean isBatching(Consumer<?> onNext){
+        return onNext instanceof BatchConsumer;
+    }
+
+    static <T> BatchConsumer<T> batchConsumer(Consumer<? super T> onNext, ObjIntConsumer<Object[]> onNextBatch){
+        return new BatchConsumer<T>() {
+            @Override
+            public void onNextBatch(Object[] buf, int len) {
+                onNextBatch.accept(buf,len);
+            }
+
+            @Override
+            public void accept(T t) {
+                onNext.accept(t);
+            }
+        };
+    }
+
+    /**
+     * Create a BatchConsumer that applies a per-element transformation to each batch in a single loop, forwarding the results
+     * downstream as a batch. The transformation may return {@link FusedOperator#FILTERED} to drop an element. Errors are
+     * reported in order, after any results already computed for the current batch have been sent downstream.
+     *
+     * @param onNext per-element path, used when elements arrive one at a time
+     * @param fn Transformation to apply to each element of a batch
+     * @param downstream Downstream batch Consumer
+     * @param onError Error handler
+     */
+    static <T> BatchConsumer<T> transforming(Consumer<? super T> onNext, Function<Object,Object> fn,
+                                             BatchConsumer<?> downstream, Consumer<? super Throwable> onError){
+        Object[][] out = {new Object[0]};
+        return batchConsumer(onNext,(buf,len)->{
+            if(out[0].length<len)
+                out[0] = new Object[len];
+            Object[] local = out[0];
+            int n = 0;
+            for(int i=0;i<len;i++){
+                try {
+                    Object next = fn.apply(buf[i]);
+                    if(next!=FusedOperator.FILTERED)
+                        local[n++]=next;
+                }catch(Throwable t){
+                    if(n>0) {
+                        downstream.onNextBatch(local, n);
+                        n = 0;
+                    }
+                    onError.accept(t);
+                }
+            }
+            if(n>0)
+                downstream.onNextBatch(local,n);
+        });
+    }
+
+}
@@ -1,8 +1,10 @@
 package com.aol.cyclops2.internal.stream.spliterators.push;
 
 import java.util.Collection;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
@@ -49,7 +51,7 @@ public class CollectAllOperator<T,A,R> extends BaseOperator<T,R> {
 
             }
         };
-        upstream[0] = source.subscribe(e-> {
+        upstream[0] = source.subscribe(BatchConsumer.batchConsumer(e-> {
                     try {
                         A nextA = (A)next[0];
 
@@ -61,7 +63,7 @@ public class CollectAllOperator<T,A,R> extends BaseOperator<T,R> {
 
                         onError.accept(t);
                     }
-                }
+                },accumulateBatch(next,onError))
                 ,t->{onError.accept(t);
                     sub.requested.decrementAndGet();
                     if(sub.isActive())
@@ -82,7 +84,7 @@ public class CollectAllOperator<T,A,R> extends BaseOperator<T,R> {
     @Override
     public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
         Object[] next = {collector.supplier().get()};
-        source.subscribeAll(e-> {
+        source.subscribeAll(BatchConsumer.batchConsumer(e-> {
                     try {
 
                         A nextA = (A)next[0];
@@ -92,7 +94,7 @@ public class CollectAllOperator<T,A,R> extends BaseOperator<T,R> {
 
                         onError.accept(t);
                     }
-                }
+                },accumulateBatch(next,onError))
                 ,onError,()->{
                     A nextA = (A)next[0];
                     try {
@@ -104,4 +106,18 @@ public class CollectAllOperator<T,A,R> extends BaseOperator<T,R> {
                     onCompleteDs.run();
                 });
     }
+
+    private ObjIntConsumer<Object[]> accumulateBatch(Object[] next, Consumer<? super Throwable> onError){
+        BiConsumer<A, ? super T> accumulator = collector.accumulator();
+        return (buf,len)->{
+            A nextA = (A)next[0];
+            for(int i=0;i<len;i++){
+                try {
+                    accumulator.accept(nextA, (T) buf[i]);
+                }catch(Throwable t){
+                    onError.accept(t);
+                }
+            }
+        };
+    }
 }
@@ -0,0 +1,59 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+
+/**
+ * DoubleOperator that emits only the elements that match the predicate.
+ */
+public class DoubleFilterOperator implements DoubleOperator {
+
+    final DoubleOperator source;
+    final DoublePredicate predicate;
+
+    public DoubleFilterOperator(DoubleOperator source, DoublePredicate predicate){
+        this.source = source;
+        this.predicate = predicate;
+
+
+    }
+
+    public DoubleFilterOperator and(DoublePredicate next){
+        return new DoubleFilterOperator(source,predicate.and(next));
+    }
+
+    @Override
+    public StreamSubscription subscribeDoubles(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        StreamSubscription[] upstream = {null};
+        upstream[0]= source.subscribeDoubles(e-> {
+                    try {
+                        if(predicate.test(e))
+                            onNext.accept(e);
+                        else if(upstream[0]!=null){
+                            upstream[0].request(1);
+                        }
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAllDoubles(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        source.subscribeAllDoubles(e-> {
+                    try {
+                        if(predicate.test(e))
+                            onNext.accept(e);
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
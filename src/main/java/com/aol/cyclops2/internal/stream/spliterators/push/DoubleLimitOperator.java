@@ -0,0 +1,47 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * DoubleOperator that emits at most limit elements, then cancels upstream and completes.
+ */
+public class DoubleLimitOperator implements DoubleOperator {
+
+    final DoubleOperator source;
+    final long limit;
+
+    public DoubleLimitOperator(DoubleOperator source, long limit){
+        this.source = source;
+        this.limit = limit;
+    }
+
+    @Override
+    public StreamSubscription subscribeDoubles(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        LimitCounter counter = new LimitCounter(limit,onComplete);
+        counter.upstream = source.subscribeDoubles(e-> {
+                    try {
+                        if(counter.next())
+                            onNext.accept(e);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,counter::complete);
+        return counter.upstream;
+    }
+
+    @Override
+    public void subscribeAllDoubles(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        LimitCounter counter = new LimitCounter(limit,onCompleteDs);
+        source.subscribeAllDoubles(e-> {
+                    try {
+                        if(counter.next())
+                            onNext.accept(e);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,counter::complete);
+    }
+}
@@ -0,0 +1,55 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * DoubleOperator that transforms each element with the supplied function.
+ */
+public class DoubleMapOperator implements DoubleOperator {
+
+    final DoubleOperator source;
+    final DoubleUnaryOperator mapper;
+
+    public DoubleMapOperator(DoubleOperator source, DoubleUnaryOperator mapper){
+        this.source = source;
+        this.mapper = mapper;
+
+    }
+
+
+    public DoubleMapOperator compose(DoubleUnaryOperator fn){
+        return new DoubleMapOperator(source,mapper.andThen(fn));
+
+    }
+
+    @Override
+    public StreamSubscription subscribeDoubles(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+
+        return source.subscribeDoubles(e-> {
+                    try {
+
+                        onNext.accept(mapper.applyAsDouble(e));
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+    }
+
+    @Override
+    public void subscribeAllDoubles(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        source.subscribeAllDoubles(e-> {
+                    try {
+                        onNext.accept(mapper.applyAsDouble(e));
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
@@ -0,0 +1,24 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A push Operator specialised for primitive doubles, elements are passed to an DoubleConsumer without boxing.
+ * When subscribed to via the standard Operator methods each element is boxed at the point of delivery.
+ */
+public interface DoubleOperator extends Operator<Double> {
+
+    public StreamSubscription subscribeDoubles(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+    public void subscribeAllDoubles(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+
+    @Override
+    default StreamSubscription subscribe(Consumer<? super Double> onNext, Consumer<? super Throwable> onError, Runnable onComplete){
+        return subscribeDoubles(onNext::accept,onError,onComplete);
+    }
+
+    @Override
+    default void subscribeAll(Consumer<? super Double> onNext, Consumer<? super Throwable> onError, Runnable onComplete){
+        subscribeAllDoubles(onNext::accept,onError,onComplete);
+    }
+}
@@ -0,0 +1,46 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * DoubleOperator that drops the first skip elements.
+ */
+public class DoubleSkipOperator implements DoubleOperator {
+
+    final DoubleOperator source;
+    final long skip;
+
+    public DoubleSkipOperator(DoubleOperator source, long skip){
+        this.source = source;
+        this.skip = skip;
+    }
+
+    @Override
+    public StreamSubscription subscribeDoubles(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        SkipSubscription sub = new SkipSubscription(skip,onError);
+        sub.upstream = source.subscribeDoubles(e-> {
+                    try {
+                        if(sub.next())
+                            onNext.accept(e);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return sub;
+    }
+
+    @Override
+    public void subscribeAllDoubles(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        SkipSubscription sub = new SkipSubscription(skip,onError);
+        source.subscribeAllDoubles(e->{
+            try {
+                if(sub.next())
+                    onNext.accept(e);
+            }catch(Throwable t){
+                onError.accept(t);
+            }
+        },onError,onCompleteDs);
+    }
+}
@@ -22,7 +22,7 @@ public class FilterOperator<T> extends BaseOperator<T,T> {
     @Override
     public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
         StreamSubscription[] upstream = {null};
-        upstream[0]= source.subscribe(e-> {
+        Consumer<T> next = e-> {
                     try {
                         if(predicate.test(e))
                             onNext.accept(e);
@@ -33,7 +33,8 @@ public class FilterOperator<T> extends BaseOperator<T,T> {
 
                         onError.accept(t);
                     }
-                }
+                };
+        upstream[0]= source.subscribe(batching(next,onNext,onError)
                 ,onError,onComplete);
         return upstream[0];
     }
@@ -41,7 +42,7 @@ public class FilterOperator<T> extends BaseOperator<T,T> {
     @Override
     public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
 
-        source.subscribeAll(e-> {
+        Consumer<T> next = e-> {
                     try {
                         if(predicate.test(e))
                             onNext.accept(e);
@@ -49,7 +50,16 @@ public class FilterOperator<T> extends BaseOperator<T,T> {
 
                         onError.accept(t);
                     }
-                }
+                };
+        source.subscribeAll(batching(next,onNext,onError)
                 ,onError,onCompleteDs);
     }
+
+    private Consumer<T> batching(Consumer<T> next, Consumer<? super T> onNext, Consumer<? super Throwable> onError){
+        if(BatchConsumer.isBatching(onNext)) {
+            Predicate<Object> p = (Predicate)predicate;
+            return BatchConsumer.transforming(next, in -> p.test(in) ? in : FusedOperator.FILTERED, (BatchConsumer) onNext, onError);
+        }
+        return next;
+    }
 }
@@ -0,0 +1,115 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A single push stage that executes a chain of adjacent map / filter / peek stages (micro-fusion).
+ *
+ * Each stage is stored as a Supplier so that lazily created (per subscription) stage state, such as the Set
+ * used by distinct, is still created once per subscription. Filtering stages signal a dropped element by
+ * returning {@link #FILTERED}, which causes a replacement element to be requested from upstream.
+ */
+public class FusedOperator<T,R> extends BaseOperator<T,R> {
+
+    static final Object FILTERED = new Object();
+
+    private final Supplier<Function<Object,Object>>[] stages;
+
+    FusedOperator(Operator<T> source, Supplier<Function<Object,Object>>[] stages){
+        super(source);
+        this.stages = stages;
+    }
+
+    /**
+     * @return A new FusedOperator with the provided stage appended to the end of this fused chain
+     */
+    <R2> FusedOperator<T,R2> andThen(Supplier<Function<Object,Object>> stage){
+        Supplier<Function<Object,Object>>[] next = new Supplier[stages.length+1];
+        System.arraycopy(stages,0,next,0,stages.length);
+        next[stages.length]=stage;
+        return new FusedOperator<>(source,next);
+    }
+
+    static <T,R> Supplier<Function<Object,Object>> mapStage(Function<? super T, ? extends R> mapper){
+        Function<Object,Object> fn = (Function)mapper;
+        return ()->fn;
+    }
+    static <T,R> Supplier<Function<Object,Object>> lazyMapStage(Supplier<Function<? super T, ? extends R>> mapperSupplier){
+        return ()->(Function)mapperSupplier.get();
+    }
+    static <T> Supplier<Function<Object,Object>> filterStage(Predicate<? super T> predicate){
+        Predicate<Object> p = (Predicate)predicate;
+        Function<Object,Object> fn = in-> p.test(in) ? in : FILTERED;
+        return ()->fn;
+    }
+    static <T> Supplier<Function<Object,Object>> lazyFilterStage(Supplier<Predicate<? super T>> predicateSupplier){
+        return ()->{
+            Predicate<Object> p = (Predicate)predicateSupplier.get();
+            return in-> p.test(in) ? in : FILTERED;
+        };
+    }
+
+    private Function<Object,Object>[] materialize(){
+        Function<Object,Object>[] fns = new Function[stages.length];
+        for(int i=0;i<stages.length;i++)
+            fns[i] = stages[i].get();
+        return fns;
+    }
+    private static Object apply(Function<Object,Object>[] fns, Object e){
+        Object next = e;
+        for(int i=0;i<fns.length;i++){
+            next = fns[i].apply(next);
+            if(next==FILTERED)
+                return FILTERED;
+        }
+        return next;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        Function<Object,Object>[] fns = materialize();
+        StreamSubscription[] upstream = {null};
+        Consumer<T> onNextFused = e-> {
+                    try {
+                        Object next = apply(fns,e);
+                        if(next!=FILTERED)
+                            ((Consumer)onNext).accept(next);
+                        else{
+                            upstream[0].request(1);
+                        }
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                };
+        upstream[0] = source.subscribe(batching(fns,onNextFused,onNext,onError)
+                ,onError,onComplete);
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        Function<Object,Object>[] fns = materialize();
+        Consumer<T> onNextFused = e-> {
+                    try {
+                        Object next = apply(fns,e);
+                        if(next!=FILTERED)
+                            ((Consumer)onNext).accept(next);
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                };
+        source.subscribeAll(batching(fns,onNextFused,onNext,onError)
+                ,onError,onCompleteDs);
+    }
+
+    private Consumer<T> batching(Function<Object,Object>[] fns, Consumer<T> next, Consumer<? super R> onNext, Consumer<? super Throwable> onError){
+        if(BatchConsumer.isBatching(onNext))
+            return BatchConsumer.transforming(next,in->apply(fns,in),(BatchConsumer)onNext,onError);
+        return next;
+    }
+}
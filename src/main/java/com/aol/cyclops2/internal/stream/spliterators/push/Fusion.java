@@ -0,0 +1,102 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import com.aol.cyclops2.internal.stream.spliterators.Indexable;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Operator fusion for push based Streams.
+ *
+ * When a new stage is added directly on top of a compatible stage the two are collapsed into a single Operator,
+ * rather than wrapping the existing Operator in another layer (with it's own Consumer hop, try / catch and StreamSubscription).
+ *
+ * <pre>
+ * macro fusion
+ *   map(f).map(g)          -&gt; map(f.andThen(g))
+ *   filter(p).filter(q)    -&gt; filter(p.and(q))
+ *   skip(a).skip(b)        -&gt; skip(a+b)
+ *   limit(a).limit(b)      -&gt; limit(min(a,b))
+ *   limit(k) on an Indexable Spliterator -&gt; take(k) (e.g. sorted().limit(k) retains only k elements)
+ * micro fusion
+ *   any mix of map / filter / peek (including their lazy variants) -&gt; a single {@link FusedOperator}
+ * </pre>
+ */
+public class Fusion {
+
+    public static <T,R> Operator<R> map(Operator<T> source, Function<? super T, ? extends R> fn){
+        if(source instanceof MapOperator){
+            return ((MapOperator<Object,T>)source).compose(fn);
+        }
+        if(isFusable(source)){
+            return fused(source).andThen(FusedOperator.mapStage(fn));
+        }
+        return new MapOperator<>(source,fn);
+    }
+    public static <T,R> Operator<R> mapLazy(Operator<T> source, Supplier<Function<? super T, ? extends R>> fn){
+        if(isFusable(source)){
+            return fused(source).andThen(FusedOperator.lazyMapStage(fn));
+        }
+        return new LazyMapOperator<>(source,fn);
+    }
+    public static <T> Operator<T> filter(Operator<T> source, Predicate<? super T> predicate){
+        if(source instanceof FilterOperator){
+            FilterOperator<T> filter = (FilterOperator<T>)source;
+            return new FilterOperator<T>(filter.source,((Predicate<T>)filter.predicate).and(predicate));
+        }
+        if(isFusable(source)){
+            return fused(source).andThen(FusedOperator.filterStage(predicate));
+        }
+        return new FilterOperator<>(source,predicate);
+    }
+    public static <T> Operator<T> filterLazy(Operator<T> source, Supplier<Predicate<? super T>> predicate){
+        if(isFusable(source)){
+            return fused(source).andThen(FusedOperator.lazyFilterStage(predicate));
+        }
+        return new LazyFilterOperator<>(source,predicate);
+    }
+    public static <T> Operator<T> skip(Operator<T> source, long num){
+        if(source instanceof SkipOperator){
+            SkipOperator<T,?> skip = (SkipOperator<T,?>)source;
+            long total = skip.skip + num;
+            return new SkipOperator<>(skip.source,total < 0 ? Long.MAX_VALUE : total);
+        }
+        return new SkipOperator<>(source,num);
+    }
+    public static <T> Operator<T> limit(Operator<T> source, long num){
+        if(source instanceof LimitOperator){
+            LimitOperator<T,?> limit = (LimitOperator<T,?>)source;
+            return new LimitOperator<>(limit.source,Math.min(limit.limit,num));
+        }
+        if(source instanceof SpliteratorToOperator && ((SpliteratorToOperator<T>)source).split instanceof Indexable){
+            Indexable<T> indexable = (Indexable<T>)((SpliteratorToOperator<T>)source).split;
+            return new SpliteratorToOperator<>(indexable.take(num));
+        }
+        return new LimitOperator<>(source,num);
+    }
+
+    private static boolean isFusable(Operator<?> source){
+        return source instanceof FusedOperator || source instanceof MapOperator || source instanceof FilterOperator
+                || source instanceof LazyMapOperator || source instanceof LazyFilterOperator;
+    }
+
+    private static <T> FusedOperator<Object,T> fused(Operator<T> source){
+        if(source instanceof FusedOperator)
+            return (FusedOperator<Object,T>)source;
+        if(source instanceof MapOperator) {
+            MapOperator<Object,T> map = (MapOperator<Object,T>) source;
+            return new FusedOperator<>(map.source, new Supplier[]{FusedOperator.mapStage(map.mapper)});
+        }
+        if(source instanceof FilterOperator){
+            FilterOperator<Object> filter = (FilterOperator<Object>) source;
+            return (FusedOperator)new FusedOperator<>(filter.source, new Supplier[]{FusedOperator.filterStage(filter.predicate)});
+        }
+        if(source instanceof LazyMapOperator){
+            LazyMapOperator<Object,T> map = (LazyMapOperator<Object,T>) source;
+            return new FusedOperator<>(map.source, new Supplier[]{FusedOperator.lazyMapStage(map.mapperSupplier)});
+        }
+        LazyFilterOperator<Object> filter = (LazyFilterOperator<Object>) source;
+        return (FusedOperator)new FusedOperator<>(filter.source, new Supplier[]{FusedOperator.lazyFilterStage(filter.predicateSupplier)});
+    }
+}
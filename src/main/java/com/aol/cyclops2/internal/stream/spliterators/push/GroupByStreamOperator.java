@@ -0,0 +1,382 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import com.aol.cyclops2.react.ThreadPools;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+import org.jooq.lambda.tuple.Tuple;
+import org.jooq.lambda.tuple.Tuple2;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Splits a push Stream into a Stream of keyed groups, each group is itself a push Operator that can be subscribed to once.
+ *
+ * A new group is emitted the first time a key is seen (or is seen again after it's group was closed). At most maxGroups groups
+ * are open at once, when a new key arrives and the limit has been reached the least recently active group is closed. If an idle time
+ * is configured, groups that receive no elements for at least that long are closed by a periodic task on the shared scheduler.
+ * Closing a group completes it once it's buffered elements have been delivered.
+ *
+ * Each group has it's own demand, upstream is requested in batches of prefetch elements and replenished as groups consume their
+ * buffered elements, so a slow group slows the whole Stream rather than buffering without bound. Every emitted group should
+ * therefore be subscribed to (or cancelled).
+ */
+public class GroupByStreamOperator<T,K> extends BaseOperator<T,Tuple2<K,Operator<T>>> {
+
+    public static final int DEFAULT_MAX_GROUPS = 256;
+    public static final int DEFAULT_PREFETCH = 256;
+
+    final Function<? super T, ? extends K> keyFn;
+    final int maxGroups;
+    final long idleNanos;
+    final int prefetch;
+    final int limit;
+
+    /**
+     * @param source Upstream Operator
+     * @param keyFn Function to determine the group key of each element
+     * @param maxGroups Maximum number of concurrently open groups
+     * @param idleNanos Time after which a group that has received no elements is closed, or 0 to keep idle groups open
+     * @param prefetch Number of elements to request from upstream in advance
+     */
+    public GroupByStreamOperator(Operator<T> source, Function<? super T, ? extends K> keyFn, int maxGroups, long idleNanos, int prefetch){
+        super(source);
+        if(maxGroups<=0)
+            throw new IllegalArgumentException("Maximum number of groups must be greater than 0, but was " + maxGroups);
+        if(prefetch<=0)
+            throw new IllegalArgumentException("Prefetch must be greater than 0, but was " + prefetch);
+        this.keyFn = keyFn;
+        this.maxGroups = maxGroups;
+        this.idleNanos = idleNanos;
+        this.prefetch = prefetch;
+        this.limit = prefetch - (prefetch >> 2);
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super Tuple2<K, Operator<T>>> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        GroupBySubscription sub = new GroupBySubscription(onNext,onError,onComplete);
+        sub.upstream = source.subscribe(sub::onNextUpstream,sub::onErrorUpstream,sub::onCompleteUpstream);
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super Tuple2<K, Operator<T>>> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+
+    private class GroupBySubscription extends SignalSubscription<Tuple2<K, Operator<T>>> {
+        final LinkedHashMap<K,Group> groups = new LinkedHashMap<>(16,0.75f,true);
+        final ArrayDeque<Object> pending = new ArrayDeque<>();
+        final AtomicInteger wip = new AtomicInteger(0);
+        final AtomicBoolean started = new AtomicBoolean(false);
+        final AtomicLong consumed = new AtomicLong(0);
+        volatile StreamSubscription upstream;
+        volatile boolean done = false;
+        boolean upstreamCancelled = false;
+        ScheduledFuture<?> ticker;
+
+        GroupBySubscription(Consumer<? super Tuple2<K, Operator<T>>> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            super(onNext,onError,onComplete);
+        }
+
+        @Override
+        void onRequest(long n) {
+            if(started.compareAndSet(false,true)){
+                if(idleNanos>0) {
+                    synchronized (this) {
+                        ticker = ThreadPools.getStandardSchedular().scheduleAtFixedRate(this::evictIdle, idleNanos, idleNanos, TimeUnit.NANOSECONDS);
+                    }
+                }
+                upstream.request(prefetch);
+            }
+            drain();
+        }
+
+        /**
+         * Cancelling the Stream of groups closes any group that has not yet been emitted, groups already emitted continue
+         * until they complete or are cancelled.
+         */
+        @Override
+        public void cancel() {
+            super.cancel();
+            List<Group> unemitted = new ArrayList<>();
+            synchronized (this){
+                for(Object next : pending){
+                    if(!(next instanceof ErrorSignal))
+                        unemitted.add((Group)next);
+                }
+                pending.clear();
+            }
+            for(Group group : unemitted)
+                group.cancel();
+            cancelUpstreamIfUnused();
+        }
+
+        void onNextUpstream(T e){
+            K key;
+            try {
+                key = keyFn.apply(e);
+            }catch(Throwable t){
+                onErrorUpstream(t);
+                return;
+            }
+            Group group;
+            Group evicted = null;
+            boolean created = false;
+            boolean overflow = false;
+            synchronized (this){
+                group = groups.get(key);
+                if(group==null && isOpen){
+                    if(groups.size()>=maxGroups){
+                        Iterator<Group> it = groups.values().iterator();
+                        evicted = it.next();
+                        it.remove();
+                    }
+                    group = new Group(key);
+                    groups.put(key,group);
+                    pending.add(group);
+                    created = true;
+                }
+                if(group!=null){
+                    group.active = true;
+                    overflow = !group.offer(e);
+                }
+            }
+            //signalled outside the lock, as the error may be delivered downstream
+            if(overflow)
+                onErrorUpstream(new IllegalStateException("Queue is full, more elements were emitted than requested"));
+            if(evicted!=null)
+                evicted.close();
+            if(group==null)
+                consumed(1);
+            else
+                group.drain();
+            if(created)
+                drain();
+        }
+
+        void onErrorUpstream(Throwable t){
+            synchronized (this){
+                pending.add(new ErrorSignal(t));
+            }
+            drain();
+        }
+
+        void onCompleteUpstream(){
+            List<Group> open;
+            synchronized (this){
+                done = true;
+                open = new ArrayList<>(groups.values());
+                groups.clear();
+                if(ticker!=null)
+                    ticker.cancel(false);
+            }
+            for(Group group : open)
+                group.close();
+            drain();
+        }
+
+        private void evictIdle(){
+            List<Group> idle = new ArrayList<>();
+            synchronized (this){
+                Iterator<Group> it = groups.values().iterator();
+                while(it.hasNext()){
+                    Group group = it.next();
+                    if(!group.active){
+                        it.remove();
+                        idle.add(group);
+                    }else {
+                        group.active = false;
+                    }
+                }
+            }
+            for(Group group : idle)
+                group.close();
+        }
+
+        void remove(Group group){
+            synchronized (this){
+                if(groups.get(group.key)==group)
+                    groups.remove(group.key);
+            }
+            cancelUpstreamIfUnused();
+        }
+
+        private void cancelUpstreamIfUnused(){
+            synchronized (this){
+                if(isOpen || done || upstreamCancelled || !groups.isEmpty())
+                    return;
+                upstreamCancelled = true;
+                if(ticker!=null)
+                    ticker.cancel(false);
+            }
+            upstream.cancel();
+        }
+
+        void consumed(long n){
+            long c = consumed.addAndGet(n);
+            if(c>=limit && !done && consumed.compareAndSet(c,0))
+                upstream.request(c);
+        }
+
+        private synchronized Object poll(){
+            return pending.poll();
+        }
+
+        private synchronized boolean isEmpty(){
+            return pending.isEmpty();
+        }
+
+        private void drain(){
+            if(wip.getAndIncrement()!=0)
+                return;
+            int missed = 1;
+            for(;;){
+                boolean d = done;
+                long r = requested.get();
+                long e = 0;
+                while(e!=r && isOpen){
+                    Object next = poll();
+                    if(next==null)
+                        break;
+                    e++;
+                    deliver(next);
+                    if(next instanceof ErrorSignal)
+                        consumed(1);
+                }
+                if(e!=0 && r!=Long.MAX_VALUE)
+                    requested.addAndGet(-e);
+                if(d && isOpen && isEmpty())
+                    complete();
+                missed = wip.addAndGet(-missed);
+                if(missed==0)
+                    return;
+            }
+        }
+
+        @Override
+        Tuple2<K, Operator<T>> value(Object next){
+            Group group = (Group)next;
+            return Tuple.tuple(group.key, group);
+        }
+
+        /**
+         * A single keyed group, buffers up to prefetch elements in a single producer / single consumer queue and delivers them to
+         * it's subscriber using a work-in-progress drain loop.
+         */
+        private class Group extends StreamSubscription implements Operator<T> {
+            final K key;
+            final OneToOneConcurrentArrayQueue<Object> queue = new OneToOneConcurrentArrayQueue<>(prefetch);
+            final AtomicInteger groupWip = new AtomicInteger(0);
+            final AtomicBoolean subscribed = new AtomicBoolean(false);
+            Consumer<? super Throwable> onGroupError;
+            Runnable onGroupComplete;
+            volatile Consumer<? super T> onGroupNext;
+            volatile boolean closed = false;
+            boolean active = true;
+            boolean completeSent = false;
+
+            Group(K key) {
+                this.key = key;
+            }
+
+            boolean offer(T e){
+                return queue.offer(signal(e));
+            }
+
+            void close(){
+                closed = true;
+                drain();
+            }
+
+            @Override
+            public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                if(!subscribed.compareAndSet(false,true)){
+                    onError.accept(new IllegalStateException("Group " + key + " can only be subscribed to once"));
+                    StreamSubscription rejected = new StreamSubscription();
+                    rejected.cancel();
+                    return rejected;
+                }
+                onGroupError = onError;
+                onGroupComplete = onComplete;
+                onGroupNext = onNext;
+                drain();
+                return this;
+            }
+
+            @Override
+            public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+                subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void request(long n) {
+                if(!validRequest(n,onGroupError))
+                    return;
+                super.request(n);
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                super.cancel();
+                remove(this);
+                drain();
+            }
+
+            void drain(){
+                if(groupWip.getAndIncrement()!=0)
+                    return;
+                int missed = 1;
+                for(;;){
+                    if(!isOpen){
+                        discard();
+                    }else if(onGroupNext!=null && !completeSent){
+                        long r = requested.get();
+                        long e = 0;
+                        while(e!=r && isOpen){
+                            Object next = queue.poll();
+                            if(next==null)
+                                break;
+                            e++;
+                            try {
+                                onGroupNext.accept(next == NULL ? null : (T) next);
+                            }catch(Throwable t){
+                                onGroupError.accept(t);
+                            }
+                        }
+                        if(e!=0){
+                            if(r!=Long.MAX_VALUE)
+                                requested.addAndGet(-e);
+                            consumed(e);
+                        }
+                        if(closed && isOpen && queue.isEmpty()){
+                            completeSent = true;
+                            onGroupComplete.run();
+                        }
+                    }
+                    missed = groupWip.addAndGet(-missed);
+                    if(missed==0)
+                        return;
+                }
+            }
+
+            private void discard(){
+                long n = 0;
+                while(queue.poll()!=null)
+                    n++;
+                if(n!=0)
+                    consumed(n);
+            }
+        }
+    }
+}
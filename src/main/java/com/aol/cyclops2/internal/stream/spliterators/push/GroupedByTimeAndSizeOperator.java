@@ -1,17 +1,30 @@
 package com.aol.cyclops2.internal.stream.spliterators.push;
 
+import com.aol.cyclops2.react.ThreadPools;
+
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
+ * Groups elements into Collections of up to groupSize elements, a group is also closed at the end of each time window.
+ *
+ * Time windows are driven by a periodic tick on the shared scheduler ({@link ThreadPools#getStandardSchedular()}), so a partially
+ * filled group is emitted when it's window ends even if no further elements are received. Ticks are never scheduled more frequently
+ * than {@link #MIN_TICK_NANOS}, only windows shorter than that are also checked against the clock as each element arrives.
+ *
+ * Groups closed by a tick may be emitted on the scheduler thread, all emissions are serialized.
+ *
  * Created by johnmcclean on 12/01/2017.
  */
 public class GroupedByTimeAndSizeOperator<T,C extends Collection<? super T>,R> extends BaseOperator<T,R> {
 
-
+    static final long MIN_TICK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
 
     private final Supplier<? extends C> factory;
     private final Function<? super C, ? extends R> finalizer;
@@ -38,100 +51,165 @@ public class GroupedByTimeAndSizeOperator<T,C extends Collection<? super T>,R> e
 
     @Override
     public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
-        long toRun = t.toNanos(time);
-        Collection[] next = {factory.get()};
-        long[] start ={System.nanoTime()};
-        StreamSubscription[] upstream = {null};
-        StreamSubscription sub = new StreamSubscription(){
-            @Override
-            public void request(long n) {
-                if(n<=0) {
-                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
-                    return;
-                }
-                if(!isOpen)
-                    return;
-                super.request(n);
-
-                    upstream[0].request(n);
-
-
-            }
-
-            @Override
-            public void cancel() {
-                if(upstream[0]!=null)
-                     upstream[0].cancel();
-                super.cancel();
-            }
-        };
-        upstream[0] = source.subscribe(e-> {
-                    try {
-
-                        next[0].add(e);
-                        if(next[0].size()==groupSize || System.nanoTime()-start[0] > toRun){
-                            onNext.accept(finalizer.apply((C)next[0]));
-                            next[0] = factory.get();
-                            start[0] = System.nanoTime();
-                            sub.requested.decrementAndGet();
-                        }else{
-                            upstream[0].request(1l);
-                        }
-
-                    } catch (Throwable t) {
-
-                        onError.accept(t);
-                    }
-                }
-                ,t->{onError.accept(t);
-                    sub.requested.decrementAndGet();
-                    if(sub.isActive())
-                        upstream[0].request(1);
-                },()->{
-                    if(next[0].size()>0) {
-                        try {
-                            onNext.accept(finalizer.apply((C) next[0]));
-                        } catch(Throwable t){
-                            onError.accept(t);
-                        }
-                        sub.requested.decrementAndGet();
-                    }
-                    sub.cancel();
-                    onComplete.run();
-                });
-
+        WindowSubscription sub = new WindowSubscription(onNext,onError,onComplete,false);
+        sub.upstream = source.subscribe(sub::onNextUpstream,sub::onErrorUpstream,sub::onCompleteUpstream);
         return sub;
     }
 
     @Override
     public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
-        long toRun = t.toNanos(time);
-        Collection[] next = {factory.get()};
-        long[] start ={System.nanoTime()};
-        source.subscribeAll(e-> {
-                    try {
-
-                        next[0].add(e);
-                        if(next[0].size()==groupSize || System.nanoTime()-start[0] > toRun){
-                            onNext.accept(finalizer.apply((C)next[0]));
-                            next[0] = factory.get();
-                            start[0] = System.nanoTime();
-                        }
-
-                    } catch (Throwable t) {
-
-                        onError.accept(t);
-                    }
+        WindowSubscription sub = new WindowSubscription(onNext,onError,onCompleteDs,true);
+        sub.request(Long.MAX_VALUE);
+        source.subscribeAll(sub::onNextUpstream,sub::onErrorUpstream,sub::onCompleteUpstream);
+    }
+
+    /**
+     * Upstream demand is kept in step with downstream demand : an element that does not close a group is replaced by requesting
+     * another from upstream. A group closed by a tick consumes downstream demand without consuming an upstream element, the surplus
+     * upstream demand is tracked as owed and offset against subsequent replenishment.
+     */
+    private class WindowSubscription extends SignalSubscription<R> {
+        final boolean unbounded;
+        final long toRun = t.toNanos(time);
+        final boolean clocked = toRun < MIN_TICK_NANOS;
+        long start = clocked ? System.nanoTime() : 0;
+        final AtomicInteger wip = new AtomicInteger(0);
+        final ArrayDeque<Object> ready = new ArrayDeque<>();
+        volatile StreamSubscription upstream;
+        volatile boolean done = false;
+        C next = factory.get();
+        boolean expired = false;
+        long owed = 0;
+        ScheduledFuture<?> ticker;
+        boolean stopped = false;
+
+        WindowSubscription(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete, boolean unbounded) {
+            super(onNext,onError,onComplete);
+            this.unbounded = unbounded;
+        }
+
+        @Override
+        void onRequest(long n) {
+            long toRequest;
+            synchronized (this){
+                if(ticker==null && !stopped){
+                    long period = Math.max(MIN_TICK_NANOS,toRun);
+                    ticker = ThreadPools.getStandardSchedular().scheduleAtFixedRate(this::tick,period,period,TimeUnit.NANOSECONDS);
                 }
-                ,onError,()->{
-                    if(next[0].size()>0) {
-                        try {
-                            onNext.accept(finalizer.apply((C) next[0]));
-                        } catch(Throwable t){
-                            onError.accept(t);
-                        }
-                    }
-                    onCompleteDs.run();
-                });
+                toRequest = n==Long.MAX_VALUE ? n : Math.max(0,n-owed);
+                owed = Math.max(0,owed-n);
+            }
+            if(toRequest>0 && !unbounded)
+                upstream.request(toRequest);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            stop();
+            if(upstream!=null)
+                upstream.cancel();
+            super.cancel();
+        }
+
+        private synchronized void stop(){
+            stopped = true;
+            if(ticker!=null)
+                ticker.cancel(false);
+        }
+
+        private void tick(){
+            synchronized (this){
+                if(next.size()==0)
+                    return;
+                expired = true;
+            }
+            drain();
+        }
+
+        void onNextUpstream(T e){
+            boolean replenish = true;
+            synchronized (this){
+                next.add(e);
+                if(next.size()>=groupSize || (clocked && System.nanoTime()-start > toRun)){
+                    ready.add(next);
+                    next = factory.get();
+                    expired = false;
+                    if(clocked)
+                        start = System.nanoTime();
+                    replenish = false;
+                }else if(owed>0){
+                    owed--;
+                    replenish = false;
+                }
+            }
+            drain();
+            if(replenish && !unbounded && isOpen)
+                upstream.request(1l);
+        }
+
+        void onErrorUpstream(Throwable t){
+            synchronized (this){
+                ready.add(new ErrorSignal(t));
+            }
+            drain();
+        }
+
+        void onCompleteUpstream(){
+            done = true;
+            drain();
+        }
+
+        private synchronized Object poll(boolean d){
+            Object out = ready.poll();
+            if(out!=null)
+                return out;
+            if((expired || d) && next.size()>0){
+                out = next;
+                next = factory.get();
+                expired = false;
+                if(clocked)
+                    start = System.nanoTime();
+                if(!d)
+                    owed++;
+            }
+            return out;
+        }
+
+        private synchronized boolean isEmpty(){
+            return ready.isEmpty() && next.size()==0;
+        }
+
+        private void drain(){
+            if(wip.getAndIncrement()!=0)
+                return;
+            int missed = 1;
+            for(;;){
+                boolean d = done;
+                long r = requested.get();
+                long e = 0;
+                while(e!=r && isOpen){
+                    Object out = poll(d);
+                    if(out==null)
+                        break;
+                    e++;
+                    deliver(out);
+                }
+                if(e!=0 && r!=Long.MAX_VALUE)
+                    requested.addAndGet(-e);
+                if(d && isOpen && isEmpty()){
+                    stop();
+                    complete();
+                }
+                missed = wip.addAndGet(-missed);
+                if(missed==0)
+                    return;
+            }
+        }
+
+        @Override
+        R value(Object out){
+            return finalizer.apply((C) out);
+        }
     }
 }
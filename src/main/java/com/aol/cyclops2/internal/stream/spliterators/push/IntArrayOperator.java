@@ -0,0 +1,33 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * IntOperator that emits the values of an array as they are requested.
+ */
+public class IntArrayOperator implements IntOperator {
+
+    final int[] values;
+
+    public IntArrayOperator(int... values){
+        this.values = values;
+    }
+
+    @Override
+    public StreamSubscription subscribeInts(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        return new ArraySubscription(values.length,onError,onComplete){
+            @Override
+            void emit(int index) {
+                onNext.accept(values[index]);
+            }
+        };
+    }
+
+    @Override
+    public void subscribeAllInts(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        for(int i=0;i<values.length;i++)
+            onNext.accept(values[i]);
+        onCompleteDs.run();
+    }
+}
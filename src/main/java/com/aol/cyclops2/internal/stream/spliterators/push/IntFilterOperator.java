@@ -0,0 +1,59 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * IntOperator that emits only the elements that match the predicate.
+ */
+public class IntFilterOperator implements IntOperator {
+
+    final IntOperator source;
+    final IntPredicate predicate;
+
+    public IntFilterOperator(IntOperator source, IntPredicate predicate){
+        this.source = source;
+        this.predicate = predicate;
+
+
+    }
+
+    public IntFilterOperator and(IntPredicate next){
+        return new IntFilterOperator(source,predicate.and(next));
+    }
+
+    @Override
+    public StreamSubscription subscribeInts(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        StreamSubscription[] upstream = {null};
+        upstream[0]= source.subscribeInts(e-> {
+                    try {
+                        if(predicate.test(e))
+                            onNext.accept(e);
+                        else if(upstream[0]!=null){
+                            upstream[0].request(1);
+                        }
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAllInts(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        source.subscribeAllInts(e-> {
+                    try {
+                        if(predicate.test(e))
+                            onNext.accept(e);
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
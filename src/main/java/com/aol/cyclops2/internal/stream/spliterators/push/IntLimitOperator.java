@@ -0,0 +1,47 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * IntOperator that emits at most limit elements, then cancels upstream and completes.
+ */
+public class IntLimitOperator implements IntOperator {
+
+    final IntOperator source;
+    final long limit;
+
+    public IntLimitOperator(IntOperator source, long limit){
+        this.source = source;
+        this.limit = limit;
+    }
+
+    @Override
+    public StreamSubscription subscribeInts(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        LimitCounter counter = new LimitCounter(limit,onComplete);
+        counter.upstream = source.subscribeInts(e-> {
+                    try {
+                        if(counter.next())
+                            onNext.accept(e);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,counter::complete);
+        return counter.upstream;
+    }
+
+    @Override
+    public void subscribeAllInts(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        LimitCounter counter = new LimitCounter(limit,onCompleteDs);
+        source.subscribeAllInts(e-> {
+                    try {
+                        if(counter.next())
+                            onNext.accept(e);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,counter::complete);
+    }
+}
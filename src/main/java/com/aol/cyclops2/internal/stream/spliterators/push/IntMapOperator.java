@@ -0,0 +1,55 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * IntOperator that transforms each element with the supplied function.
+ */
+public class IntMapOperator implements IntOperator {
+
+    final IntOperator source;
+    final IntUnaryOperator mapper;
+
+    public IntMapOperator(IntOperator source, IntUnaryOperator mapper){
+        this.source = source;
+        this.mapper = mapper;
+
+    }
+
+
+    public IntMapOperator compose(IntUnaryOperator fn){
+        return new IntMapOperator(source,mapper.andThen(fn));
+
+    }
+
+    @Override
+    public StreamSubscription subscribeInts(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+
+        return source.subscribeInts(e-> {
+                    try {
+
+                        onNext.accept(mapper.applyAsInt(e));
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+    }
+
+    @Override
+    public void subscribeAllInts(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        source.subscribeAllInts(e-> {
+                    try {
+                        onNext.accept(mapper.applyAsInt(e));
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
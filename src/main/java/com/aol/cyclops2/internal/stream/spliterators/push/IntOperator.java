@@ -0,0 +1,24 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A push Operator specialised for primitive ints, elements are passed to an IntConsumer without boxing.
+ * When subscribed to via the standard Operator methods each element is boxed at the point of delivery.
+ */
+public interface IntOperator extends Operator<Integer> {
+
+    public StreamSubscription subscribeInts(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+    public void subscribeAllInts(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+
+    @Override
+    default StreamSubscription subscribe(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete){
+        return subscribeInts(onNext::accept,onError,onComplete);
+    }
+
+    @Override
+    default void subscribeAll(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete){
+        subscribeAllInts(onNext::accept,onError,onComplete);
+    }
+}
@@ -0,0 +1,46 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * IntOperator that drops the first skip elements.
+ */
+public class IntSkipOperator implements IntOperator {
+
+    final IntOperator source;
+    final long skip;
+
+    public IntSkipOperator(IntOperator source, long skip){
+        this.source = source;
+        this.skip = skip;
+    }
+
+    @Override
+    public StreamSubscription subscribeInts(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        SkipSubscription sub = new SkipSubscription(skip,onError);
+        sub.upstream = source.subscribeInts(e-> {
+                    try {
+                        if(sub.next())
+                            onNext.accept(e);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return sub;
+    }
+
+    @Override
+    public void subscribeAllInts(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        SkipSubscription sub = new SkipSubscription(skip,onError);
+        source.subscribeAllInts(e->{
+            try {
+                if(sub.next())
+                    onNext.accept(e);
+            }catch(Throwable t){
+                onError.accept(t);
+            }
+        },onError,onCompleteDs);
+    }
+}
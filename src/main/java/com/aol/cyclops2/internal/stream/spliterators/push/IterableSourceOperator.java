@@ -71,6 +71,12 @@ public class IterableSourceOperator<T> implements Operator<T> {
             }
 
             private void pushAll() {
+                if(BatchConsumer.isBatching(onNext)){
+                    Object[] buf = new Object[BatchConsumer.BATCH_SIZE];
+                    while(isOpen && it.hasNext()){
+                        pushBatch(it,buf,(BatchConsumer<? super T>)onNext);
+                    }
+                }
                 while(it.hasNext()){
                     if(!isOpen)
                         break;
@@ -93,8 +99,22 @@ public class IterableSourceOperator<T> implements Operator<T> {
     @Override
     public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
         final Iterator<T> it = values.iterator();
+        if(BatchConsumer.isBatching(onNext)){
+            Object[] buf = new Object[BatchConsumer.BATCH_SIZE];
+            while(it.hasNext()){
+                pushBatch(it,buf,(BatchConsumer<? super T>)onNext);
+            }
+        }
         while(it.hasNext())
             ((Consumer)onNext).accept(it.next());
         onCompleteDs.run();
     }
+
+    private static void pushBatch(Iterator<?> it, Object[] buf, BatchConsumer<?> onNext){
+        int len = 0;
+        while(len<buf.length && it.hasNext()){
+            buf[len++]=it.next();
+        }
+        onNext.onNextBatch(buf,len);
+    }
 }
@@ -0,0 +1,38 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+/**
+ * Element counting and completion shared by the boxed and primitive limit Operators.
+ */
+class LimitCounter {
+
+    final long limit;
+    final Runnable onComplete;
+    //null until subscribe has returned (and always null for subscribeAll)
+    StreamSubscription upstream;
+    long count = 0;
+    boolean completed = false;
+
+    LimitCounter(long limit, Runnable onComplete) {
+        this.limit = limit;
+        this.onComplete = onComplete;
+    }
+
+    /**
+     * @return true if the next element is within the limit, otherwise upstream is cancelled and onComplete is signalled
+     */
+    boolean next(){
+        if(count++<limit)
+            return true;
+        if(upstream!=null) //non-backpressured sources may exceed the limit before subscribe returns
+            upstream.cancel();
+        complete();
+        return false;
+    }
+
+    void complete(){
+        if(!completed) {
+            completed=true;
+            onComplete.run();
+        }
+    }
+}
@@ -24,65 +24,30 @@ public class LimitOperator<T,R> extends BaseOperator<T,T> {
 
     @Override
     public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
-        long[] count = {0};
-        StreamSubscription sub[] = {null};
-
-        boolean completed[] = {false};
-        sub[0] = source.subscribe(e-> {
-
+        LimitCounter counter = new LimitCounter(limit,onComplete);
+        counter.upstream = source.subscribe(e-> {
                     try {
-
-                        if(count[0]++<limit)
+                        if(counter.next())
                             onNext.accept(e);
-                        else{
-                            sub[0].cancel();
-                            if(!completed[0]) {
-                                completed[0]=true;
-                                onComplete.run();
-                            }
-                        }
                     } catch (Throwable t) {
                         onError.accept(t);
                     }
                 }
-                ,onError,()->{
-                    if(!completed[0]) {
-                        completed[0]=true;
-                        onComplete.run();
-                    }
-                });
-        return sub[0];
+                ,onError,counter::complete);
+        return counter.upstream;
     }
 
     @Override
     public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
-
-        long[] count = {0};
-        StreamSubscription sub[] = {null};
-
-        boolean completed[] = {false};
+        LimitCounter counter = new LimitCounter(limit,onCompleteDs);
         source.subscribeAll(e-> {
-
                     try {
-
-                        if(count[0]++<limit)
+                        if(counter.next())
                             onNext.accept(e);
-                        else{
-
-                            if(!completed[0]) {
-                                completed[0]=true;
-                                onCompleteDs.run();
-                            }
-                        }
                     } catch (Throwable t) {
                         onError.accept(t);
                     }
                 }
-                ,onError,()->{
-                    if(!completed[0]) {
-                        completed[0]=true;
-                        onCompleteDs.run();
-                    }
-                });
+                ,onError,counter::complete);
     }
 }
@@ -0,0 +1,33 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * LongOperator that emits the values of an array as they are requested.
+ */
+public class LongArrayOperator implements LongOperator {
+
+    final long[] values;
+
+    public LongArrayOperator(long... values){
+        this.values = values;
+    }
+
+    @Override
+    public StreamSubscription subscribeLongs(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        return new ArraySubscription(values.length,onError,onComplete){
+            @Override
+            void emit(int index) {
+                onNext.accept(values[index]);
+            }
+        };
+    }
+
+    @Override
+    public void subscribeAllLongs(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        for(int i=0;i<values.length;i++)
+            onNext.accept(values[i]);
+        onCompleteDs.run();
+    }
+}
@@ -0,0 +1,59 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+/**
+ * LongOperator that emits only the elements that match the predicate.
+ */
+public class LongFilterOperator implements LongOperator {
+
+    final LongOperator source;
+    final LongPredicate predicate;
+
+    public LongFilterOperator(LongOperator source, LongPredicate predicate){
+        this.source = source;
+        this.predicate = predicate;
+
+
+    }
+
+    public LongFilterOperator and(LongPredicate next){
+        return new LongFilterOperator(source,predicate.and(next));
+    }
+
+    @Override
+    public StreamSubscription subscribeLongs(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        StreamSubscription[] upstream = {null};
+        upstream[0]= source.subscribeLongs(e-> {
+                    try {
+                        if(predicate.test(e))
+                            onNext.accept(e);
+                        else if(upstream[0]!=null){
+                            upstream[0].request(1);
+                        }
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAllLongs(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        source.subscribeAllLongs(e-> {
+                    try {
+                        if(predicate.test(e))
+                            onNext.accept(e);
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
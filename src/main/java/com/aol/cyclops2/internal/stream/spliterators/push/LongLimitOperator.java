@@ -0,0 +1,47 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * LongOperator that emits at most limit elements, then cancels upstream and completes.
+ */
+public class LongLimitOperator implements LongOperator {
+
+    final LongOperator source;
+    final long limit;
+
+    public LongLimitOperator(LongOperator source, long limit){
+        this.source = source;
+        this.limit = limit;
+    }
+
+    @Override
+    public StreamSubscription subscribeLongs(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        LimitCounter counter = new LimitCounter(limit,onComplete);
+        counter.upstream = source.subscribeLongs(e-> {
+                    try {
+                        if(counter.next())
+                            onNext.accept(e);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,counter::complete);
+        return counter.upstream;
+    }
+
+    @Override
+    public void subscribeAllLongs(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        LimitCounter counter = new LimitCounter(limit,onCompleteDs);
+        source.subscribeAllLongs(e-> {
+                    try {
+                        if(counter.next())
+                            onNext.accept(e);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,counter::complete);
+    }
+}
@@ -0,0 +1,55 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * LongOperator that transforms each element with the supplied function.
+ */
+public class LongMapOperator implements LongOperator {
+
+    final LongOperator source;
+    final LongUnaryOperator mapper;
+
+    public LongMapOperator(LongOperator source, LongUnaryOperator mapper){
+        this.source = source;
+        this.mapper = mapper;
+
+    }
+
+
+    public LongMapOperator compose(LongUnaryOperator fn){
+        return new LongMapOperator(source,mapper.andThen(fn));
+
+    }
+
+    @Override
+    public StreamSubscription subscribeLongs(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+
+        return source.subscribeLongs(e-> {
+                    try {
+
+                        onNext.accept(mapper.applyAsLong(e));
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+    }
+
+    @Override
+    public void subscribeAllLongs(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        source.subscribeAllLongs(e-> {
+                    try {
+                        onNext.accept(mapper.applyAsLong(e));
+                    } catch (Throwable t) {
+
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
@@ -0,0 +1,24 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A push Operator specialised for primitive longs, elements are passed to an LongConsumer without boxing.
+ * When subscribed to via the standard Operator methods each element is boxed at the point of delivery.
+ */
+public interface LongOperator extends Operator<Long> {
+
+    public StreamSubscription subscribeLongs(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+    public void subscribeAllLongs(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+
+    @Override
+    default StreamSubscription subscribe(Consumer<? super Long> onNext, Consumer<? super Throwable> onError, Runnable onComplete){
+        return subscribeLongs(onNext::accept,onError,onComplete);
+    }
+
+    @Override
+    default void subscribeAll(Consumer<? super Long> onNext, Consumer<? super Throwable> onError, Runnable onComplete){
+        subscribeAllLongs(onNext::accept,onError,onComplete);
+    }
+}
@@ -0,0 +1,46 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * LongOperator that drops the first skip elements.
+ */
+public class LongSkipOperator implements LongOperator {
+
+    final LongOperator source;
+    final long skip;
+
+    public LongSkipOperator(LongOperator source, long skip){
+        this.source = source;
+        this.skip = skip;
+    }
+
+    @Override
+    public StreamSubscription subscribeLongs(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        SkipSubscription sub = new SkipSubscription(skip,onError);
+        sub.upstream = source.subscribeLongs(e-> {
+                    try {
+                        if(sub.next())
+                            onNext.accept(e);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return sub;
+    }
+
+    @Override
+    public void subscribeAllLongs(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        SkipSubscription sub = new SkipSubscription(skip,onError);
+        source.subscribeAllLongs(e->{
+            try {
+                if(sub.next())
+                    onNext.accept(e);
+            }catch(Throwable t){
+                onError.accept(t);
+            }
+        },onError,onCompleteDs);
+    }
+}
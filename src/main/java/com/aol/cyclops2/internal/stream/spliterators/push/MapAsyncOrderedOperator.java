@@ -0,0 +1,143 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs up to maxInFlight asynchronous tasks at once, emitting their results in input order. Each element requested from upstream
+ * is assigned the next slot in a ring of maxInFlight slots, and when it's task completes the result is written to that slot. The
+ * head of the ring is emitted once complete, freeing it's slot and allowing one more element to be requested from upstream. A slow
+ * task at the head therefore holds back both emission and further requests (backpressure), rather than buffering results without bound.
+ *
+ * Results may be emitted on the thread that completes a task, all emissions are serialized.
+ */
+public class MapAsyncOrderedOperator<T,R> extends BaseOperator<T,R> {
+
+    final Function<? super T, ? extends CompletableFuture<? extends R>> fn;
+    final int maxInFlight;
+
+    public MapAsyncOrderedOperator(Operator<T> source, Function<? super T, ? extends CompletableFuture<? extends R>> fn, int maxInFlight){
+        super(source);
+        if(maxInFlight<=0)
+            throw new IllegalArgumentException("Max in flight must be greater than 0, but was " + maxInFlight);
+        this.fn = fn;
+        this.maxInFlight = maxInFlight;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        MapAsyncOrderedSubscription sub = new MapAsyncOrderedSubscription(onNext,onError,onComplete);
+        sub.upstream = source.subscribe(sub::offer,sub::offerError,sub::upstreamComplete);
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+
+    private class MapAsyncOrderedSubscription extends SignalSubscription<R> {
+
+        //slot (index % maxInFlight) is empty (null) until the task for element index completes
+        final AtomicReferenceArray<Object> ring = new AtomicReferenceArray<>(maxInFlight);
+        final AtomicInteger wip = new AtomicInteger(0);
+        //next index to assign, written only by the upstream thread
+        final AtomicLong tail = new AtomicLong(0);
+        volatile StreamSubscription upstream;
+        volatile boolean done = false;
+        long head = 0;
+        boolean started = false;
+
+        MapAsyncOrderedSubscription(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            super(onNext,onError,onComplete);
+        }
+
+        void offer(T e){
+            final int slot = (int)(tail.getAndIncrement() % maxInFlight);
+            final CompletableFuture<? extends R> task;
+            try {
+                task = fn.apply(e);
+            }catch(Throwable t){
+                set(slot,new ErrorSignal(t));
+                return;
+            }
+            task.whenComplete((r,t)->{
+                if(t!=null)
+                    set(slot,new ErrorSignal(t instanceof CompletionException && t.getCause()!=null ? t.getCause() : t));
+                else
+                    set(slot,signal(r));
+            });
+        }
+        void offerError(Throwable t){
+            set((int)(tail.getAndIncrement() % maxInFlight),new ErrorSignal(t));
+        }
+        void upstreamComplete(){
+            done = true;
+            drain();
+        }
+        private void set(int slot, Object result){
+            ring.set(slot,result);
+            drain();
+        }
+
+        @Override
+        void onRequest(long n) {
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            if(upstream!=null)
+                upstream.cancel();
+            drain();
+        }
+
+        private void drain(){
+            if(wip.getAndIncrement()!=0)
+                return;
+            int missed = 1;
+            for(;;){
+                if(!started && isOpen && requested.get()>0){
+                    started = true;
+                    upstream.request(maxInFlight);
+                }
+                long r = requested.get();
+                long e = 0;
+                while(e!=r && isOpen){
+                    final int slot = (int)(head % maxInFlight);
+                    Object next = ring.get(slot);
+                    if(next==null)
+                        break;
+                    ring.set(slot,null);
+                    head++;
+                    e++;
+                    deliver(next);
+                    if(!done)
+                        upstream.request(1);
+                }
+                if(e!=0 && r!=Long.MAX_VALUE)
+                    requested.addAndGet(-e);
+
+                if(!isOpen){
+                    for(int i=0;i<maxInFlight;i++)
+                        ring.lazySet(i,null);
+                    return;
+                }
+                if(done && head==tail.get()){
+                    complete();
+                    return;
+                }
+
+                missed = wip.addAndGet(-missed);
+                if(missed==0)
+                    return;
+            }
+        }
+    }
+}
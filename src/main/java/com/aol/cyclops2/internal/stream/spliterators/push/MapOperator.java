@@ -28,7 +28,7 @@ public class MapOperator<T,R> extends BaseOperator<T,R> {
     @Override
     public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
 
-        return source.subscribe(e-> {
+        Consumer<T> next = e-> {
                     try {
 
                         onNext.accept(mapper.apply(e));
@@ -36,21 +36,29 @@ public class MapOperator<T,R> extends BaseOperator<T,R> {
 
                         onError.accept(t);
                     }
-                }
+                };
+        return source.subscribe(batching(next,onNext,onError)
                 ,onError,onComplete);
     }
 
     @Override
     public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
 
-        source.subscribeAll(e-> {
+        Consumer<T> next = e-> {
                     try {
                         onNext.accept(mapper.apply(e));
                     } catch (Throwable t) {
 
                         onError.accept(t);
                     }
-                }
+                };
+        source.subscribeAll(batching(next,onNext,onError)
                 ,onError,onCompleteDs);
     }
+
+    private Consumer<T> batching(Consumer<T> next, Consumer<? super R> onNext, Consumer<? super Throwable> onError){
+        if(BatchConsumer.isBatching(onNext))
+            return BatchConsumer.transforming(next,(Function)mapper,(BatchConsumer)onNext,onError);
+        return next;
+    }
 }
@@ -1,67 +1,180 @@
 package com.aol.cyclops2.internal.stream.spliterators.push;
 
-import cyclops.collections.mutable.ListX;
+import cyclops.async.adapters.Topic.SlowSubscriberPolicy;
 
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 /**
+ * Shares a single upstream subscription between multiple subscribers.
+ *
+ * Upstream is subscribed to once the expected number of subscribers have registered. Elements are stored in a bounded ring buffer,
+ * each subscriber has it's own cursor into the ring and it's own demand. With {@link SlowSubscriberPolicy#BLOCK} upstream demand is
+ * coordinated to the slowest active subscriber (upstream may run at most bufferSize elements ahead of it), with {@link SlowSubscriberPolicy#DROP}
+ * demand is driven by the fastest subscriber and subscribers that fall more than a ring behind skip the elements they missed.
+ *
+ * The most recent replay elements are retained, subscribers that register after upstream has been subscribed to start
+ * with those elements before receiving live data.
+ *
  * Created by johnmcclean on 12/01/2017.
  */
 public class MultiCastOperator<T> extends BaseOperator<T,T> {
 
+    public static final int DEFAULT_BUFFER_SIZE = 256;
 
+    final int expect;
+    final int bufferSize;
+    final int replay;
+    final int limit;
+    final SlowSubscriberPolicy policy;
+
+    private final Object[] ring;
+    private volatile long produced = 0;
+    private volatile boolean done = false;
+    private long upstreamRequested = 0;
+    private volatile StreamSubscription upstream;
+    private final AtomicBoolean connected = new AtomicBoolean(false);
+    private final AtomicInteger registered = new AtomicInteger(0);
+    private final AtomicInteger wip = new AtomicInteger(0);
+    private final CopyOnWriteArrayList<MultiCastSubscription> subscribers = new CopyOnWriteArrayList<>();
 
 
     public MultiCastOperator(Operator<T> source,int expect){
+        this(source,expect,DEFAULT_BUFFER_SIZE,0,SlowSubscriberPolicy.BLOCK);
+    }
+    public MultiCastOperator(Operator<T> source, int expect, int bufferSize, int replay, SlowSubscriberPolicy policy){
         super(source);
-        this.expect =expect;
-
-
+        if(bufferSize<=0)
+            throw new IllegalArgumentException("Buffer size must be greater than 0, but was " + bufferSize);
+        if(replay<0)
+            throw new IllegalArgumentException("Replay size must not be negative, but was " + replay);
+        this.expect = expect;
+        this.bufferSize = bufferSize;
+        this.replay = replay;
+        this.limit = bufferSize - (bufferSize >> 2);
+        this.policy = policy;
+        this.ring = new Object[bufferSize+replay];
     }
 
-    final int expect;
-
-    ListX<Consumer<? super T>> registeredOnNext = ListX.empty();
-    ListX<Consumer<? super Throwable>> registeredOnError= ListX.empty();
-    ListX<Runnable> registeredOnComplete= ListX.empty();
-    ListX<StreamSubscription> subs = ListX.empty();
-
     @Override
     public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
-
-        registeredOnNext.add(onNext);
-        registeredOnError.add(onError);
-        registeredOnComplete.add(onComplete);
-        StreamSubscription result = new StreamSubscription(){
-
-        };
-        /**
-        (source.forEachAsync(e -> {
-                        for(int i=0;i<subs.size();i++){
-                            if(subs.get(i).isActive())
-                                registeredOnNext.get(i).accept(e);
-                        }
-
-
-                    }
-                    , e->registeredOnError.forEach(t->t.accept(e)), ()->registeredOnComplete.forEach(n->n.run())));
-        **/
-        return result;
+        MultiCastSubscription sub = new MultiCastSubscription(onNext,onError,onComplete);
+        if(connected.get())
+            sub.cursor = Math.max(0,produced-replay);
+        subscribers.add(sub);
+        if(registered.incrementAndGet()>=expect && connected.compareAndSet(false,true)){
+            upstream = source.subscribe(this::onNextUpstream,this::onErrorUpstream,this::onCompleteUpstream);
+        }
+        drain();
+        return sub;
 
     }
 
     @Override
     public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
-        registeredOnNext.add(onNext);
-        registeredOnError.add(onError);
-        registeredOnComplete.add(onCompleteDs);
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
 
-            source.subscribeAll(e -> {
+    private void onNextUpstream(T e){
+        long p = produced;
+        ring[index(p)] = SignalSubscription.signal(e);
+        produced = p+1;
+        drain();
+    }
+    private void onErrorUpstream(Throwable t){
+        onNextUpstream((T)new SignalSubscription.ErrorSignal(t));
+    }
+    private void onCompleteUpstream(){
+        done = true;
+        drain();
+    }
 
-                        registeredOnNext.forEach(n -> n.accept(e));
+    private int index(long sequence){
+        return (int)(sequence % ring.length);
+    }
 
+    private void drain(){
+        if(wip.getAndIncrement()!=0)
+            return;
+        int missed = 1;
+        for(;;){
+            boolean d = done;
+            long p = produced;
+            long min = Long.MAX_VALUE;
+            long max = -1;
+            boolean demand = false;
+            for(MultiCastSubscription s : subscribers){
+                if(!s.isOpen){
+                    subscribers.remove(s);
+                    continue;
+                }
+                long r = s.requested.get();
+                long e = 0;
+                while(e!=r && s.cursor<p){
+                    if(policy==SlowSubscriberPolicy.DROP && s.cursor<produced-ring.length)
+                        s.cursor = produced-ring.length;
+                    Object next = ring[index(s.cursor)];
+                    if(policy==SlowSubscriberPolicy.DROP && s.cursor<produced-ring.length)
+                        continue; //overwritten while being read
+                    s.cursor++;
+                    e++;
+                    s.deliver(next);
+                    if(!s.isOpen)
+                        break;
+                }
+                if(e!=0 && r!=Long.MAX_VALUE)
+                    r = s.requested.addAndGet(-e);
+                if(d && s.cursor==p){
+                    s.complete();
+                    subscribers.remove(s);
+                    continue;
+                }
+                if(!s.isOpen){
+                    subscribers.remove(s);
+                    continue;
+                }
+                demand = demand || r>0;
+                min = Math.min(min,s.cursor);
+                max = Math.max(max,s.cursor);
+            }
+            StreamSubscription up = upstream;
+            if(up!=null && !d){
+                if(subscribers.isEmpty()) {
+                    up.cancel();
+                }
+                else if(demand){
+                    long gate = policy==SlowSubscriberPolicy.BLOCK ? min : max;
+                    long allowed = gate + bufferSize - upstreamRequested;
+                    if(allowed>=limit){
+                        upstreamRequested += allowed;
+                        up.request(allowed);
                     }
-                    , e -> registeredOnError.forEach(t -> t.accept(e)), () -> registeredOnComplete.forEach(n -> n.run()));
+                }
+            }
+            missed = wip.addAndGet(-missed);
+            if(missed==0)
+                return;
+        }
+    }
+
+    private class MultiCastSubscription extends SignalSubscription<T> {
+        long cursor = 0;
+
+        MultiCastSubscription(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            super(onNext,onError,onComplete);
+        }
+
+        @Override
+        void onRequest(long n) {
+            drain();
+        }
 
+        @Override
+        public void cancel() {
+            super.cancel();
+            drain();
+        }
     }
 }
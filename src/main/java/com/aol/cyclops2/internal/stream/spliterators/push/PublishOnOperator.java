@@ -0,0 +1,164 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Async boundary : signals from upstream are buffered in a bounded single producer / single consumer ring buffer and
+ * delivered downstream on the supplied Executor.
+ *
+ * At most prefetch elements are requested from upstream up front, further demand is requested in batches once 75% of the
+ * prefetched elements have been consumed downstream. Downstream delivery is performed by a work-in-progress drain loop,
+ * at most one drain task is active at a time and a single task delivers as much data as current demand allows.
+ *
+ * If upstream emits more than was requested, or emits an error while the buffer is full, upstream is cancelled and the error is
+ * held outside the buffer, to be delivered after the buffered elements and before completion.
+ */
+public class PublishOnOperator<T> extends BaseOperator<T,T> {
+
+    final Executor executor;
+    final int prefetch;
+    final int limit;
+
+    public PublishOnOperator(Operator<T> source, Executor executor, int prefetch){
+        super(source);
+        if(prefetch<=0)
+            throw new IllegalArgumentException("Prefetch must be greater than 0, but was " + prefetch);
+        this.executor = executor;
+        this.prefetch = prefetch;
+        this.limit = prefetch - (prefetch >> 2);
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        PublishOnSubscription sub = new PublishOnSubscription(onNext,onError,onComplete);
+        sub.upstream = source.subscribe(sub::offer,sub::offerError,sub::upstreamComplete);
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+
+    private class PublishOnSubscription extends SignalSubscription<T> implements Runnable {
+
+        final OneToOneConcurrentArrayQueue<Object> queue = new OneToOneConcurrentArrayQueue<>(prefetch);
+        final AtomicInteger wip = new AtomicInteger(0);
+        volatile StreamSubscription upstream;
+        volatile boolean done = false;
+        //terminal error that could not be buffered, delivered once the buffer has been drained
+        volatile Throwable error;
+        final AtomicBoolean started = new AtomicBoolean(false);
+        int consumed = 0;
+
+        PublishOnSubscription(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            super(onNext,onError,onComplete);
+        }
+
+        void offer(T e){
+            if(done)
+                return;
+            if(!queue.offer(signal(e)))
+                fail(new IllegalStateException("Queue is full, more elements were emitted than requested"));
+            schedule();
+        }
+        void offerError(Throwable t){
+            if(done)
+                return;
+            if(!queue.offer(new ErrorSignal(t)))
+                fail(t);
+            schedule();
+        }
+        private void fail(Throwable t){
+            upstream.cancel();
+            error = t;
+            done = true;
+        }
+        void upstreamComplete(){
+            done = true;
+            schedule();
+        }
+
+        @Override
+        void onRequest(long n) {
+            schedule();
+            if(started.compareAndSet(false,true)){
+                upstream.request(prefetch);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            if(upstream!=null)
+                upstream.cancel();
+            schedule();
+        }
+
+        private void schedule(){
+            if(wip.getAndIncrement()==0){
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            for(;;){
+                long r = requested.get();
+                long e = 0;
+                while(e!=r){
+                    if(!isOpen){
+                        queue.clear();
+                        return;
+                    }
+                    boolean d = done;
+                    Object next = queue.poll();
+                    if(next==null){
+                        if(d){
+                            complete();
+                            return;
+                        }
+                        break;
+                    }
+                    deliver(next);
+                    e++;
+                    if(++consumed==limit){
+                        consumed=0;
+                        if(!done)
+                            upstream.request(limit);
+                    }
+                }
+                if(e==r){
+                    if(!isOpen){
+                        queue.clear();
+                        return;
+                    }
+                    if(done && queue.isEmpty()){
+                        complete();
+                        return;
+                    }
+                }
+                if(e!=0 && r!=Long.MAX_VALUE)
+                    requested.addAndGet(-e);
+
+                missed = wip.addAndGet(-missed);
+                if(missed==0)
+                    return;
+            }
+        }
+
+        @Override
+        void complete(){
+            Throwable t = error;
+            if(t!=null && !completeSent)
+                deliver(new ErrorSignal(t));
+            super.complete();
+        }
+    }
+}
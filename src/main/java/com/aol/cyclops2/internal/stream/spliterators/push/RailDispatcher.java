@@ -0,0 +1,245 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Splits a single push Stream across a fixed number of rails.
+ *
+ * Each element from upstream is tagged with it's index and placed in the bounded single producer / single consumer queue
+ * of one rail, chosen round-robin or by the hash of a key. Each rail delivers from it's queue on the supplied Executor using a
+ * work-in-progress drain loop, so downstream stages attached to a rail execute in parallel with the other rails.
+ *
+ * Upstream is subscribed to once every rail has been subscribed to. Upstream demand is bounded by the free space in the
+ * fullest rail queue (so any element can be placed in any rail without overflowing) and is replenished in batches once
+ * 75% of the prefetch size has been freed.
+ */
+public class RailDispatcher<T> {
+
+    private static final Object NULL_KEY = new Object();
+
+    final Operator<T> source;
+    final Executor executor;
+    final int prefetch;
+    final int limit;
+    final Function<? super T, ?> key;
+
+    private final RailSubscription[] rails;
+    private final AtomicInteger registered = new AtomicInteger(0);
+    private final AtomicInteger wip = new AtomicInteger(0);
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private volatile StreamSubscription upstream;
+    private volatile boolean done = false;
+    private volatile long dispatched = 0;
+    private long upstreamRequested = 0;
+    private int next = 0;
+
+    /**
+     * @param source Upstream Operator
+     * @param rails Number of rails
+     * @param executor Executor each rail delivers on
+     * @param prefetch Capacity of each rail queue
+     * @param key Function to determine the hash used to select a rail, or null for round-robin dispatch
+     */
+    public RailDispatcher(Operator<T> source, int rails, Executor executor, int prefetch, Function<? super T, ?> key){
+        if(rails<=0)
+            throw new IllegalArgumentException("Number of rails must be greater than 0, but was " + rails);
+        if(prefetch<=0)
+            throw new IllegalArgumentException("Prefetch must be greater than 0, but was " + prefetch);
+        this.source = source;
+        this.executor = executor;
+        this.prefetch = prefetch;
+        this.limit = prefetch - (prefetch >> 2);
+        this.key = key;
+        this.rails = new RailDispatcher.RailSubscription[rails];
+    }
+
+    public int rails(){
+        return rails.length;
+    }
+
+    /**
+     * @return Number of elements (and errors) dispatched to the specified rail so far
+     */
+    public long dispatched(int rail){
+        RailSubscription sub = rails[rail];
+        return sub==null ? 0 : sub.enqueued;
+    }
+
+    public Operator<RailElement<T>> rail(int index){
+        return new Operator<RailElement<T>>() {
+            @Override
+            public StreamSubscription subscribe(Consumer<? super RailElement<T>> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                RailSubscription sub = new RailSubscription(onNext,onError,onComplete);
+                rails[index] = sub;
+                if(registered.incrementAndGet()==rails.length){
+                    upstream = source.subscribe(RailDispatcher.this::dispatch,RailDispatcher.this::dispatchError,RailDispatcher.this::upstreamComplete);
+                    if(started.get())
+                        replenish();
+                }
+                return sub;
+            }
+
+            @Override
+            public void subscribeAll(Consumer<? super RailElement<T>> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+                subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+            }
+        };
+    }
+
+    private int nextRail(){
+        int rail = next;
+        next = rail+1==rails.length ? 0 : rail+1;
+        return rail;
+    }
+    private int selectRail(T e){
+        if(key==null)
+            return nextRail();
+        Object k = key.apply(e);
+        return Math.floorMod((k==null ? NULL_KEY : k).hashCode(),rails.length);
+    }
+    private void dispatch(T e){
+        RailSubscription rail;
+        try {
+            rail = rails[selectRail(e)];
+        }catch(Throwable t){
+            dispatchError(t);
+            return;
+        }
+        long index = dispatched;
+        rail.offer(new RailElement<>(index,e));
+        dispatched = index+1;
+    }
+    private void dispatchError(Throwable t){
+        rails[nextRail()].offer(new SignalSubscription.ErrorSignal(t));
+        dispatched = dispatched+1;
+    }
+    private void upstreamComplete(){
+        done = true;
+        for(RailSubscription rail : rails)
+            rail.schedule();
+    }
+
+    private void replenish(){
+        if(wip.getAndIncrement()!=0)
+            return;
+        int missed = 1;
+        for(;;){
+            StreamSubscription up = upstream;
+            if(up!=null && !done){
+                long minFree = Long.MAX_VALUE;
+                boolean open = false;
+                for(RailSubscription rail : rails){
+                    if(rail.isOpen)
+                        open = true;
+                    minFree = Math.min(minFree, prefetch - (rail.enqueued - rail.consumed));
+                }
+                if(!open){
+                    up.cancel();
+                }else {
+                    long outstanding = upstreamRequested - dispatched;
+                    long allowed = minFree - outstanding;
+                    if (allowed >= limit) {
+                        upstreamRequested += allowed;
+                        up.request(allowed);
+                    }
+                }
+            }
+            missed = wip.addAndGet(-missed);
+            if(missed==0)
+                return;
+        }
+    }
+
+    private class RailSubscription extends SignalSubscription<RailElement<T>> implements Runnable {
+
+        final OneToOneConcurrentArrayQueue<Object> queue = new OneToOneConcurrentArrayQueue<>(prefetch);
+        final AtomicInteger drainWip = new AtomicInteger(0);
+        volatile long enqueued = 0;
+        volatile long consumed = 0;
+
+        RailSubscription(Consumer<? super RailElement<T>> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            super(onNext,onError,onComplete);
+        }
+
+        void offer(Object e){
+            if(queue.offer(e)) {
+                enqueued = enqueued + 1;
+            }else{
+                upstream.cancel();
+                queue.offer(new ErrorSignal(new IllegalStateException("Queue is full, more elements were emitted than requested")));
+                done = true;
+            }
+            schedule();
+        }
+
+        @Override
+        void onRequest(long n) {
+            schedule();
+            started.set(true);
+            replenish();
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            schedule();
+            replenish();
+        }
+
+        void schedule(){
+            if(drainWip.getAndIncrement()==0)
+                executor.execute(this);
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            for(;;){
+                long r = requested.get();
+                long e = 0;
+                while(e!=r){
+                    if(!isOpen){
+                        queue.clear();
+                        return;
+                    }
+                    boolean d = done;
+                    Object next = queue.poll();
+                    if(next==null){
+                        if(d){
+                            complete();
+                            return;
+                        }
+                        break;
+                    }
+                    consumed = consumed + 1;
+                    deliver(next);
+                    e++;
+                }
+                if(e==r){
+                    if(!isOpen){
+                        queue.clear();
+                        return;
+                    }
+                    if(done && queue.isEmpty()){
+                        complete();
+                        return;
+                    }
+                }
+                if(e!=0) {
+                    if(r != Long.MAX_VALUE)
+                        requested.addAndGet(-e);
+                    replenish();
+                }
+                missed = drainWip.addAndGet(-missed);
+                if(missed==0)
+                    return;
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+/**
+ * An element travelling along a rail of a parallel Stream, tagged with it's position in the upstream sequence
+ * so that the original order can be restored when the rails are merged.
+ *
+ * Elements removed by a filter stage may be replaced by a {@link #SKIP} marker that still carries the index, flatMap
+ * marks all but the last element produced for an index as partial. This lets an ordered merge see that a rail has fully
+ * processed every element dispatched to it.
+ *
+ * The value is mutable : a rail element is only ever owned by a single rail, so per rail map stages update it in place
+ * rather than allocating a new element.
+ */
+public final class RailElement<T> {
+
+    public static final Object SKIP = new Object();
+
+    final long index;
+    final boolean partial;
+    T value;
+
+    public RailElement(long index, T value) {
+        this(index,value,false);
+    }
+    public RailElement(long index, T value, boolean partial) {
+        this.index = index;
+        this.value = value;
+        this.partial = partial;
+    }
+
+    public long index(){
+        return index;
+    }
+    public T value(){
+        return value;
+    }
+    public boolean isSkip(){
+        return value==SKIP;
+    }
+    public <R> RailElement<R> with(R value){
+        RailElement<R> next = (RailElement<R>)this;
+        next.value = value;
+        return next;
+    }
+    public <R> RailElement<R> skip(){
+        return with((R)SKIP);
+    }
+}
@@ -0,0 +1,240 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Merges the rails of a parallel Stream back into a single sequential Stream.
+ *
+ * Each rail delivers into it's own bounded single producer / single consumer queue, a single work-in-progress drain loop
+ * delivers from those queues downstream, so downstream receives signals serially (although not always on the same thread).
+ * Rail demand starts at prefetch and is replenished in batches once 75% of the prefetched elements have been consumed.
+ *
+ * When ordered, elements are emitted in their original upstream order : each rail preserves the relative order of it's
+ * elements, so the next element is always the head with the lowest index, once every rail either has a head available or
+ * has delivered a final result (an element, {@link RailElement#SKIP} marker or error) for every element dispatched to it.
+ */
+public class RailsMergeOperator<T> implements Operator<T> {
+
+    /**
+     * The per rail stages of a parallel Stream
+     */
+    public interface Pipeline {
+        /**
+         * @param rail Rail to extend
+         * @param index Index of the rail
+         * @param ordered true if the rails will be merged in order (filter and flatMap stages must then emit SKIP markers)
+         * @return Rail with the per rail stages applied
+         */
+        Operator<RailElement<Object>> apply(Operator<RailElement<Object>> rail, int index, boolean ordered);
+    }
+
+    final Supplier<RailDispatcher<Object>> dispatcher;
+    final Pipeline pipeline;
+    final int prefetch;
+    final int limit;
+    final boolean ordered;
+
+    /**
+     * @param dispatcher Supplier of the RailDispatcher that splits upstream into rails, called once per subscription
+     * @param pipeline Per rail stages
+     * @param prefetch Number of elements to buffer per rail
+     * @param ordered true to restore the original upstream order
+     */
+    public RailsMergeOperator(Supplier<RailDispatcher<Object>> dispatcher, Pipeline pipeline, int prefetch, boolean ordered){
+        if(prefetch<=0)
+            throw new IllegalArgumentException("Prefetch must be greater than 0, but was " + prefetch);
+        this.dispatcher = dispatcher;
+        this.pipeline = pipeline;
+        this.prefetch = prefetch;
+        this.limit = prefetch - (prefetch >> 2);
+        this.ordered = ordered;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        RailDispatcher<Object> split = dispatcher.get();
+        MergeSubscription sub = new MergeSubscription(split,onNext,onError,onComplete);
+        for(int i=0;i<split.rails();i++){
+            Rail rail = sub.rails[i];
+            Operator<RailElement<T>> source = (Operator)pipeline.apply(split.rail(i),i,ordered);
+            rail.upstream = source.subscribe(rail::offer,rail::offerError,rail::complete);
+        }
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+
+    private class Rail {
+        final OneToOneConcurrentArrayQueue<Object> queue = new OneToOneConcurrentArrayQueue<>(prefetch);
+        final MergeSubscription parent;
+        final int index;
+        volatile StreamSubscription upstream;
+        volatile boolean done = false;
+        volatile long received = 0;
+        int consumed = 0;
+
+        Rail(MergeSubscription parent, int index) {
+            this.parent = parent;
+            this.index = index;
+        }
+
+        void offer(RailElement<T> e){
+            if(!queue.offer(e)){
+                upstream.cancel();
+                queue.offer(new SignalSubscription.ErrorSignal(new IllegalStateException("Queue is full, more elements were emitted than requested")));
+                done = true;
+            }
+            if(!e.partial)
+                received = received + 1;
+            parent.drain();
+        }
+        void offerError(Throwable t){
+            if(!queue.offer(new SignalSubscription.ErrorSignal(t))){
+                upstream.cancel();
+                done = true;
+            }
+            received = received + 1;
+            parent.drain();
+        }
+        boolean caughtUp(){
+            return received >= parent.split.dispatched(index);
+        }
+        void complete(){
+            done = true;
+            parent.drain();
+        }
+        void consumed(){
+            if(++consumed==limit){
+                consumed = 0;
+                upstream.request(limit);
+            }
+        }
+    }
+
+    private class MergeSubscription extends SignalSubscription<T> {
+        final RailDispatcher<Object> split;
+        final Rail[] rails;
+        final AtomicInteger wip = new AtomicInteger(0);
+        final AtomicBoolean started = new AtomicBoolean(false);
+        int nextRail = 0;
+
+        MergeSubscription(RailDispatcher<Object> split, Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            super(onNext,onError,onComplete);
+            this.split = split;
+            this.rails = new RailsMergeOperator.Rail[split.rails()];
+            for(int i=0;i<rails.length;i++)
+                rails[i] = new Rail(this,i);
+        }
+
+        @Override
+        void onRequest(long n) {
+            if(started.compareAndSet(false,true)){
+                for(Rail rail : rails)
+                    rail.upstream.request(prefetch);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            for(Rail rail : rails)
+                rail.upstream.cancel();
+        }
+
+        void drain(){
+            if(wip.getAndIncrement()!=0)
+                return;
+            int missed = 1;
+            for(;;){
+                long r = requested.get();
+                long e = 0;
+                while(e!=r){
+                    if(!isOpen)
+                        return;
+                    Object next = ordered ? pollOrdered() : poll();
+                    if(next==null)
+                        break;
+                    if(next instanceof RailElement && ((RailElement)next).isSkip())
+                        continue;
+                    deliver(next);
+                    e++;
+                }
+                if(!isOpen)
+                    return;
+                if(allDone()){
+                    complete();
+                    return;
+                }
+                if(e!=0 && r!=Long.MAX_VALUE)
+                    requested.addAndGet(-e);
+                missed = wip.addAndGet(-missed);
+                if(missed==0)
+                    return;
+            }
+        }
+
+        private boolean allDone(){
+            for(Rail rail : rails){
+                if(!rail.done || !rail.queue.isEmpty())
+                    return false;
+            }
+            return true;
+        }
+
+        private Object poll(){
+            for(int i=0;i<rails.length;i++){
+                Rail rail = rails[nextRail];
+                nextRail = nextRail+1==rails.length ? 0 : nextRail+1;
+                Object next = rail.queue.poll();
+                if(next!=null){
+                    rail.consumed();
+                    return next;
+                }
+            }
+            return null;
+        }
+
+        private Object pollOrdered(){
+            Rail min = null;
+            long minIndex = Long.MAX_VALUE;
+            for(Rail rail : rails){
+                boolean d = rail.done;
+                boolean caughtUp = rail.caughtUp();
+                Object head = rail.queue.peek();
+                if(head==null){
+                    if(d || caughtUp)
+                        continue;
+                    return null; //can't determine the next element until this rail has one available
+                }
+                if(head instanceof ErrorSignal){
+                    min = rail;
+                    break;
+                }
+                long index = ((RailElement<T>)head).index;
+                if(index<minIndex){
+                    minIndex = index;
+                    min = rail;
+                }
+            }
+            if(min==null)
+                return null;
+            Object next = min.queue.poll();
+            min.consumed();
+            return next;
+        }
+
+        @Override
+        T value(Object next){
+            return ((RailElement<T>) next).value;
+        }
+    }
+}
@@ -3,12 +3,13 @@ package com.aol.cyclops2.internal.stream.spliterators.push;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.function.LongConsumer;
 
 /**
  * Created by johnmcclean on 12/01/2017.
  */
-public class RangeIntOperator implements Operator<Integer> {
+public class RangeIntOperator implements IntOperator {
 
 
     final int start;
@@ -22,7 +23,7 @@ public class RangeIntOperator implements Operator<Integer> {
 
 
     @Override
-    public StreamSubscription subscribe(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+    public StreamSubscription subscribeInts(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
         int[] index = {start};
         AtomicBoolean completed = new AtomicBoolean(false);
         StreamSubscription sub = new StreamSubscription(){
@@ -42,7 +43,7 @@ public class RangeIntOperator implements Operator<Integer> {
                             return;
                         try {
 
-                            ((Consumer) onNext).accept(index[0]++);
+                            onNext.accept(index[0]++);
                             delivered++;
                         } catch (Throwable t) {
                             onError.accept(t);
@@ -81,7 +82,7 @@ public class RangeIntOperator implements Operator<Integer> {
 
                     try {
                         if(isOpen)
-                            ((Consumer) onNext).accept(index[0]);
+                            onNext.accept(index[0]);
                         else
                             break;
                     }catch(Throwable t){
@@ -108,11 +109,11 @@ public class RangeIntOperator implements Operator<Integer> {
     }
 
     @Override
-    public void subscribeAll(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+    public void subscribeAllInts(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
 
 
         for (int i = start; i < end; i++) {
-            ((Consumer) onNext).accept(i);
+            onNext.accept(i);
 
         }
 
@@ -8,7 +8,7 @@ import java.util.function.LongConsumer;
 /**
  * Created by johnmcclean on 12/01/2017.
  */
-public class RangeLongOperator implements Operator<Long> {
+public class RangeLongOperator implements LongOperator {
 
 
     final long start;
@@ -22,7 +22,7 @@ public class RangeLongOperator implements Operator<Long> {
 
 
     @Override
-    public StreamSubscription subscribe(Consumer<? super Long> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+    public StreamSubscription subscribeLongs(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
         long[] index = {start};
         AtomicBoolean completed = new AtomicBoolean(false);
         StreamSubscription sub = new StreamSubscription(){
@@ -40,7 +40,7 @@ public class RangeLongOperator implements Operator<Long> {
                             return;
                         try {
 
-                            ((Consumer) onNext).accept(index[0]++);
+                            onNext.accept(index[0]++);
                             delivered++;
                         } catch (Throwable t) {
                             onError.accept(t);
@@ -81,7 +81,7 @@ public class RangeLongOperator implements Operator<Long> {
 
                     try {
                         if(isOpen)
-                            ((Consumer) onNext).accept(index[0]);
+                            onNext.accept(index[0]);
                         else
                             break;
                     }catch(Throwable t){
@@ -112,11 +112,11 @@ public class RangeLongOperator implements Operator<Long> {
     }
 
     @Override
-    public void subscribeAll(Consumer<? super Long> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+    public void subscribeAllLongs(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
 
         for(long i=start;i<end;i++){
             try {
-                ((Consumer) onNext).accept(i);
+                onNext.accept(i);
             }catch(Throwable t){
                 onError.accept(t);
             }
@@ -0,0 +1,170 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import com.aol.cyclops2.react.ThreadPools;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Limits the rate elements are emitted at using a token bucket. The bucket holds up to burst tokens and is refilled at permits
+ * tokens per period, each element emitted downstream consumes a token. Elements are only requested from upstream as tokens
+ * become available, so no more than the bucket allows is ever pulled from a backpressure aware source.
+ *
+ * No thread is parked waiting for tokens : when downstream demand can't be met from the bucket a single wake up is scheduled on
+ * the shared scheduler ({@link ThreadPools#getStandardSchedular()}) for the time the next token is due. Elements may therefore
+ * be emitted on the scheduler thread, all emissions are serialized.
+ */
+public class RateLimitOperator<T> extends BaseOperator<T,T> {
+
+    //credit is accrued in nanoseconds, each token costs tokenNanos
+    final long tokenNanos;
+    final long maxCredit;
+
+    public RateLimitOperator(Operator<T> source, long permits, long per, TimeUnit unit, long burst){
+        super(source);
+        if(permits<=0)
+            throw new IllegalArgumentException("Permits must be greater than 0, but was " + permits);
+        if(per<=0)
+            throw new IllegalArgumentException("Period must be greater than 0, but was " + per);
+        if(burst<=0)
+            throw new IllegalArgumentException("Burst must be greater than 0, but was " + burst);
+        this.tokenNanos = Math.max(1,unit.toNanos(per)/permits);
+        this.maxCredit = burst > Long.MAX_VALUE/tokenNanos ? Long.MAX_VALUE : burst*tokenNanos;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        RateLimitSubscription sub = new RateLimitSubscription(onNext,onError,onComplete);
+        sub.upstream = source.subscribe(sub::offer,sub::offerError,sub::upstreamComplete);
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+
+    private class RateLimitSubscription extends SignalSubscription<T> {
+
+        final ConcurrentLinkedQueue<Object> queue = new ConcurrentLinkedQueue<>();
+        final AtomicInteger wip = new AtomicInteger(0);
+        //elements requested from upstream, but not yet emitted downstream
+        final AtomicLong outstanding = new AtomicLong(0);
+        final AtomicBoolean wakeupScheduled = new AtomicBoolean(false);
+        volatile StreamSubscription upstream;
+        volatile boolean done = false;
+        volatile ScheduledFuture<?> wakeup;
+        long credit = maxCredit;
+        long last = System.nanoTime();
+
+        RateLimitSubscription(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            super(onNext,onError,onComplete);
+        }
+
+        void offer(T e){
+            queue.offer(signal(e));
+            drain();
+        }
+        void offerError(Throwable t){
+            queue.offer(new ErrorSignal(t));
+            drain();
+        }
+        void upstreamComplete(){
+            done = true;
+            drain();
+        }
+
+        @Override
+        void onRequest(long n) {
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            if(upstream!=null)
+                upstream.cancel();
+            drain();
+        }
+
+        private void refill(){
+            long now = System.nanoTime();
+            long elapsed = now - last;
+            last = now;
+            credit = elapsed >= maxCredit - credit ? maxCredit : credit + elapsed;
+        }
+
+        private void drain(){
+            if(wip.getAndIncrement()!=0)
+                return;
+            int missed = 1;
+            for(;;){
+                refill();
+                long r = requested.get();
+                long e = 0;
+                while(e!=r && isOpen){
+                    Object next = queue.peek();
+                    if(next==null)
+                        break;
+                    boolean error = next instanceof ErrorSignal;
+                    if(!error && credit<tokenNanos)
+                        break;
+                    queue.poll();
+                    if(!error)
+                        credit -= tokenNanos;
+                    outstanding.decrementAndGet();
+                    e++;
+                    deliver(next);
+                }
+                if(e!=0 && r!=Long.MAX_VALUE)
+                    requested.addAndGet(-e);
+
+                if(!isOpen){
+                    queue.clear();
+                    stop();
+                    return;
+                }
+                if(done && queue.isEmpty()){
+                    stop();
+                    complete();
+                    return;
+                }
+
+                long demand = requested.get();
+                if(!done && demand>0){
+                    long want = Math.min(demand,credit/tokenNanos) - Math.max(0,outstanding.get());
+                    if(want>0){
+                        outstanding.addAndGet(want);
+                        upstream.request(want);
+                    }
+                }
+                if(demand>0 && credit<tokenNanos && !(done && queue.isEmpty()))
+                    scheduleWakeup(tokenNanos-credit);
+
+                missed = wip.addAndGet(-missed);
+                if(missed==0)
+                    return;
+            }
+        }
+
+        private void scheduleWakeup(long delay){
+            if(wakeupScheduled.compareAndSet(false,true)){
+                wakeup = ThreadPools.getStandardSchedular().schedule(()->{
+                    wakeupScheduled.set(false);
+                    drain();
+                },delay,TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void stop(){
+            ScheduledFuture<?> next = wakeup;
+            if(next!=null)
+                next.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+
+/**
+ * Base Subscription for Operators that buffer upstream signals and deliver them downstream from a work-in-progress drain loop.
+ *
+ * Buffered signals are plain Objects : null elements are stored as {@link #NULL} (the agrona queues do not accept nulls) and errors
+ * are wrapped in an {@link ErrorSignal}, so that an error is delivered in order with the elements buffered before it.
+ */
+abstract class SignalSubscription<T> extends StreamSubscription {
+
+    static final Object NULL = new Object();
+
+    static final class ErrorSignal {
+        final Throwable error;
+
+        ErrorSignal(Throwable error) {
+            this.error = error;
+        }
+    }
+
+    /**
+     * @return true if n is a valid request, otherwise signals an IllegalArgumentException to onError (rule 3.9)
+     */
+    static boolean validRequest(long n, Consumer<? super Throwable> onError){
+        if(n<=0) {
+            onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+            return false;
+        }
+        return true;
+    }
+
+    static Object signal(Object e){
+        return e==null ? NULL : e;
+    }
+
+    final Consumer<? super T> onNext;
+    final Consumer<? super Throwable> onError;
+    final Runnable onComplete;
+    boolean completeSent = false;
+
+    SignalSubscription(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        this.onNext = onNext;
+        this.onError = onError;
+        this.onComplete = onComplete;
+    }
+
+    @Override
+    public void request(long n) {
+        if(!validRequest(n,onError) || !isOpen)
+            return;
+        super.request(n);
+        onRequest(n);
+    }
+
+    /**
+     * Called once valid demand has been added to requested
+     */
+    abstract void onRequest(long n);
+
+    /**
+     * @return The element a buffered (non error) signal represents
+     */
+    T value(Object next){
+        return next == NULL ? null : (T) next;
+    }
+
+    void deliver(Object next){
+        try {
+            if (next instanceof ErrorSignal)
+                onError.accept(((ErrorSignal) next).error);
+            else
+                onNext.accept(value(next));
+        }catch(Throwable t){
+            onError.accept(t);
+        }
+    }
+
+    void complete(){
+        if(!completeSent){
+            completeSent = true;
+            onComplete.run();
+            super.cancel();
+        }
+    }
+}
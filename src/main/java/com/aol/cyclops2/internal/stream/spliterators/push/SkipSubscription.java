@@ -0,0 +1,50 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+
+/**
+ * Subscription shared by the boxed and primitive skip Operators. Demand is passed straight upstream, each skipped element is
+ * replaced by requesting another.
+ */
+class SkipSubscription extends StreamSubscription {
+
+    final long skip;
+    final Consumer<? super Throwable> onError;
+    //null until subscribe has returned (and always null for subscribeAll)
+    StreamSubscription upstream;
+    long count = 0;
+    boolean skipping = true;
+
+    SkipSubscription(long skip, Consumer<? super Throwable> onError) {
+        this.skip = skip;
+        this.onError = onError;
+    }
+
+    /**
+     * @return true if the next element should be emitted, false if it is skipped
+     */
+    boolean next(){
+        if(skipping && count++<skip){
+            if(upstream!=null)
+                upstream.request(1l);
+            if(count>=skip)
+                skipping=false;
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void request(long n) {
+        if(!SignalSubscription.validRequest(n,onError) || !isOpen)
+            return;
+        super.request(n);
+        upstream.request(n);
+    }
+
+    @Override
+    public void cancel() {
+        upstream.cancel();
+        super.cancel();
+    }
+}
@@ -0,0 +1,88 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import com.aol.cyclops2.internal.stream.spliterators.SlidingWindow;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Sliding windows over a push based Stream, windows are built by a {@link SlidingWindow} created for each subscription.
+ */
+public class SlidingWindowOperator<T,R> extends BaseOperator<T,R> {
+
+    private final Supplier<? extends SlidingWindow<T,R>> windowFactory;
+
+    public SlidingWindowOperator(Operator<T> source, Supplier<? extends SlidingWindow<T,R>> windowFactory){
+        super(source);
+        this.windowFactory = windowFactory;
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+
+        StreamSubscription[] upstream = {null};
+        StreamSubscription sub = new StreamSubscription(){
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(!isOpen)
+                    return;
+                super.request(n);
+                upstream[0].request(n);
+            }
+
+            @Override
+            public void cancel() {
+                upstream[0].cancel();
+                super.cancel();
+            }
+        };
+        final SlidingWindow<T,R> window = windowFactory.get();
+        upstream[0] = source.subscribe(e-> {
+                    try {
+                        if(window.offer(e)) {
+                            onNext.accept(window.take());
+                            sub.requested.decrementAndGet();
+                        }else if(sub.isOpen){
+                            upstream[0].request(1l);
+                        }
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,t->{
+                    onError.accept(t);
+                    sub.requested.decrementAndGet();
+                    if(sub.isActive())
+                        upstream[0].request(1);
+                },()->{
+                    if(window.hasPartial())
+                        onNext.accept(window.partial());
+                    sub.requested.decrementAndGet();
+                    onComplete.run();
+                });
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        final SlidingWindow<T,R> window = windowFactory.get();
+        source.subscribeAll(e-> {
+                    try {
+                        if(window.offer(e))
+                            onNext.accept(window.take());
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,()->{
+                    if(window.hasPartial())
+                        onNext.accept(window.partial());
+                    onCompleteDs.run();
+                });
+    }
+}
@@ -26,7 +26,12 @@ public class SpliteratorToOperator<T> implements Operator<T> {
         StreamSubscription sub = new StreamSubscription(){
             LongConsumer work = n-> {
 
-
+                    if(n==Long.MAX_VALUE && BatchConsumer.isBatching(onNext)){
+                        Object[] buf = new Object[BatchConsumer.BATCH_SIZE];
+                        while(isOpen && canAdvance[0]){
+                            canAdvance[0] = pushBatch(split,buf,(BatchConsumer<? super T>)onNext,onError);
+                        }
+                    }
                     while(isActive() && canAdvance[0]) {
                         try {
 
@@ -77,6 +82,12 @@ public class SpliteratorToOperator<T> implements Operator<T> {
     public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
 
         boolean canAdvance = true;
+        if(BatchConsumer.isBatching(onNext)){
+            Object[] buf = new Object[BatchConsumer.BATCH_SIZE];
+            while(canAdvance){
+                canAdvance = pushBatch(split,buf,(BatchConsumer<? super T>)onNext,onError);
+            }
+        }
         while(canAdvance){
                 try {
                     canAdvance = split.tryAdvance(onNext);
@@ -91,5 +102,21 @@ public class SpliteratorToOperator<T> implements Operator<T> {
 
 
 
+    }
+
+    private static <T> boolean pushBatch(Spliterator<T> split, Object[] buf, BatchConsumer<? super T> onNext, Consumer<? super Throwable> onError){
+        int[] len = {0};
+        boolean canAdvance = true;
+        try {
+            while (len[0] < buf.length && (canAdvance = split.tryAdvance(e -> buf[len[0]++] = e))) ;
+        }catch(Throwable t){
+            if(len[0]>0)
+                onNext.onNextBatch(buf,len[0]);
+            onError.accept(t);
+            return true;
+        }
+        if(len[0]>0)
+            onNext.onNextBatch(buf,len[0]);
+        return canAdvance;
     }
 }
@@ -0,0 +1,94 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Subscribes to upstream, and forwards all subsequent demand, on the supplied Executor. Upstream emission therefore takes place
+ * on the Executor rather than on the thread that subscribes / requests.
+ *
+ * Calls to upstream are serialized : subscription and any outstanding requests are performed by a single work-in-progress task,
+ * demand that arrives while that task is running is accumulated and forwarded in one request by the same task.
+ */
+public class SubscribeOnOperator<T> extends BaseOperator<T,T> {
+
+    final Executor executor;
+
+    public SubscribeOnOperator(Operator<T> source, Executor executor){
+        super(source);
+        this.executor = executor;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        SubscribeOnSubscription sub = new SubscribeOnSubscription(onNext,onError,onComplete);
+        sub.schedule();
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        executor.execute(()->source.subscribeAll(onNext,onError,onCompleteDs));
+    }
+
+    private class SubscribeOnSubscription extends StreamSubscription implements Runnable {
+
+        final AtomicLong pending = new AtomicLong(0);
+        final AtomicInteger wip = new AtomicInteger(0);
+        final Consumer<? super T> onNext;
+        final Consumer<? super Throwable> onError;
+        final Runnable onComplete;
+        StreamSubscription upstream;
+
+        SubscribeOnSubscription(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            this.onNext = onNext;
+            this.onError = onError;
+            this.onComplete = onComplete;
+        }
+
+        void schedule(){
+            if(wip.getAndIncrement()==0)
+                executor.execute(this);
+        }
+
+        @Override
+        public void request(long n) {
+            if(n<=0) {
+                onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                return;
+            }
+            pending.accumulateAndGet(n,(a,b)->{
+                long total = a+b;
+                return total < 0 ? Long.MAX_VALUE : total;
+            });
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            schedule();
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            for(;;){
+                if(upstream==null)
+                    upstream = source.subscribe(onNext,onError,onComplete);
+                if(!isOpen){
+                    upstream.cancel();
+                    return;
+                }
+                long n = pending.getAndSet(0);
+                if(n>0)
+                    upstream.request(n);
+                missed = wip.addAndGet(-missed);
+                if(missed==0)
+                    return;
+            }
+        }
+    }
+}
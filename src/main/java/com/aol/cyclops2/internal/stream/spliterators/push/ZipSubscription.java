@@ -0,0 +1,220 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Subscription shared by the zipping Operators, zips any number of sources.
+ *
+ * Each source is prefetched into it's own bounded queue, prefetch elements are requested up front and demand is replenished in
+ * bulk once three quarters of a batch has been consumed. Values from all sources are combined and emitted by a single drain loop,
+ * which may run on whichever thread last delivered a value, so no thread waits for another source to catch up.
+ *
+ * Errors are buffered in order with the values from their source and occupy a demand slot when emitted. Sources that push more
+ * than was requested (e.g. non-backpressured Streams) spill into an unbounded overflow queue rather than losing values.
+ *
+ * The zipped Stream completes as soon as any source has completed and all of it's buffered values have been consumed.
+ */
+class ZipSubscription<R> extends SignalSubscription<R> {
+
+    private final Operator<?>[] sources;
+    private final Function<? super Object[], ? extends R> fn;
+    private final int prefetch;
+    private final int limit;
+
+    private final StreamSubscription[] upstream;
+    private final Buffer[] queues;
+    private final boolean[] done;
+    private final long[] consumed;
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final AtomicInteger wip = new AtomicInteger(0);
+    private volatile boolean anyDone = false;
+
+    ZipSubscription(Operator<?>[] sources, Function<? super Object[], ? extends R> fn, int prefetch,
+                    Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        super(onNext,onError,onComplete);
+        if(prefetch<=0)
+            throw new IllegalArgumentException("Prefetch must be greater than 0, but was " + prefetch);
+        this.sources = sources;
+        this.fn = fn;
+        this.prefetch = prefetch;
+        this.limit = prefetch - (prefetch >> 2);
+        this.upstream = new StreamSubscription[sources.length];
+        this.queues = new Buffer[sources.length];
+        this.done = new boolean[sources.length];
+        this.consumed = new long[sources.length];
+        for(int i=0;i<sources.length;i++)
+            queues[i] = new Buffer(prefetch);
+    }
+
+    void subscribeUpstream(){
+        for(int i=0;i<sources.length;i++){
+            final int index = i;
+            upstream[i] = ((Operator<Object>)sources[i]).subscribe(e->onNextUpstream(index,e),
+                                                                   t->onErrorUpstream(index,t),
+                                                                   ()->onCompleteUpstream(index));
+        }
+    }
+
+    @Override
+    void onRequest(long n) {
+        if(started.compareAndSet(false,true)){
+            for(StreamSubscription s : upstream)
+                s.request(prefetch);
+        }
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        super.cancel();
+        cancelUpstream();
+    }
+
+    private void cancelUpstream(){
+        for(StreamSubscription s : upstream){
+            if(s!=null)
+                s.cancel();
+        }
+    }
+
+    private void onNextUpstream(int index, Object e){
+        queues[index].offer(signal(e));
+        drain();
+    }
+
+    private void onErrorUpstream(int index, Throwable t){
+        queues[index].offer(new ErrorSignal(t));
+        drain();
+    }
+
+    private void onCompleteUpstream(int index){
+        synchronized (done){
+            done[index] = true;
+        }
+        anyDone = true;
+        drain();
+    }
+
+    /**
+     * @return true if a source has completed and has no buffered values left
+     */
+    private boolean exhausted(){
+        if(!anyDone)
+            return false;
+        synchronized (done){
+            for(int i=0;i<done.length;i++){
+                if(done[i] && queues[i].isEmpty())
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    private void replenish(int index){
+        if(++consumed[index]==limit){
+            consumed[index] = 0;
+            upstream[index].request(limit);
+        }
+    }
+
+    private void drain(){
+        if(wip.getAndIncrement()!=0)
+            return;
+        int missed = 1;
+        for(;;){
+            if(completeSent)
+                return;
+            long r = requested.get();
+            long e = 0;
+            while(e!=r && isOpen){
+                if(emitError()){
+                    e++;
+                    continue;
+                }
+                if(!ready())
+                    break;
+                Object[] values = new Object[queues.length];
+                for(int i=0;i<queues.length;i++){
+                    Object next = queues[i].poll();
+                    values[i] = next==NULL ? null : next;
+                    replenish(i);
+                }
+                e++;
+                try {
+                    onNext.accept(fn.apply(values));
+                }catch(Throwable t){
+                    onError.accept(t);
+                }
+            }
+            if(e!=0 && r!=Long.MAX_VALUE)
+                requested.addAndGet(-e);
+            if(isOpen && exhausted()){
+                cancelUpstream();
+                complete();
+                return;
+            }
+            missed = wip.addAndGet(-missed);
+            if(missed==0)
+                return;
+        }
+    }
+
+    private boolean emitError(){
+        for(int i=0;i<queues.length;i++){
+            Object next = queues[i].peek();
+            if(next instanceof ErrorSignal){
+                queues[i].poll();
+                replenish(i);
+                deliver(next);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean ready(){
+        for(Buffer q : queues){
+            if(q.isEmpty())
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Single producer, single consumer buffer for one source. Values go to a bounded queue sized to the prefetch, once that is full
+     * values go to the overflow queue until it has been drained (so the consumer always sees values in the order they were offered).
+     */
+    private static class Buffer {
+        final OneToOneConcurrentArrayQueue<Object> queue;
+        final ConcurrentLinkedQueue<Object> overflow = new ConcurrentLinkedQueue<>();
+
+        Buffer(int capacity) {
+            this.queue = new OneToOneConcurrentArrayQueue<>(capacity);
+        }
+
+        void offer(Object e){
+            if(!overflow.isEmpty() || !queue.offer(e))
+                overflow.offer(e);
+        }
+
+        Object peek(){
+            Object e = queue.peek();
+            return e!=null ? e : overflow.peek();
+        }
+
+        Object poll(){
+            Object e = queue.poll();
+            return e!=null ? e : overflow.poll();
+        }
+
+        boolean isEmpty(){
+            return queue.isEmpty() && overflow.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import cyclops.function.Fn4;
+
+import java.util.function.Consumer;
+
+/**
+ * Zips four push based Streams in a single stage, see {@link ZipSubscription} for how the inputs are prefetched and drained.
+ */
+public class Zipping4Operator<T1,T2,T3,T4,R> implements Operator<R>{
+
+    private final Operator<? super T1> first;
+    private final Operator<? super T2> second;
+    private final Operator<? super T3> third;
+    private final Operator<? super T4> fourth;
+    private final Fn4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> fn;
+    private final int prefetch;
+
+    public Zipping4Operator(Operator<? super T1> first, Operator<? super T2> second, Operator<? super T3> third, Operator<? super T4> fourth,
+                            Fn4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> fn) {
+        this(first,second,third,fourth,fn,ZippingOperator.DEFAULT_PREFETCH);
+    }
+
+    public Zipping4Operator(Operator<? super T1> first, Operator<? super T2> second, Operator<? super T3> third, Operator<? super T4> fourth,
+                            Fn4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> fn, int prefetch) {
+        if(prefetch<=0)
+            throw new IllegalArgumentException("Prefetch must be greater than 0, but was " + prefetch);
+        this.first = first;
+        this.second = second;
+        this.third = third;
+        this.fourth = fourth;
+        this.fn = fn;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        ZipSubscription<R> sub = new ZipSubscription<>(new Operator<?>[]{first,second,third,fourth},
+                                                        a->fn.apply((T1)a[0],(T2)a[1],(T3)a[2],(T4)a[3]),prefetch,onNext,onError,onComplete);
+        sub.subscribeUpstream();
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+}
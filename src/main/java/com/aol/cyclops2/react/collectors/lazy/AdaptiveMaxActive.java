@@ -0,0 +1,178 @@
+package com.aol.cyclops2.react.collectors.lazy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.aol.cyclops2.internal.react.async.future.FastFuture;
+import com.aol.cyclops2.internal.react.exceptions.FilteredExecutionPathException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A MaxActive whose limit on active tasks adapts at runtime (AIMD), fed by the completion time of each task
+ * admitted by the LazyReact collectors.
+ *
+ * <ul>
+ * <li>A task that completes within latencyTolerance times the no load latency (the lowest latency observed, which slowly decays
+ * towards recent latencies) increases the limit, by 1 until the first decrease (slow start) and by 1/limit thereafter</li>
+ * <li>A task that fails, or takes longer, decreases the limit by the backoff ratio. Only tasks started after the last decrease can
+ * trigger another, so a single slow period results in a single cut.</li>
+ * </ul>
+ *
+ * The limit is always kept within [min,max]. Instances are shared by all Streams created from the LazyReact they configure, allowing
+ * one configuration to track the capacity of the services those Streams call.
+ *
+ * <pre>
+ * {@code
+ *  AdaptiveMaxActive maxActive = MaxActive.adaptive(4, 200);
+ *
+ *  new LazyReact().withMaxActive(maxActive)
+ *                 .from(urls)
+ *                 .map(this::load)
+ *                 .forEach(this::save);
+ *
+ *  maxActive.getMetrics().getLimit();
+ * }
+ * </pre>
+ */
+public class AdaptiveMaxActive extends MaxActive {
+
+    //latencies within this of the no load latency are never treated as congestion (protects very fast tasks from jitter)
+    private static final long SLACK = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int DECAY = 1000;
+
+    @Getter
+    private final int min;
+    @Getter
+    private final int max;
+    @Getter
+    private final double backoff;
+    @Getter
+    private final double latencyTolerance;
+
+    private volatile double limit;
+    private long noLoadLatency = -1;
+    private long lastDecrease = System.nanoTime();
+    private boolean slowStart = true;
+    private long samples = 0;
+    private long decreases = 0;
+
+    public AdaptiveMaxActive(final int min, final int max) {
+        this(min, max, 0.9, 2.0);
+    }
+
+    public AdaptiveMaxActive(final int min, final int max, final double backoff, final double latencyTolerance) {
+        super(max, max);
+        if (min <= 0)
+            throw new IllegalArgumentException(
+                                               "Min must be greater than 0, but was " + min);
+        if (max < min)
+            throw new IllegalArgumentException(
+                                               "Max must be greater than or equal to min " + min + ", but was " + max);
+        if (backoff <= 0 || backoff >= 1)
+            throw new IllegalArgumentException(
+                                               "Backoff must be between 0 and 1, but was " + backoff);
+        if (latencyTolerance < 1)
+            throw new IllegalArgumentException(
+                                               "Latency tolerance must be at least 1, but was " + latencyTolerance);
+        this.min = min;
+        this.max = max;
+        this.backoff = backoff;
+        this.latencyTolerance = latencyTolerance;
+        this.limit = min;
+    }
+
+    /**
+     * @param backoff Ratio (between 0 and 1) to multiply the limit by on congestion
+     * @return New AdaptiveMaxActive with the supplied backoff, starting from the min limit
+     */
+    public AdaptiveMaxActive withBackoff(final double backoff) {
+        return new AdaptiveMaxActive(
+                                     min, max, backoff, latencyTolerance);
+    }
+
+    /**
+     * @param latencyTolerance Multiple of the no load latency a task may take before it is treated as a sign of congestion
+     * @return New AdaptiveMaxActive with the supplied tolerance, starting from the min limit
+     */
+    public AdaptiveMaxActive withLatencyTolerance(final double latencyTolerance) {
+        return new AdaptiveMaxActive(
+                                     min, max, backoff, latencyTolerance);
+    }
+
+    /**
+     * @return Current limit on active tasks
+     */
+    @Override
+    public int getMaxActive() {
+        return (int) limit;
+    }
+
+    /**
+     * @return Number of active tasks to reduce to once the current limit is exceeded
+     */
+    @Override
+    public int getReduceTo() {
+        final int current = getMaxActive();
+        return Math.max(1, current - Math.max(1, current / 10));
+    }
+
+    @Override
+    public void onActive(final FastFuture<?> task) {
+        final long start = System.nanoTime();
+        final AtomicBoolean sampled = new AtomicBoolean(
+                                                        false);
+        task.monitor(c -> {
+            if (sampled.compareAndSet(false, true))
+                sample(start, System.nanoTime() - start, c.exceptionally && !filtered(c.exception));
+        });
+    }
+
+    private boolean filtered(final Throwable t) {
+        return t instanceof FilteredExecutionPathException || t != null && t.getCause() instanceof FilteredExecutionPathException;
+    }
+
+    synchronized void sample(final long start, final long latency, final boolean failed) {
+        samples++;
+        if (!failed) {
+            if (noLoadLatency < 0 || latency < noLoadLatency)
+                noLoadLatency = latency;
+            else
+                noLoadLatency += (latency - noLoadLatency) / DECAY;
+        }
+        final boolean congested = failed
+                || noLoadLatency >= 0 && latency > Math.max(noLoadLatency * latencyTolerance, noLoadLatency + SLACK);
+        if (congested) {
+            if (start - lastDecrease > 0) {
+                limit = Math.max(min, limit * backoff);
+                lastDecrease = System.nanoTime();
+                slowStart = false;
+                decreases++;
+            }
+        } else {
+            limit = Math.min(max, slowStart ? limit + 1 : limit + 1 / limit);
+        }
+    }
+
+    /**
+     * @return Snapshot of the current limit and the statistics driving it
+     */
+    public synchronized Metrics getMetrics() {
+        return new Metrics(
+                           getMaxActive(), min, max, Math.max(0, noLoadLatency), samples, decreases);
+    }
+
+    @AllArgsConstructor
+    @Getter
+    @ToString
+    public static class Metrics {
+        private final int limit;
+        private final int min;
+        private final int max;
+        private final long noLoadLatencyNanos;
+        private final long samples;
+        private final long decreases;
+    }
+}
@@ -51,6 +51,7 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
     @Override
     public void accept(final FastFuture<T> t) {
 
+        maxActive.onActive(t);
         active.add(t);
 
         if (active.size() > maxActive.getMaxActive()) {
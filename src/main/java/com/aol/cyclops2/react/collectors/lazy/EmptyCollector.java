@@ -42,6 +42,7 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
     @Override
     public void accept(final FastFuture<T> t) {
 
+        maxActive.onActive(t);
         active.add(t);
 
         if (active.size() > maxActive.getMaxActive()) {
@@ -54,6 +55,7 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
                                                         .collect(Collectors.toList());
 
                 active.removeAll(toRemove);
+                toRemove.forEach(this::release);
                 if (active.size() > maxActive.getReduceTo()) {
                     final CompletableFuture promise = new CompletableFuture();
                     FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> promise.complete(true), active.toArray(new FastFuture[0]));
@@ -75,6 +77,12 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
             safeJoin.apply(cf);
     }
 
+    //results are not collected, so completed Futures can be returned to the pool (if object pooling is on)
+    private void release(final FastFuture cf) {
+        if (!cf.isCompletedExceptionally())
+            cf.markComplete();
+    }
+
     @Override
     public EmptyCollector<T> withResults(final Collection<FastFuture<T>> t) {
 
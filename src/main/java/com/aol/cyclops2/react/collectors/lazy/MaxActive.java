@@ -1,5 +1,7 @@
 package com.aol.cyclops2.react.collectors.lazy;
 
+import com.aol.cyclops2.internal.react.async.future.FastFuture;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Builder;
@@ -24,4 +26,24 @@ public class MaxActive {
     public static final MaxActive SEQUENTIAL = new MaxActive(
                                                              10, 1);
 
+    /**
+     * @param min Lowest limit on active tasks
+     * @param max Highest limit on active tasks
+     * @return MaxActive that adapts the limit on active tasks between min and max, based on task completion times
+     * @see AdaptiveMaxActive
+     */
+    public static AdaptiveMaxActive adaptive(final int min, final int max) {
+        return new AdaptiveMaxActive(
+                                     min, max);
+    }
+
+    /**
+     * Called as each task becomes active, a no-op for fixed limits
+     * 
+     * @param task Newly active task
+     */
+    public void onActive(final FastFuture<?> task) {
+
+    }
+
 }
@@ -0,0 +1,109 @@
+package com.aol.cyclops2.util;
+
+/**
+ * A fixed size Bloom filter, used to approximately track the values seen in a Stream in constant memory.
+ *
+ * The filter is sized from the expected number of distinct values and the acceptable false positive probability, and
+ * uses double hashing over a mixed hashCode to derive the bit positions for each value. Values are never reported as absent
+ * once added, values that have not been added may be reported as present with (approximately) the configured probability,
+ * which rises if more than the expected number of values are added.
+ *
+ * Not thread safe.
+ *
+ * @param <T> Type of value tracked by this filter
+ */
+public final class BloomFilter<T> {
+
+    private static final double LN2 = Math.log(2);
+
+    private final long[] bits;
+    private final long numBits;
+    private final int numHashes;
+
+    /**
+     * @param expectedItems Expected number of distinct values
+     * @param fpp Acceptable false positive probability (between 0 and 1, exclusive)
+     */
+    public BloomFilter(final long expectedItems, final double fpp) {
+        if (expectedItems <= 0)
+            throw new IllegalArgumentException("Expected items must be greater than 0, but was " + expectedItems);
+        if (!(fpp > 0 && fpp < 1))
+            throw new IllegalArgumentException("False positive probability must be between 0 and 1, but was " + fpp);
+        final double optimalBits = -expectedItems * Math.log(fpp) / (LN2 * LN2);
+        final long words = Math.min(Integer.MAX_VALUE, Math.max(1, (long) Math.ceil(optimalBits / 64)));
+        this.bits = new long[(int) words];
+        this.numBits = words * 64;
+        this.numHashes = (int) Math.max(1, Math.round((double) numBits / expectedItems * LN2));
+    }
+
+    /**
+     * Add a value to this filter
+     *
+     * @param value Value to add
+     * @return true if the value was definitely not present, false if it may have been added previously
+     */
+    public boolean put(final T value) {
+        final long hash = hash(value);
+        final int h1 = (int) hash;
+        final int h2 = (int) (hash >>> 32);
+        boolean changed = false;
+        for (int i = 1; i <= numHashes; i++) {
+            final long index = index(h1, h2, i);
+            final int word = (int) (index >>> 6);
+            final long mask = 1L << index;
+            if ((bits[word] & mask) == 0) {
+                bits[word] |= mask;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * @param value Value to check
+     * @return true if the value may have been added to this filter, false if it definitely has not
+     */
+    public boolean mightContain(final T value) {
+        final long hash = hash(value);
+        final int h1 = (int) hash;
+        final int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            final long index = index(h1, h2, i);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return Number of bits in this filter
+     */
+    public long bitSize() {
+        return numBits;
+    }
+
+    /**
+     * @return Number of bit positions set for each value
+     */
+    public int hashFunctions() {
+        return numHashes;
+    }
+
+    private long index(final int h1, final int h2, final int i) {
+        long combined = h1 + (long) i * h2;
+        if (combined < 0)
+            combined = ~combined;
+        return combined % numBits;
+    }
+
+    private static long hash(final Object value) {
+        long h = value == null ? 0 : value.hashCode();
+        h *= 0x9E3779B97F4A7C15L;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
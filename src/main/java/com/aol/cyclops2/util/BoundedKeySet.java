@@ -0,0 +1,78 @@
+package com.aol.cyclops2.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tracks the most recently seen keys in a Stream, in bounded memory.
+ *
+ * At most maxKeys keys are retained, when the limit is exceeded the least recently seen key is forgotten. If a window is
+ * configured keys that have not been seen for longer than the window are also forgotten. A forgotten key is treated as new
+ * if it is seen again.
+ *
+ * Not thread safe.
+ *
+ * @param <T> Key type
+ */
+public final class BoundedKeySet<T> {
+
+    private final int maxKeys;
+    private final long windowNanos;
+    private final LinkedHashMap<T, Long> keys;
+
+    /**
+     * @param maxKeys Maximum number of keys to retain
+     */
+    public BoundedKeySet(final int maxKeys) {
+        this(maxKeys, 0);
+    }
+
+    /**
+     * @param maxKeys Maximum number of keys to retain
+     * @param windowNanos Time after which a key that has not been seen again is forgotten, or 0 to retain keys until evicted by size
+     */
+    public BoundedKeySet(final int maxKeys, final long windowNanos) {
+        if (maxKeys <= 0)
+            throw new IllegalArgumentException("Maximum number of keys must be greater than 0, but was " + maxKeys);
+        this.maxKeys = maxKeys;
+        this.windowNanos = windowNanos;
+        this.keys = new LinkedHashMap<T, Long>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<T, Long> eldest) {
+                return size() > BoundedKeySet.this.maxKeys;
+            }
+        };
+    }
+
+    /**
+     * Record a key as seen
+     *
+     * @param key Key to record
+     * @return true if the key was not already retained by this set
+     */
+    public boolean add(final T key) {
+        if (windowNanos <= 0)
+            return keys.put(key, 0L) == null;
+        final long now = System.nanoTime();
+        expire(now);
+        return keys.put(key, now) == null;
+    }
+
+    /**
+     * @return Number of keys currently retained
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    private void expire(final long now) {
+        final Iterator<Long> it = keys.values()
+                                      .iterator();
+        while (it.hasNext()) {
+            if (now - it.next() <= windowNanos)
+                return;
+            it.remove();
+        }
+    }
+}
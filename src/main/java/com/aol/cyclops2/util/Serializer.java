@@ -0,0 +1,51 @@
+package com.aol.cyclops2.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * Converts values to and from bytes, used where Stream or Queue data is moved off heap (e.g. spilled to disk).
+ *
+ * Implementations must be able to deserialize any value they have serialized, checked failures should be rethrown softened
+ * (see {@link ExceptionSoftener}).
+ *
+ * @param <T> Type of value serialized
+ */
+public interface Serializer<T> {
+
+    byte[] serialize(T value);
+
+    T deserialize(byte[] bytes);
+
+    /**
+     * A Serializer that uses standard Java serialization, values (and everything they reference) must implement {@link java.io.Serializable}
+     *
+     * @return Java serialization based Serializer
+     */
+    static <T> Serializer<T> javaSerializer() {
+        return new Serializer<T>() {
+            @Override
+            public byte[] serialize(final T value) {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                    out.writeObject(value);
+                } catch (final IOException e) {
+                    throw ExceptionSoftener.throwSoftenedException(e);
+                }
+                return bytes.toByteArray();
+            }
+
+            @Override
+            public T deserialize(final byte[] bytes) {
+                try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                    return (T) in.readObject();
+                } catch (final IOException | ClassNotFoundException e) {
+                    throw ExceptionSoftener.throwSoftenedException(e);
+                }
+            }
+        };
+    }
+}
@@ -25,6 +25,7 @@ import cyclops.stream.Spouts;
 import org.reactivestreams.Publisher;
 
 import com.aol.cyclops2.internal.react.FutureStreamImpl;
+import com.aol.cyclops2.internal.react.async.future.FuturePool;
 import com.aol.cyclops2.internal.react.stream.InfiniteClosingSpliteratorFromSupplier;
 import com.aol.cyclops2.internal.react.stream.ReactBuilder;
 import com.aol.cyclops2.react.ThreadPools;
@@ -93,6 +94,8 @@ public class LazyReact implements ReactBuilder {
     private final boolean autoMemoize;
     @Getter
     private final Cacheable<?> memoizeCache;
+    @Getter
+    private final int chunkSize;
 
 
 
@@ -169,6 +172,7 @@ public class LazyReact implements ReactBuilder {
         autoOptimize = true;
         autoMemoize = false;
         memoizeCache = null;
+        chunkSize = 1;
 
     }
 
@@ -187,6 +191,7 @@ public class LazyReact implements ReactBuilder {
         autoOptimize = true;
         autoMemoize = false;
         memoizeCache = null;
+        chunkSize = 1;
 
     }
 
@@ -210,6 +215,7 @@ public class LazyReact implements ReactBuilder {
         autoOptimize = true;
         autoMemoize = false;
         memoizeCache = null;
+        chunkSize = 1;
     }
 
     /**
@@ -314,6 +320,52 @@ public class LazyReact implements ReactBuilder {
         return withPoolingActive(false);
     }
 
+    /**
+     * Future reuse statistics across all Streams created with object pooling on
+     *
+     * <pre>
+     * {@code
+     *  new LazyReact().objectPoolingOn()
+                       .range(0,5_000)
+                       .map(this::process)
+                       .forEach(System.out::println);
+
+        LazyReact.objectPoolingStats().getHitRate();
+     * }
+     * </pre>
+     *
+     * @return Hit, miss and drop counts for pooled Futures
+     */
+    public static FuturePool.Stats objectPoolingStats() {
+        return FuturePool.globalStats();
+    }
+
+    /**
+     * Submit chunks of consecutive elements to the task executor as a single task, rather than one task per element.
+     * Each element still has it's own Future, so ordering and per element error handling are unchanged, but the cost
+     * of task submission and hand off is shared across the chunk. This suits cheap functions over fast sources. Elements are
+     * never read ahead of the Stream, and a partial chunk is processed as soon as it's elements are available, so slow sources
+     * are not delayed (they simply see smaller chunks). By default each element is submitted individually (a chunk size of 1).
+     *
+     * <pre>
+     * {@code
+     *  new LazyReact().withChunking(64)
+                       .range(0,5_000_000)
+                       .map(i->i*2)
+                       .forEach(System.out::println);
+     * }
+     * </pre>
+     *
+     * @param chunkSize Number of consecutive elements to submit as a single task
+     * @return New LazyReact builder with chunking on
+     */
+    public LazyReact withChunking(final int chunkSize) {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException(
+                                               "Chunk size must be greater than 0, but was " + chunkSize);
+        return withChunkSize(chunkSize);
+    }
+
     /**
      * Turn on automatic threading optimization. Tasks will be 'fanned' out across threads initially
      * and subsequent task completion events will trigger further processing on the same thread. Where
@@ -568,6 +620,17 @@ public class LazyReact implements ReactBuilder {
     public LazyReact(final Executor executor, final Boolean async, final MaxActive maxActive,
             final boolean streamOfFutures, final boolean objectPoolingActive, final boolean autoOptimize, final boolean autoMemoize,
             final Cacheable memoizeCache) {
+        this(executor, async, maxActive, streamOfFutures, objectPoolingActive, autoOptimize, autoMemoize, memoizeCache, 1);
+    }
+
+    /**
+     * @param executor Task Executor for concurrent tasks
+     * @param async If true each task will be submitted to an executor service
+     * @param chunkSize Number of consecutive elements submitted to the executor as a single task
+     */
+    public LazyReact(final Executor executor, final Boolean async, final MaxActive maxActive,
+            final boolean streamOfFutures, final boolean objectPoolingActive, final boolean autoOptimize, final boolean autoMemoize,
+            final Cacheable memoizeCache, final int chunkSize) {
         super();
         this.executor = executor;
         this.async = Optional.ofNullable(async)
@@ -580,6 +643,7 @@ public class LazyReact implements ReactBuilder {
         this.autoOptimize = autoOptimize;
         this.autoMemoize = autoMemoize;
         this.memoizeCache = memoizeCache;
+        this.chunkSize = chunkSize;
 
     }
 
@@ -0,0 +1,310 @@
+package cyclops.async;
+
+import cyclops.async.adapters.Queue;
+import cyclops.async.adapters.QueueFactory;
+import cyclops.collections.mutable.ListX;
+import cyclops.control.Maybe;
+import cyclops.stream.FutureStream;
+import cyclops.stream.ReactiveSeq;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * PartitionedPipes : spreads a keyspace across a number of worker Queues (partitions). Each key is routed via a consistent hash
+ * ring to a single partition, so all values for a key are processed in order by the readers of that partition, while different
+ * keys are processed in parallel by the readers of different partitions.
+ *
+ * Partitions can be added while data is flowing, in which case only the keys that hash to the new partition move (roughly 1/n of
+ * the keyspace). To preserve per key ordering, readers of the new partition do not receive any data until readers of the partitions
+ * keys were moved from have processed everything pushed to them before the new partition was added. A value counts as processed once
+ * the reading Stream has passed it on to the next stage (for a FutureStream, once the task for it has been created). Readers of the new
+ * partition stop waiting for a partition that has been closed without any readers, and for any partition after the handoff timeout, so
+ * a partition that is never read can not block the new partition indefinitely.
+ *
+ * Partitions can only be read via {@link #reactiveSeq(int)}, {@link #reactiveSeqs()} or {@link #futureStream(int)} as the progress of
+ * each reader is tracked.
+ *
+ * <pre>
+ * {@code
+ *      PartitionedPipes<String, Order> orders = PartitionedPipes.of(4, QueueFactories.boundedQueue(1000));
+ *
+ *      //one reader per partition, each on it's own thread
+ *      for(int i=0;i<orders.partitions();i++){
+ *          orders.futureStream(i, new LazyReact(1,1))
+ *                .get()
+ *                .forEach(this::process);
+ *      }
+ *
+ *      orders.push(order.getAccountId(), order);
+ * }
+ * </pre>
+ *
+ * @param <K> Key type
+ * @param <V> Value type transferred via the partition Queues
+ */
+public class PartitionedPipes<K, V> {
+
+    private static final int VIRTUAL_NODES = 64;
+    private static final long DEFAULT_HANDOFF_TIMEOUT_SECONDS = 30;
+
+    private final QueueFactory<V> factory;
+    private final long handoffTimeoutNanos;
+    private final ReentrantReadWriteLock routingLock = new ReentrantReadWriteLock();
+    private volatile List<Partition<V>> partitions = new ArrayList<>();
+    private volatile TreeMap<Integer, Partition<V>> ring = new TreeMap<>();
+
+    private PartitionedPipes(final QueueFactory<V> factory, final long handoffTimeoutNanos) {
+        this.factory = factory;
+        this.handoffTimeoutNanos = handoffTimeoutNanos;
+    }
+
+    /**
+     * Construct a PartitionedPipes instance with the specified number of partitions, each backed by an unbounded Queue
+     *
+     * @param partitions Number of partitions
+     * @return PartitionedPipes instance
+     */
+    public static <K, V> PartitionedPipes<K, V> of(final int partitions) {
+        return of(partitions, QueueFactories.unboundedQueue());
+    }
+
+    /**
+     * Construct a PartitionedPipes instance with the specified number of partitions, each backed by a Queue from the supplied factory
+     *
+     * @param partitions Number of partitions
+     * @param factory QueueFactory used to create the Queue for each partition
+     * @return PartitionedPipes instance
+     */
+    public static <K, V> PartitionedPipes<K, V> of(final int partitions, final QueueFactory<V> factory) {
+        return of(partitions, factory, DEFAULT_HANDOFF_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Construct a PartitionedPipes instance with the specified number of partitions, each backed by a Queue from the supplied factory
+     *
+     * @param partitions Number of partitions
+     * @param factory QueueFactory used to create the Queue for each partition
+     * @param handoffTimeout Maximum time readers of an added partition wait for readers of the partitions keys moved from
+     * @param unit Time unit for the handoff timeout
+     * @return PartitionedPipes instance
+     */
+    public static <K, V> PartitionedPipes<K, V> of(final int partitions, final QueueFactory<V> factory, final long handoffTimeout,
+                                                   final TimeUnit unit) {
+        if (partitions <= 0)
+            throw new IllegalArgumentException("Partitions must be greater than 0, but was " + partitions);
+        if (handoffTimeout < 0)
+            throw new IllegalArgumentException("Handoff timeout must not be negative, but was " + handoffTimeout);
+        Objects.requireNonNull(factory);
+        final PartitionedPipes<K, V> pipes = new PartitionedPipes<>(
+                                                                    factory, unit.toNanos(handoffTimeout));
+        for (int i = 0; i < partitions; i++)
+            pipes.addPartition();
+        return pipes;
+    }
+
+    /**
+     * @return Number of partitions
+     */
+    public int partitions() {
+        return partitions.size();
+    }
+
+    /**
+     * @param key Key to route
+     * @return Index of the partition the key is currently routed to
+     */
+    public int partitionFor(final K key) {
+        return route(key).index;
+    }
+
+    /**
+     * Push a single value synchronously into the partition the supplied key is routed to
+     *
+     * @param key Key used to select the partition
+     * @param value Value to push to the partition
+     */
+    public void push(final K key, final V value) {
+        routingLock.readLock()
+                   .lock();
+        try {
+            final Partition<V> partition = route(key);
+            partition.queue.offer(value);
+            partition.offered.incrementAndGet();
+        } finally {
+            routingLock.readLock()
+                       .unlock();
+        }
+    }
+
+    /**
+     * Add a new partition and rebalance the keyspace, only keys that are routed to the new partition move.
+     *
+     * @return Index of the new partition
+     */
+    public int addPartition() {
+        routingLock.writeLock()
+                   .lock();
+        try {
+            final Partition<V> partition = new Partition<>(
+                                                           partitions.size(), factory.build(), handoffTimeoutNanos);
+            final TreeMap<Integer, Partition<V>> nextRing = new TreeMap<>(
+                                                                          ring);
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                final int hash = mix(partition.index * 0x9E3779B9 + i);
+                if (!ring.isEmpty()) {
+                    final Partition<V> donor = owner(ring, hash);
+                    partition.handoff.put(donor, donor.offered.get());
+                }
+                nextRing.put(hash, partition);
+            }
+            final List<Partition<V>> nextPartitions = new ArrayList<>(
+                                                                      partitions);
+            nextPartitions.add(partition);
+            this.ring = nextRing;
+            this.partitions = nextPartitions;
+            return partition.index;
+        } finally {
+            routingLock.writeLock()
+                       .unlock();
+        }
+    }
+
+    /**
+     * Create a ReactiveSeq that reads from the specified partition
+     *
+     * @param partition Partition index
+     * @return {@link ReactiveSeq} from the partition Queue, if the partition exists
+     */
+    public Maybe<ReactiveSeq<V>> reactiveSeq(final int partition) {
+        final List<Partition<V>> current = partitions;
+        return partition >= 0 && partition < current.size() ? Maybe.just(current.get(partition)
+                                                                                 .stream())
+                : Maybe.none();
+    }
+
+    /**
+     * @return A ReactiveSeq for every partition (in partition order)
+     */
+    public ListX<ReactiveSeq<V>> reactiveSeqs() {
+        final List<ReactiveSeq<V>> streams = new ArrayList<>();
+        for (final Partition<V> next : partitions)
+            streams.add(next.stream());
+        return ListX.fromIterable(streams);
+    }
+
+    /**
+     * Create a FutureStream using default Parallelism that reads from the specified partition
+     *
+     * @param partition Partition index
+     * @return FutureStream from the partition Queue, if the partition exists
+     */
+    public Maybe<FutureStream<V>> futureStream(final int partition) {
+        return futureStream(partition, new LazyReact());
+    }
+
+    /**
+     * Create a FutureStream using the provided LazyReact futureStream builder that reads from the specified partition
+     *
+     * @param partition Partition index
+     * @param builder LazyReact futureStream builder
+     * @return FutureStream from the partition Queue, if the partition exists
+     */
+    public Maybe<FutureStream<V>> futureStream(final int partition, final LazyReact builder) {
+        return reactiveSeq(partition).map(s -> builder.fromStream(s));
+    }
+
+    /**
+     * Close all partitions, connected Streams complete once they have read all data pushed to their partition
+     */
+    public void close() {
+        partitions.forEach(p -> p.queue.close());
+    }
+
+    private Partition<V> route(final K key) {
+        return owner(ring, mix(Objects.hashCode(key)));
+    }
+
+    private static <V> Partition<V> owner(final TreeMap<Integer, Partition<V>> ring, final int hash) {
+        final Map.Entry<Integer, Partition<V>> entry = ring.ceilingEntry(hash);
+        return entry != null ? entry.getValue() : ring.firstEntry()
+                                                      .getValue();
+    }
+
+    //murmur3 finalizer, spreads poorly distributed hashCodes around the ring
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static class Partition<V> {
+        final int index;
+        final Queue<V> queue;
+        final long handoffTimeoutNanos;
+        final AtomicLong offered = new AtomicLong(0);
+        final AtomicLong processed = new AtomicLong(0);
+        final AtomicInteger readers = new AtomicInteger(0);
+        //partitions keys moved from, and the number of values that must be processed by each before this partition can be read
+        final Map<Partition<V>, Long> handoff = new HashMap<>();
+        volatile boolean ready = false;
+
+        Partition(final int index, final Queue<V> queue, final long handoffTimeoutNanos) {
+            this.index = index;
+            this.queue = queue;
+            this.handoffTimeoutNanos = handoffTimeoutNanos;
+        }
+
+        ReactiveSeq<V> stream() {
+            readers.incrementAndGet();
+            final Spliterator<V> source = queue.stream()
+                                               .spliterator();
+            return ReactiveSeq.fromSpliterator(new Spliterators.AbstractSpliterator<V>(
+                                                                                       Long.MAX_VALUE, Spliterator.ORDERED) {
+                @Override
+                public boolean tryAdvance(final Consumer<? super V> action) {
+                    return source.tryAdvance(next -> {
+                        awaitHandoff();
+                        try {
+                            action.accept(next);
+                        } finally {
+                            processed.incrementAndGet();
+                        }
+                    });
+                }
+            });
+        }
+
+        private void awaitHandoff() {
+            if (ready)
+                return;
+            final long deadline = System.nanoTime() + handoffTimeoutNanos;
+            for (final Map.Entry<Partition<V>, Long> next : handoff.entrySet()) {
+                final Partition<V> donor = next.getKey();
+                while (donor.processed.get() < next.getValue() && !donor.abandoned() && deadline - System.nanoTime() > 0)
+                    LockSupport.parkNanos(100000l);
+            }
+            ready = true;
+        }
+
+        //closed with no readers, remaining values will never be processed
+        private boolean abandoned() {
+            return !queue.isOpen() && readers.get() == 0;
+        }
+    }
+}
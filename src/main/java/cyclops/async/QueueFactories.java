@@ -1,11 +1,15 @@
 package cyclops.async;
 
+import java.nio.file.Path;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 
 import cyclops.async.adapters.Queue;
 import cyclops.async.adapters.QueueFactory;
+import cyclops.async.adapters.SpillingBlockingQueue;
+import com.aol.cyclops2.util.Serializer;
+import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
 import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 
@@ -114,7 +118,17 @@ public class QueueFactories {
     /**
      * Creates an async.Queue backed by a JDK Wait Free unbounded ConcurrentLinkedQueue
      * The provided WaitStrategy is used toNested determine behaviour of both producers and consumers when the Queue is full (producer)
-     * or empty (consumer). {@see WaitStrategy#spinWait() , @see WaitStrategy#exponentialBackOff() , @see WaitStrategy#noWaitRetry() }
+     * or empty (consumer). {@see WaitStrategy#spinWait() , @see WaitStrategy#exponentialBackOff() , @see WaitStrategy#noWaitRetry() ,
+     * @see WaitStrategy#adaptive() }
+     *
+     * <pre>
+     * {@code
+     *   AdaptiveWaitStrategy<String> strategy = WaitStrategy.adaptive();
+     *   Queue<String> queue = QueueFactories.<String>unboundedNonBlockingQueue(strategy)
+     *                                       .build();
+     *   //strategy.spins(), strategy.yields(), strategy.parks() and strategy.averageWaitNanos() report how the Queue is waiting
+     * }
+     * </pre>
      * 
      * @param strategy Strategy toNested be employed by producers when Queue is full, or consumers when Queue is empty
      * @return Factory for unbounded wait free queue backed by ConcurrentLinkedQueue
@@ -150,7 +164,8 @@ public class QueueFactories {
     /**
      * Generate QueueFactory for bounded non blocking queues. Max queue size is determined by the input parameter.
      * The provided WaitStrategy is used toNested determine behaviour of both producers and consumers when the Queue is full (producer)
-     * or empty (consumer). {@see WaitStrategy#spinWait() , @see WaitStrategy#exponentialBackOff() , @see WaitStrategy#noWaitRetry() }
+     * or empty (consumer). {@see WaitStrategy#spinWait() , @see WaitStrategy#exponentialBackOff() , @see WaitStrategy#noWaitRetry() ,
+     * @see WaitStrategy#adaptive() }
      * 
      * @param queueSize Max Queue size
      * @param strategy Strategy toNested be employed by producers when Queue is full, or consumers when Queue is empty
@@ -163,6 +178,58 @@ public class QueueFactories {
                                   strategy, strategy);
     }
 
+    /**
+     * Creates an async.Queue backed by an Agrona ManyToManyConcurrentArrayQueue bounded by specified queueSize. Unlike
+     * {@link #boundedNonBlockingQueue(int)} it is safe to have multiple concurrent consumers (e.g. several FutureStream workers
+     * reading from the same Queue), all of which complete when the Queue is closed.
+     *  Wait strategy used is NoWaitRetry by default for both Consumers and Producers
+     *  (both Consumers and Producers will repeatedly retry until successful). Use
+     *  withConsumerWaitStrategy  &amp; withProducerWaitStrategy methods on the returned queue to change the
+     *  wait strategy
+     * <pre>
+     * {@code
+     *    queue.withConsumerWaitStrategy(new DirectWaitStrategy())
+     *         .withProducerWaitStrategy(new YieldWait());
+     * }</pre>
+     *
+     * @param queueSize upper bound for Queue (rounded up to the next power of two)
+     * @return bounded lock free Queue Factory backed by an Agrona ManyToManyConcurrentArrayQueue
+     */
+    public static <T> QueueFactory<T> boundedMpmcQueue(final int queueSize) {
+        return boundedMpmcQueue(queueSize, new NoWaitRetry<>(), new NoWaitRetry<>());
+    }
+
+    /**
+     * Generate QueueFactory for bounded lock free queues that support multiple concurrent producers and consumers.
+     * Max queue size is determined by the input parameter.
+     * The provided WaitStrategy is used to determine behaviour of both producers and consumers when the Queue is full (producer)
+     * or empty (consumer). {@see WaitStrategy#spinWait() , @see WaitStrategy#exponentialBackOff() , @see WaitStrategy#noWaitRetry() }
+     *
+     * @param queueSize Max Queue size (rounded up to the next power of two)
+     * @param strategy Strategy to be employed by producers when Queue is full, or consumers when Queue is empty
+     * @return bounded lock free Queue Factory backed by an Agrona ManyToManyConcurrentArrayQueue
+     */
+    public static <T> QueueFactory<T> boundedMpmcQueue(final int queueSize, final WaitStrategy<T> strategy) {
+        return boundedMpmcQueue(queueSize, strategy, strategy);
+    }
+
+    /**
+     * Generate QueueFactory for bounded lock free queues that support multiple concurrent producers and consumers.
+     * Max queue size is determined by the input parameter.
+     *
+     * @param queueSize Max Queue size (rounded up to the next power of two)
+     * @param consumerStrategy Strategy to be employed by consumers when Queue is empty
+     * @param producerStrategy Strategy to be employed by producers when Queue is full
+     * @return bounded lock free Queue Factory backed by an Agrona ManyToManyConcurrentArrayQueue
+     */
+    public static <T> QueueFactory<T> boundedMpmcQueue(final int queueSize, final WaitStrategy<T> consumerStrategy,
+                                                       final WaitStrategy<T> producerStrategy) {
+        return () -> new Queue<T>(
+                                  new ManyToManyConcurrentArrayQueue<>(
+                                                                       queueSize),
+                                  consumerStrategy, producerStrategy);
+    }
+
     /**
      * Creates an async.Queue backed by an Agrona OneToOneConcurrentArrayQueue bounded by specified queueSize
      *  Wait strategy used is NoWaitRetry by default for both Consumers and Producers 
@@ -202,6 +269,58 @@ public class QueueFactories {
 
     }
 
+    /**
+     * Create a QueueFactory for Queues that hold up to queueSize elements in memory, and spill any further elements to disk
+     * (in memory-mapped segment files) rather than blocking producers. Spilled data is read back in order once consumers catch up.
+     * Elements are written to disk using Java serialization and must implement {@link java.io.Serializable}.
+     *
+     * <pre>
+     * {@code
+     *   Queue<String> ingest = QueueFactories.<String>spillingQueue(10_000)
+     *                                        .build();
+     *
+     *   ReactiveSeq.range(0,1_000_000)
+     *              .map(i->"event "+i)
+     *              .forEach(ingest::offer); //never blocks
+     * }
+     * </pre>
+     *
+     * @param queueSize Maximum number of elements to hold in memory
+     * @return QueueFactory for Queues backed by a SpillingBlockingQueue
+     */
+    public static <T> QueueFactory<T> spillingQueue(final int queueSize) {
+        return spillingQueue(queueSize, Serializer.javaSerializer());
+    }
+
+    /**
+     * Create a QueueFactory for Queues that hold up to queueSize elements in memory, and spill any further elements to disk
+     * (in memory-mapped segment files) rather than blocking producers.
+     *
+     * @param queueSize Maximum number of elements to hold in memory
+     * @param serializer Serializer used to write elements to disk and read them back
+     * @return QueueFactory for Queues backed by a SpillingBlockingQueue
+     */
+    public static <T> QueueFactory<T> spillingQueue(final int queueSize, final Serializer<T> serializer) {
+        return spillingQueue(queueSize, serializer, null, SpillingBlockingQueue.DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Create a QueueFactory for Queues that hold up to queueSize elements in memory, and spill any further elements to disk
+     * (in memory-mapped segment files) rather than blocking producers.
+     *
+     * @param queueSize Maximum number of elements to hold in memory
+     * @param serializer Serializer used to write elements to disk and read them back
+     * @param directory Directory to create segment files in (the default temporary file directory is used if null)
+     * @param segmentSize Size in bytes of each memory-mapped segment file
+     * @return QueueFactory for Queues backed by a SpillingBlockingQueue
+     */
+    public static <T> QueueFactory<T> spillingQueue(final int queueSize, final Serializer<T> serializer, final Path directory,
+                                                    final int segmentSize) {
+        return () -> new Queue<T>(
+                                  new SpillingBlockingQueue<>(
+                                                              queueSize, serializer, directory, segmentSize));
+    }
+
     /**
      * @return async.Queue backed by a Synchronous Queue
      */
@@ -0,0 +1,252 @@
+package cyclops.async;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.aol.cyclops2.react.ThreadPools;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+/**
+ * A non-blocking retry policy. Failed attempts are rescheduled on a ScheduledExecutorService (by default
+ * {@link ThreadPools#getStandardSchedular()}) and executed on a task Executor (by default {@link ThreadPools#getStandard()}),
+ * no thread is held while waiting to retry.
+ *
+ * <pre>
+ * {@code
+ *    Retry retry = Retry.exponential(100, TimeUnit.MILLISECONDS)
+ *                       .withMaxAttempts(5)
+ *                       .withJitter(0.2)
+ *                       .withMaxElapsed(5, TimeUnit.SECONDS)
+ *                       .retryOn(e -> e instanceof IOException);
+ *
+ *    CompletableFuture<Data> data = retry.apply(this::load, id);
+ *
+ *    new LazyReact().of(1, 2, 3)
+ *                   .retryAsync(this::load, retry);
+ * }
+ * </pre>
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class Retry {
+
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final double multiplier;
+    private final long maxDelayNanos;
+    private final double jitter;
+    private final long maxElapsedNanos;
+    private final Predicate<? super Throwable> retryOn;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+
+    /**
+     * Retry up to 7 attempts, doubling the delay between attempts starting from the supplied delay
+     *
+     * @param delay Delay before the first retry
+     * @param unit TimeUnit for the delay
+     * @return Exponential backoff Retry policy
+     */
+    public static Retry exponential(final long delay, final TimeUnit unit) {
+        if (delay < 0)
+            throw new IllegalArgumentException(
+                                               "Delay must be greater than or equal to 0, but was " + delay);
+        return new Retry(
+                         7, unit.toNanos(delay), 2, Long.MAX_VALUE, 0, Long.MAX_VALUE, e -> true, ThreadPools.getStandardSchedular(),
+                         ThreadPools.getStandard());
+    }
+
+    /**
+     * Retry up to 7 attempts, with the same delay between each attempt
+     *
+     * @param delay Delay between attempts
+     * @param unit TimeUnit for the delay
+     * @return Fixed delay Retry policy
+     */
+    public static Retry fixed(final long delay, final TimeUnit unit) {
+        return exponential(delay, unit).withMultiplier(1);
+    }
+
+    /**
+     * @param maxAttempts Max number of attempts (including the first)
+     * @return Retry policy that gives up after the specified number of attempts
+     */
+    public Retry withMaxAttempts(final int maxAttempts) {
+        if (maxAttempts <= 0)
+            throw new IllegalArgumentException(
+                                               "Max attempts must be greater than 0, but was " + maxAttempts);
+        return new Retry(
+                         maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, maxElapsedNanos, retryOn, scheduler, executor);
+    }
+
+    /**
+     * @param multiplier Factor the delay grows by after each failed attempt
+     * @return Retry policy with the specified backoff multiplier
+     */
+    public Retry withMultiplier(final double multiplier) {
+        if (multiplier < 1)
+            throw new IllegalArgumentException(
+                                               "Multiplier must be greater than or equal to 1, but was " + multiplier);
+        return new Retry(
+                         maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, maxElapsedNanos, retryOn, scheduler, executor);
+    }
+
+    /**
+     * @param maxDelay Upper bound on the delay between attempts
+     * @param unit TimeUnit for the max delay
+     * @return Retry policy with capped backoff
+     */
+    public Retry withMaxDelay(final long maxDelay, final TimeUnit unit) {
+        return new Retry(
+                         maxAttempts, initialDelayNanos, multiplier, unit.toNanos(maxDelay), jitter, maxElapsedNanos, retryOn, scheduler,
+                         executor);
+    }
+
+    /**
+     * Randomise each delay by up to +/- the specified proportion, so that elements failing together do not all retry
+     * at the same instant
+     *
+     * @param jitter Proportion of the delay to randomise by (between 0 and 1)
+     * @return Retry policy with jittered delays
+     */
+    public Retry withJitter(final double jitter) {
+        if (jitter < 0 || jitter > 1)
+            throw new IllegalArgumentException(
+                                               "Jitter must be between 0 and 1, but was " + jitter);
+        return new Retry(
+                         maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, maxElapsedNanos, retryOn, scheduler, executor);
+    }
+
+    /**
+     * @param maxElapsed Time after the first attempt started, beyond which no further attempts will be scheduled
+     * @param unit TimeUnit for the max elapsed time
+     * @return Retry policy that gives up once the specified time has elapsed
+     */
+    public Retry withMaxElapsed(final long maxElapsed, final TimeUnit unit) {
+        return new Retry(
+                         maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, unit.toNanos(maxElapsed), retryOn, scheduler,
+                         executor);
+    }
+
+    /**
+     * @param retryOn Predicate that determines whether an attempt that failed with a given error should be retried
+     * @return Retry policy that only retries matching errors
+     */
+    public Retry retryOn(final Predicate<? super Throwable> retryOn) {
+        Objects.requireNonNull(retryOn);
+        return new Retry(
+                         maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, maxElapsedNanos, retryOn, scheduler, executor);
+    }
+
+    /**
+     * @param scheduler ScheduledExecutorService used to wait between attempts
+     * @return Retry policy using the supplied scheduler
+     */
+    public Retry withScheduler(final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(scheduler);
+        return new Retry(
+                         maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, maxElapsedNanos, retryOn, scheduler, executor);
+    }
+
+    /**
+     * @param executor Executor attempts are executed on
+     * @return Retry policy using the supplied task Executor
+     */
+    public Retry withExecutor(final Executor executor) {
+        Objects.requireNonNull(executor);
+        return new Retry(
+                         maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, maxElapsedNanos, retryOn, scheduler, executor);
+    }
+
+    /**
+     * Apply the supplied function to the supplied value asynchronously, retrying according to this policy
+     *
+     * @param fn Function to retry if it fails
+     * @param value Input to the function
+     * @return CompletableFuture completed with the first successful result, or the last error
+     */
+    public <T, R> CompletableFuture<R> apply(final Function<? super T, ? extends R> fn, final T value) {
+        return supply(() -> fn.apply(value));
+    }
+
+    /**
+     * Execute the supplier asynchronously, retrying according to this policy
+     *
+     * @param supplier Supplier to retry if it fails
+     * @return CompletableFuture completed with the first successful result, or the last error
+     */
+    public <R> CompletableFuture<R> supply(final Supplier<? extends R> supplier) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        new Attempts<R>(
+                        supplier, result).run();
+        return result;
+    }
+
+    private long delay(final int retry) {
+        final double base = Math.min(initialDelayNanos * Math.pow(multiplier, retry), maxDelayNanos);
+        final double spread = jitter == 0 ? 0 : base * jitter * (2 * ThreadLocalRandom.current()
+                                                                                      .nextDouble()
+                - 1);
+        return (long) Math.max(0, base + spread);
+    }
+
+    private class Attempts<R> implements Runnable {
+        final Supplier<? extends R> supplier;
+        final CompletableFuture<R> result;
+        final long start = System.nanoTime();
+        int attempt = 0;
+
+        Attempts(final Supplier<? extends R> supplier, final CompletableFuture<R> result) {
+            this.supplier = supplier;
+            this.result = result;
+        }
+
+        @Override
+        public void run() {
+            try {
+                executor.execute(this::attempt);
+            } catch (final Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }
+
+        private void attempt() {
+            try {
+                result.complete(supplier.get());
+            } catch (final Throwable t) {
+                retry(t);
+            }
+        }
+
+        private void retry(final Throwable t) {
+            if (++attempt >= maxAttempts || !retryOn.test(t)) {
+                result.completeExceptionally(t);
+                return;
+            }
+            final long delay = delay(attempt - 1);
+            if (maxElapsedNanos != Long.MAX_VALUE && System.nanoTime() - start + delay > maxElapsedNanos) {
+                result.completeExceptionally(t);
+                return;
+            }
+            try {
+                scheduler.schedule(this, delay, TimeUnit.NANOSECONDS);
+            } catch (final Throwable e) {
+                result.completeExceptionally(t);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Retry[maxAttempts=" + maxAttempts + ", initialDelayNanos=" + initialDelayNanos + ", multiplier=" + multiplier
+                + ", maxDelayNanos=" + maxDelayNanos + ", jitter=" + jitter + ", maxElapsedNanos=" + maxElapsedNanos + "]";
+    }
+}
@@ -258,13 +258,18 @@ public interface AdaptersModule {
         @Override
         public int drainTo(final Collection c) {
 
-            return 0;
+            return drainTo(c, Integer.MAX_VALUE);
         }
 
         @Override
         public int drainTo(final Collection c, final int maxElements) {
-
-            return 0;
+            int count = 0;
+            Object next;
+            while (count < maxElements && (next = queue.poll()) != null) {
+                c.add(next);
+                count++;
+            }
+            return count;
         }
 
     }
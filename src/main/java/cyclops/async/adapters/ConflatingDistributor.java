@@ -0,0 +1,161 @@
+package cyclops.async.adapters;
+
+import cyclops.async.wait.WaitStrategy;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Distributes data to Topic subscribers via a single slot holding the latest value. Publishing overwrites the slot and advances a
+ * version counter (no per element allocation and no backlog), each subscriber reads the slot whenever the version has moved on
+ * since it last looked. Subscribers that are slower than publishers skip intermediate values and only ever see the most recent.
+ *
+ * The slot and version are updated as a sequence lock : the version is odd while a value is being written, readers retry if the
+ * version changed while they were reading the slot.
+ *
+ * If distinct is set, a subscriber will not see the same value twice in a row (as can happen when intermediate values are skipped).
+ *
+ * @param <T> Data type for the Topic
+ */
+class ConflatingDistributor<T> extends Topic.DistributingCollection<T> {
+
+    private static final long serialVersionUID = 1L;
+    private static final Object NONE = new Object();
+
+    private final WaitStrategy<T> strategy;
+    private final WakeOnPublishWait<T> wakeUp;
+    private final boolean distinct;
+    private final AtomicLong version = new AtomicLong(0);
+    private volatile Object value = NONE;
+
+    ConflatingDistributor(final WaitStrategy<T> strategy, final boolean distinct) {
+        this.strategy = strategy;
+        this.wakeUp = strategy instanceof WakeOnPublishWait ? (WakeOnPublishWait<T>) strategy : null;
+        this.distinct = distinct;
+    }
+
+    /**
+     * @return A Queue for a new subscriber, that will receive the latest value published from now on
+     */
+    Queue<T> subscriber() {
+        final Cursor cursor = new Cursor(version.get() & ~1L);
+        return new Queue<T>(
+                            cursor, strategy, strategy);
+    }
+
+    @Override
+    public boolean add(final T e) {
+        publish(e);
+        return true;
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends T> c) {
+        c.forEach(this::publish);
+        return true;
+    }
+
+    private void publish(final T e) {
+        long current;
+        while (((current = version.get()) & 1) != 0 || !version.compareAndSet(current, current + 1))
+            Thread.yield();
+        value = e == null ? Queue.NILL : e;
+        version.set(current + 2);
+        wakeUp();
+    }
+
+    private void wakeUp() {
+        if (wakeUp != null)
+            wakeUp.wakeUp();
+    }
+
+    /**
+     * A subscribers view of the latest value. Control signals (such as the Poison Pills used to close a Queue) are offered directly
+     * to the Cursor and are read once the subscriber has seen the latest value.
+     */
+    private class Cursor extends AbstractQueue<T> {
+
+        final ConcurrentLinkedQueue<T> signals = new ConcurrentLinkedQueue<>();
+        volatile long seen;
+        volatile Object last = NONE;
+
+        Cursor(final long seen) {
+            this.seen = seen;
+        }
+
+        @Override
+        public boolean offer(final T t) {
+            signals.offer(t);
+            wakeUp();
+            return true;
+        }
+
+        @Override
+        public T poll() {
+            //signals are only sent after data has been published, so check for a signal before reading the slot
+            final boolean signalled = !signals.isEmpty();
+            long stamp;
+            Object current;
+            for (;;) {
+                stamp = version.get();
+                current = value;
+                if ((stamp & 1) == 0 && version.get() == stamp)
+                    break;
+                Thread.yield();
+            }
+
+            if (stamp != seen) {
+                seen = stamp;
+                if (!distinct || !Objects.equals(current, last)) {
+                    last = current;
+                    return (T) current;
+                }
+            }
+            return signalled ? signals.poll() : null;
+        }
+
+        /**
+         * @return The latest value if it has not yet been seen by this subscriber, otherwise NONE
+         */
+        private Object unseen() {
+            final long stamp = version.get();
+            final Object current = value;
+            if ((stamp & 1) == 0 && stamp != seen && version.get() == stamp && (!distinct || !Objects.equals(current, last)))
+                return current;
+            return NONE;
+        }
+
+        @Override
+        public T peek() {
+            final Object current = unseen();
+            return current != NONE ? (T) current : signals.peek();
+        }
+
+        @Override
+        public void clear() {
+            seen = version.get() & ~1L;
+            signals.clear();
+        }
+
+        @Override
+        public int size() {
+            return (unseen() != NONE ? 1 : 0) + signals.size();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            final List<T> values = new ArrayList<>();
+            final Object current = unseen();
+            if (current != NONE)
+                values.add((T) current);
+            values.addAll(signals);
+            return values.iterator();
+        }
+    }
+}
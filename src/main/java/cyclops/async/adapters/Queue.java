@@ -3,6 +3,7 @@ package cyclops.async.adapters;
 import java.util.*;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -88,6 +89,8 @@ public class Queue<T> implements Adapter<T> {
 
     private volatile boolean open = true;
     private final AtomicInteger listeningStreams = new AtomicInteger();
+    //Poison Pill (and any data behind it) read by drainTo, held back and returned by subsequent reads in order
+    private final ConcurrentLinkedQueue<T> holdback = new ConcurrentLinkedQueue<>();
     private final int timeout;
     private final TimeUnit timeUnit;
 
@@ -182,6 +185,42 @@ public class Queue<T> implements Adapter<T> {
         listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
         return ReactiveSeq.fromStream(closingStream(this::get, new AlwaysContinue()));
     }
+
+    /**
+     * Sequential Infinite (until Queue is closed) Stream of data from this Queue, data is read from the Queue in chunks of up to
+     * chunkSize elements via {@link #drainTo(Collection, int)} - so the wait strategy is used and closure checked once per chunk
+     * rather than once per element.
+     *
+     * <pre>
+     * {@code
+     *  Queue<Integer> q = QueueFactories.<Integer>boundedQueue(1000).build();
+     *  q.offerAll(Arrays.asList(1,2,3));
+     *  q.close();
+     *
+     *  q.streamChunked(64).toList();
+     *  //[1,2,3]
+     * }
+     * </pre>
+     *
+     * @param chunkSize Maximum number of elements to read from the Queue at once
+     * @return Sequential Infinite (until Queue is closed) Stream of data from this Queue
+     */
+    public ReactiveSeq<T> streamChunked(final int chunkSize) {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("Chunk size must be greater than 0, but was " + chunkSize);
+        listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
+        final List<T> chunk = new ArrayList<>(chunkSize);
+        final int[] index = { 0 };
+        return ReactiveSeq.fromStream(closingStream(() -> {
+            if (index[0] == chunk.size()) {
+                chunk.clear();
+                index[0] = 0;
+                drainTo(chunk, chunkSize);
+            }
+            return chunk.get(index[0]++);
+        }, new AlwaysContinue()));
+    }
+
     /**
      * Return a standard (unextended) JDK Stream connected toNested this Queue
      * To disconnect cleanly close the queue
@@ -269,9 +308,11 @@ public class Queue<T> implements Adapter<T> {
 
                 long start = System.nanoTime();
               try {
-                  while (result.size() < size && checkTime(System.nanoTime(), start, toRun)) {
+                  long now = start;
+                  while (result.size() < size && checkTime(now, start, toRun)) {
                       try {
-                          T next = source.apply(100l, TimeUnit.MICROSECONDS);
+                          //wait no longer than the end of the window, so partial batches are emitted on time
+                          T next = source.apply(start + toRun - now, TimeUnit.NANOSECONDS);
                           if (next != null) {
 
                               result.add(next);
@@ -279,7 +320,7 @@ public class Queue<T> implements Adapter<T> {
                       } catch (Queue.QueueTimeoutException e) {
 
                       }
-
+                      now = System.nanoTime();
 
                   }
               }catch(Queue.ClosedQueueException e){
@@ -358,6 +399,10 @@ public class Queue<T> implements Adapter<T> {
 
     private T ensureOpen(final long timeout, final TimeUnit timeUnit) {
 
+        final T held = holdback.poll();
+        if (held != null)
+            return (T) nillSafe(ensureNotPoisonPill(held));
+
         if (!open && queue.size() == 0)
             throw new ClosedQueueException();
         
@@ -392,19 +437,19 @@ public class Queue<T> implements Adapter<T> {
 
                 if (timeout == -1) {
                     if (this.sub != null && this.sub.timeLimit() > -1) {
-                        data = ensureClear(consumerWait.take(() -> queue.poll(sub.timeLimit(), TimeUnit.NANOSECONDS)));
+                        data = ensureClear(consumerWait.take(() -> takeOrClose(() -> queue.poll(sub.timeLimit(), TimeUnit.NANOSECONDS))));
                         if (data == null)
                             throw new QueueTimeoutException();
                     } else {
                         SimpleTimer takeTimer = new SimpleTimer();
-                        data = ensureClear(consumerWait.take(() -> queue.take()));
+                        data = ensureClear(consumerWait.take(() -> takeOrClose(() -> queue.take())));
                         if (data == null)
                             throw new QueueTimeoutException();
 
                     }
                 } else {
 
-                    data = ensureClear(consumerWait.take(() -> queue.poll(timeout, timeUnit)));
+                    data = ensureClear(consumerWait.take(() -> takeOrClose(() -> queue.poll(timeout, timeUnit))));
                     if (data == null)
                         throw new QueueTimeoutException();
 
@@ -425,6 +470,17 @@ public class Queue<T> implements Adapter<T> {
 
     }
 
+    /**
+     * Non-blocking backing queues return null when empty. If this Queue has been closed and is empty, signal closure to the waiting
+     * consumer, as with multiple concurrent consumers there may be fewer Poison Pills than consumers.
+     */
+    private T takeOrClose(final WaitStrategy.Takeable<T> takeable) throws InterruptedException {
+        final T data = takeable.take();
+        if (data == null && !open && queue.size() == 0)
+            return (T) POISON_PILL;
+        return data;
+    }
+
     private void handleTimeout(final SimpleTimer timer, final long timeout) {
         if (timer.getElapsedNanoseconds() > timeout) {
 
@@ -561,6 +617,76 @@ public class Queue<T> implements Adapter<T> {
 
     }
 
+    /**
+     * Offer every element in the supplied Collection to this Queue, checking once that the Queue is open. Elements are added
+     * without waiting while there is capacity, the producer WaitStrategy is only used once the Queue is full.
+     *
+     * @param data Data to add
+     * @return true if all elements were added, false if an element could not be added (in which case no further elements are offered)
+     */
+    public boolean offerAll(final Collection<? extends T> data) {
+
+        if (!open)
+            throw new ClosedQueueException();
+        try {
+            for (final T next : data) {
+                final T value = (T) nullSafe(next);
+                if (!queue.offer(value) && !producerWait.offer(() -> this.queue.offer(value, this.offerTimeout, this.offerTimeUnit)))
+                    return false;
+            }
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        } finally {
+            if (sizeSignal != null)
+                this.sizeSignal.set(queue.size());
+        }
+
+    }
+
+    /**
+     * Move up to max elements from this Queue into the supplied Collection. Waits (via the consumer WaitStrategy, respecting the
+     * Queue timeout) until at least one element is available, any further elements that are already available are then transferred
+     * in bulk without waiting again.
+     *
+     * @param c Collection to add data to
+     * @param max Maximum number of elements to transfer
+     * @return Number of elements transferred (always at least 1)
+     * @throws ClosedQueueException if this Queue is closed and empty
+     */
+    public int drainTo(final Collection<? super T> c, final int max) {
+        if (max <= 0)
+            throw new IllegalArgumentException("Max must be greater than 0, but was " + max);
+
+        c.add(ensureOpen(this.timeout, this.timeUnit));
+        if (max == 1 || !holdback.isEmpty())
+            return 1;
+
+        final List<T> available = new ArrayList<>(
+                                                  Math.min(max - 1, queue.size()));
+        queue.drainTo(available, max - 1);
+        int count = 1;
+        for (int i = 0; i < available.size(); i++) {
+            final T next = available.get(i);
+            if (next instanceof PoisonPill) {
+                if (next == CLEAR_PILL) {
+                    queue.clear();
+                } else {
+                    //hold back the Poison Pill (and anything after it), closure is signalled on the next read
+                    holdback.addAll(available.subList(i, available.size()));
+                }
+                break;
+            }
+            c.add((T) nillSafe(next));
+            count++;
+        }
+        if (sizeSignal != null)
+            this.sizeSignal.set(queue.size());
+        return count;
+    }
+
     private boolean timeout(final SimpleTimer timer) {
 
         if (timer.getElapsedNanoseconds() >= offerTimeUnit.toNanos(this.offerTimeout))
@@ -637,6 +763,13 @@ public class Queue<T> implements Adapter<T> {
     public static class NIL {
     }
 
+    /**
+     * @return true if the value is a control signal used internally by Queue (i.e. a Poison Pill or a marker for null) rather than data
+     */
+    static boolean isSignal(final Object value) {
+        return value instanceof PoisonPill || value == NILL;
+    }
+
     public java.util.Queue<T> asJDKQueue() {
         Queue<T> host = this;
         return new AbstractQueue<T>() {
@@ -699,7 +832,7 @@ public class Queue<T> implements Adapter<T> {
         public Collection<T> drainToOrBlock() {
 
             final Collection<T> result = new ArrayList<>();
-            if (size() > 0)
+            if (size() > 0 && queue.holdback.isEmpty())
                 queue.queue.drainTo(result);
             else {
                 try {
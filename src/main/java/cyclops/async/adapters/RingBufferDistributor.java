@@ -0,0 +1,240 @@
+package cyclops.async.adapters;
+
+import cyclops.async.wait.WaitStrategy;
+import com.aol.cyclops2.util.ExceptionSoftener;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Distributes data to Topic subscribers via a single shared, bounded ring buffer. Each element is written once, each subscriber
+ * reads it via it's own sequence cursor (the Queue for each subscriber is a view over the ring from that cursor).
+ *
+ * Producers claim a sequence number and may only write to the ring once every subscriber has read the element that previously
+ * occupied that slot (gating on the slowest subscriber). Depending on the {@link Topic.SlowSubscriberPolicy} producers either wait
+ * (using the configured WaitStrategy) or disconnect and close the Queue of any subscriber that is a full ring behind.
+ *
+ * @param <T> Data type for the Topic
+ */
+class RingBufferDistributor<T> extends Topic.DistributingCollection<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> ring;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong(0);
+    private final WaitStrategy<T> strategy;
+    private final WakeOnPublishWait<T> wakeUp;
+    private final Topic.SlowSubscriberPolicy policy;
+
+    private volatile Cursor[] cursors = new RingBufferDistributor.Cursor[0];
+    private volatile long gatingSequence = 0;
+    private final Object cursorLock = new Object();
+
+    RingBufferDistributor(final int capacity, final WaitStrategy<T> strategy, final Topic.SlowSubscriberPolicy policy) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity must be greater than 0, but was " + capacity);
+        this.capacity = nextPowerOfTwo(capacity);
+        this.mask = this.capacity - 1;
+        this.ring = new AtomicReferenceArray<>(this.capacity);
+        this.published = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++)
+            published.set(i, -1);
+        this.strategy = strategy;
+        this.wakeUp = strategy instanceof WakeOnPublishWait ? (WakeOnPublishWait<T>) strategy : null;
+        this.policy = policy;
+    }
+
+    private static int nextPowerOfTwo(final int capacity) {
+        final int highest = Integer.highestOneBit(capacity);
+        return highest == capacity ? capacity : highest << 1;
+    }
+
+    /**
+     * @return A Queue for a new subscriber, that will receive all data published from now on
+     */
+    Queue<T> subscriber() {
+        synchronized (cursorLock) {
+            final Cursor cursor = new Cursor(claimed.get());
+            final Queue<T> queue = new Queue<T>(
+                                                cursor, strategy, strategy);
+            cursor.queue = queue;
+            final Cursor[] next = new RingBufferDistributor.Cursor[cursors.length + 1];
+            System.arraycopy(cursors, 0, next, 0, cursors.length);
+            next[cursors.length] = cursor;
+            cursors = next;
+            return queue;
+        }
+    }
+
+    private void removeCursor(final Cursor cursor) {
+        synchronized (cursorLock) {
+            final List<Cursor> remaining = new ArrayList<>();
+            for (final Cursor next : cursors) {
+                if (next != cursor)
+                    remaining.add(next);
+            }
+            cursors = remaining.toArray(new RingBufferDistributor.Cursor[remaining.size()]);
+        }
+    }
+
+    @Override
+    public void removeQueue(final Queue<T> q) {
+        for (final Cursor next : cursors) {
+            if (next.queue == q)
+                removeCursor(next);
+        }
+        super.removeQueue(q);
+    }
+
+    @Override
+    public boolean add(final T e) {
+        publish(e);
+        return true;
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends T> c) {
+        c.forEach(this::publish);
+        return true;
+    }
+
+    private void publish(final T e) {
+        final long sequence = claimed.getAndIncrement();
+        final long wrapPoint = sequence - capacity;
+        if (wrapPoint >= gatingSequence)
+            awaitCapacity(sequence, wrapPoint);
+
+        final int index = (int) sequence & mask;
+        ring.set(index, e == null ? (T) Queue.NILL : e);
+        long current;
+        do {
+            current = published.get(index);
+        } while (current < sequence && !published.compareAndSet(index, current, sequence));
+        wakeUp();
+    }
+
+    private void wakeUp() {
+        if (wakeUp != null)
+            wakeUp.wakeUp();
+    }
+
+    private void awaitCapacity(final long sequence, final long wrapPoint) {
+        if (policy == Topic.SlowSubscriberPolicy.DROP) {
+            for (final Cursor next : cursors) {
+                if (next.sequence.get() <= wrapPoint)
+                    drop(next);
+            }
+            gatingSequence = minimumSequence(sequence);
+            return;
+        }
+        try {
+            strategy.offer(() -> (gatingSequence = minimumSequence(sequence)) > wrapPoint);
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    private long minimumSequence(final long sequence) {
+        long min = sequence;
+        for (final Cursor next : cursors)
+            min = Math.min(min, next.sequence.get());
+        return min;
+    }
+
+    private void drop(final Cursor cursor) {
+        cursor.dropped = true;
+        removeCursor(cursor);
+        cursor.queue.close();
+    }
+
+    /**
+     * A subscribers view of the ring, reading from it's own sequence. Control signals (such as the Poison Pills used to close a Queue)
+     * are offered directly to the Cursor and are read once the subscriber has caught up with the ring.
+     */
+    private class Cursor extends AbstractQueue<T> {
+
+        final AtomicLong sequence;
+        final ConcurrentLinkedQueue<T> signals = new ConcurrentLinkedQueue<>();
+        volatile boolean dropped = false;
+        volatile Queue<T> queue;
+
+        Cursor(final long sequence) {
+            this.sequence = new AtomicLong(sequence);
+        }
+
+        @Override
+        public boolean offer(final T t) {
+            signals.offer(t);
+            wakeUp();
+            return true;
+        }
+
+        @Override
+        public T poll() {
+            //signals are only sent after data has been published, so check for a signal before reading the ring
+            final boolean signalled = !signals.isEmpty();
+            while (!dropped) {
+                final long next = sequence.get();
+                final int index = (int) next & mask;
+                if (published.get(index) != next)
+                    break;
+                final T value = ring.get(index);
+                if (dropped)
+                    break;
+                if (sequence.compareAndSet(next, next + 1))
+                    return value;
+            }
+            return signalled ? signals.poll() : null;
+        }
+
+        @Override
+        public T peek() {
+            if (!dropped) {
+                final long next = sequence.get();
+                final int index = (int) next & mask;
+                if (published.get(index) == next)
+                    return ring.get(index);
+            }
+            return signals.peek();
+        }
+
+        @Override
+        public void clear() {
+            sequence.set(Math.max(sequence.get(), claimed.get()));
+            signals.clear();
+        }
+
+        @Override
+        public int size() {
+            final long pending = dropped ? 0 : Math.max(0, claimed.get() - sequence.get());
+            return (int) Math.min(Integer.MAX_VALUE, pending + signals.size());
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            final List<T> values = new ArrayList<>();
+            if (!dropped) {
+                for (long next = sequence.get();; next++) {
+                    final int index = (int) next & mask;
+                    if (published.get(index) != next)
+                        break;
+                    values.add(ring.get(index));
+                }
+            }
+            values.addAll(signals);
+            return values.iterator();
+        }
+    }
+}
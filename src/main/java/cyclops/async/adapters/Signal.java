@@ -5,6 +5,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
+import cyclops.async.wait.WaitStrategy;
 import lombok.Getter;
 
 /**
@@ -60,6 +61,50 @@ public class Signal<T> {
                           new Topic<>(), new Topic<>());
     }
 
+    /**
+     * Create a Signal that conflates discrete updates : the discrete Adapter holds only the latest value (in a single slot with a
+     * version counter) rather than queueing every change, so discrete subscribers never build up a backlog and only see the latest
+     * value when it differs from the last value they received. The continuous Adapter is a ring buffer backed Topic (of 1024 elements)
+     * so continuous subscribers receive every value set, without allocating per value, setting a value waits for any continuous
+     * subscriber that is a full ring behind.
+     *
+     * <pre>
+     * {@code
+     *   Signal<Double> price = Signal.conflatingSignal();
+     *   price.getDiscrete().stream()
+     *                      .forEach(this::reprice);
+     *
+     *   price.set(10.1);
+     *   price.set(10.2);
+     *   price.set(10.2);
+     *   //reprice receives 10.2 once (and 10.1 if it was read before 10.2 was set)
+     * }
+     * </pre>
+     *
+     * Idle subscribers block until the next value is set.
+     *
+     * @return Signal backed by a conflating discrete Topic and a ring buffer continuous Topic
+     */
+    public static <T> Signal<T> conflatingSignal() {
+        return new Signal<T>(
+                             Topic.ringBuffer(1024, new WakeOnPublishWait<>(), Topic.SlowSubscriberPolicy.BLOCK),
+                             Topic.conflating(new WakeOnPublishWait<>(), true));
+    }
+
+    /**
+     * Create a Signal that conflates discrete updates, holding only the latest value rather than queueing every change.
+     *
+     * @see Signal#conflatingSignal()
+     * @param capacity Size of the ring buffer backing the continuous Adapter (rounded up to the next power of two)
+     * @param strategy WaitStrategy used by subscribers when no new value is available, and when setting a value while a continuous
+     *                 subscriber is a full ring behind
+     * @return Signal backed by a conflating discrete Topic and a ring buffer continuous Topic
+     */
+    public static <T> Signal<T> conflatingSignal(final int capacity, final WaitStrategy<T> strategy) {
+        return new Signal<T>(
+                             Topic.ringBuffer(capacity, strategy, Topic.SlowSubscriberPolicy.BLOCK), Topic.conflating(strategy, true));
+    }
+
     /**
      * @param stream Populate this Signal from a Stream
      */
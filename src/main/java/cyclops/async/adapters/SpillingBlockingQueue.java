@@ -0,0 +1,374 @@
+package cyclops.async.adapters;
+
+import com.aol.cyclops2.util.ExceptionSoftener;
+import com.aol.cyclops2.util.Serializer;
+import org.agrona.IoUtil;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A BlockingQueue that holds up to capacity elements in memory, elements offered beyond that are serialized and appended to
+ * memory-mapped segment files. Spilled elements are read back (in order) in batches of up to capacity elements once consumers
+ * have emptied the in memory buffer, so the heap used by the queue stays bounded and producers never wait for space.
+ *
+ * Segment files are created in the configured directory (or the default temporary file directory) and are deleted as soon as
+ * they have been mapped, the mapping itself is unmapped once the segment has been fully read (the last segment is reused rather
+ * than unmapped) or the queue is cleared. On platforms that do not allow mapped files to be deleted, the file is deleted on exit
+ * instead.
+ *
+ * If a spilled element can not be deserialized, the poll / take that reads it back fails with the error and the element is
+ * skipped, subsequent reads continue with the next element.
+ *
+ * Consumers block (via take / poll with a timeout) while the queue is empty.
+ *
+ * <pre>
+ * {@code
+ *   Queue<Event> events = QueueFactories.<Event>spillingQueue(10_000)
+ *                                       .build();
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of elements in the queue
+ */
+public class SpillingBlockingQueue<T> extends AbstractQueue<T> implements BlockingQueue<T> {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    private static final int SIGNAL = -1;
+
+    private final int capacity;
+    private final Serializer<T> serializer;
+    private final Path directory;
+    private final int segmentSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+
+    private final ArrayDeque<T> memory = new ArrayDeque<>();
+    private final ArrayDeque<Segment> segments = new ArrayDeque<>();
+    //Queue control signals (Poison Pills, nulls) are not serialized, their position on disk is recorded and they are kept here
+    private final ArrayDeque<T> signals = new ArrayDeque<>();
+    private int spilled = 0;
+
+    /**
+     * Construct a SpillingBlockingQueue that writes to segment files of DEFAULT_SEGMENT_SIZE in the default temporary file directory
+     *
+     * @param capacity Maximum number of elements held in memory
+     * @param serializer Serializer used to write elements to disk and read them back
+     */
+    public SpillingBlockingQueue(final int capacity, final Serializer<T> serializer) {
+        this(capacity, serializer, null, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * @param capacity Maximum number of elements held in memory
+     * @param serializer Serializer used to write elements to disk and read them back
+     * @param directory Directory to create segment files in, the default temporary file directory is used if null
+     * @param segmentSize Size in bytes of each segment file (larger elements are written to a segment of their own)
+     */
+    public SpillingBlockingQueue(final int capacity, final Serializer<T> serializer, final Path directory, final int segmentSize) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity must be greater than 0, but was " + capacity);
+        if (segmentSize <= 0)
+            throw new IllegalArgumentException("Segment size must be greater than 0, but was " + segmentSize);
+        this.capacity = capacity;
+        this.serializer = Objects.requireNonNull(serializer);
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * @return Number of elements currently held on disk
+     */
+    public int spilledSize() {
+        lock.lock();
+        try {
+            return spilled;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(final T t) {
+        Objects.requireNonNull(t);
+        lock.lock();
+        try {
+            if (spilled == 0 && memory.size() < capacity)
+                memory.add(t);
+            else
+                spill(t);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(final T t) {
+        offer(t);
+    }
+
+    @Override
+    public boolean offer(final T t, final long timeout, final TimeUnit unit) {
+        return offer(t);
+    }
+
+    @Override
+    public T poll() {
+        lock.lock();
+        try {
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (isEmptyLocked())
+                notEmpty.await();
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (isEmptyLocked()) {
+                if (nanos <= 0)
+                    return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T peek() {
+        lock.lock();
+        try {
+            if (memory.isEmpty() && spilled > 0)
+                refill();
+            return memory.peek();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return memory.size() + spilled;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int drainTo(final Collection<? super T> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(final Collection<? super T> c, final int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this)
+            throw new IllegalArgumentException();
+        lock.lock();
+        try {
+            int count = 0;
+            while (count < maxElements && !isEmptyLocked()) {
+                c.add(dequeue());
+                count++;
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            memory.clear();
+            signals.clear();
+            for (final Segment next : segments)
+                next.unmap();
+            segments.clear();
+            spilled = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Iterator over a snapshot of the elements in this queue (including those on disk)
+     */
+    @Override
+    public Iterator<T> iterator() {
+        lock.lock();
+        try {
+            final List<T> snapshot = new ArrayList<>(
+                                                     memory);
+            final Iterator<T> pendingSignals = signals.iterator();
+            for (final Segment next : segments) {
+                int position = next.readPosition;
+                while (position < next.buffer.position()) {
+                    final int length = next.buffer.getInt(position);
+                    if (length == SIGNAL) {
+                        snapshot.add(pendingSignals.next());
+                        position += 4;
+                    } else {
+                        snapshot.add(serializer.deserialize(next.read(position, length)));
+                        position += 4 + length;
+                    }
+                }
+            }
+            return snapshot.iterator();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isEmptyLocked() {
+        return memory.isEmpty() && spilled == 0;
+    }
+
+    private T dequeue() {
+        if (memory.isEmpty() && spilled > 0)
+            refill();
+        return memory.poll();
+    }
+
+    private void refill() {
+        while (spilled > 0 && memory.size() < capacity)
+            memory.add(unspill());
+    }
+
+    private void spill(final T t) {
+        final byte[] bytes = Queue.isSignal(t) ? null : serializer.serialize(t);
+        final int recordSize = 4 + (bytes == null ? 0 : bytes.length);
+        Segment tail = segments.peekLast();
+        if (tail == null || tail.buffer.remaining() < recordSize) {
+            tail = new Segment(
+                               Math.max(segmentSize, recordSize));
+            segments.add(tail);
+        }
+        if (bytes == null) {
+            signals.add(t);
+            tail.buffer.putInt(SIGNAL);
+        } else {
+            tail.buffer.putInt(bytes.length)
+                       .put(bytes);
+        }
+        spilled++;
+    }
+
+    //the record is consumed before it is deserialized, so a record that can not be deserialized is skipped rather than read again
+    private T unspill() {
+        final Segment head = segments.peekFirst();
+        final int length = head.buffer.getInt(head.readPosition);
+        final byte[] bytes;
+        if (length == SIGNAL) {
+            bytes = null;
+            head.readPosition += 4;
+        } else {
+            bytes = head.read(head.readPosition, length);
+            head.readPosition += 4 + length;
+        }
+        spilled--;
+        if (head.readPosition == head.buffer.position()) {
+            if (segments.size() > 1)
+                segments.poll()
+                        .unmap();
+            else
+                head.reset();
+        }
+        return bytes == null ? signals.poll() : serializer.deserialize(bytes);
+    }
+
+    /**
+     * An append only, memory mapped region of a file. Elements are written from the buffer position and read from the readPosition.
+     */
+    private class Segment {
+        final MappedByteBuffer buffer;
+        int readPosition = 0;
+
+        Segment(final int size) {
+            Path file = null;
+            try {
+                file = directory == null ? Files.createTempFile("cyclops-queue-", ".segment")
+                        : Files.createTempFile(directory, "cyclops-queue-", ".segment");
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                }
+            } catch (final IOException e) {
+                delete(file);
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+            delete(file);
+        }
+
+        byte[] read(final int position, final int length) {
+            final byte[] bytes = new byte[length];
+            final ByteBuffer view = buffer.duplicate();
+            view.position(position + 4);
+            view.get(bytes);
+            return bytes;
+        }
+
+        void reset() {
+            buffer.clear();
+            readPosition = 0;
+        }
+
+        void unmap() {
+            IoUtil.unmap(buffer);
+        }
+
+        private void delete(final Path file) {
+            if (file == null)
+                return;
+            try {
+                Files.deleteIfExists(file);
+            } catch (final IOException e) {
+                file.toFile()
+                    .deleteOnExit();
+            }
+        }
+    }
+}
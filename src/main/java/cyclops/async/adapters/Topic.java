@@ -9,6 +9,8 @@ import java.util.stream.Stream;
 
 import com.aol.cyclops2.types.futurestream.Continuation;
 import cyclops.async.QueueFactories;
+import cyclops.async.wait.WaitStrategy;
+import cyclops.async.wait.YieldWait;
 import org.pcollections.HashTreePMap;
 import org.pcollections.PMap;
 import org.pcollections.PVector;
@@ -32,7 +34,7 @@ import lombok.Synchronized;
 public class Topic<T> implements Adapter<T> {
 
     @Getter(AccessLevel.PACKAGE)
-    private final DistributingCollection<T> distributor = new DistributingCollection<T>();
+    private final DistributingCollection<T> distributor;
     @Getter(AccessLevel.PACKAGE)
     private volatile PMap<ReactiveSeq<?>, Queue<T>> streamToQueue = HashTreePMap.empty();
     private final Object lock = new Object();
@@ -45,6 +47,7 @@ public class Topic<T> implements Adapter<T> {
     public Topic() {
         final Queue<T> q = new Queue<T>();
         factory = QueueFactories.unboundedQueue();
+        distributor = new DistributingCollection<T>();
         distributor.addQueue(q);
     }
 
@@ -54,13 +57,117 @@ public class Topic<T> implements Adapter<T> {
      */
     public Topic(final Queue<T> q) {
         factory = QueueFactories.unboundedQueue();
+        distributor = new DistributingCollection<T>();
         distributor.addQueue(q);
     }
     public Topic(final Queue<T> q,QueueFactory<T> factory) {
         this.factory = factory;
+        distributor = new DistributingCollection<T>();
         distributor.addQueue(q);
     }
 
+    private Topic(final DistributingCollection<T> distributor, final QueueFactory<T> factory) {
+        this.factory = factory;
+        this.distributor = distributor;
+        distributor.addQueue(factory.build());
+    }
+
+    /**
+     * Create a Topic backed by a single shared ring buffer, rather than a Queue per subscriber. Each element is stored once and each
+     * subscriber reads from the ring via it's own cursor. Publishers wait for the slowest subscriber when the ring is full.
+     * Subscribers (and waiting publishers) yield while waiting.
+     *
+     * <pre>
+     * {@code
+     *   Topic<String> topic = Topic.ringBuffer(1024);
+     *   ReactiveSeq<String> s1 = topic.stream();
+     *   ReactiveSeq<String> s2 = topic.stream();
+     *
+     *   topic.offer("hello");
+     *   //both s1 and s2 receive "hello"
+     * }
+     * </pre>
+     *
+     * @param capacity Size of the ring buffer (rounded up to the next power of two)
+     * @return Topic backed by a shared ring buffer
+     */
+    public static <T> Topic<T> ringBuffer(final int capacity) {
+        return ringBuffer(capacity, new YieldWait<>(), SlowSubscriberPolicy.BLOCK);
+    }
+
+    /**
+     * Create a Topic backed by a single shared ring buffer, rather than a Queue per subscriber.
+     *
+     * @param capacity Size of the ring buffer (rounded up to the next power of two)
+     * @param strategy WaitStrategy used by subscribers when no data is available, and by publishers when the ring is full
+     * @param policy Determines whether publishers wait for, or drop, subscribers that are a full ring behind
+     * @return Topic backed by a shared ring buffer
+     */
+    public static <T> Topic<T> ringBuffer(final int capacity, final WaitStrategy<T> strategy, final SlowSubscriberPolicy policy) {
+        final RingBufferDistributor<T> ring = new RingBufferDistributor<>(
+                                                                          capacity, strategy, policy);
+        return new Topic<>(
+                           ring, ring::subscriber);
+    }
+
+    /**
+     * Create a Topic that holds only the latest value published, rather than a Queue of data per subscriber. Publishing overwrites
+     * the value (without allocating), subscribers that are slower than publishers skip intermediate values and see only the most
+     * recent. Idle subscribers block until the next value is published.
+     *
+     * <pre>
+     * {@code
+     *   Topic<Double> prices = Topic.conflating();
+     *   ReactiveSeq<Double> latest = prices.stream();
+     *
+     *   prices.offer(10.1);
+     *   prices.offer(10.2);
+     *   prices.offer(10.3);
+     *   //a subscriber that has not yet read 10.1 next receives 10.3
+     * }
+     * </pre>
+     *
+     * @return Topic that conflates published data to the latest value
+     */
+    public static <T> Topic<T> conflating() {
+        return conflating(new WakeOnPublishWait<>());
+    }
+
+    /**
+     * Create a Topic that holds only the latest value published, rather than a Queue of data per subscriber.
+     *
+     * @param strategy WaitStrategy used by subscribers when no new value is available
+     * @return Topic that conflates published data to the latest value
+     */
+    public static <T> Topic<T> conflating(final WaitStrategy<T> strategy) {
+        return conflating(strategy, false);
+    }
+
+    static <T> Topic<T> conflating(final WaitStrategy<T> strategy, final boolean distinct) {
+        final ConflatingDistributor<T> latest = new ConflatingDistributor<>(
+                                                                            strategy, distinct);
+        return new Topic<>(
+                           latest, latest::subscriber);
+    }
+
+    /**
+     * Behaviour of ring buffer backed Topics (and {@link cyclops.stream.ReactiveSeq#multicast(int, int, int, SlowSubscriberPolicy)})
+     * when a publisher catches up with a subscriber that is a full ring behind
+     */
+    public static enum SlowSubscriberPolicy {
+        /**
+         * Publishers wait (using the Topic's WaitStrategy) until the slowest subscriber has read the oldest element, multicast
+         * Streams only request more data from upstream as the slowest subscriber catches up
+         */
+        BLOCK,
+        /**
+         * Subscribers that are a full ring behind are disconnected and their Streams closed (discarding any data they have not yet
+         * read), so publishers never wait. Multicast Streams are driven by the fastest subscriber, slow subscribers skip the elements
+         * they missed rather than being disconnected
+         */
+        DROP
+    }
+
     /**
      * Topic will maintain a queue for each Subscribing Stream
      * If a Stream is finished with a Topic it is good practice toNested disconnect from the Topic
@@ -174,7 +281,7 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public boolean offer(final T data) {
-        fromStream(Stream.of(data));
+        distributor.add(data);
         return true;
 
     }
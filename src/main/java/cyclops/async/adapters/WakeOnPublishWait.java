@@ -0,0 +1,77 @@
+package cyclops.async.adapters;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import cyclops.async.wait.WaitStrategy;
+
+/**
+ * WaitStrategy for Topic subscribers that briefly spins and yields, then blocks until a publisher calls {@link #wakeUp()}, so an
+ * idle subscriber does not consume CPU. Blocked subscribers also recheck once a second, in case their Queue was closed without a
+ * signal being sent to it.
+ *
+ * Publishers waiting for a slow subscriber (e.g. on a full ring buffer) are not woken, and back off up to a 1 millisecond park.
+ *
+ * @param <T> Data type of elements in the Topic
+ */
+class WakeOnPublishWait<T> implements WaitStrategy<T> {
+
+    private static final int SPINS = 100;
+    private static final int YIELDS = 10;
+    private static final long RECHECK_MILLIS = 1000;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Object lock = new Object();
+    private volatile int waiting = 0;
+
+    @Override
+    public T take(final WaitStrategy.Takeable<T> t) throws InterruptedException {
+        T result;
+        for (int i = 0; i < SPINS + YIELDS; i++) {
+            if ((result = t.take()) != null)
+                return result;
+            if (i >= SPINS)
+                Thread.yield();
+        }
+        synchronized (lock) {
+            //publishers update the data before reading waiting, so either we see the data or the publisher sees a waiter
+            waiting++;
+            try {
+                while ((result = t.take()) == null)
+                    lock.wait(RECHECK_MILLIS);
+            } finally {
+                waiting--;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean offer(final WaitStrategy.Offerable o) throws InterruptedException {
+        long parkNanos = 1000;
+        for (int i = 0; !o.offer(); i++) {
+            if (i < SPINS)
+                continue;
+            if (i < SPINS + YIELDS) {
+                Thread.yield();
+                continue;
+            }
+            LockSupport.parkNanos(parkNanos);
+            if (Thread.interrupted())
+                throw new InterruptedException();
+            parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * Wake any blocked subscribers, called after publishing data or sending a signal
+     */
+    void wakeUp() {
+        if (waiting > 0) {
+            synchronized (lock) {
+                lock.notifyAll();
+            }
+        }
+    }
+}
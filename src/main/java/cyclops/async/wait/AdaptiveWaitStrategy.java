@@ -0,0 +1,211 @@
+package cyclops.async.wait;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Will attempt to recieve or push data to a Queue by first spinning, then yielding and finally parking (with an increasing park time,
+ * up to the latency target) until successful.
+ *
+ * The number of spins and yields attempted before moving on to the next phase is tuned from observed wait durations : while the
+ * average wait is within the latency target, data typically arrives quickly and both limits grow, once the average wait exceeds
+ * the target most waits end up parking anyway and both limits shrink (so less CPU is burnt spinning).
+ *
+ * Counters for the number of spins, yields and parks, and the average wait time, can be used to see how a Queue is behaving.
+ * A single instance may be shared between producers and consumers, counters and tuning are updated without locking and so are
+ * approximate under contention.
+ *
+ * <pre>
+ * {@code
+ *   AdaptiveWaitStrategy<String> strategy = WaitStrategy.adaptive();
+ *   Queue<String> queue = QueueFactories.<String>boundedNonBlockingQueue(1000,strategy)
+ *                                       .build();
+ *   ...
+ *   System.out.println(strategy);
+ *   //AdaptiveWaitStrategy[waits=10, spins=6400, yields=512, parks=17, averageWaitNanos=35102.0, spinLimit=800, yieldLimit=80]
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of elements in the async.Queue
+ */
+public class AdaptiveWaitStrategy<T> implements WaitStrategy<T> {
+
+    private static final int MIN_SPINS = 1;
+    private static final int MAX_SPINS = 10000;
+    private static final int MIN_YIELDS = 1;
+    private static final int MAX_YIELDS = 1000;
+    private static final long MIN_PARK_NANOS = 1000;
+
+    private final long targetLatencyNanos;
+
+    private volatile int spinLimit = 100;
+    private volatile int yieldLimit = 10;
+    private volatile double averageWaitNanos = 0;
+
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder spins = new LongAdder();
+    private final LongAdder yields = new LongAdder();
+    private final LongAdder parks = new LongAdder();
+
+    /**
+     * Construct an AdaptiveWaitStrategy with a latency target of 100 micro seconds
+     */
+    public AdaptiveWaitStrategy() {
+        this(100, TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * @param targetLatency Wait time within which data should typically be recieved (or pushed), waits that exceed the target
+     *                      should park rather than consume CPU
+     * @param unit TimeUnit for the latency target
+     */
+    public AdaptiveWaitStrategy(final long targetLatency, final TimeUnit unit) {
+        if (targetLatency <= 0)
+            throw new IllegalArgumentException("Target latency must be greater than 0, but was " + targetLatency);
+        this.targetLatencyNanos = unit.toNanos(targetLatency);
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#take(cyclops2.async.wait.WaitStrategy.Takeable)
+     */
+    @Override
+    public T take(final WaitStrategy.Takeable<T> t) throws InterruptedException {
+        T result = t.take();
+        if (result != null)
+            return result;
+
+        final long start = System.nanoTime();
+        int spinCount = 0;
+        int yieldCount = 0;
+        int parkCount = 0;
+        long parkNanos = MIN_PARK_NANOS;
+        try {
+            while ((result = t.take()) == null) {
+                if (spinCount < spinLimit) {
+                    spinCount++;
+                } else if (yieldCount < yieldLimit) {
+                    yieldCount++;
+                    Thread.yield();
+                } else {
+                    parkCount++;
+                    parkNanos = park(parkNanos);
+                }
+            }
+        } finally {
+            record(start, spinCount, yieldCount, parkCount);
+        }
+        return result;
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#offer(cyclops2.async.wait.WaitStrategy.Offerable)
+     */
+    @Override
+    public boolean offer(final WaitStrategy.Offerable o) throws InterruptedException {
+        if (o.offer())
+            return true;
+
+        final long start = System.nanoTime();
+        int spinCount = 0;
+        int yieldCount = 0;
+        int parkCount = 0;
+        long parkNanos = MIN_PARK_NANOS;
+        try {
+            while (!o.offer()) {
+                if (spinCount < spinLimit) {
+                    spinCount++;
+                } else if (yieldCount < yieldLimit) {
+                    yieldCount++;
+                    Thread.yield();
+                } else {
+                    parkCount++;
+                    parkNanos = park(parkNanos);
+                }
+            }
+        } finally {
+            record(start, spinCount, yieldCount, parkCount);
+        }
+        return true;
+    }
+
+    private long park(final long parkNanos) throws InterruptedException {
+        LockSupport.parkNanos(parkNanos);
+        if (Thread.interrupted())
+            throw new InterruptedException();
+        return Math.min(parkNanos * 2, Math.max(MIN_PARK_NANOS, targetLatencyNanos));
+    }
+
+    private void record(final long start, final int spinCount, final int yieldCount, final int parkCount) {
+        final long waited = System.nanoTime() - start;
+        waits.increment();
+        spins.add(spinCount);
+        yields.add(yieldCount);
+        parks.add(parkCount);
+
+        final double average = averageWaitNanos == 0 ? waited : averageWaitNanos + (waited - averageWaitNanos) / 8;
+        averageWaitNanos = average;
+        if (average <= targetLatencyNanos) {
+            spinLimit = Math.min(MAX_SPINS, spinLimit * 2);
+            yieldLimit = Math.min(MAX_YIELDS, yieldLimit * 2);
+        } else {
+            spinLimit = Math.max(MIN_SPINS, spinLimit / 2);
+            yieldLimit = Math.max(MIN_YIELDS, yieldLimit / 2);
+        }
+    }
+
+    /**
+     * @return Number of times a take or offer had to wait (i.e. did not succeed on the first attempt)
+     */
+    public long waits() {
+        return waits.sum();
+    }
+
+    /**
+     * @return Total number of spins (retries without backing off)
+     */
+    public long spins() {
+        return spins.sum();
+    }
+
+    /**
+     * @return Total number of retries after yielding
+     */
+    public long yields() {
+        return yields.sum();
+    }
+
+    /**
+     * @return Total number of retries after parking
+     */
+    public long parks() {
+        return parks.sum();
+    }
+
+    /**
+     * @return Exponentially weighted moving average of the time spent waiting, in nanoseconds
+     */
+    public double averageWaitNanos() {
+        return averageWaitNanos;
+    }
+
+    /**
+     * @return Current number of spins before yielding
+     */
+    public int spinLimit() {
+        return spinLimit;
+    }
+
+    /**
+     * @return Current number of yields before parking
+     */
+    public int yieldLimit() {
+        return yieldLimit;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveWaitStrategy[waits=" + waits() + ", spins=" + spins() + ", yields=" + yields() + ", parks=" + parks()
+                + ", averageWaitNanos=" + averageWaitNanos + ", spinLimit=" + spinLimit + ", yieldLimit=" + yieldLimit + "]";
+    }
+}
@@ -1,5 +1,7 @@
 package cyclops.async.wait;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * An interface that defines a Waiting strategy to be employed when an async.Queue is full or empty
  * 
@@ -88,6 +90,23 @@ public interface WaitStrategy<T> {
         return new ExponentialBackofWaitStrategy<>();
     }
 
+    /**
+     * @return AdaptiveWaitStrategy with a latency target of 100 micro seconds {@see AdaptiveWaitStrategy}
+     */
+    static <T> AdaptiveWaitStrategy<T> adaptive() {
+        return new AdaptiveWaitStrategy<>();
+    }
+
+    /**
+     * @param targetLatency Wait time within which data should typically be recieved (or pushed)
+     * @param unit TimeUnit for the latency target
+     * @return AdaptiveWaitStrategy {@see AdaptiveWaitStrategy}
+     */
+    static <T> AdaptiveWaitStrategy<T> adaptive(final long targetLatency, final TimeUnit unit) {
+        return new AdaptiveWaitStrategy<>(
+                                          targetLatency, unit);
+    }
+
     /**
      * @return DirectWaitStrategy {@see DirectWaitStrategy}
      */
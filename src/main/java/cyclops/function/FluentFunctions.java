@@ -1,5 +1,6 @@
 package cyclops.function;
 
+import cyclops.async.Retry;
 import cyclops.control.Reader;
 import cyclops.monads.AnyM;
 import cyclops.stream.ReactiveSeq;
@@ -447,6 +448,17 @@ public class FluentFunctions {
 
         }
 
+        /**
+         * A Supplier that retries asynchronously on failure. Attempts are rescheduled according to the supplied Retry policy
+         * (backoff, jitter, max elapsed time and retry predicate) without blocking a thread between attempts.
+         *
+         * @param retry Retry policy
+         * @return Supplier that returns a CompletableFuture completed with the first successful result
+         */
+        public FluentSupplier<CompletableFuture<R>> retryAsync(final Retry retry) {
+            return FluentFunctions.of(() -> retry.supply(fn));
+        }
+
         /**
          * A supplier capable of retrying on failure using an exponential backoff strategy
          * 
@@ -709,6 +721,17 @@ public class FluentFunctions {
             });
         }
 
+        /**
+         * A Function that retries asynchronously on failure. Attempts are rescheduled according to the supplied Retry policy
+         * (backoff, jitter, max elapsed time and retry predicate) without blocking a thread between attempts.
+         *
+         * @param retry Retry policy
+         * @return Function that returns a CompletableFuture completed with the first successful result
+         */
+        public FluentFunction<T, CompletableFuture<R>> retryAsync(final Retry retry) {
+            return FluentFunctions.of(t -> retry.apply(fn, t));
+        }
+
         /**
          *  A Function capable of retrying on failure using an exponential backoff strategy
          * 
@@ -1074,6 +1097,17 @@ public class FluentFunctions {
 
         }
 
+        /**
+         * A BiFunction that retries asynchronously on failure. Attempts are rescheduled according to the supplied Retry policy
+         * (backoff, jitter, max elapsed time and retry predicate) without blocking a thread between attempts.
+         *
+         * @param retry Retry policy
+         * @return BiFunction that returns a CompletableFuture completed with the first successful result
+         */
+        public FluentBiFunction<T1, T2, CompletableFuture<R>> retryAsync(final Retry retry) {
+            return FluentFunctions.of((t1, t2) -> retry.supply(() -> fn.apply(t1, t2)));
+        }
+
         /**
          *  A BiFunction capable of retrying on failure using an exponential backoff strategy
          * 
@@ -1472,6 +1506,17 @@ public class FluentFunctions {
             });
 
         }
+        /**
+         * A TriFunction that retries asynchronously on failure. Attempts are rescheduled according to the supplied Retry policy
+         * (backoff, jitter, max elapsed time and retry predicate) without blocking a thread between attempts.
+         *
+         * @param retry Retry policy
+         * @return TriFunction that returns a CompletableFuture completed with the first successful result
+         */
+        public FluentTriFunction<T1, T2, T3, CompletableFuture<R>> retryAsync(final Retry retry) {
+            return FluentFunctions.of((t1, t2, t3) -> retry.supply(() -> fn.apply(t1, t2, t3)));
+        }
+
         /**
          *  A TriFunction capable of retrying on failure using an exponential backoff strategy
          * 
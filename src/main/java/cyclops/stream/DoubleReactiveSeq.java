@@ -0,0 +1,66 @@
+package cyclops.stream;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A push based ReactiveSeq of primitive doubles.
+ *
+ * The specialised operators (mapDoubles, filterDoubles, limit, skip, reduceDoubles and sumDoubles) operate directly on double values
+ * without boxing, all other ReactiveSeq operators remain available and box each element as it is emitted.
+ *
+ * <pre>
+ * {@code
+ *   ReactiveSeq.ofDoubles(1,2,3,4)
+ *              .mapDoubles(i->i*2)
+ *              .filterDoubles(i->i>2)
+ *              .sumDoubles();
+ *
+ *   //18
+ * }
+ * </pre>
+ *
+ * @see ReactiveSeq#ofDoubles(double...)
+ */
+public interface DoubleReactiveSeq extends ReactiveSeq<Double> {
+
+    /**
+     * Transform each double in this Stream without boxing
+     *
+     * @param fn Mapping function
+     * @return DoubleReactiveSeq with the function applied to each element
+     */
+    DoubleReactiveSeq mapDoubles(DoubleUnaryOperator fn);
+
+    /**
+     * Remove all doubles that do not match the supplied predicate without boxing
+     *
+     * @param fn Predicate to test each element against
+     * @return DoubleReactiveSeq containing only matching elements
+     */
+    DoubleReactiveSeq filterDoubles(DoublePredicate fn);
+
+    /**
+     * Reduce this Stream to a single double value without boxing
+     *
+     * @param identity Starting value
+     * @param accumulator Function to combine the current value with the next element
+     * @return Reduced value
+     */
+    double reduceDoubles(double identity, DoubleBinaryOperator accumulator);
+
+    /**
+     * @return The sum of all the doubles in this Stream
+     */
+    default double sumDoubles(){
+        return reduceDoubles(0, Double::sum);
+    }
+
+    @Override
+    DoubleReactiveSeq limit(long num);
+
+    @Override
+    DoubleReactiveSeq skip(long num);
+
+}
@@ -139,6 +139,51 @@ public interface FutureStream<U> extends LazySimpleReactStream<U>,
         return (FutureStream)ReactiveSeq.super.retry(fn,retries,delay,timeUnit);
     }
 
+    /**
+     * Retry a transformation asynchronously if it fails. Attempts are executed on this Stream's task executor and rescheduled on
+     * the Retry policy's scheduler, so no task executor thread is held while waiting to retry and other elements continue to
+     * flow through this stage. Concurrency is limited by the MaxActive settings of this Stream.
+     *
+     * <pre>
+     * {@code
+     *      new LazyReact().of(1, 2, 3)
+     *                     .retryAsync(this::callRemote, Retry.exponential(100, TimeUnit.MILLISECONDS)
+     *                                                        .withMaxElapsed(10, TimeUnit.SECONDS))
+     *                     .forEach(System.out::println);
+     * }
+     * </pre>
+     */
+    @Override
+    default <R> FutureStream<R> retryAsync(final Function<? super U, ? extends R> fn, final Retry retry) {
+        final Retry policy = retry.withExecutor(getTaskExecutor());
+        return (FutureStream) this.withLastActive(getLastActive().withNewStreamFutures(stream().map(t -> policy.apply(fn, t))));
+    }
+
+    @Override
+    default <R> FutureStream<R> retryAsync(final Function<? super U, ? extends R> fn, final Retry retry, final int maxConcurrency) {
+        return fromStream(ReactiveSeq.oneShotStream(stream())
+                .retryAsync(fn, retry, maxConcurrency));
+    }
+
+    /**
+     * Transform each element with an asynchronous function, running up to maxInFlight tasks at once but emitting results in
+     * the order elements reach this stage, without sorting afterwards.
+     *
+     * <pre>
+     * {@code
+     *  new LazyReact().fromIterable(ids)
+     *                 .mapAsyncOrdered(id -> enrichmentClient.enrich(id), 32)
+     *                 .forEach(this::save);
+     * }
+     * </pre>
+     *
+     * @see ReactiveSeq#mapAsyncOrdered(Function, int)
+     */
+    @Override
+    default <R> FutureStream<R> mapAsyncOrdered(final Function<? super U, ? extends CompletableFuture<? extends R>> fn, final int maxInFlight) {
+        return fromStream(Spouts.fromIterable(stream()).mapAsyncOrdered(fn, maxInFlight));
+    }
+
 
     @Override
     default FutureStream<ReactiveSeq<U>> combinations(final int size) {
@@ -1519,6 +1564,31 @@ public interface FutureStream<U> extends LazySimpleReactStream<U>,
         return fromStream(Streams.xPer(stream(),x, time, unit));
     }
 
+    /**
+     * Emit at most permits results per time period, driven by a token bucket on the shared scheduler rather than by parking
+     * the consuming thread
+     *
+     * <pre>
+     * {@code
+     *    new LazyReact().fromIterable(ids)
+     *                   .rateLimit(50, 1, TimeUnit.SECONDS)
+     *                   .map(this::callRemoteApi)
+     *                   .toList();
+     * }
+     * </pre>
+     *
+     * @see ReactiveSeq#rateLimit(long, long, TimeUnit)
+     */
+    @Override
+    default FutureStream<U> rateLimit(final long permits, final long per, final TimeUnit unit) {
+        return rateLimit(permits, per, unit, permits);
+    }
+
+    @Override
+    default FutureStream<U> rateLimit(final long permits, final long per, final TimeUnit unit, final long burst) {
+        return fromStream(Spouts.fromIterable(stream()).rateLimit(permits, per, unit, burst));
+    }
+
     /**
      * Organise elements in a Stream into a Collections based on the time period
      * they pass through this stage
@@ -0,0 +1,66 @@
+package cyclops.stream;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A push based ReactiveSeq of primitive ints.
+ *
+ * The specialised operators (mapInts, filterInts, limit, skip, reduceInts and sumInts) operate directly on int values
+ * without boxing, all other ReactiveSeq operators remain available and box each element as it is emitted.
+ *
+ * <pre>
+ * {@code
+ *   ReactiveSeq.ofInts(1,2,3,4)
+ *              .mapInts(i->i*2)
+ *              .filterInts(i->i>2)
+ *              .sumInts();
+ *
+ *   //18
+ * }
+ * </pre>
+ *
+ * @see ReactiveSeq#ofInts(int...)
+ */
+public interface IntReactiveSeq extends ReactiveSeq<Integer> {
+
+    /**
+     * Transform each int in this Stream without boxing
+     *
+     * @param fn Mapping function
+     * @return IntReactiveSeq with the function applied to each element
+     */
+    IntReactiveSeq mapInts(IntUnaryOperator fn);
+
+    /**
+     * Remove all ints that do not match the supplied predicate without boxing
+     *
+     * @param fn Predicate to test each element against
+     * @return IntReactiveSeq containing only matching elements
+     */
+    IntReactiveSeq filterInts(IntPredicate fn);
+
+    /**
+     * Reduce this Stream to a single int value without boxing
+     *
+     * @param identity Starting value
+     * @param accumulator Function to combine the current value with the next element
+     * @return Reduced value
+     */
+    int reduceInts(int identity, IntBinaryOperator accumulator);
+
+    /**
+     * @return The sum of all the ints in this Stream
+     */
+    default int sumInts(){
+        return reduceInts(0, Integer::sum);
+    }
+
+    @Override
+    IntReactiveSeq limit(long num);
+
+    @Override
+    IntReactiveSeq skip(long num);
+
+}
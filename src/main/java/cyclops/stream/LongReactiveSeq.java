@@ -0,0 +1,66 @@
+package cyclops.stream;
+
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A push based ReactiveSeq of primitive longs.
+ *
+ * The specialised operators (mapLongs, filterLongs, limit, skip, reduceLongs and sumLongs) operate directly on long values
+ * without boxing, all other ReactiveSeq operators remain available and box each element as it is emitted.
+ *
+ * <pre>
+ * {@code
+ *   ReactiveSeq.ofLongs(1,2,3,4)
+ *              .mapLongs(i->i*2)
+ *              .filterLongs(i->i>2)
+ *              .sumLongs();
+ *
+ *   //18
+ * }
+ * </pre>
+ *
+ * @see ReactiveSeq#ofLongs(long...)
+ */
+public interface LongReactiveSeq extends ReactiveSeq<Long> {
+
+    /**
+     * Transform each long in this Stream without boxing
+     *
+     * @param fn Mapping function
+     * @return LongReactiveSeq with the function applied to each element
+     */
+    LongReactiveSeq mapLongs(LongUnaryOperator fn);
+
+    /**
+     * Remove all longs that do not match the supplied predicate without boxing
+     *
+     * @param fn Predicate to test each element against
+     * @return LongReactiveSeq containing only matching elements
+     */
+    LongReactiveSeq filterLongs(LongPredicate fn);
+
+    /**
+     * Reduce this Stream to a single long value without boxing
+     *
+     * @param identity Starting value
+     * @param accumulator Function to combine the current value with the next element
+     * @return Reduced value
+     */
+    long reduceLongs(long identity, LongBinaryOperator accumulator);
+
+    /**
+     * @return The sum of all the longs in this Stream
+     */
+    default long sumLongs(){
+        return reduceLongs(0, Long::sum);
+    }
+
+    @Override
+    LongReactiveSeq limit(long num);
+
+    @Override
+    LongReactiveSeq skip(long num);
+
+}
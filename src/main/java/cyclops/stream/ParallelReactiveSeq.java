@@ -0,0 +1,102 @@
+package cyclops.stream;
+
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A push based Stream split across a fixed number of rails, each rail executing it's stages on a ForkJoinPool in parallel
+ * with the other rails. Elements are assigned to rails round-robin, or by the hash of a key (in which case all elements with the same
+ * key are processed in order on the same rail). Buffering between upstream, the rails and the merged Stream is bounded.
+ *
+ * <pre>
+ * {@code
+ *   ReactiveSeq<Data> enriched = Spouts.from(events)
+ *                                      .parallel(4)
+ *                                      .map(this::enrich)
+ *                                      .filter(Data::isValid)
+ *                                      .sequentialOrdered();
+ * }
+ * </pre>
+ *
+ * @see ReactiveSeq#parallel(int)
+ * @param <T> Data type of elements on the rails
+ */
+public interface ParallelReactiveSeq<T> {
+
+    /**
+     * @return Number of rails
+     */
+    int rails();
+
+    /**
+     * Transform each element on it's rail
+     *
+     * @param fn Mapping function
+     * @return ParallelReactiveSeq with the function applied on each rail
+     */
+    <R> ParallelReactiveSeq<R> map(Function<? super T, ? extends R> fn);
+
+    /**
+     * Remove elements that do not match the supplied predicate, on each rail
+     *
+     * @param fn Predicate to test each element against
+     * @return ParallelReactiveSeq containing only matching elements
+     */
+    ParallelReactiveSeq<T> filter(Predicate<? super T> fn);
+
+    /**
+     * Replace each element with the contents of a Stream, on it's rail
+     *
+     * @param fn Function that generates a Stream from each element
+     * @return ParallelReactiveSeq with the function applied on each rail
+     */
+    <R> ParallelReactiveSeq<R> flatMap(Function<? super T, ? extends Stream<? extends R>> fn);
+
+    /**
+     * Reduce each rail separately, each rail emits a single result
+     *
+     * @param identity Supplier of the starting value for each rail
+     * @param accumulator Function to combine the current value with the next element
+     * @return ParallelReactiveSeq with a single reduced value per rail
+     */
+    <R> ParallelReactiveSeq<R> reduce(Supplier<R> identity, BiFunction<R, ? super T, R> accumulator);
+
+    /**
+     * Reduce each rail in parallel and then combine the results of each rail
+     *
+     * <pre>
+     * {@code
+     *   Spouts.range(0,1000)
+     *         .parallel(4)
+     *         .reduce(0,Integer::sum);
+     *   //499500
+     * }
+     * </pre>
+     *
+     * @param identity Identity value for accumulator
+     * @param accumulator Associative function to combine elements
+     * @return Reduced value
+     */
+    default T reduce(T identity, BinaryOperator<T> accumulator){
+        return reduce(()->identity,accumulator).sequential()
+                                               .foldLeft(identity,accumulator);
+    }
+
+    /**
+     * Merge the rails into a single Stream, elements are emitted in the order in which they are completed
+     *
+     * @return Sequential Stream
+     */
+    ReactiveSeq<T> sequential();
+
+    /**
+     * Merge the rails into a single Stream, restoring the original upstream order
+     *
+     * @return Sequential Stream in upstream order
+     */
+    ReactiveSeq<T> sequentialOrdered();
+}
@@ -3,12 +3,16 @@ package cyclops.stream;
 
 import com.aol.cyclops2.data.collections.extensions.LazyFluentCollectionX;
 import com.aol.cyclops2.hkt.Higher;
+import com.aol.cyclops2.internal.stream.DoubleReactiveStreamX;
+import com.aol.cyclops2.internal.stream.IntReactiveStreamX;
+import com.aol.cyclops2.internal.stream.LongReactiveStreamX;
 import com.aol.cyclops2.internal.stream.OneShotStreamX;
 import com.aol.cyclops2.internal.stream.spliterators.*;
-import com.aol.cyclops2.internal.stream.spliterators.doubles.ReversingDoubleArraySpliterator;
-import com.aol.cyclops2.internal.stream.spliterators.ints.ReversingIntArraySpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.push.DoubleArrayOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.IntArrayOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.LongArrayOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.GroupByStreamOperator;
 import com.aol.cyclops2.internal.stream.spliterators.ints.ReversingRangeIntSpliterator;
-import com.aol.cyclops2.internal.stream.spliterators.longs.ReversingLongArraySpliterator;
 import com.aol.cyclops2.internal.stream.spliterators.longs.ReversingRangeLongSpliterator;
 import com.aol.cyclops2.types.*;
 import com.aol.cyclops2.types.anyM.AnyMSeq;
@@ -20,6 +24,8 @@ import com.aol.cyclops2.types.stream.*;
 import com.aol.cyclops2.types.reactive.QueueBasedSubscriber;
 import com.aol.cyclops2.types.reactive.QueueBasedSubscriber.Counter;
 import com.aol.cyclops2.types.traversable.FoldableTraversable;
+import com.aol.cyclops2.util.BloomFilter;
+import com.aol.cyclops2.util.BoundedKeySet;
 import com.aol.cyclops2.util.ExceptionSoftener;
 import cyclops.companion.Streams;
 import cyclops.async.*;
@@ -58,6 +64,7 @@ import org.reactivestreams.Subscriber;
 import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
@@ -192,10 +199,10 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
 
     /**
      * @param values ints toNested populate Stream from
-     * @return ReactiveSeq of multiple Integers
+     * @return IntReactiveSeq of multiple Integers, supporting unboxed map / filter / limit / skip / reduce operations
      */
-    public static ReactiveSeq<Integer> ofInts(int... values){
-        return fromSpliterator(new ReversingIntArraySpliterator<>(values,0,values.length,false));
+    public static IntReactiveSeq ofInts(int... values){
+        return new IntReactiveStreamX(new IntArrayOperator(values));
 
     }
     /*
@@ -315,10 +322,10 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
        /**
      *
      * @param values longs toNested populate Stream from
-     * @return ReactiveSeq of multiple Longs
+     * @return LongReactiveSeq of multiple Longs, supporting unboxed map / filter / limit / skip / reduce operations
      */
-    public static ReactiveSeq<Long> ofLongs(long... values){
-        return fromSpliterator(new ReversingLongArraySpliterator<>(values,0,values.length,false));
+    public static LongReactiveSeq ofLongs(long... values){
+        return new LongReactiveStreamX(new LongArrayOperator(values));
     }
 
 
@@ -438,11 +445,11 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
 
     /**
      *
-     * @param values longs toNested populate Stream from
-     * @return ReactiveSeq of multiple Longs
+     * @param values doubles toNested populate Stream from
+     * @return DoubleReactiveSeq of multiple Doubles, supporting unboxed map / filter / limit / skip / reduce operations
      */
-    public static ReactiveSeq<Double> ofDoubles(double... values){
-        return fromSpliterator(new ReversingDoubleArraySpliterator<>(values,0,values.length,false));
+    public static DoubleReactiveSeq ofDoubles(double... values){
+        return new DoubleReactiveStreamX(new DoubleArrayOperator(values));
     }
 
     /*
@@ -718,6 +725,52 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     public <T> ReactiveSeq<T> unit(T unit);
 
+    /**
+     * Split this Stream into the specified number of rails, elements are assigned to rails round-robin and each rail
+     * executes it's stages on the common ForkJoinPool.
+     *
+     * <pre>
+     * {@code
+     *   Spouts.range(0,1000)
+     *         .parallel(4)
+     *         .map(this::cpuHeavyEnrichment)
+     *         .sequentialOrdered()
+     *         .forEach(System.out::println);
+     * }
+     * </pre>
+     *
+     * @param rails Number of rails
+     * @return ParallelReactiveSeq
+     */
+    default ParallelReactiveSeq<T> parallel(int rails){
+        return parallel(rails,ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Split this Stream into the specified number of rails, elements are assigned to rails round-robin and each rail
+     * executes it's stages on the supplied ForkJoinPool.
+     *
+     * @param rails Number of rails
+     * @param fj ForkJoinPool to execute each rail on
+     * @return ParallelReactiveSeq
+     */
+    default ParallelReactiveSeq<T> parallel(int rails, ForkJoinPool fj){
+        return Spouts.fromIterable(this).parallel(rails,fj);
+    }
+
+    /**
+     * Split this Stream into the specified number of rails, elements are assigned to rails by the hash of the supplied key
+     * (so that all elements with the same key are processed in order on the same rail) and each rail executes it's stages on the
+     * supplied ForkJoinPool.
+     *
+     * @param rails Number of rails
+     * @param fj ForkJoinPool to execute each rail on
+     * @param key Function to extract the key used to select a rail for each element
+     * @return ParallelReactiveSeq
+     */
+    default ParallelReactiveSeq<T> parallel(int rails, ForkJoinPool fj, Function<? super T, ?> key){
+        return Spouts.fromIterable(this).parallel(rails,fj,key);
+    }
     default <R> ReactiveSeq<R> parallel(Function<? super Stream<T>,? extends Stream<? extends R>> fn){
         Queue<R> queue = QueueFactories.<R>unboundedNonBlockingQueue()
                                                                   .build();
@@ -864,6 +917,28 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     <U, R> ReactiveSeq<R> zipS(final Stream<? extends U> other, final BiFunction<? super T, ? super U, ? extends R> zipper);
 
+    /**
+     * Zip two Streams, push based Streams (see {@link Spouts}) request prefetch elements from each input up front and
+     * replenish demand in batches. Pull based Streams advance each input one element at a time and ignore prefetch.
+     *
+     * <pre>
+     * {@code
+     *  Spouts.of(1,2,3)
+     *        .zipS(Stream.of("a","b","c"),(a,b)->a+b,1024)
+     *        .toList();
+     *
+     *  //["1a","2b","3c"]
+     * }
+     * </pre>
+     *
+     * @param other Stream to zip with
+     * @param zipper Function to combine an element from each Stream
+     * @param prefetch Number of elements to buffer from each input
+     * @return Zipped Stream
+     */
+    default <U, R> ReactiveSeq<R> zipS(final Stream<? extends U> other, final BiFunction<? super T, ? super U, ? extends R> zipper, final int prefetch){
+        return zipS(other,zipper);
+    }
 
 
     /**
@@ -1270,6 +1345,92 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     ReactiveSeq<VectorX<T>> sliding(int windowSize, int increment);
 
+    /**
+     * Create a sliding view over this Sequence, without copying each window into a persistent collection.
+     *
+     * Each window is a read only List backed by a shared array, windows remain valid once later windows have been emitted
+     * (so they may be retained or collected).
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1, 2, 3, 4, 5, 6)
+     *             .slidingView(3, 2)
+     *             .toList();
+     *  //[[1,2,3],[3,4,5],[5,6]]
+     * }
+     * </pre>
+     *
+     * @param windowSize number of elements in each window
+     * @param increment for each window
+     * @return ReactiveSeq with read only sliding views
+     */
+    default ReactiveSeq<List<T>> slidingView(int windowSize, int increment){
+        return ReactiveSeq.fromSpliterator(new SlidingWindowSpliterator<T,List<T>>(spliterator(),()->SlidingWindow.views(windowSize,increment)));
+    }
+
+    /**
+     * Create a sliding view over this Sequence backed by a single ring buffer. The same List instance is emitted for every window,
+     * it is only valid until the next window is emitted - so each window must be consumed (e.g. mapped) immediately and not retained.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1, 2, 3, 4, 5)
+     *             .slidingBuffer(3, 1)
+     *             .map(w->w.get(0)+w.get(w.size()-1))
+     *             .toList();
+     *  //[4,6,8]
+     * }
+     * </pre>
+     *
+     * @param windowSize number of elements in each window
+     * @param increment for each window
+     * @return ReactiveSeq with a reused sliding view
+     */
+    default ReactiveSeq<List<T>> slidingBuffer(int windowSize, int increment){
+        return ReactiveSeq.fromSpliterator(new SlidingWindowSpliterator<T,List<T>>(spliterator(),()->SlidingWindow.buffer(windowSize,increment)));
+    }
+
+    /**
+     * Reduce each sliding window (moving forward one element at a time) using the supplied Monoid, in O(1) amortized combines per
+     * window regardless of the window size.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1, 2, 3, 4, 5)
+     *             .slidingReduce(3, Monoids.intMax)
+     *             .toList();
+     *  //[3,4,5]
+     * }
+     * </pre>
+     *
+     * @param windowSize number of elements in each window
+     * @param monoid Monoid used to reduce each window
+     * @return ReactiveSeq with the reduction of each window
+     */
+    default ReactiveSeq<T> slidingReduce(int windowSize, Monoid<T> monoid){
+        return ReactiveSeq.fromSpliterator(new SlidingWindowSpliterator<T,T>(spliterator(),()->SlidingWindow.reduce(windowSize,monoid)));
+    }
+
+    /**
+     * Sum each sliding window (moving forward one element at a time), in O(1) per window regardless of the window size.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1, 2, 3, 4, 5)
+     *             .slidingSum(3, i->i)
+     *             .toList();
+     *  //[6.0,9.0,12.0]
+     * }
+     * </pre>
+     *
+     * @param windowSize number of elements in each window
+     * @param fn Function to convert each element to a double
+     * @return ReactiveSeq with the sum of each window
+     */
+    default ReactiveSeq<Double> slidingSum(int windowSize, ToDoubleFunction<? super T> fn){
+        return ReactiveSeq.fromSpliterator(new SlidingWindowSpliterator<T,Double>(spliterator(),()->SlidingWindow.sum(windowSize,fn)));
+    }
+
     /**
      * Group elements in a Stream
      *
@@ -1541,6 +1702,44 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
         return fromStream((Seq)grouped);
     }
 
+    /**
+     * Split this Stream into a Stream of keyed groups, without materializing it. Each group is emitted the first time it's key is seen,
+     * as a Tuple2 of the key and a ReactiveSeq of the elements with that key. Each group has it's own backpressure, and can be subscribed
+     * to once.
+     *
+     * At most {@link GroupByStreamOperator#DEFAULT_MAX_GROUPS} groups are open at once, when a new key arrives and the limit has been
+     * reached the least recently active group is completed. Each emitted group should be consumed asynchronously (e.g. via flatMapP),
+     * as upstream only advances as groups consume their elements.
+     *
+     * <pre>
+     * {@code
+     *   events.groupByStream(Event::getUserId)
+     *         .flatMapP(g -> g.v2.groupedBySizeAndTime(100,1,TimeUnit.SECONDS))
+     *         .forEach(this::writeBatch);
+     * }
+     * </pre>
+     *
+     * @param keyFn Function to determine the key of each element
+     * @return Stream of keyed groups
+     */
+    default <K> ReactiveSeq<Tuple2<K, ReactiveSeq<T>>> groupByStream(Function<? super T, ? extends K> keyFn){
+        return groupByStream(keyFn,GroupByStreamOperator.DEFAULT_MAX_GROUPS,0,TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Split this Stream into a Stream of keyed groups, without materializing it (see {@link ReactiveSeq#groupByStream(Function)}).
+     *
+     * @param keyFn Function to determine the key of each element
+     * @param maxGroups Maximum number of concurrently open groups, when exceeded the least recently active group is completed
+     * @param idleTime Groups that receive no elements for at least this long are completed, a value of 0 or less keeps idle groups open
+     * @param unit Time unit for idleTime
+     * @return Stream of keyed groups
+     */
+    default <K> ReactiveSeq<Tuple2<K, ReactiveSeq<T>>> groupByStream(Function<? super T, ? extends K> keyFn, int maxGroups,
+                                                                    long idleTime, TimeUnit unit){
+        return Spouts.fromIterable(this).groupByStream(keyFn,maxGroups,idleTime,unit);
+    }
+
     /**
      * Use classifier function toNested group elements in this Sequence into a Map
      *
@@ -1569,6 +1768,51 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     ReactiveSeq<T> distinct();
 
+    /**
+     * Remove duplicates from this Stream, remembering at most maxKeys of the most recently seen elements. Memory use is fixed
+     * regardless of the length of the Stream, an element that recurs after more than maxKeys other distinct elements may be emitted again.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1,2,1,3,1,2)
+     *             .distinct(2)
+     *             .toList();
+     *  //[1,2,3,2]
+     * }
+     * </pre>
+     *
+     * @param maxKeys Maximum number of elements to remember
+     * @return Stream with recently seen duplicates removed
+     */
+    default ReactiveSeq<T> distinct(int maxKeys){
+        return ReactiveSeq.fromSpliterator(new DistinctSpliterator<T,T>(spliterator(),()->new BoundedKeySet<T>(maxKeys)::add));
+    }
+
+    /**
+     * Remove elements seen within the supplied time window, remembering at most maxKeys elements.
+     *
+     * @param maxKeys Maximum number of elements to remember
+     * @param window Time after which an element that has not recurred is forgotten
+     * @param unit Time unit for window
+     * @return Stream with duplicates within the window removed
+     */
+    default ReactiveSeq<T> distinct(int maxKeys, long window, TimeUnit unit){
+        return ReactiveSeq.fromSpliterator(new DistinctSpliterator<T,T>(spliterator(),()->new BoundedKeySet<T>(maxKeys,unit.toNanos(window))::add));
+    }
+
+    /**
+     * Remove duplicates from this Stream approximately, using a fixed size Bloom filter. No duplicates are emitted, but with probability
+     * of (approximately) fpp a unique element may be incorrectly removed, this probability rises if the Stream contains more than
+     * expectedItems distinct elements.
+     *
+     * @param expectedItems Expected number of distinct elements
+     * @param fpp Acceptable probability of removing a unique element
+     * @return Stream with duplicates removed
+     */
+    default ReactiveSeq<T> distinctApprox(long expectedItems, double fpp){
+        return ReactiveSeq.fromSpliterator(new DistinctSpliterator<T,T>(spliterator(),()->new BloomFilter<T>(expectedItems,fpp)::put));
+    }
+
     /**
      * Scan left using supplied Monoid
      *
@@ -1683,6 +1927,30 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
 
     }
 
+    /**
+     * Sort this Stream in runs of a bounded size, spilling sorted runs to temporary files and merging them lazily,
+     * so Streams larger than available memory can be sorted. The sort is stable. Temporary files are deleted once the sorted
+     * Stream is exhausted or fails, close the Stream to delete them if it is abandoned part way through.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(4,3,6,7)
+     *             .sorted(Comparator.naturalOrder(),SortOptions.external(2))
+     *             .toList();
+     *
+     *  //[3,4,6,7]
+     * }
+     * </pre>
+     *
+     * @param c Comparator to sort with
+     * @param options Run size, serializer and temporary directory to use
+     * @return Sorted Stream
+     */
+    default ReactiveSeq<T> sorted(Comparator<? super T> c, SortOptions<T> options){
+        final SortingSpliterator<T> sorting = new SortingSpliterator<>(spliterator(),c,options);
+        return ReactiveSeq.fromSpliterator(sorting).onClose(sorting::close);
+    }
+
     /* (non-Javadoc)
      * @see com.aol.cyclops2.types.traversable.Traversable#takeWhile(java.util.function.Predicate)
      */
@@ -2915,6 +3183,87 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     ReactiveSeq<T> limitLast(int num);
 
+    /**
+     * Deliver the elements of this ReactiveSeq to downstream operators and subscribers on the supplied Executor. Elements are buffered
+     * in a bounded single producer / single consumer ring buffer of size prefetch, with upstream demand replenished in batches once 75% of
+     * the prefetched elements have been consumed. Stages before and after publishOn may execute concurrently on different threads.
+     *
+     * <pre>
+     * {@code
+     *  Spouts.range(0,1000)
+     *        .map(this::cpuHeavyStage1)
+     *        .publishOn(ex,256)
+     *        .map(this::cpuHeavyStage2)
+     *        .forEach(System.out::println);
+     * }
+     * </pre>
+     *
+     * @param ex Executor to deliver elements downstream on
+     * @param prefetch Number of elements to buffer between upstream and downstream
+     * @return ReactiveSeq that emits on the supplied Executor
+     */
+    default ReactiveSeq<T> publishOn(Executor ex, int prefetch){
+        return Spouts.fromIterable(this).publishOn(ex,prefetch);
+    }
+
+    /**
+     * Subscribe to, and request data from, this ReactiveSeq on the supplied Executor. Elements are produced on the Executor
+     * rather than on the subscribing / requesting thread.
+     *
+     * <pre>
+     * {@code
+     *  Spouts.range(0,1000)
+     *        .map(this::cpuHeavyStage1)
+     *        .subscribeOn(ex)
+     *        .forEach(System.out::println);
+     * }
+     * </pre>
+     *
+     * @param ex Executor to subscribe and request on
+     * @return ReactiveSeq that subscribes on the supplied Executor
+     */
+    default ReactiveSeq<T> subscribeOn(Executor ex){
+        return Spouts.fromIterable(this).subscribeOn(ex);
+    }
+
+    /**
+     * Emit at most permits elements per time period. Elements are requested from upstream as tokens become available in a token
+     * bucket that refills at permits per period, and holds at most permits tokens. No thread is parked while waiting, elements may be
+     * emitted on the shared scheduler thread.
+     *
+     * <pre>
+     * {@code
+     *  Spouts.iterate(0, i->i+1)
+     *        .rateLimit(100, 1, TimeUnit.SECONDS)
+     *        .map(this::callRemoteApi)
+     *        .forEach(System.out::println);
+     * }
+     * </pre>
+     *
+     * @param permits Number of elements to emit per time period
+     * @param per Time period
+     * @param unit TimeUnit for the time period
+     * @return Rate limited ReactiveSeq
+     */
+    default ReactiveSeq<T> rateLimit(long permits, long per, TimeUnit unit){
+        return rateLimit(permits,per,unit,permits);
+    }
+
+    /**
+     * Emit elements at a rate of permits per time period, allowing bursts of up to burst elements after a quiet period.
+     *
+     * @see ReactiveSeq#rateLimit(long, long, TimeUnit)
+     *
+     * @param permits Number of elements to emit per time period
+     * @param per Time period
+     * @param unit TimeUnit for the time period
+     * @param burst Max number of elements that can be emitted back to back
+     * @return Rate limited ReactiveSeq
+     */
+    default ReactiveSeq<T> rateLimit(long permits, long per, TimeUnit unit, long burst){
+        return Spouts.fromIterable(this).rateLimit(permits,per,unit,burst);
+    }
+
     /**
      * Turns this ReactiveSeq into a HotStream, a connectable Stream, being executed on a thread on the
      * supplied executor, that is producing data. Note this method creates a HotStream that starts emitting data
@@ -3804,6 +4153,66 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
         return (ReactiveSeq) FoldableTraversable.super.retry(fn, retries, delay, timeUnit);
     }
 
+    /**
+     * Retry a transformation asynchronously if it fails. Attempts are executed and rescheduled according to the supplied
+     * Retry policy, no thread is blocked while waiting to retry. Up to 256 elements are processed concurrently, results are
+     * emitted as they complete (so an element that is being retried may be overtaken by later elements).
+     *
+     * <pre>
+     * {@code
+     *      ReactiveSeq.of(1, 2, 3)
+     *                 .retryAsync(this::callRemote, Retry.exponential(100, TimeUnit.MILLISECONDS)
+     *                                                    .withJitter(0.5)
+     *                                                    .retryOn(e -> e instanceof IOException))
+     *                 .forEach(System.out::println);
+     * }
+     * </pre>
+     *
+     * @param fn Function to retry if it fails
+     * @param retry Retry policy
+     * @return ReactiveSeq of results
+     */
+    default <R> ReactiveSeq<R> retryAsync(final Function<? super T, ? extends R> fn, final Retry retry) {
+        return retryAsync(fn, retry, 256);
+    }
+
+    /**
+     * Retry a transformation asynchronously if it fails, with at most maxConcurrency elements in progress at once.
+     *
+     * @see ReactiveSeq#retryAsync(Function, Retry)
+     *
+     * @param fn Function to retry if it fails
+     * @param retry Retry policy
+     * @param maxConcurrency Max number of elements being processed (or waiting to be retried) at once
+     * @return ReactiveSeq of results
+     */
+    default <R> ReactiveSeq<R> retryAsync(final Function<? super T, ? extends R> fn, final Retry retry, final int maxConcurrency) {
+        return flatMapP(maxConcurrency, t -> Future.<R>of(retry.apply(fn, t)));
+    }
+
+    /**
+     * Transform each element with an asynchronous function, running up to maxInFlight tasks at once but emitting results in
+     * input order. Completed results wait in a reorder ring of maxInFlight slots until all earlier results have been emitted, a
+     * slow task at the head of the ring stops further elements being requested (rather than results being buffered without bound).
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(id1, id2, id3)
+     *             .mapAsyncOrdered(id -> CompletableFuture.supplyAsync(() -> enrich(id), ex), 16)
+     *             .forEach(System.out::println);
+     *
+     *  //enriched id1, id2, id3 (in that order)
+     * }
+     * </pre>
+     *
+     * @param fn Asynchronous transformation
+     * @param maxInFlight Max number of tasks running (or completed but waiting to be emitted) at once
+     * @return ReactiveSeq of results in input order
+     */
+    default <R> ReactiveSeq<R> mapAsyncOrdered(final Function<? super T, ? extends CompletableFuture<? extends R>> fn, final int maxInFlight) {
+        return Spouts.fromIterable(this).mapAsyncOrdered(fn, maxInFlight);
+    }
+
     /**
      * Remove all occurances of the specified element from the ReactiveSeq
      *
@@ -4596,6 +5005,34 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
         return Streams.toBufferingCopier(() -> iterator(),num,()->new ArrayDeque<T>(100))
                 .map(ReactiveSeq::fromIterable);
     }
+
+    /**
+     * Broadcast the contents of this Stream to multiple downstream Streams that share a single upstream subscription.
+     * Upstream is subscribed to once all num downstream Streams have been subscribed to, elements are buffered in a bounded
+     * ring buffer shared by all subscribers.
+     *
+     * <pre>
+     * {@code
+     *  ListX<ReactiveSeq<Data>> streams = Spouts.from(lines)
+     *                                           .map(this::expensiveParse)
+     *                                           .multicast(2,256,10,SlowSubscriberPolicy.BLOCK);
+     *
+     *  streams.get(0).forEach(this::index);
+     *  streams.get(1).forEach(this::store);
+     *
+     * }
+     * </pre>
+     *
+     * @param num Number of downstream Streams to multicast to
+     * @param bufferSize Maximum number of elements upstream can run ahead of the subscribers that drive demand
+     * @param replay Number of most recent elements replayed to subscribers that join after upstream has been subscribed to
+     * @param policy BLOCK to coordinate demand to the slowest subscriber, DROP to let the fastest subscriber drive demand
+     *               (slow subscribers miss elements that are overwritten in the ring)
+     * @return List of Streams that recieve data from this Stream
+     */
+    default ListX<ReactiveSeq<T>> multicast(int num, int bufferSize, int replay, Topic.SlowSubscriberPolicy policy){
+        return Spouts.fromIterable(this).multicast(num,bufferSize,replay,policy);
+    }
     default <R1,R2,R3> ReactiveSeq<R3> fanOutZipIn(Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R1>> path1,
                                                     Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R2>> path2,
                                                      BiFunction<? super R1, ? super R2, ? extends R3> zipFn){
@@ -0,0 +1,97 @@
+package cyclops.stream;
+
+import com.aol.cyclops2.util.Serializer;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.Wither;
+
+import java.nio.file.Path;
+
+/**
+ * Configures how {@link ReactiveSeq#sorted(java.util.Comparator, SortOptions)} sorts a Stream.
+ *
+ * Up to runSize elements are sorted in memory at a time, when the Stream is larger than a single run each sorted run is
+ * written to a temporary file (using the configured Serializer) and the runs are merged lazily as the sorted Stream is consumed.
+ * At most mergeFactor runs are merged (and so open) at a time, larger numbers of runs are merged over several passes.
+ * Temporary files are deleted once they have been fully read, or when the sorted Stream is exhausted or closed.
+ *
+ * <pre>
+ * {@code
+ *    ReactiveSeq.fromIterable(largeData)
+ *               .sorted(Comparator.naturalOrder(), SortOptions.<Integer>external(1_000_000)
+ *                                                              .withDirectory(Paths.get("/scratch")));
+ * }
+ * </pre>
+ *
+ * @param <T> Type of the elements being sorted
+ */
+@Getter
+@Wither
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SortOptions<T> {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    public static final int DEFAULT_MERGE_FACTOR = 64;
+
+    /**
+     * Maximum number of elements sorted in memory at a time
+     */
+    private final int runSize;
+    /**
+     * Serializer used to write sorted runs to disk
+     */
+    private final Serializer<T> serializer;
+    /**
+     * Directory temporary files are created in, the default temporary file directory is used if not set
+     */
+    private final Path directory;
+    /**
+     * Size in bytes of the buffer used when writing or reading each run
+     */
+    private final int bufferSize;
+    /**
+     * Maximum number of runs merged at a time
+     */
+    private final int mergeFactor;
+
+    /**
+     * @param mergeFactor Maximum number of runs to merge (and hold open) at a time, at least 2
+     * @return New SortOptions with the supplied merge factor
+     */
+    public SortOptions<T> withMergeFactor(final int mergeFactor) {
+        if (mergeFactor < 2)
+            throw new IllegalArgumentException("Merge factor must be greater than 1, but was " + mergeFactor);
+        return new SortOptions<>(runSize, serializer, directory, bufferSize, mergeFactor);
+    }
+
+    /**
+     * @return Options that sort the entire Stream in memory
+     */
+    public static <T> SortOptions<T> inMemory() {
+        return new SortOptions<>(Integer.MAX_VALUE, Serializer.javaSerializer(), null, DEFAULT_BUFFER_SIZE, DEFAULT_MERGE_FACTOR);
+    }
+
+    /**
+     * Sort in runs of runSize elements, spilling runs to disk with Java serialization (elements must be {@link java.io.Serializable})
+     *
+     * @param runSize Maximum number of elements to hold in memory at a time
+     * @return Options for an external merge sort
+     */
+    public static <T> SortOptions<T> external(final int runSize) {
+        return external(runSize, Serializer.javaSerializer());
+    }
+
+    /**
+     * Sort in runs of runSize elements, spilling runs to disk with the supplied Serializer
+     *
+     * @param runSize Maximum number of elements to hold in memory at a time
+     * @param serializer Serializer used to write runs to disk and read them back
+     * @return Options for an external merge sort
+     */
+    public static <T> SortOptions<T> external(final int runSize, final Serializer<T> serializer) {
+        if (runSize <= 0)
+            throw new IllegalArgumentException("Run size must be greater than 0, but was " + runSize);
+        return new SortOptions<>(runSize, serializer, null, DEFAULT_BUFFER_SIZE, DEFAULT_MERGE_FACTOR);
+    }
+}
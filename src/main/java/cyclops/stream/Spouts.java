@@ -1,6 +1,8 @@
 package cyclops.stream;
 
 import com.aol.cyclops2.hkt.Higher;
+import com.aol.cyclops2.internal.stream.IntReactiveStreamX;
+import com.aol.cyclops2.internal.stream.LongReactiveStreamX;
 import com.aol.cyclops2.internal.stream.ReactiveStreamX;
 import com.aol.cyclops2.internal.stream.ReactiveStreamX.Type;
 import com.aol.cyclops2.internal.stream.spliterators.UnfoldSpliterator;
@@ -157,17 +159,17 @@ public interface Spouts {
         return new ReactiveStreamX(new IteratePredicateOperator<T>(seed,f,pred));
 
     }
-    public static ReactiveSeq<Integer> range(int start, int end){
+    public static IntReactiveSeq range(int start, int end){
         if(start<end)
-            return new ReactiveStreamX<Integer>(new RangeIntOperator(start,end));
+            return new IntReactiveStreamX(new RangeIntOperator(start,end));
         else
-            return new ReactiveStreamX<Integer>(new RangeIntOperator(end,start));
+            return new IntReactiveStreamX(new RangeIntOperator(end,start));
     }
-    public static  ReactiveSeq<Long> rangeLong(long start, long end){
+    public static LongReactiveSeq rangeLong(long start, long end){
         if(start<end)
-            return new ReactiveStreamX<>(new RangeLongOperator(start,end));
+            return new LongReactiveStreamX(new RangeLongOperator(start,end));
         else
-            return new ReactiveStreamX<>(new RangeLongOperator(end,start));
+            return new LongReactiveStreamX(new RangeLongOperator(end,start));
     }
     public static  <T> ReactiveSeq<T> of(T value){
         return new ReactiveStreamX<>(new SingleValueOperator<T>(value));
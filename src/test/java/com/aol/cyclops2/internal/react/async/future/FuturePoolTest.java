@@ -0,0 +1,99 @@
+package com.aol.cyclops2.internal.react.async.future;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+
+import cyclops.async.LazyReact;
+import org.junit.Test;
+
+public class FuturePoolTest {
+
+	FuturePool pool = new FuturePool(4);
+
+	private FastFuture<Integer> next(){
+		return pool.next(()->new FastFuture<>(null, f->pool.done(f)));
+	}
+
+	@Test
+	public void reusesOnSameThread(){
+		FastFuture<Integer> f = next();
+		f.markComplete();
+		assertThat(next(), sameInstance(f));
+		assertThat(pool.stats().getHits(), equalTo(1l));
+		assertThat(pool.stats().getMisses(), equalTo(1l));
+	}
+
+	@Test
+	public void reusedFutureIsCleared(){
+		FastFuture<Integer> f = next();
+		f.set(10);
+		assertThat(f.isDone(), equalTo(true));
+		f.markComplete();
+		assertFalse(next().isDone());
+	}
+
+	@Test
+	public void releasedOnAnotherThreadIsShared() throws Exception {
+		FastFuture<Integer> f = next();
+		CompletableFuture.runAsync(f::markComplete).get();
+		assertThat(pool.stats().getDrops(), equalTo(0l));
+		assertThat(next(), sameInstance(f));
+	}
+
+	@Test
+	public void acquiredOnAnotherThread() throws Exception {
+		FastFuture<Integer> f = next();
+		f.markComplete();
+		FastFuture<Integer> other = CompletableFuture.supplyAsync(this::next).get();
+		assertThat(other, sameInstance(f));
+		assertThat(pool.stats().getMisses(), equalTo(1l));
+	}
+
+	@Test
+	public void dropsWhenFull() throws Exception {
+		FastFuture[] futures = new FastFuture[10];
+		for(int i=0;i<10;i++)
+			futures[i] = next();
+		CompletableFuture.runAsync(()->{
+			for(FastFuture f : futures)
+				f.markComplete();
+		}).get();
+		assertThat(pool.stats().getDrops(), equalTo(2l));
+		assertThat(next(), not(sameInstance(futures[9])));
+	}
+
+	@Test
+	public void releasedOnManyThreadsIsReused() throws Exception {
+		FastFuture[] futures = new FastFuture[8];
+		for(int i=0;i<8;i++)
+			futures[i] = next();
+		CompletableFuture[] released = new CompletableFuture[8];
+		for(int i=0;i<8;i++) {
+			FastFuture f = futures[i];
+			released[i] = CompletableFuture.runAsync(f::markComplete, r -> new Thread(r).start());
+		}
+		CompletableFuture.allOf(released).get();
+		for(int i=0;i<8;i++)
+			next();
+		assertThat(pool.stats().getHits(), equalTo(8l));
+		assertThat(pool.stats().getDrops(), equalTo(0l));
+	}
+
+	@Test
+	public void globalStats(){
+		long hits = LazyReact.objectPoolingStats().getHits();
+		new LazyReact().objectPoolingOn()
+					   .iterate(1,i->i+1)
+					   .limit(10000)
+					   .map(i->i+1)
+					   .forEach(i->{});
+		assertThat(LazyReact.objectPoolingStats().getHits(), greaterThan(hits));
+		assertThat(LazyReact.objectPoolingStats().getHitRate(), greaterThan(0d));
+	}
+}
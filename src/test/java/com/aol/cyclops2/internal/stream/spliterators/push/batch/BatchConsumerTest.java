@@ -0,0 +1,116 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.batch;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import cyclops.collections.mutable.ListX;
+import cyclops.stream.Spouts;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class BatchConsumerTest {
+
+    ListX<Integer> values;
+    ListX<Throwable> errors;
+    int batches;
+    int singles;
+    boolean onComplete;
+
+    @Before
+    public void setup(){
+        values = ListX.empty();
+        errors = ListX.empty();
+        batches = 0;
+        singles = 0;
+        onComplete = false;
+    }
+
+    private Consumer<Integer> batchingConsumer(){
+        return BatchConsumer.batchConsumer(e->{
+            singles++;
+            values.add(e);
+        },(buf,len)->{
+            batches++;
+            for(int i=0;i<len;i++)
+                values.add((Integer)buf[i]);
+        });
+    }
+
+    @Test
+    public void arrayMapFilterSubscribeAll(){
+        Operator<Integer> op = new FilterOperator<>(new MapOperator<Integer,Integer>(new ArrayOfValuesOperator<>(1,2,3,4),i->i*2),i->i>2);
+        op.subscribeAll(batchingConsumer(),errors::add,()->onComplete=true);
+        assertThat(values,equalTo(ListX.of(4,6,8)));
+        assertThat(batches,equalTo(1));
+        assertThat(singles,equalTo(0));
+        assertTrue(onComplete);
+    }
+    @Test
+    public void arraySubscribeMaxValue(){
+        Operator<Integer> op = new MapOperator<Integer,Integer>(new ArrayOfValuesOperator<>(1,2,3,4),i->i*2);
+        op.subscribe(batchingConsumer(),errors::add,()->onComplete=true).request(Long.MAX_VALUE);
+        assertThat(values,equalTo(ListX.of(2,4,6,8)));
+        assertThat(batches,equalTo(1));
+        assertTrue(onComplete);
+    }
+    @Test
+    public void boundedRequestsArePerElement(){
+        Operator<Integer> op = new MapOperator<Integer,Integer>(new ArrayOfValuesOperator<>(1,2,3,4),i->i*2);
+        op.subscribe(batchingConsumer(),errors::add,()->onComplete=true).request(2);
+        assertThat(values,equalTo(ListX.of(2,4)));
+        assertThat(batches,equalTo(0));
+        assertThat(singles,equalTo(2));
+    }
+    @Test
+    public void iterableIsChunked(){
+        ListX<Integer> list = ListX.range(0,BatchConsumer.BATCH_SIZE*2+10);
+        new IterableSourceOperator<>(list).subscribeAll(batchingConsumer(),errors::add,()->onComplete=true);
+        assertThat(values,equalTo(list));
+        assertThat(batches,equalTo(3));
+        assertTrue(onComplete);
+    }
+    @Test
+    public void spliteratorIsChunked(){
+        ListX<Integer> list = ListX.range(0,BatchConsumer.BATCH_SIZE+10);
+        new SpliteratorToOperator<Integer>(list.stream().spliterator())
+                .subscribe(batchingConsumer(),errors::add,()->onComplete=true)
+                .request(Long.MAX_VALUE);
+        assertThat(values,equalTo(list));
+        assertThat(batches,equalTo(2));
+        assertTrue(onComplete);
+    }
+    @Test
+    public void nonBatchingStageFallsBack(){
+        Operator<Integer> op = new MapOperator<Integer,Integer>(new LimitOperator<>(new ArrayOfValuesOperator<>(1,2,3,4),2),i->i*2);
+        op.subscribeAll(batchingConsumer(),errors::add,()->onComplete=true);
+        assertThat(values,equalTo(ListX.of(2,4)));
+        assertThat(batches,equalTo(0));
+    }
+    @Test
+    public void errorsAreOrdered(){
+        ListX<Object> signals = ListX.empty();
+        Operator<Integer> op = new MapOperator<Integer,Integer>(new ArrayOfValuesOperator<>(1,2,3,4),i->{
+            if(i==3)
+                throw new RuntimeException();
+            return i;
+        });
+        op.subscribeAll(BatchConsumer.batchConsumer(signals::add,(buf,len)->{
+            for(int i=0;i<len;i++)
+                signals.add(buf[i]);
+        }),e->signals.add("error"),()->{});
+        assertThat(signals,equalTo(ListX.of(1,2,"error",4)));
+    }
+    @Test
+    public void collect(){
+        assertThat(Spouts.of(1,2,3,4,5).map(i->i*2).filter(i->i>4).collect(Collectors.toList()),
+                equalTo(Arrays.asList(6,8,10)));
+        assertThat(Spouts.fromIterable(ListX.range(0,1000)).map(i->i+1).toList().size(),
+                equalTo(1000));
+    }
+}
@@ -0,0 +1,27 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.fusion;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+
+public class FusedOperatorTest extends AbstractOperatorTest {
+
+
+    public Operator<Integer> createEmpty(){
+       return Fusion.filter(Fusion.map(new ArrayOfValuesOperator<>(1,2,3), i->i*2),i->i>10);
+    }
+    public Operator<Integer> createOne(){
+        return Fusion.filter(Fusion.map(new ArrayOfValuesOperator<>(1,2,3), i->i*2),i->i==4);
+    }
+
+    public Operator<Integer> createThree(){
+        return Fusion.map(Fusion.filter(Fusion.map(new ArrayOfValuesOperator<>(1,2,3,4,5,6), i->i*2),i->i%4==0),i->i+1);
+    }
+    public Operator<Integer> createTwoAndError(){
+        return Fusion.filter(Fusion.map(Fixtures.twoAndErrorSource, i->i*2),i->true);
+    }
+    public Operator<Integer> createThreeErrors(){
+        return Fusion.filter(Fusion.map(Fixtures.threeErrorsSource, i->i*2),i->true);
+    }
+
+
+
+}
@@ -0,0 +1,83 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.fusion;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import cyclops.collections.mutable.ListX;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+public class FusionTest {
+
+    @Test
+    public void mapMapIsMacroFused(){
+        Operator<Integer> op = Fusion.map(Fusion.map(new ArrayOfValuesOperator<>(1,2,3),i->i*2),i->i+1);
+        assertThat(op,instanceOf(MapOperator.class));
+        ListX<Integer> values = ListX.empty();
+        op.subscribeAll(values::add,e->{},()->{});
+        assertThat(values,equalTo(ListX.of(3,5,7)));
+    }
+    @Test
+    public void filterFilterIsMacroFused(){
+        Operator<Integer> op = Fusion.filter(Fusion.filter(new ArrayOfValuesOperator<>(1,2,3,4,5,6),i->i%2==0),i->i>2);
+        assertThat(op,instanceOf(FilterOperator.class));
+        ListX<Integer> values = ListX.empty();
+        op.subscribeAll(values::add,e->{},()->{});
+        assertThat(values,equalTo(ListX.of(4,6)));
+    }
+    @Test
+    public void mapFilterIsMicroFused(){
+        Operator<Integer> op = Fusion.map(Fusion.filter(Fusion.map(new ArrayOfValuesOperator<>(1,2,3),i->i*2),i->i>2),i->i+1);
+        assertThat(op,instanceOf(FusedOperator.class));
+        ListX<Integer> values = ListX.empty();
+        op.subscribeAll(values::add,e->{},()->{});
+        assertThat(values,equalTo(ListX.of(5,7)));
+    }
+    @Test
+    public void skipAndLimitAreMacroFused(){
+        Operator<Integer> skip = Fusion.skip(Fusion.skip(new ArrayOfValuesOperator<>(1,2,3,4,5,6),1),2);
+        assertThat(skip,instanceOf(SkipOperator.class));
+        Operator<Integer> limit = Fusion.limit(Fusion.limit(skip,2),1);
+        assertThat(limit,instanceOf(LimitOperator.class));
+        ListX<Integer> values = ListX.empty();
+        limit.subscribeAll(values::add,e->{},()->{});
+        assertThat(values,equalTo(ListX.of(4)));
+    }
+    @Test
+    public void filteredElementsAreReplenished(){
+        List<Integer> list = Spouts.of(1,2,3,4,5,6,7,8,9,10)
+                                    .map(i->i*2)
+                                    .filter(i->i%3==0)
+                                    .peek(i->{})
+                                    .map(i->i+1)
+                                    .toList();
+        assertThat(list,equalTo(Arrays.asList(7,13,19)));
+    }
+    @Test
+    public void lazyStagesCreatedPerSubscription(){
+        ReactiveSeq<Integer> stream = Spouts.of(1,1,2,2,3)
+                                            .map(i->i*2)
+                                            .distinct()
+                                            .map(i->i+1);
+        assertThat(stream.toList(),equalTo(Arrays.asList(3,5,7)));
+        assertThat(stream.toList(),equalTo(Arrays.asList(3,5,7)));
+    }
+    @Test
+    public void errorsInFusedStages(){
+        ListX<Throwable> errors = ListX.empty();
+        ListX<Integer> values = ListX.empty();
+        Spouts.of(1,2,3)
+              .map(i->i*2)
+              .filter(i->{ if(i==4) throw new RuntimeException(); return true;})
+              .map(i->i+1)
+              .forEach(values::add,errors::add);
+        assertThat(values,equalTo(ListX.of(3,7)));
+        assertThat(errors.size(),equalTo(1));
+    }
+}
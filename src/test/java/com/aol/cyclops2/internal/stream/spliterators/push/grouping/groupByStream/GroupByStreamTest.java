@@ -0,0 +1,188 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.grouping.groupByStream;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.GroupByStreamOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.Operator;
+import com.aol.cyclops2.internal.stream.spliterators.push.RangeIntOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.jooq.lambda.tuple.Tuple.tuple;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class GroupByStreamTest {
+
+    /**
+     * Emits the provided values as they are requested, but never completes
+     */
+    static Operator<Integer> quiet(Integer... values){
+        return new Operator<Integer>() {
+            @Override
+            public StreamSubscription subscribe(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                int[] index = {0};
+                return new StreamSubscription(){
+                    @Override
+                    public void request(long n) {
+                        super.request(n);
+                        while(isActive() && index[0]<values.length){
+                            requested.decrementAndGet();
+                            onNext.accept(values[index[0]++]);
+                        }
+                    }
+                };
+            }
+
+            @Override
+            public void subscribeAll(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                for(Integer next : values)
+                    onNext.accept(next);
+            }
+        };
+    }
+    private static void await(BooleanSupplier condition){
+        long start = System.currentTimeMillis();
+        while(!condition.getAsBoolean() && System.currentTimeMillis()-start<5000){
+            Thread.yield();
+        }
+    }
+
+    @Test
+    public void groupsByKey(){
+        Map<Integer,List<Integer>> groups = new ConcurrentHashMap<>();
+        AtomicBoolean complete = new AtomicBoolean(false);
+        Spouts.range(0,100)
+              .groupByStream(i->i%3)
+              .forEach(Long.MAX_VALUE,g->{
+                  List<Integer> values = new CopyOnWriteArrayList<>();
+                  groups.put(g.v1,values);
+                  g.v2.forEach(Long.MAX_VALUE,values::add);
+              },e->{},()->complete.set(true));
+
+        await(()->complete.get() && groups.values().stream().mapToInt(List::size).sum()==100);
+        assertTrue(complete.get());
+        assertThat(groups.keySet().size(),equalTo(3));
+        for(int key=0;key<3;key++){
+            int k = key;
+            assertThat(groups.get(key),equalTo(ReactiveSeq.range(0,100).filter(i->i%3==k).toList()));
+        }
+    }
+    @Test
+    public void groupsByKeyFlatMapP(){
+        List<Tuple2<Integer,Integer>> list = Spouts.range(0,20)
+                                                   .groupByStream(i->i%2)
+                                                   .flatMapP(g->g.v2.map(i->tuple(g.v1,i)))
+                                                   .toList();
+        assertThat(list.size(),equalTo(20));
+        for(Tuple2<Integer,Integer> next : list)
+            assertThat(next.v1,equalTo(next.v2%2));
+    }
+    @Test
+    public void groupsAreCompletedWhenUpstreamCompletes(){
+        List<Object> keys = new CopyOnWriteArrayList<>();
+        Spouts.of("a","b","a")
+              .groupByStream(s->s)
+              .forEach(Long.MAX_VALUE,g->g.v2.forEach(Long.MAX_VALUE,s->{},e->{},()->keys.add(g.v1)));
+        await(()->keys.size()==2);
+        List<Object> sorted = new ArrayList<>(keys);
+        Collections.sort((List)sorted);
+        assertThat(sorted,equalTo(Arrays.asList("a","b")));
+    }
+
+    @Test
+    public void leastRecentlyActiveGroupEvicted(){
+        List<Tuple2<Integer,List<Integer>>> groups = new CopyOnWriteArrayList<>();
+        List<Integer> completed = new CopyOnWriteArrayList<>();
+        Spouts.of(0,1,2,0)
+              .groupByStream(i->i,2,0,TimeUnit.SECONDS)
+              .forEach(Long.MAX_VALUE,g->{
+                  List<Integer> values = new CopyOnWriteArrayList<>();
+                  groups.add(tuple(g.v1,values));
+                  g.v2.forEach(Long.MAX_VALUE,values::add,e->{},()->completed.add(g.v1));
+              });
+        await(()->completed.size()==4);
+        assertThat(groups.size(),equalTo(4));
+        assertThat(groups.get(0),equalTo(tuple(0,Arrays.asList(0))));
+        assertThat(groups.get(3),equalTo(tuple(0,Arrays.asList(0))));
+        assertThat(completed.get(0),equalTo(0));
+    }
+
+    @Test
+    public void idleGroupsClosed(){
+        List<Integer> completed = new CopyOnWriteArrayList<>();
+        AtomicBoolean outerComplete = new AtomicBoolean(false);
+        StreamSubscription sub = new GroupByStreamOperator<Integer,Integer>(quiet(1,2,3,4),i->i%2,16,
+                                                        TimeUnit.MILLISECONDS.toNanos(10),16)
+                .subscribe(g->{
+                    g.v2.subscribe(i->{},e->{},()->completed.add(g.v1)).request(Long.MAX_VALUE);
+                },e->{},()->outerComplete.set(true));
+        sub.request(Long.MAX_VALUE);
+        await(()->completed.size()==2);
+        Collections.sort(completed);
+        assertThat(completed,equalTo(Arrays.asList(0,1)));
+        assertFalse(outerComplete.get());
+        sub.cancel();
+    }
+
+    @Test
+    public void perGroupBackpressure(){
+        Map<Integer,List<Integer>> values = new ConcurrentHashMap<>();
+        Map<Integer,StreamSubscription> subs = new ConcurrentHashMap<>();
+        StreamSubscription sub = new GroupByStreamOperator<Integer,Integer>(quiet(0,1,2,3,4,5,6,7),i->i%2,16,0,16)
+                .subscribe(g->{
+                    List<Integer> list = new CopyOnWriteArrayList<>();
+                    values.put(g.v1,list);
+                    subs.put(g.v1,g.v2.subscribe(list::add,e->{},()->{}));
+                },e->{},()->{});
+        sub.request(Long.MAX_VALUE);
+        subs.get(0).request(1);
+        subs.get(1).request(3);
+        assertThat(values.get(0),equalTo(Arrays.asList(0)));
+        assertThat(values.get(1),equalTo(Arrays.asList(1,3,5)));
+        subs.get(0).request(10);
+        assertThat(values.get(0),equalTo(Arrays.asList(0,2,4,6)));
+        sub.cancel();
+    }
+
+    @Test
+    public void upstreamAdvancesAsGroupsConsume(){
+        List<Integer> values = new CopyOnWriteArrayList<>();
+        StreamSubscription[] group = {null};
+        StreamSubscription sub = new GroupByStreamOperator<Integer,Integer>(new RangeIntOperator(0,100),i->0,16,0,8)
+                .subscribe(g->group[0]=g.v2.subscribe(values::add,e->{},()->{}),e->{},()->{});
+        sub.request(1);
+        assertThat(values.size(),equalTo(0));
+        group[0].request(Long.MAX_VALUE);
+        await(()->values.size()==100);
+        assertThat(values,equalTo(ReactiveSeq.range(0,100).toList()));
+    }
+
+    @Test
+    public void groupCanOnlyBeSubscribedOnce(){
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        new GroupByStreamOperator<Integer,Integer>(quiet(1),i->i,16,0,16)
+                .subscribe(g->{
+                    g.v2.subscribe(i->{},e->{},()->{});
+                    g.v2.subscribe(i->{},errors::add,()->{});
+                },e->{},()->{}).request(1);
+        assertThat(errors.size(),equalTo(1));
+        assertThat(errors.get(0),instanceOf(IllegalStateException.class));
+    }
+}
@@ -0,0 +1,176 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.grouping.groupedTimeAndSize;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.GroupedByTimeAndSizeOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.GroupedByTimeOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.Operator;
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class GroupedByTimeTickTest {
+
+    List<List<Integer>> values = new CopyOnWriteArrayList<>();
+    List<Throwable> errors = new CopyOnWriteArrayList<>();
+    AtomicBoolean complete = new AtomicBoolean(false);
+
+    /**
+     * Emits the provided values as they are requested, but never completes
+     */
+    static Operator<Integer> quiet(Integer... values){
+        return new Operator<Integer>() {
+            @Override
+            public StreamSubscription subscribe(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                int[] index = {0};
+                return new StreamSubscription(){
+                    @Override
+                    public void request(long n) {
+                        super.request(n);
+                        while(isActive() && index[0]<values.length){
+                            requested.decrementAndGet();
+                            onNext.accept(values[index[0]++]);
+                        }
+                    }
+                };
+            }
+
+            @Override
+            public void subscribeAll(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                for(Integer next : values)
+                    onNext.accept(next);
+            }
+        };
+    }
+    /**
+     * Emits the next value each time one is made available via push and has been requested, values are emitted synchronously
+     * from request if they are already available
+     */
+    static class Manual implements Operator<Integer> {
+        int available = 0;
+        int value = 0;
+        Emitter sub;
+
+        class Emitter extends StreamSubscription {
+            final Consumer<? super Integer> onNext;
+
+            Emitter(Consumer<? super Integer> onNext){
+                this.onNext = onNext;
+            }
+            @Override
+            public void request(long n) {
+                super.request(n);
+                emit();
+            }
+            void emit(){
+                while(isActive() && available>0){
+                    available--;
+                    requested.decrementAndGet();
+                    onNext.accept(++value);
+                }
+            }
+        }
+        void push(int n){
+            available+=n;
+            sub.emit();
+        }
+        void makeAvailable(int n){
+            available+=n;
+        }
+        @Override
+        public StreamSubscription subscribe(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            sub = new Emitter(onNext);
+            return sub;
+        }
+
+        @Override
+        public void subscribeAll(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            throw new UnsupportedOperationException();
+        }
+    }
+    private void await(int groups){
+        long start = System.currentTimeMillis();
+        while(values.size()<groups && System.currentTimeMillis()-start<5000){
+            Thread.yield();
+        }
+    }
+
+    @Test
+    public void partialGroupFlushedWithoutTraffic(){
+        StreamSubscription sub = new GroupedByTimeOperator<Integer,List<Integer>,List<Integer>>(quiet(1,2,3),ArrayList::new,
+                                            i->i,10, TimeUnit.MILLISECONDS)
+                                    .subscribe(values::add,errors::add,()->complete.set(true));
+        sub.request(Long.MAX_VALUE);
+        await(1);
+        assertThat(values,equalTo(Arrays.asList(Arrays.asList(1,2,3))));
+        assertFalse(complete.get());
+        sub.cancel();
+    }
+    @Test
+    public void partialGroupFlushedWithoutTrafficSubscribeAll(){
+        new GroupedByTimeOperator<Integer,List<Integer>,List<Integer>>(quiet(1,2,3),ArrayList::new,
+                                            i->i,10, TimeUnit.MILLISECONDS)
+                                    .subscribeAll(values::add,errors::add,()->complete.set(true));
+        await(1);
+        assertThat(values,equalTo(Arrays.asList(Arrays.asList(1,2,3))));
+        assertFalse(complete.get());
+    }
+    @Test
+    public void sizeAndTimePartialGroupFlushed(){
+        StreamSubscription sub = new GroupedByTimeAndSizeOperator<Integer,List<Integer>,List<Integer>>(quiet(1,2,3,4,5),ArrayList::new,
+                                            i->i,10, TimeUnit.MILLISECONDS,3)
+                                    .subscribe(values::add,errors::add,()->complete.set(true));
+        sub.request(2);
+        await(2);
+        assertThat(values,equalTo(Arrays.asList(Arrays.asList(1,2,3),Arrays.asList(4,5))));
+        sub.cancel();
+    }
+    @Test
+    public void tickRespectsDemand() throws InterruptedException {
+        StreamSubscription sub = new GroupedByTimeAndSizeOperator<Integer,List<Integer>,List<Integer>>(quiet(1,2,3,4,5),ArrayList::new,
+                                            i->i,10, TimeUnit.MILLISECONDS,2)
+                                    .subscribe(values::add,errors::add,()->complete.set(true));
+        sub.request(1);
+        await(1);
+        Thread.sleep(50);
+        assertThat(values,equalTo(Arrays.asList(Arrays.asList(1,2))));
+        sub.request(2);
+        await(3);
+        assertThat(values,equalTo(Arrays.asList(Arrays.asList(1,2),Arrays.asList(3,4),Arrays.asList(5))));
+        assertTrue(errors.isEmpty());
+        sub.cancel();
+    }
+    @Test
+    public void windowExpiredWithoutDemandDoesNotFlushNextGroup() throws InterruptedException {
+        Manual source = new Manual();
+        StreamSubscription sub = new GroupedByTimeAndSizeOperator<Integer,List<Integer>,List<Integer>>(source,ArrayList::new,
+                                            i->i,20, TimeUnit.MILLISECONDS,2)
+                                    .subscribe(values::add,errors::add,()->complete.set(true));
+        sub.request(1);
+        source.push(1);
+        await(1);
+        assertThat(values,equalTo(Arrays.asList(Arrays.asList(1))));
+
+        //2 arrives in a window that expires while there is no demand
+        source.push(1);
+        Thread.sleep(100);
+        assertThat(values.size(),equalTo(1));
+
+        //2 is closed on size by 3, the window for 4 has only just started
+        source.makeAvailable(3);
+        sub.request(2);
+        assertThat(values,equalTo(Arrays.asList(Arrays.asList(1),Arrays.asList(2,3),Arrays.asList(4,5))));
+        assertTrue(errors.isEmpty());
+        sub.cancel();
+    }
+}
@@ -0,0 +1,39 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.grouping.sliding;
+
+import com.aol.cyclops2.internal.stream.spliterators.SlidingWindow;
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class SlidingWindowOperatorTest extends AbstractOperatorTest {
+
+
+    public Operator<Integer> createEmpty(){
+        return new MapOperator<List<Integer>,Integer>(new SlidingWindowOperator<Integer,List<Integer>>(new ArrayOfValuesOperator<>(),
+                ()->SlidingWindow.views(1,1)),i->i.get(0));
+    }
+    public Operator<Integer> createOne(){
+        return new MapOperator<List<Integer>,Integer>(new SlidingWindowOperator<Integer,List<Integer>>(new ArrayOfValuesOperator<>(1),
+                ()->SlidingWindow.views(1,1)),i->i.get(0));
+
+    }
+
+    public Operator<Integer> createThree(){
+        List<Integer> list = Arrays.asList(1,2,3,4,5,6,7,8,9);
+        return new MapOperator<List<Integer>,Integer>(new SlidingWindowOperator<Integer,List<Integer>>(new IterableSourceOperator<>(list),
+                ()->SlidingWindow.buffer(3,3)),i->i.get(0));
+    }
+    public Operator<Integer> createTwoAndError(){
+
+        return new MapOperator<List<Integer>,Integer>(new SlidingWindowOperator<Integer,List<Integer>>(Fixtures.twoAndErrorSource,
+                ()->SlidingWindow.views(1,1)),i->i.get(0));
+    }
+    public Operator<Integer> createThreeErrors(){
+        return new MapOperator<List<Integer>,Integer>(new SlidingWindowOperator<Integer,List<Integer>>(Fixtures.threeErrorsSource,
+                ()->SlidingWindow.views(1,1)),i->i.get(0));
+    }
+
+
+
+}
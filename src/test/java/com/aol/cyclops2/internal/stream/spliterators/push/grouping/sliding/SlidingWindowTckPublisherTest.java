@@ -0,0 +1,31 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.grouping.sliding;
+
+
+import cyclops.stream.Spouts;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.tck.PublisherVerification;
+import org.reactivestreams.tck.TestEnvironment;
+import org.testng.annotations.Test;
+
+@Test
+public class SlidingWindowTckPublisherTest extends PublisherVerification<Long>{
+
+	public SlidingWindowTckPublisherTest(){
+		  super(new TestEnvironment(300L));
+	}
+	
+
+	@Override
+	public Publisher<Long> createPublisher(long elements) {
+		return Spouts.iterate(0l, i->i+1l).slidingView(2,1).map(l->l.get(0)).limit(elements);
+		
+	}
+
+	@Override
+	public Publisher<Long> createFailedPublisher() {
+		return null; //not possible to forEachAsync to failed Stream
+		
+	}
+	
+
+}
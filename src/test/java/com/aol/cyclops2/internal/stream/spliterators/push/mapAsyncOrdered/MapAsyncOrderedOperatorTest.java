@@ -0,0 +1,29 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.mapAsyncOrdered;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+
+import java.util.concurrent.CompletableFuture;
+
+public class MapAsyncOrderedOperatorTest extends AbstractOperatorTest {
+
+
+    public Operator<Integer> createEmpty(){
+       return new MapAsyncOrderedOperator<Integer,Integer>(new ArrayOfValuesOperator<>(),CompletableFuture::completedFuture,4);
+    }
+    public Operator<Integer> createOne(){
+        return new MapAsyncOrderedOperator<Integer,Integer>(new SingleValueOperator<>(1),CompletableFuture::completedFuture,4);
+    }
+
+    public Operator<Integer> createThree(){
+        return  new MapAsyncOrderedOperator<Integer,Integer>(new ArrayOfValuesOperator<>(1,2,3),CompletableFuture::completedFuture,4);
+    }
+    public Operator<Integer> createTwoAndError(){
+        return  new MapAsyncOrderedOperator<Integer,Integer>(Fixtures.twoAndErrorSource,CompletableFuture::completedFuture,4);
+    }
+    public Operator<Integer> createThreeErrors(){
+        return  new MapAsyncOrderedOperator<Integer,Integer>(Fixtures.threeErrorsSource,CompletableFuture::completedFuture,4);
+    }
+
+
+
+}
@@ -0,0 +1,137 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.mapAsyncOrdered;
+
+import cyclops.async.LazyReact;
+import cyclops.collections.mutable.ListX;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public class MapAsyncOrderedTest {
+
+    ExecutorService ex;
+
+    @Before
+    public void setup(){
+        ex = Executors.newFixedThreadPool(8);
+    }
+    @After
+    public void tearDown(){
+        ex.shutdownNow();
+    }
+
+    private CompletableFuture<Integer> slowFirst(int i){
+        return CompletableFuture.supplyAsync(()->{
+            sleep(i%10==0 ? 20 : 1);
+            return i*2;
+        },ex);
+    }
+    private void sleep(long millis){
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    public void inputOrder(){
+        ListX<Integer> result = Spouts.range(0,100)
+                                      .mapAsyncOrdered(this::slowFirst,8)
+                                      .toListX();
+        assertThat(result,equalTo(ReactiveSeq.range(0,100).map(i->i*2).toListX()));
+    }
+    @Test
+    public void pullBasedSequence(){
+        ListX<Integer> result = ReactiveSeq.range(0,50)
+                                           .mapAsyncOrdered(this::slowFirst,4)
+                                           .toListX();
+        assertThat(result,equalTo(ReactiveSeq.range(0,50).map(i->i*2).toListX()));
+    }
+    @Test
+    public void maxInFlightBounded(){
+        AtomicInteger active = new AtomicInteger(0);
+        AtomicInteger maxActive = new AtomicInteger(0);
+        ListX<Integer> result = Spouts.range(0,100)
+                                      .mapAsyncOrdered(i->{
+                                          maxActive.accumulateAndGet(active.incrementAndGet(),Math::max);
+                                          return slowFirst(i).whenComplete((r,t)->active.decrementAndGet());
+                                      },5)
+                                      .toListX();
+        assertThat(result.size(),equalTo(100));
+        assertThat(maxActive.get(),lessThanOrEqualTo(5));
+    }
+    @Test
+    public void slowHeadAppliesBackpressure() throws InterruptedException {
+        CompletableFuture<Integer> head = new CompletableFuture<>();
+        AtomicInteger requested = new AtomicInteger(0);
+        AtomicInteger received = new AtomicInteger(0);
+        Spouts.range(0,20)
+              .peek(i->requested.incrementAndGet())
+              .mapAsyncOrdered(i->i==0 ? head : CompletableFuture.completedFuture(i),4)
+              .forEachSubscribe(i->received.incrementAndGet(),e->{},()->{})
+              .request(Long.MAX_VALUE);
+
+        Thread.sleep(100);
+        assertThat(requested.get(),equalTo(4));
+        assertThat(received.get(),equalTo(0));
+        head.complete(0);
+        assertThat(received.get(),equalTo(20));
+        assertThat(requested.get(),equalTo(20));
+    }
+    @Test
+    public void errorsInOrder(){
+        ListX<Integer> result = Spouts.range(0,6)
+                                      .mapAsyncOrdered(i->{
+                                          if(i==3) {
+                                              CompletableFuture<Integer> f = new CompletableFuture<>();
+                                              f.completeExceptionally(new RuntimeException("boo!"));
+                                              return f;
+                                          }
+                                          return slowFirst(i);
+                                      },3)
+                                      .recover(e->-1)
+                                      .toListX();
+        assertThat(result,equalTo(ListX.of(0,2,4,-1,8,10)));
+    }
+    @Test
+    public void functionThrows(){
+        ListX<Integer> result = Spouts.of(1,2,3)
+                                      .<Integer>mapAsyncOrdered(i->{
+                                          if(i==2)
+                                              throw new RuntimeException("boo!");
+                                          return CompletableFuture.completedFuture(i);
+                                      },2)
+                                      .recover(e->-1)
+                                      .toListX();
+        assertThat(result,equalTo(ListX.of(1,-1,3)));
+    }
+    @Test
+    public void nullResults(){
+        assertThat(Spouts.of(1,2,3)
+                         .mapAsyncOrdered(i->CompletableFuture.<Integer>completedFuture(null),2)
+                         .toListX().size(),equalTo(3));
+    }
+    @Test
+    public void futureStream(){
+        ListX<Integer> result = LazyReact.sequentialBuilder()
+                                         .of(5,1,4,2,3)
+                                         .mapAsyncOrdered(this::slowFirst,2)
+                                         .toListX();
+        assertThat(result,equalTo(ListX.of(10,2,8,4,6)));
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidMaxInFlight(){
+        Spouts.of(1).mapAsyncOrdered(CompletableFuture::completedFuture,0);
+    }
+}
@@ -0,0 +1,27 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.multicast;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+
+public class MultiCastOperatorTest extends AbstractOperatorTest {
+
+
+    public Operator<Integer> createEmpty(){
+       return new MultiCastOperator<Integer>(new ArrayOfValuesOperator<>(), 1);
+    }
+    public Operator<Integer> createOne(){
+        return new MultiCastOperator<Integer>(new SingleValueOperator<>(1), 1);
+    }
+
+    public Operator<Integer> createThree(){
+        return  new MultiCastOperator<Integer>(new ArrayOfValuesOperator<>(1,2,3),1);
+    }
+    public Operator<Integer> createTwoAndError(){
+        return  new MultiCastOperator<Integer>(Fixtures.twoAndErrorSource, 1);
+    }
+    public Operator<Integer> createThreeErrors(){
+        return  new MultiCastOperator<Integer>(Fixtures.threeErrorsSource, 1);
+    }
+
+
+
+}
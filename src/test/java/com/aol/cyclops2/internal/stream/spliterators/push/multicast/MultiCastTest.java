@@ -0,0 +1,119 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.multicast;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.ArrayOfValuesOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.MapOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.MultiCastOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.RangeIntOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+import cyclops.async.adapters.Topic.SlowSubscriberPolicy;
+import cyclops.collections.mutable.ListX;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class MultiCastTest {
+
+    ListX<Integer> values1 = ListX.empty();
+    ListX<Integer> values2 = ListX.empty();
+    boolean complete1 = false;
+    boolean complete2 = false;
+
+    @Test
+    public void sharedUpstream(){
+        AtomicInteger emitted = new AtomicInteger(0);
+        MultiCastOperator<Integer> op = new MultiCastOperator<>(new MapOperator<Integer,Integer>(new RangeIntOperator(0,100),i->{
+                                                                            emitted.incrementAndGet();
+                                                                            return i;
+                                                                        }),2);
+        op.subscribeAll(values1::add,e->{},()->complete1=true);
+        assertThat(values1.size(),equalTo(0));
+        op.subscribeAll(values2::add,e->{},()->complete2=true);
+
+        assertThat(values1,equalTo(ReactiveSeq.range(0,100).toListX()));
+        assertThat(values2,equalTo(ReactiveSeq.range(0,100).toListX()));
+        assertTrue(complete1);
+        assertTrue(complete2);
+        assertThat(emitted.get(),equalTo(100));
+    }
+    @Test
+    public void slowestDrivesDemand(){
+        AtomicInteger emitted = new AtomicInteger(0);
+        MultiCastOperator<Integer> op = new MultiCastOperator<>(new MapOperator<Integer,Integer>(new RangeIntOperator(0,100),i->{
+                                                                            emitted.incrementAndGet();
+                                                                            return i;
+                                                                        }),2,8,0, SlowSubscriberPolicy.BLOCK);
+        StreamSubscription fast = op.subscribe(values1::add,e->{},()->complete1=true);
+        StreamSubscription slow = op.subscribe(values2::add,e->{},()->complete2=true);
+        fast.request(50);
+        assertThat(values1.size(),equalTo(8));
+        assertThat(values2.size(),equalTo(0));
+        assertThat(emitted.get(),equalTo(8));
+        slow.request(2);
+        assertThat(values1.size(),equalTo(8));
+        assertThat(values2.size(),equalTo(2));
+        slow.request(4);
+        assertThat(values1.size(),equalTo(14));
+        assertThat(values2.size(),equalTo(6));
+        slow.request(Long.MAX_VALUE);
+        fast.request(Long.MAX_VALUE);
+        assertThat(values1.size(),equalTo(100));
+        assertThat(values2.size(),equalTo(100));
+        assertTrue(complete1);
+        assertTrue(complete2);
+    }
+    @Test
+    public void dropSlowest(){
+        MultiCastOperator<Integer> op = new MultiCastOperator<>(new RangeIntOperator(0,100),2,8,0, SlowSubscriberPolicy.DROP);
+        StreamSubscription fast = op.subscribe(values1::add,e->{},()->complete1=true);
+        StreamSubscription slow = op.subscribe(values2::add,e->{},()->complete2=true);
+        fast.request(Long.MAX_VALUE);
+        assertThat(values1.size(),equalTo(100));
+        assertTrue(complete1);
+        slow.request(Long.MAX_VALUE);
+        assertThat(values2,equalTo(ReactiveSeq.range(92,100).toListX()));
+        assertTrue(complete2);
+    }
+    @Test
+    public void replay(){
+        MultiCastOperator<Integer> op = new MultiCastOperator<>(new ArrayOfValuesOperator<>(1,2,3,4,5),1,2,3, SlowSubscriberPolicy.BLOCK);
+        op.subscribeAll(values1::add,e->{},()->complete1=true);
+        op.subscribeAll(values2::add,e->{},()->complete2=true);
+        assertThat(values1,equalTo(ListX.of(1,2,3,4,5)));
+        assertThat(values2,equalTo(ListX.of(3,4,5)));
+        assertTrue(complete2);
+    }
+    @Test
+    public void errorsSharedInOrder(){
+        AtomicInteger errors = new AtomicInteger(0);
+        ListX<ReactiveSeq<Integer>> streams = Spouts.of(1,2,3)
+                                                    .map(i->{
+                                                        if(i==2)
+                                                            throw new RuntimeException();
+                                                        return i;
+                                                    })
+                                                    .multicast(2,4,0,SlowSubscriberPolicy.BLOCK);
+        streams.get(0).forEach(values1::add,e->errors.incrementAndGet());
+        streams.get(1).forEach(values2::add,e->errors.incrementAndGet());
+        assertThat(values1,equalTo(ListX.of(1,3)));
+        assertThat(values2,equalTo(ListX.of(1,3)));
+        assertThat(errors.get(),equalTo(2));
+    }
+    @Test
+    public void concurrentSubscribers() throws Exception{
+        for(int run=0;run<20;run++) {
+            ListX<ReactiveSeq<Integer>> streams = Spouts.range(0, 10_000)
+                                                        .multicast(2, 32, 0, SlowSubscriberPolicy.BLOCK);
+            CompletableFuture<ListX<Integer>> f1 = CompletableFuture.supplyAsync(() -> streams.get(0).toListX());
+            CompletableFuture<ListX<Integer>> f2 = CompletableFuture.supplyAsync(() -> streams.get(1).map(i -> i * 2).toListX());
+            assertThat(f1.get(), equalTo(ReactiveSeq.range(0, 10_000).toListX()));
+            assertThat(f2.get(), equalTo(ReactiveSeq.range(0, 10_000).map(i -> i * 2).toListX()));
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.parallel;
+
+import cyclops.collections.mutable.ListX;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelRailsTest {
+
+    ForkJoinPool pool;
+    @Before
+    public void setup(){
+        pool = new ForkJoinPool(4);
+    }
+    @After
+    public void teardown(){
+        pool.shutdown();
+    }
+
+    @Test
+    public void sequentialOrdered(){
+        assertThat(Spouts.range(0,10_000)
+                         .parallel(4,pool)
+                         .map(i->i*2)
+                         .sequentialOrdered()
+                         .toListX(),
+                    equalTo(ReactiveSeq.range(0,10_000).map(i->i*2).toListX()));
+    }
+    @Test
+    public void sequentialOrderedFilterFlatMap(){
+        assertThat(Spouts.range(0,1_000)
+                         .parallel(3,pool)
+                         .filter(i->i%2==0)
+                         .flatMap(i->Stream.of(i,-i))
+                         .filter(i->i%3!=0)
+                         .sequentialOrdered()
+                         .toListX(),
+                equalTo(ReactiveSeq.range(0,1_000).filter(i->i%2==0).flatMap(i->Stream.of(i,-i)).filter(i->i%3!=0).toListX()));
+    }
+    @Test
+    public void sequentialOrderedHash(){
+        assertThat(Spouts.range(0,1_000)
+                         .parallel(4,pool,i->i%3)
+                         .map(i->i+1)
+                         .sequentialOrdered()
+                         .toListX(),
+                equalTo(ReactiveSeq.range(1,1_001).toListX()));
+    }
+    @Test
+    public void sequential(){
+        assertThat(Spouts.range(0,10_000)
+                         .parallel(4,pool)
+                         .map(i->i*2)
+                         .filter(i->i%3==0)
+                         .sequential()
+                         .toListX()
+                         .toSetX(),
+                equalTo(ReactiveSeq.range(0,10_000).map(i->i*2).filter(i->i%3==0).toSetX()));
+    }
+    @Test
+    public void usesMultipleThreads(){
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        Spouts.range(0,10_000)
+              .parallel(4,pool)
+              .map(i->{
+                  threads.add(Thread.currentThread());
+                  return i;
+              })
+              .sequential()
+              .forEach(i->{});
+        assertThat(threads.size(),greaterThan(0));
+        for(Thread t : threads)
+            assertTrue(t.getName(),t.getName().contains("ForkJoinPool"));
+    }
+    @Test
+    public void hashDispatchKeepsKeysOnOneRail(){
+        ConcurrentHashMap<Integer,Set<Thread>> byKey = new ConcurrentHashMap<>();
+        ListX<Integer> result = Spouts.range(0,1_000)
+                                      .parallel(4,pool,i->i%5)
+                                      .map(i->i)
+                                      .sequential()
+                                      .toListX();
+        assertThat(result.size(),equalTo(1_000));
+        for(int key=0;key<5;key++){
+            int k = key;
+            assertThat(result.filter(i->i%5==k).toList(),equalTo(ReactiveSeq.range(0,1_000).filter(i->i%5==k).toList()));
+        }
+    }
+    @Test
+    public void reduce(){
+        assertThat(Spouts.range(0,1_000).parallel(4,pool).reduce(0,Integer::sum),equalTo(499500));
+        assertThat(Spouts.range(0,1_000).parallel(4,pool).filter(i->i%2==0).reduce(0,Integer::sum),equalTo(249500));
+        assertThat(Spouts.range(0,1_000).parallel(4,pool).reduce(()->0,(a,b)->a+1).sequentialOrdered().toListX(),
+                    equalTo(ListX.of(250,250,250,250)));
+    }
+    @Test
+    public void errors(){
+        AtomicInteger errors = new AtomicInteger(0);
+        ListX<Integer> values = ListX.empty();
+        Spouts.range(0,100)
+              .parallel(4,pool)
+              .map(i->{
+                  if(i%10==0)
+                      throw new RuntimeException();
+                  return i;
+              })
+              .sequentialOrdered()
+              .forEach(values::add,e->errors.incrementAndGet(),()->{});
+        while(values.size()+errors.get()<100){
+            Thread.yield();
+        }
+        assertThat(errors.get(),equalTo(10));
+        assertThat(values,equalTo(ReactiveSeq.range(0,100).filter(i->i%10!=0).toListX()));
+    }
+    @Test
+    public void boundedBuffering(){
+        AtomicInteger emitted = new AtomicInteger(0);
+        ListX<Integer> values = ListX.empty();
+        Spouts.range(0,100_000)
+              .peek(i->emitted.incrementAndGet())
+              .parallel(4,pool)
+              .sequential()
+              .forEach(10,values::add);
+        while(values.size()<10){
+            Thread.yield();
+        }
+        assertTrue("Emitted " + emitted.get(),emitted.get()<=4*256*2);
+    }
+    @Test
+    public void pullBased(){
+        assertThat(ReactiveSeq.of(1,2,3,4,5).parallel(2,pool).map(i->i*10).sequentialOrdered().toListX(),
+                    equalTo(ListX.of(10,20,30,40,50)));
+    }
+    @Test
+    public void repeatable(){
+        ReactiveSeq<Integer> seq = Spouts.range(0,100).parallel(4,pool).map(i->i+1).sequentialOrdered();
+        assertThat(seq.toListX(),equalTo(ReactiveSeq.range(1,101).toListX()));
+        assertThat(seq.toListX(),equalTo(ReactiveSeq.range(1,101).toListX()));
+    }
+}
@@ -0,0 +1,74 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.primitives;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import cyclops.collections.mutable.ListX;
+import org.junit.Test;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class IntOperatorTest extends AbstractOperatorTest {
+
+
+    public Operator<Integer> createEmpty(){
+        return new IntFilterOperator(new IntMapOperator(new IntArrayOperator(1,2,3), i->i*2),i->i>10);
+    }
+    public Operator<Integer> createOne(){
+        return new IntLimitOperator(new IntSkipOperator(new IntArrayOperator(1,2,3),1),1);
+    }
+
+    public Operator<Integer> createThree(){
+        return new IntMapOperator(new IntFilterOperator(new IntArrayOperator(1,2,3,4,5,6), i->i%2==0),i->i+1);
+    }
+    public Operator<Integer> createTwoAndError(){
+        return new IntMapOperator(new IntArrayOperator(1,2,3), i->{
+            if(i==3)
+                throw new RuntimeException();
+            return i;
+        });
+    }
+    public Operator<Integer> createThreeErrors(){
+        return new IntMapOperator(new IntArrayOperator(1,2,3), i->{
+            throw new RuntimeException();
+        });
+    }
+
+    //pushes all of it's values, without waiting for demand, before subscribe returns
+    private IntOperator eager(int... values){
+        return new IntOperator() {
+            @Override
+            public StreamSubscription subscribeInts(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                subscribeAllInts(onNext,onError,onComplete);
+                return new StreamSubscription();
+            }
+
+            @Override
+            public void subscribeAllInts(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                for(int i : values)
+                    onNext.accept(i);
+                onComplete.run();
+            }
+        };
+    }
+    private ListX<Object> collect(IntOperator op){
+        ListX<Object> result = ListX.empty();
+        op.subscribeInts(result::add,result::add,()->result.add("complete"));
+        return result;
+    }
+
+    @Test
+    public void limitExceededBeforeSubscribeReturns(){
+        assertThat(collect(new IntLimitOperator(eager(1,2,3,4),2)),equalTo(ListX.of(1,2,"complete")));
+    }
+    @Test
+    public void skipBeforeSubscribeReturns(){
+        assertThat(collect(new IntSkipOperator(eager(1,2,3,4),2)),equalTo(ListX.of(3,4,"complete")));
+    }
+    @Test
+    public void filterBeforeSubscribeReturns(){
+        assertThat(collect(new IntFilterOperator(eager(1,2,3,4),i->i%2==0)),equalTo(ListX.of(2,4,"complete")));
+    }
+}
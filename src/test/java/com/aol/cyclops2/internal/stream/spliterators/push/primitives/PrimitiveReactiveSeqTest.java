@@ -0,0 +1,57 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.primitives;
+
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class PrimitiveReactiveSeqTest {
+
+    @Test
+    public void ints(){
+        assertThat(ReactiveSeq.ofInts(1,2,3,4).mapInts(i->i*2).filterInts(i->i>2).sumInts(),equalTo(18));
+    }
+    @Test
+    public void intsFused(){
+        assertThat(ReactiveSeq.ofInts(1,2,3,4,5,6)
+                        .mapInts(i->i+1)
+                        .mapInts(i->i*2)
+                        .filterInts(i->i>4)
+                        .filterInts(i->i<14)
+                        .toListX(),
+                    equalTo(Arrays.asList(6,8,10,12)));
+    }
+    @Test
+    public void intsSkipLimit(){
+        assertThat(ReactiveSeq.ofInts(1,2,3,4,5,6).skip(2).limit(3).toListX(),equalTo(Arrays.asList(3,4,5)));
+        assertThat(ReactiveSeq.ofInts(1,2,3,4,5,6).skip(2).limit(3).sumInts(),equalTo(12));
+    }
+    @Test
+    public void intsBoxedOps(){
+        assertThat(ReactiveSeq.ofInts(1,2,3).mapInts(i->i*10).map(i->"x"+i).toListX(),equalTo(Arrays.asList("x10","x20","x30")));
+    }
+    @Test
+    public void range(){
+        assertThat(Spouts.range(0,100).filterInts(i->i%2==0).sumInts(),equalTo(2450));
+        assertThat(Spouts.range(0,100).limit(10).reduceInts(1,(a,b)->a+b),equalTo(46));
+    }
+    @Test
+    public void longs(){
+        assertThat(ReactiveSeq.ofLongs(1,2,3,4).mapLongs(i->i*2).filterLongs(i->i>2).sumLongs(),equalTo(18l));
+        assertThat(Spouts.rangeLong(0,10).skip(5).sumLongs(),equalTo(35l));
+    }
+    @Test
+    public void doubles(){
+        assertThat(ReactiveSeq.ofDoubles(1,2,3,4).mapDoubles(i->i*2).filterDoubles(i->i>2).sumDoubles(),equalTo(18d));
+        assertThat(ReactiveSeq.ofDoubles(1,2,3,4).limit(2).toListX(),equalTo(Arrays.asList(1d,2d)));
+    }
+    @Test
+    public void emptyReduce(){
+        assertThat(ReactiveSeq.ofInts().sumInts(),equalTo(0));
+        assertThat(ReactiveSeq.ofInts(1,2).filterInts(i->false).reduceInts(-1,(a,b)->a+b),equalTo(-1));
+    }
+}
@@ -0,0 +1,27 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.publishOn;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+
+public class PublishOnOperatorTest extends AbstractOperatorTest {
+
+
+    public Operator<Integer> createEmpty(){
+       return new PublishOnOperator<Integer>(new ArrayOfValuesOperator<>(), Runnable::run,2);
+    }
+    public Operator<Integer> createOne(){
+        return new PublishOnOperator<Integer>(new SingleValueOperator<>(1), Runnable::run,2);
+    }
+
+    public Operator<Integer> createThree(){
+        return  new PublishOnOperator<Integer>(new ArrayOfValuesOperator<>(1,2,3),Runnable::run,2);
+    }
+    public Operator<Integer> createTwoAndError(){
+        return  new PublishOnOperator<Integer>(Fixtures.twoAndErrorSource, Runnable::run,2);
+    }
+    public Operator<Integer> createThreeErrors(){
+        return  new PublishOnOperator<Integer>(Fixtures.threeErrorsSource, Runnable::run,2);
+    }
+
+
+
+}
@@ -0,0 +1,180 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.publishOn;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.Operator;
+import com.aol.cyclops2.internal.stream.spliterators.push.PublishOnOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+import cyclops.collections.mutable.ListX;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class PublishOnTest {
+
+    ExecutorService ex1;
+    ExecutorService ex2;
+    @Before
+    public void setup(){
+        ex1 = Executors.newSingleThreadExecutor();
+        ex2 = Executors.newSingleThreadExecutor();
+    }
+    @After
+    public void teardown(){
+        ex1.shutdown();
+        ex2.shutdown();
+    }
+
+    @Test
+    public void publishOnPreservesOrder(){
+        ListX<Integer> result = Spouts.range(0,10_000)
+                                      .map(i->i*2)
+                                      .publishOn(ex1,16)
+                                      .map(i->i+1)
+                                      .toListX();
+        assertThat(result.size(),equalTo(10_000));
+        assertThat(result,equalTo(ReactiveSeq.range(0,10_000).map(i->i*2+1).toListX()));
+    }
+    @Test
+    public void publishOnThread(){
+        Thread main = Thread.currentThread();
+        AtomicReference<Thread> downstream = new AtomicReference<>();
+        Spouts.of(1,2,3)
+              .publishOn(ex1,4)
+              .peek(i->downstream.set(Thread.currentThread()))
+              .toListX();
+        assertThat(downstream.get(),not(equalTo(main)));
+    }
+    @Test
+    public void publishOnBoundedPrefetch(){
+        AtomicInteger emitted = new AtomicInteger(0);
+        Spouts.range(0,1000)
+              .peek(i->emitted.incrementAndGet())
+              .publishOn(ex1,8)
+              .forEach(i->{});
+        assertThat(emitted.get(),equalTo(1000));
+
+        AtomicInteger bounded = new AtomicInteger(0);
+        ListX<Integer> values = ListX.empty();
+        Spouts.range(0,1000)
+              .peek(i->bounded.incrementAndGet())
+              .publishOn(ex1,8)
+              .forEach(1,values::add);
+        while(values.size()<1){
+            Thread.yield();
+        }
+        assertTrue("Requested " + bounded.get(),bounded.get()<=8);
+    }
+    @Test
+    public void publishOnPipelined(){
+        ListX<Integer> result = Spouts.range(0,1000)
+                                      .subscribeOn(ex2)
+                                      .map(i->i*2)
+                                      .publishOn(ex1,32)
+                                      .filter(i->i%3==0)
+                                      .toListX();
+        assertThat(result,equalTo(ReactiveSeq.range(0,1000).map(i->i*2).filter(i->i%3==0).toListX()));
+    }
+    @Test
+    public void publishOnErrors(){
+        AtomicInteger errors = new AtomicInteger(0);
+        ListX<Integer> values = ListX.empty();
+        Spouts.of(1,2,3,4)
+              .map(i->{
+                  if(i%2==0)
+                      throw new RuntimeException();
+                  return i;
+              })
+              .publishOn(ex1,2)
+              .forEach(values::add,e->errors.incrementAndGet(),()->{});
+        while(values.size()+errors.get()<4){
+            Thread.yield();
+        }
+        assertThat(values,equalTo(ListX.of(1,3)));
+        assertThat(errors.get(),equalTo(2));
+    }
+    @Test
+    public void subscribeOnThread(){
+        Thread main = Thread.currentThread();
+        AtomicReference<Thread> upstream = new AtomicReference<>();
+        Spouts.of(1,2,3)
+              .peek(i->upstream.set(Thread.currentThread()))
+              .subscribeOn(ex2)
+              .toListX();
+        assertThat(upstream.get(),not(equalTo(main)));
+    }
+    @Test
+    public void pullPublishOn(){
+        assertThat(ReactiveSeq.of(1,2,3).publishOn(ex1,2).toListX(),equalTo(ListX.of(1,2,3)));
+        assertThat(ReactiveSeq.of(1,2,3).subscribeOn(ex2).toListX(),equalTo(ListX.of(1,2,3)));
+    }
+
+    private Operator<Integer> ignoresDemand(int values, boolean error){
+        return new Operator<Integer>() {
+            @Override
+            public StreamSubscription subscribe(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                return new StreamSubscription(){
+                    @Override
+                    public void request(long n) {
+                        for(int i=0;i<values;i++)
+                            onNext.accept(i);
+                        if(error)
+                            onError.accept(new RuntimeException("boo!"));
+                        onComplete.run();
+                    }
+                };
+            }
+
+            @Override
+            public void subscribeAll(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                subscribe(onNext,onError,onComplete).request(Long.MAX_VALUE);
+            }
+        };
+    }
+    private void publishDeferred(Operator<Integer> source, List<Integer> values, List<Throwable> errors, AtomicBoolean complete){
+        List<Runnable> tasks = new ArrayList<>();
+        new PublishOnOperator<Integer>(source,tasks::add,2).subscribe(values::add,errors::add,()->complete.set(true))
+                                                           .request(10);
+        while(!tasks.isEmpty())
+            tasks.remove(0).run();
+    }
+    @Test
+    public void errorWhenBufferFullIsDelivered(){
+        List<Integer> values = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+        AtomicBoolean complete = new AtomicBoolean(false);
+        publishDeferred(ignoresDemand(2,true),values,errors,complete);
+
+        assertThat(values,equalTo(Arrays.asList(0,1)));
+        assertThat(errors.size(),equalTo(1));
+        assertThat(errors.get(0).getMessage(),equalTo("boo!"));
+        assertTrue(complete.get());
+    }
+    @Test
+    public void overflowIsDelivered(){
+        List<Integer> values = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+        AtomicBoolean complete = new AtomicBoolean(false);
+        publishDeferred(ignoresDemand(3,false),values,errors,complete);
+
+        assertThat(values,equalTo(Arrays.asList(0,1)));
+        assertThat(errors.size(),equalTo(1));
+        assertTrue(errors.get(0) instanceof IllegalStateException);
+        assertTrue(complete.get());
+    }
+}
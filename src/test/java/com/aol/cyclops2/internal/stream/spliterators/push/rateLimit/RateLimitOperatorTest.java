@@ -0,0 +1,29 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.rateLimit;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+
+import java.util.concurrent.TimeUnit;
+
+public class RateLimitOperatorTest extends AbstractOperatorTest {
+
+
+    public Operator<Integer> createEmpty(){
+       return new RateLimitOperator<Integer>(new ArrayOfValuesOperator<>(),1000,1,TimeUnit.SECONDS,1000);
+    }
+    public Operator<Integer> createOne(){
+        return new RateLimitOperator<Integer>(new SingleValueOperator<>(1),1000,1,TimeUnit.SECONDS,1000);
+    }
+
+    public Operator<Integer> createThree(){
+        return  new RateLimitOperator<Integer>(new ArrayOfValuesOperator<>(1,2,3),1000,1,TimeUnit.SECONDS,1000);
+    }
+    public Operator<Integer> createTwoAndError(){
+        return  new RateLimitOperator<Integer>(Fixtures.twoAndErrorSource,1000,1,TimeUnit.SECONDS,1000);
+    }
+    public Operator<Integer> createThreeErrors(){
+        return  new RateLimitOperator<Integer>(Fixtures.threeErrorsSource,1000,1,TimeUnit.SECONDS,1000);
+    }
+
+
+
+}
@@ -0,0 +1,118 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.rateLimit;
+
+import cyclops.async.LazyReact;
+import cyclops.collections.mutable.ListX;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class RateLimitTest {
+
+    @Test
+    public void rateLimitPreservesOrder(){
+        ListX<Integer> result = Spouts.range(0,100)
+                                      .rateLimit(10_000,1,TimeUnit.SECONDS)
+                                      .toListX();
+        assertThat(result,equalTo(ReactiveSeq.range(0,100).toListX()));
+    }
+    @Test
+    public void rateLimitThrottles(){
+        long start = System.currentTimeMillis();
+        ListX<Integer> result = Spouts.range(0,6)
+                                      .rateLimit(1,100,TimeUnit.MILLISECONDS)
+                                      .toListX();
+        assertThat(result.size(),equalTo(6));
+        assertThat(System.currentTimeMillis()-start,greaterThan(450l));
+    }
+    @Test
+    public void burstEmittedImmediately(){
+        long start = System.currentTimeMillis();
+        ListX<Integer> result = Spouts.range(0,5)
+                                      .rateLimit(1,1,TimeUnit.SECONDS,5)
+                                      .toListX();
+        assertThat(result.size(),equalTo(5));
+        assertThat(System.currentTimeMillis()-start,lessThan(500l));
+    }
+    @Test
+    public void upstreamRequestsLimitedByTokens() throws InterruptedException {
+        AtomicInteger emitted = new AtomicInteger(0);
+        AtomicInteger received = new AtomicInteger(0);
+        Spouts.iterate(0,i->i+1)
+              .peek(i->emitted.incrementAndGet())
+              .rateLimit(10,1,TimeUnit.SECONDS,10)
+              .forEachSubscribe(i->received.incrementAndGet(),e->{},()->{})
+              .request(Long.MAX_VALUE);
+
+        Thread.sleep(200);
+        assertThat(received.get(),lessThanOrEqualTo(13));
+        assertThat(emitted.get(),lessThanOrEqualTo(13));
+    }
+    @Test
+    public void noThreadParked() throws InterruptedException {
+        Thread main = Thread.currentThread();
+        AtomicReference<Thread> last = new AtomicReference<>();
+        AtomicInteger received = new AtomicInteger(0);
+        Spouts.range(0,3)
+              .rateLimit(1,50,TimeUnit.MILLISECONDS)
+              .forEachSubscribe(i->{
+                  last.set(Thread.currentThread());
+                  received.incrementAndGet();
+              },e->{},()->{})
+              .request(Long.MAX_VALUE);
+        //the first element is emitted from the bucket on request, the calling thread is then released
+        assertThat(received.get(),equalTo(1));
+        Thread.sleep(300);
+        assertThat(received.get(),equalTo(3));
+        assertTrue(last.get()!=main);
+    }
+    @Test
+    public void onePerAndXPer(){
+        long start = System.currentTimeMillis();
+        assertThat(Spouts.of(1,2,3).onePer(100,TimeUnit.MILLISECONDS).toListX().size(),equalTo(3));
+        assertThat(Spouts.of(1,2,3,4).xPer(2,100,TimeUnit.MILLISECONDS).toListX().size(),equalTo(4));
+        assertThat(System.currentTimeMillis()-start,greaterThan(250l));
+    }
+    @Test
+    public void errorsPassThrough(){
+        AtomicInteger errors = new AtomicInteger(0);
+        ListX<Integer> result = Spouts.of(1,2,3)
+                                      .map(i->{
+                                          if(i==2)
+                                              throw new RuntimeException("boo!");
+                                          return i;
+                                      })
+                                      .rateLimit(100,1,TimeUnit.SECONDS)
+                                      .recover(e->-1)
+                                      .toListX();
+        assertThat(result,equalTo(ListX.of(1,-1,3)));
+    }
+    @Test
+    public void futureStream(){
+        long start = System.currentTimeMillis();
+        assertThat(new LazyReact().of(1,2,3,4)
+                                  .rateLimit(2,200,TimeUnit.MILLISECONDS,1)
+                                  .toList().size(),equalTo(4));
+        assertThat(System.currentTimeMillis()-start,greaterThan(250l));
+    }
+    @Test
+    public void pullBasedSequence(){
+        assertThat(ReactiveSeq.of(1,2,3)
+                              .rateLimit(1000,1,TimeUnit.SECONDS)
+                              .toListX(),equalTo(ListX.of(1,2,3)));
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPermits(){
+        Spouts.of(1).rateLimit(0,1,TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,27 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.subscribeOn;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+
+public class SubscribeOnOperatorTest extends AbstractOperatorTest {
+
+
+    public Operator<Integer> createEmpty(){
+       return new SubscribeOnOperator<Integer>(new ArrayOfValuesOperator<>(), Runnable::run);
+    }
+    public Operator<Integer> createOne(){
+        return new SubscribeOnOperator<Integer>(new SingleValueOperator<>(1), Runnable::run);
+    }
+
+    public Operator<Integer> createThree(){
+        return  new SubscribeOnOperator<Integer>(new ArrayOfValuesOperator<>(1,2,3),Runnable::run);
+    }
+    public Operator<Integer> createTwoAndError(){
+        return  new SubscribeOnOperator<Integer>(Fixtures.twoAndErrorSource, Runnable::run);
+    }
+    public Operator<Integer> createThreeErrors(){
+        return  new SubscribeOnOperator<Integer>(Fixtures.threeErrorsSource, Runnable::run);
+    }
+
+
+
+}
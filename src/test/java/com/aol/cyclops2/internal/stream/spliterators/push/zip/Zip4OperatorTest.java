@@ -0,0 +1,54 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.zip;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import cyclops.collections.mutable.ListX;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class Zip4OperatorTest extends AbstractOperatorTest {
+
+
+    public Operator<Integer> createEmpty(){
+       return new Zipping4Operator<Integer,Integer,Integer,Integer,Integer>(new ArrayOfValuesOperator<>(),new ArrayOfValuesOperator<>(),
+                                                                    new ArrayOfValuesOperator<>(),
+                                                                     new ArrayOfValuesOperator<>(1000,1001,1002,1003),(a,b,c,d)->a+b+c+d);
+    }
+    public Operator<Integer> createOne(){
+        return new Zipping4Operator<Integer,Integer,Integer,Integer,Integer>(new ArrayOfValuesOperator<>(1),new ArrayOfValuesOperator<>(2),
+                                                                     new ArrayOfValuesOperator<>(3),
+                                                                     new ArrayOfValuesOperator<>(1000,1001,1002,1003),(a,b,c,d)->a+b+c+d);
+    }
+
+    public Operator<Integer> createThree(){
+        return new Zipping4Operator<Integer,Integer,Integer,Integer,Integer>(new ArrayOfValuesOperator<>(1,2,3),new ArrayOfValuesOperator<>(10,11,12),
+                                                                     new ArrayOfValuesOperator<>(100,101,102,103),
+                                                                     new ArrayOfValuesOperator<>(1000,1001,1002,1003),(a,b,c,d)->a+b+c+d);
+    }
+    public Operator<Integer> createTwoAndError(){
+        return new Zipping4Operator<Integer,Integer,Integer,Integer,Integer>(Fixtures.twoAndErrorSource,new ArrayOfValuesOperator<>(10,11,12),
+                                                                     new ArrayOfValuesOperator<>(100,101,102),
+                                                                     new ArrayOfValuesOperator<>(1000,1001,1002,1003),(a,b,c,d)->a+b+c+d);
+
+    }
+    public Operator<Integer> createThreeErrors(){
+        return new Zipping4Operator<Integer,Integer,Integer,Integer,Integer>(new ArrayOfValuesOperator<>(10,11,12),new ArrayOfValuesOperator<>(100,101,102),
+                                                                     Fixtures.threeErrorsSource,
+                                                                     new ArrayOfValuesOperator<>(1000,1001,1002,1003),(a,b,c,d)->a+b+c+d);
+
+    }
+
+
+    @Test
+    public void zipsInOrder() throws Exception {
+        createThree().subscribeAll(values::add,errors::add,()->onComplete =true);
+        assertThat(values,equalTo(ListX.of(1111,1115,1119)));
+        assertTrue(onComplete);
+    }
+
+
+
+}
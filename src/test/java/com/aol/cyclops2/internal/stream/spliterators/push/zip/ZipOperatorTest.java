@@ -34,15 +34,6 @@ public class ZipOperatorTest extends AbstractOperatorTest {
 
     }
 
-    @Test
-    public void subscribeThreeErrors() throws Exception {
-        Subscription sub = threeErrors.subscribe(values::add,errors::add,()->onComplete =true);
-        sub.request(1l);
-        assertThat(values.size(),equalTo(0));
-        assertThat(errors.size(),equalTo(3));
-        assertTrue(onComplete);
-
-    }
 
 
 
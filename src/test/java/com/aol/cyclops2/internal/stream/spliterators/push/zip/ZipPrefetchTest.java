@@ -0,0 +1,146 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.zip;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.IterableSourceOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.Operator;
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+import com.aol.cyclops2.internal.stream.spliterators.push.ZippingOperator;
+import cyclops.collections.mutable.ListX;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.jooq.lambda.tuple.Tuple;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ZipPrefetchTest {
+
+    static class RecordingOperator implements Operator<Integer> {
+        final Operator<Integer> source;
+        final List<Long> requests = ListX.empty();
+
+        RecordingOperator(Operator<Integer> source) {
+            this.source = source;
+        }
+
+        @Override
+        public StreamSubscription subscribe(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            StreamSubscription sub = source.subscribe(onNext, onError, onComplete);
+            return new StreamSubscription(){
+                @Override
+                public void request(long n) {
+                    requests.add(n);
+                    sub.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    sub.cancel();
+                }
+            };
+        }
+
+        @Override
+        public void subscribeAll(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+            subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+        }
+    }
+
+    @Test
+    public void demandIsBatched(){
+        RecordingOperator left = new RecordingOperator(new IterableSourceOperator<>(ReactiveSeq.range(0,100).toList()));
+        RecordingOperator right = new RecordingOperator(new IterableSourceOperator<>(ReactiveSeq.range(0,100).toList()));
+        List<Integer> values = ListX.empty();
+        boolean[] complete = {false};
+
+        new ZippingOperator<Integer,Integer,Integer>(left,right,(a,b)->a+b,16)
+                .subscribe(values::add,e->{},()->complete[0]=true)
+                .request(Long.MAX_VALUE);
+
+        assertThat(values,equalTo(ReactiveSeq.range(0,100).map(i->i*2).toList()));
+        assertTrue(complete[0]);
+        assertThat(left.requests.get(0),equalTo(16l));
+        assertThat(left.requests,everyItem(lessThanOrEqualTo(16l)));
+        assertThat(left.requests.size(),lessThanOrEqualTo(100/12+2));
+        assertThat(right.requests,equalTo(left.requests));
+    }
+
+    @Test
+    public void demandIsBoundedByPrefetch(){
+        RecordingOperator left = new RecordingOperator(new IterableSourceOperator<>(ReactiveSeq.range(0,100).toList()));
+        RecordingOperator right = new RecordingOperator(new IterableSourceOperator<>(ReactiveSeq.range(0,100).toList()));
+        List<Integer> values = ListX.empty();
+
+        new ZippingOperator<Integer,Integer,Integer>(left,right,(a,b)->a+b,8)
+                .subscribe(values::add,e->{},()->{})
+                .request(2);
+
+        assertThat(values,equalTo(ListX.of(0,2)));
+        assertThat(left.requests,equalTo(ListX.of(8l)));
+        assertThat(right.requests,equalTo(ListX.of(8l)));
+    }
+
+    @Test
+    public void prefetchOne(){
+        assertThat(Spouts.of(1,2,3,4,5)
+                         .zipS(ReactiveSeq.of("a","b","c"),(a,b)->a+b,1)
+                         .toList(),equalTo(ListX.of("1a","2b","3c")));
+    }
+
+    @Test
+    public void infiniteWithFinite(){
+        assertThat(Spouts.iterate(0,i->i+1)
+                         .zipS(ReactiveSeq.range(0,1000),(a,b)->a+b,32)
+                         .count(),equalTo(1000l));
+    }
+
+    @Test
+    public void largeZip(){
+        assertThat(Spouts.range(0,100_000)
+                         .zipS(Spouts.range(0,100_000),(a,b)->a-b)
+                         .filter(i->i!=0)
+                         .count(),equalTo(0l));
+    }
+
+    @Test
+    public void asyncInputs(){
+        ExecutorService ex = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 20; i++) {
+                ReactiveSeq<Integer> left = Spouts.async(ReactiveSeq.range(0, 1000), ex);
+                ReactiveSeq<Integer> right = Spouts.async(ReactiveSeq.range(0, 1000), ex);
+                assertThat(left.zipS(right, (a, b) -> a - b, 16)
+                               .toList(), equalTo(ReactiveSeq.fill(0).limit(1000).toList()));
+            }
+        }finally {
+            ex.shutdown();
+        }
+    }
+
+    @Test
+    public void zip3(){
+        assertThat(Spouts.of(1,2,3,4)
+                         .zip3(Spouts.of(10,20,30),Spouts.of(100,200,300,400))
+                         .toList(),equalTo(ListX.of(Tuple.tuple(1,10,100),Tuple.tuple(2,20,200),Tuple.tuple(3,30,300))));
+    }
+
+    @Test
+    public void zip4(){
+        assertThat(Spouts.of(1,2,3)
+                         .zip4(ReactiveSeq.of(10,20,30),Spouts.of(100,200,300),ReactiveSeq.of(1000,2000),(a,b,c,d)->a+b+c+d)
+                         .toList(),equalTo(ListX.of(1111,2222)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPrefetch(){
+        new ZippingOperator<Integer,Integer,Integer>(new IterableSourceOperator<>(ListX.of(1)),new IterableSourceOperator<>(ListX.of(1)),(a,b)->a+b,0);
+    }
+}
@@ -0,0 +1,196 @@
+package com.aol.cyclops2.react.async.pipes;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import cyclops.async.LazyReact;
+import cyclops.async.PartitionedPipes;
+import cyclops.async.QueueFactories;
+import cyclops.stream.ReactiveSeq;
+import org.junit.Test;
+
+public class PartitionedPipesTest {
+
+	@Test
+	public void keysAreOrderedWithinASinglePartition(){
+		PartitionedPipes<Integer, String> pipes = PartitionedPipes.of(4);
+		for(int i=0;i<100;i++){
+			for(int key=0;key<50;key++)
+				pipes.push(key, key + ":" + i);
+		}
+		pipes.close();
+
+		Map<String, Integer> keyToPartition = new HashMap<>();
+		Map<String, List<Integer>> keyToValues = new HashMap<>();
+		for(int p=0;p<pipes.partitions();p++){
+			for(String next : pipes.reactiveSeq(p).get().toList()){
+				String[] parts = next.split(":");
+				Integer previous = keyToPartition.put(parts[0], p);
+				assertTrue(previous==null || previous==p);
+				keyToValues.computeIfAbsent(parts[0], k->new ArrayList<>()).add(Integer.valueOf(parts[1]));
+			}
+		}
+		assertThat(keyToValues.size(), equalTo(50));
+		for(List<Integer> values : keyToValues.values())
+			assertThat(values, equalTo(ReactiveSeq.range(0, 100).toList()));
+	}
+
+	@Test
+	public void keysAreSpreadAcrossPartitions(){
+		PartitionedPipes<Integer, Integer> pipes = PartitionedPipes.of(4);
+		int[] counts = new int[4];
+		for(int key=0;key<10000;key++)
+			counts[pipes.partitionFor(key)]++;
+		for(int count : counts){
+			assertThat(count, greaterThan(1000));
+			assertThat(count, lessThan(4000));
+		}
+	}
+
+	@Test
+	public void addingAPartitionOnlyMovesKeysToIt(){
+		PartitionedPipes<String, Integer> pipes = PartitionedPipes.of(3);
+		Map<String, Integer> before = new HashMap<>();
+		for(int key=0;key<10000;key++)
+			before.put("key" + key, pipes.partitionFor("key" + key));
+
+		int added = pipes.addPartition();
+
+		assertThat(added, equalTo(3));
+		assertThat(pipes.partitions(), equalTo(4));
+		int moved = 0;
+		for(Map.Entry<String, Integer> next : before.entrySet()){
+			int now = pipes.partitionFor(next.getKey());
+			if(now!=next.getValue()){
+				assertThat(now, equalTo(added));
+				moved++;
+			}
+		}
+		assertThat(moved, greaterThan(1000));
+		assertThat(moved, lessThan(5000));
+	}
+
+	@Test
+	public void rebalanceKeepsKeyOrder() throws Exception {
+		PartitionedPipes<String, Integer> pipes = PartitionedPipes.of(2);
+		String key = movedKey();
+		int oldPartition = pipes.partitionFor(key);
+		for(int i=0;i<10;i++)
+			pipes.push(key, i);
+
+		int newPartition = pipes.addPartition();
+		assertThat(pipes.partitionFor(key), equalTo(newPartition));
+		for(int i=10;i<20;i++)
+			pipes.push(key, i);
+
+		ReactiveSeq<Integer> newReader = pipes.reactiveSeq(newPartition).get();
+		CompletableFuture<List<Integer>> moved = CompletableFuture.supplyAsync(()->newReader.toList());
+		Thread.sleep(100);
+		assertFalse(moved.isDone());
+
+		ReactiveSeq<Integer> oldReader = pipes.reactiveSeq(oldPartition).get();
+		pipes.close();
+		assertThat(oldReader.toList(), equalTo(ReactiveSeq.range(0, 10).toList()));
+		assertThat(moved.get(5, TimeUnit.SECONDS), equalTo(ReactiveSeq.range(10, 20).toList()));
+	}
+
+	@Test
+	public void handoffWaitsForDownstreamProcessing() throws Exception {
+		PartitionedPipes<String, Integer> pipes = PartitionedPipes.of(2);
+		String key = movedKey();
+		int oldPartition = pipes.partitionFor(key);
+		pipes.push(key, 0);
+		int newPartition = pipes.addPartition();
+		pipes.push(key, 1);
+
+		List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+		ReactiveSeq<Integer> oldReader = pipes.reactiveSeq(oldPartition).get();
+		ReactiveSeq<Integer> newReader = pipes.reactiveSeq(newPartition).get();
+		pipes.close();
+		CompletableFuture<Void> old = CompletableFuture.runAsync(()->oldReader.forEach(i->{
+			try {
+				Thread.sleep(200);
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+			processed.add(i);
+		}));
+		newReader.forEach(processed::add);
+		old.get(5, TimeUnit.SECONDS);
+
+		assertThat(processed, equalTo(Arrays.asList(0, 1)));
+	}
+
+	@Test
+	public void closedDonorWithoutReadersDoesNotBlock() throws Exception {
+		PartitionedPipes<String, Integer> pipes = PartitionedPipes.of(2);
+		String key = movedKey();
+		pipes.push(key, 0);
+		int newPartition = pipes.addPartition();
+		pipes.push(key, 1);
+		pipes.close();
+
+		assertThat(CompletableFuture.supplyAsync(()->pipes.reactiveSeq(newPartition).get().toList())
+									.get(5, TimeUnit.SECONDS), equalTo(Arrays.asList(1)));
+	}
+
+	@Test
+	public void handoffTimesOut() throws Exception {
+		PartitionedPipes<String, Integer> pipes = PartitionedPipes.of(2, QueueFactories.unboundedQueue(), 100, TimeUnit.MILLISECONDS);
+		String key = movedKey();
+		int oldPartition = pipes.partitionFor(key);
+		pipes.push(key, 0);
+		int newPartition = pipes.addPartition();
+		pipes.push(key, 1);
+		pipes.reactiveSeq(oldPartition).get();
+		pipes.close();
+
+		assertThat(CompletableFuture.supplyAsync(()->pipes.reactiveSeq(newPartition).get().toList())
+									.get(5, TimeUnit.SECONDS), equalTo(Arrays.asList(1)));
+	}
+
+	@Test
+	public void futureStreamPerPartition(){
+		PartitionedPipes<Integer, Integer> pipes = PartitionedPipes.of(2, QueueFactories.boundedQueue(100));
+		ReactiveSeq.range(0, 10).forEach(i->pipes.push(i, i));
+		pipes.close();
+
+		int total = 0;
+		for(int p=0;p<pipes.partitions();p++)
+			total += pipes.futureStream(p, new LazyReact(1,1)).get().toList().size();
+		assertThat(total, equalTo(10));
+	}
+
+	@Test
+	public void unknownPartition(){
+		PartitionedPipes<Integer, Integer> pipes = PartitionedPipes.of(2);
+		assertFalse(pipes.reactiveSeq(2).isPresent());
+		assertFalse(pipes.reactiveSeq(-1).isPresent());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidPartitions(){
+		PartitionedPipes.of(0);
+	}
+
+	private String movedKey(){
+		PartitionedPipes<String, Integer> larger = PartitionedPipes.of(3);
+		for(int i=0;;i++){
+			if(larger.partitionFor("key" + i)==2)
+				return "key" + i;
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package com.aol.cyclops2.react.collectors.lazy;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops2.internal.react.async.future.FastFuture;
+import com.aol.cyclops2.internal.react.exceptions.FilteredExecutionPathException;
+
+import cyclops.async.LazyReact;
+
+public class AdaptiveMaxActiveTest {
+
+	AdaptiveMaxActive maxActive;
+	long fast = TimeUnit.MILLISECONDS.toNanos(1);
+	long slow = TimeUnit.MILLISECONDS.toNanos(50);
+
+	@Before
+	public void setup(){
+		maxActive = MaxActive.adaptive(2, 20);
+	}
+	private long start(){
+		return System.nanoTime();
+	}
+
+	@Test
+	public void startsAtMin(){
+		assertThat(maxActive.getMaxActive(),equalTo(2));
+		assertThat(maxActive.getMetrics().getLimit(),equalTo(2));
+	}
+	@Test
+	public void slowStartGrowsByOnePerTask(){
+		for(int i=0;i<5;i++)
+			maxActive.sample(start(),fast,false);
+		assertThat(maxActive.getMaxActive(),equalTo(7));
+	}
+	@Test
+	public void limitedByMax(){
+		for(int i=0;i<100;i++)
+			maxActive.sample(start(),fast,false);
+		assertThat(maxActive.getMaxActive(),equalTo(20));
+	}
+	@Test
+	public void failureBacksOff(){
+		for(int i=0;i<100;i++)
+			maxActive.sample(start(),fast,false);
+		maxActive.sample(start(),fast,true);
+		assertThat(maxActive.getMaxActive(),equalTo(18));
+		assertThat(maxActive.getMetrics().getDecreases(),equalTo(1l));
+	}
+	@Test
+	public void slowTaskBacksOff(){
+		for(int i=0;i<100;i++)
+			maxActive.sample(start(),fast,false);
+		maxActive.sample(start(),slow,false);
+		assertThat(maxActive.getMaxActive(),equalTo(18));
+	}
+	@Test
+	public void oneDecreasePerWindow(){
+		for(int i=0;i<100;i++)
+			maxActive.sample(start(),fast,false);
+		long before = start();
+		maxActive.sample(start(),slow,false);
+		maxActive.sample(before,slow,false);
+		maxActive.sample(before,fast,true);
+		assertThat(maxActive.getMaxActive(),equalTo(18));
+		maxActive.sample(start(),slow,false);
+		assertThat(maxActive.getMaxActive(),equalTo(16));
+	}
+	@Test
+	public void additiveIncreaseAfterDecrease(){
+		for(int i=0;i<100;i++)
+			maxActive.sample(start(),fast,false);
+		maxActive.sample(start(),fast,true);
+		for(int i=0;i<20;i++)
+			maxActive.sample(start(),fast,false);
+		assertThat(maxActive.getMaxActive(),equalTo(19));
+	}
+	@Test
+	public void limitedByMin(){
+		for(int i=0;i<100;i++)
+			maxActive.sample(start(),fast,true);
+		assertThat(maxActive.getMaxActive(),equalTo(2));
+	}
+	@Test
+	public void reduceToBelowMaxActive(){
+		assertThat(maxActive.getReduceTo(),equalTo(1));
+		for(int i=0;i<100;i++)
+			maxActive.sample(start(),fast,false);
+		assertThat(maxActive.getReduceTo(),equalTo(18));
+	}
+	@Test
+	public void onActiveSamplesCompletion(){
+		FastFuture<Integer> f = new FastFuture<>();
+		maxActive.onActive(f);
+		assertThat(maxActive.getMetrics().getSamples(),equalTo(0l));
+		f.set(10);
+		f.set(10);
+		assertThat(maxActive.getMetrics().getSamples(),equalTo(1l));
+		assertThat(maxActive.getMaxActive(),equalTo(3));
+	}
+	@Test
+	public void onActiveFailure(){
+		for(int i=0;i<100;i++)
+			maxActive.sample(start(),fast,false);
+		maxActive.onActive(FastFuture.failedFuture(new RuntimeException()));
+		assertThat(maxActive.getMetrics().getDecreases(),equalTo(1l));
+	}
+	@Test
+	public void filteredIsNotFailure(){
+		maxActive.onActive(FastFuture.failedFuture(new FilteredExecutionPathException()));
+		assertThat(maxActive.getMetrics().getDecreases(),equalTo(0l));
+		assertThat(maxActive.getMaxActive(),equalTo(3));
+	}
+	@Test
+	public void lazyReact(){
+		AdaptiveMaxActive maxActive = MaxActive.adaptive(1, 50);
+		assertThat(new LazyReact().withMaxActive(maxActive)
+								  .range(0,1000)
+								  .map(i->i*2)
+								  .toList().size(),equalTo(1000));
+		assertThat(maxActive.getMetrics().getSamples(),greaterThan(0l));
+		assertThat(maxActive.getMaxActive(),greaterThan(1));
+		assertThat(maxActive.getMaxActive(),lessThanOrEqualTo(50));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void invalidMin(){
+		MaxActive.adaptive(0, 10);
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void invalidBackoff(){
+		maxActive.withBackoff(1.5);
+	}
+}
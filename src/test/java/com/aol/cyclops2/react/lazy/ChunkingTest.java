@@ -0,0 +1,202 @@
+package com.aol.cyclops2.react.lazy;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops2.internal.react.async.future.FastFuture;
+import com.aol.cyclops2.internal.react.stream.LazyStreamWrapper;
+
+import cyclops.async.LazyReact;
+import cyclops.async.QueueFactories;
+import cyclops.async.adapters.Queue;
+import cyclops.collections.mutable.ListX;
+import cyclops.stream.ReactiveSeq;
+
+public class ChunkingTest {
+
+	ExecutorService exec;
+	AtomicInteger tasks;
+	volatile CountDownLatch gate;
+	LazyReact react;
+
+	@Before
+	public void setup(){
+		exec = Executors.newFixedThreadPool(4);
+		tasks = new AtomicInteger(0);
+		gate = new CountDownLatch(0);
+		react = new LazyReact(r->{
+			tasks.incrementAndGet();
+			CountDownLatch current = gate;
+			exec.execute(()->{
+				try {
+					current.await();
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+				r.run();
+			});
+		});
+	}
+	//hold back all tasks until the Stream has been read, so each chunk is full before it is processed
+	private void holdTasks(){
+		gate = new CountDownLatch(1);
+		CountDownLatch current = gate;
+		CompletableFuture.runAsync(()->{
+			try {
+				Thread.sleep(300);
+			} catch (InterruptedException e) {
+			}
+			current.countDown();
+		});
+	}
+	@After
+	public void tearDown(){
+		exec.shutdownNow();
+	}
+
+	@Test
+	public void allElementsProcessed(){
+		List<Integer> result = react.withChunking(10)
+									.range(0,1000)
+									.map(i->i*2)
+									.toList();
+		assertThat(ListX.fromIterable(result).sorted(),equalTo(ReactiveSeq.range(0,1000).map(i->i*2).toListX()));
+	}
+	@Test
+	public void partialLastChunk(){
+		assertThat(react.withChunking(10)
+						.range(0,25)
+						.map(i->i*2)
+						.toList().size(),equalTo(25));
+	}
+	@Test
+	public void oneTaskPerChunk(){
+		holdTasks();
+		react.withChunking(10)
+			 .range(0,50)
+			 .map(i->i*2)
+			 .toList();
+		assertThat(tasks.get(),equalTo(5));
+	}
+	@Test
+	public void chunkRunsOnOneThread(){
+		holdTasks();
+		Map<Integer,Set<Long>> threads = react.withChunking(10)
+											  .range(0,50)
+											  .map(i->new long[]{i,Thread.currentThread().getId()})
+											  .toList()
+											  .stream()
+											  .collect(Collectors.groupingBy(a->(int)a[0]/10,Collectors.mapping(a->a[1],Collectors.toSet())));
+		assertThat(threads.size(),equalTo(5));
+		threads.values().forEach(s->assertThat(s.size(),equalTo(1)));
+	}
+	@Test
+	public void sourceIsNotReadAhead(){
+		AtomicInteger read = new AtomicInteger(0);
+		LazyStreamWrapper<Integer> wrapper = new LazyStreamWrapper<Integer>(()->Stream.generate(read::incrementAndGet),react.withChunking(64))
+																	.operation(p->p.thenApplyAsync(i->i,exec));
+		List<Object> result = wrapper.injectFutures()
+									 .limit(10)
+									 .map(FastFuture::join)
+									 .collect(Collectors.toList());
+		assertThat(result.size(),equalTo(10));
+		assertThat(read.get(),equalTo(10));
+	}
+	@Test
+	public void partialChunkIsNotDelayed() throws Exception {
+		Queue<Integer> queue = QueueFactories.<Integer>unboundedQueue().build();
+		CompletableFuture<Integer> first = new CompletableFuture<>();
+		queue.offer(1);
+		CompletableFuture<Void> done = CompletableFuture.runAsync(()->react.withChunking(64)
+																		   .fromStream(queue.stream())
+																		   .map(i->i*2)
+																		   .forEach(first::complete));
+		assertThat(first.get(5,TimeUnit.SECONDS),equalTo(2));
+		queue.close();
+		done.get(5,TimeUnit.SECONDS);
+	}
+	@Test
+	public void rejectedChunkCompletesExceptionally(){
+		AtomicInteger errors = new AtomicInteger(0);
+		List<Integer> result = new LazyReact(r->{
+										throw new RejectedExecutionException();
+									})
+									.withChunking(10)
+									.range(0,25)
+									.map(i->i*2)
+									.capture(e->errors.incrementAndGet())
+									.toList();
+		assertThat(result.size(),equalTo(0));
+		assertThat(errors.get(),equalTo(25));
+	}
+	@Test
+	public void errorsPerElement(){
+		AtomicInteger errors = new AtomicInteger(0);
+		List<Integer> result = react.withChunking(10)
+									.range(0,20)
+									.map(i->{
+										if(i==5)
+											throw new RuntimeException("boo!");
+										return i;
+									})
+									.capture(e->errors.incrementAndGet())
+									.toList();
+		assertThat(result.size(),equalTo(19));
+		assertThat(errors.get(),equalTo(1));
+	}
+	@Test
+	public void recoverPerElement(){
+		List<Integer> result = react.withChunking(10)
+									.range(0,20)
+									.map(i->{
+										if(i==5)
+											throw new RuntimeException("boo!");
+										return i;
+									})
+									.recover(e->-1)
+									.toList();
+		assertThat(result.size(),equalTo(20));
+		assertThat(ListX.fromIterable(result).filter(i->i==-1).size(),equalTo(1));
+	}
+	@Test
+	public void multipleStages(){
+		List<String> result = react.withChunking(8)
+								   .objectPoolingOn()
+								   .range(0,100)
+								   .map(i->i+1)
+								   .filter(i->i%2==0)
+								   .map(i->"v"+i)
+								   .toList();
+		assertThat(result.size(),equalTo(50));
+	}
+	@Test
+	public void chunkSizeOneIsPerElement(){
+		react.withChunking(1)
+			 .range(0,100)
+			 .map(i->i*2)
+			 .toList();
+		assertThat(tasks.get(),equalTo(100));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void invalidChunkSize(){
+		react.withChunking(0);
+	}
+}
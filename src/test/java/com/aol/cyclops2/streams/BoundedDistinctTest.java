@@ -0,0 +1,85 @@
+package com.aol.cyclops2.streams;
+
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertThat;
+
+public class BoundedDistinctTest {
+
+    private void forEachStreamType(Function<ReactiveSeq<Integer>,List<Integer>> fn, List<Integer> expected, Integer... values){
+        assertThat(fn.apply(ReactiveSeq.of(values)),equalTo(expected));
+        assertThat(fn.apply(Spouts.of(values)),equalTo(expected));
+        assertThat(fn.apply(ReactiveSeq.oneShotStream(Arrays.asList(values).stream())),equalTo(expected));
+        assertThat(fn.apply(Spouts.async(ReactiveSeq.of(values),Runnable::run)),equalTo(expected));
+    }
+
+    @Test
+    public void distinctMaxKeys(){
+        forEachStreamType(s->s.distinct(2).toList(),Arrays.asList(1,2,3,2),1,2,1,3,1,2);
+    }
+    @Test
+    public void distinctMaxKeysLargeEnough(){
+        forEachStreamType(s->s.distinct(10).toList(),Arrays.asList(1,2,3),1,2,1,3,1,2);
+    }
+    @Test
+    public void distinctWindow(){
+        forEachStreamType(s->s.distinct(10,1,TimeUnit.HOURS).toList(),Arrays.asList(1,2,3),1,2,1,3,1,2);
+    }
+    @Test
+    public void distinctWindowExpires(){
+        List<Integer> list = ReactiveSeq.of(1,1,2,1)
+                                        .peek(i->{
+                                            if(i==2) {
+                                                try {
+                                                    Thread.sleep(50);
+                                                } catch (InterruptedException e) {
+                                                    Thread.currentThread().interrupt();
+                                                }
+                                            }
+                                        })
+                                        .distinct(10,10,TimeUnit.MILLISECONDS)
+                                        .toList();
+        assertThat(list,equalTo(Arrays.asList(1,2,1)));
+    }
+    @Test
+    public void distinctApprox(){
+        forEachStreamType(s->s.distinctApprox(100,0.0001).toList(),Arrays.asList(1,2,3),1,2,1,3,1,2);
+    }
+    @Test
+    public void distinctApproxLarge(){
+        long count = ReactiveSeq.range(0,100_000)
+                                .map(i->i%50_000)
+                                .distinctApprox(50_000,0.01)
+                                .count();
+        assertThat(count,greaterThan(49_000l));
+        assertThat(count<=50_000,equalTo(true));
+    }
+    @Test
+    public void distinctMaxKeysInfinite(){
+        assertThat(Spouts.iterate(0,i->i+1)
+                         .map(i->i/2)
+                         .distinct(1)
+                         .limit(5)
+                         .toList(),equalTo(Arrays.asList(0,1,2,3,4)));
+        assertThat(ReactiveSeq.iterate(0,i->i+1)
+                              .map(i->i/2)
+                              .distinct(1)
+                              .limit(5)
+                              .toList(),equalTo(Arrays.asList(0,1,2,3,4)));
+    }
+    @Test
+    public void distinctIsPerSubscription(){
+        ReactiveSeq<Integer> stream = Spouts.of(1,2,1).distinct(5);
+        assertThat(stream.toList(),equalTo(Arrays.asList(1,2)));
+        assertThat(stream.toList(),equalTo(Arrays.asList(1,2)));
+    }
+}
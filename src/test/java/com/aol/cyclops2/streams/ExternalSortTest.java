@@ -0,0 +1,290 @@
+package com.aol.cyclops2.streams;
+
+import com.aol.cyclops2.util.Serializer;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.SortOptions;
+import cyclops.stream.Spouts;
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ExternalSortTest {
+
+    Path dir;
+
+    @Before
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("external-sort-test");
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(p -> p.toFile().delete());
+        }
+        Files.delete(dir);
+    }
+
+    private long tempFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+
+    private void forEachStreamType(Function<ReactiveSeq<Integer>, List<Integer>> fn, List<Integer> expected, Integer... values) {
+        assertThat(fn.apply(ReactiveSeq.of(values)), equalTo(expected));
+        assertThat(fn.apply(Spouts.of(values)), equalTo(expected));
+        assertThat(fn.apply(ReactiveSeq.oneShotStream(Arrays.asList(values).stream())), equalTo(expected));
+        assertThat(fn.apply(Spouts.async(ReactiveSeq.of(values), Runnable::run)), equalTo(expected));
+    }
+
+    @Test
+    public void sortedInMemory() {
+        forEachStreamType(s -> s.sorted(Comparator.naturalOrder(), SortOptions.inMemory()).toList(),
+                          Arrays.asList(1, 2, 3, 4, 5), 4, 2, 5, 1, 3);
+    }
+
+    @Test
+    public void sortedExternal() {
+        forEachStreamType(s -> s.sorted(Comparator.naturalOrder(), SortOptions.<Integer>external(2).withDirectory(dir)).toList(),
+                          Arrays.asList(1, 2, 3, 4, 5), 4, 2, 5, 1, 3);
+    }
+
+    @Test
+    public void sortedExternalReversed() {
+        forEachStreamType(s -> s.sorted(Comparator.<Integer>reverseOrder(), SortOptions.<Integer>external(2).withDirectory(dir)).toList(),
+                          Arrays.asList(5, 4, 3, 2, 1), 4, 2, 5, 1, 3);
+    }
+
+    @Test
+    public void sortedEmpty() {
+        forEachStreamType(s -> s.sorted(Comparator.naturalOrder(), SortOptions.<Integer>external(2).withDirectory(dir)).toList(),
+                          Arrays.asList());
+    }
+
+    @Test
+    public void sortedLargeMatchesInMemorySort() throws IOException {
+        Random r = new Random(7);
+        List<Integer> data = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++)
+            data.add(r.nextInt(1000));
+        List<Integer> expected = new ArrayList<>(data);
+        Collections.sort(expected);
+
+        List<Integer> result = ReactiveSeq.fromIterable(data)
+                                          .sorted(Comparator.naturalOrder(), SortOptions.<Integer>external(997)
+                                                                                        .withDirectory(dir)
+                                                                                        .withBufferSize(64))
+                                          .toList();
+
+        assertThat(result, equalTo(expected));
+        assertThat(tempFiles(), equalTo(0l));
+    }
+
+    @Test
+    public void sortedIsStable() {
+        List<Tuple2<Integer, Integer>> data = ReactiveSeq.range(0, 100)
+                                                         .map(i -> new Tuple2<>(i % 3, i))
+                                                         .toList();
+
+        List<Tuple2<Integer, Integer>> result = ReactiveSeq.fromIterable(data)
+                                                           .sorted(Comparator.comparing(Tuple2::v1),
+                                                                   SortOptions.<Tuple2<Integer, Integer>>external(7).withDirectory(dir))
+                                                           .toList();
+
+        assertThat(result, equalTo(data.stream()
+                                       .sorted(Comparator.comparing(Tuple2::v1))
+                                       .collect(Collectors.toList())));
+    }
+
+    @Test
+    public void sortedCustomSerializer() throws IOException {
+        AtomicInteger written = new AtomicInteger(0);
+        Serializer<String> utf8 = new Serializer<String>() {
+            @Override
+            public byte[] serialize(String value) {
+                written.incrementAndGet();
+                return value.getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public String deserialize(byte[] bytes) {
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+
+        List<String> result = ReactiveSeq.of("d", "bb", "a", "ccc", "e")
+                                         .sorted(Comparator.naturalOrder(), SortOptions.external(2, utf8).withDirectory(dir))
+                                         .toList();
+
+        assertThat(result, equalTo(Arrays.asList("a", "bb", "ccc", "d", "e")));
+        assertThat(written.get(), equalTo(4));
+        assertThat(tempFiles(), equalTo(0l));
+    }
+
+    @Test
+    public void sortedElementLargerThanBuffer() {
+        Serializer<Integer> padded = new Serializer<Integer>() {
+            @Override
+            public byte[] serialize(Integer value) {
+                return ByteBuffer.allocate(100).putInt(value).array();
+            }
+
+            @Override
+            public Integer deserialize(byte[] bytes) {
+                return ByteBuffer.wrap(bytes).getInt();
+            }
+        };
+
+        List<Integer> result = ReactiveSeq.of(5, 3, 1, 4, 2)
+                                          .sorted(Comparator.naturalOrder(), SortOptions.external(2, padded)
+                                                                                        .withDirectory(dir)
+                                                                                        .withBufferSize(16))
+                                          .toList();
+
+        assertThat(result, equalTo(Arrays.asList(1, 2, 3, 4, 5)));
+    }
+
+    @Test
+    public void sortedIsReplayable() {
+        ReactiveSeq<Integer> sorted = ReactiveSeq.of(3, 1, 2)
+                                                 .sorted(Comparator.naturalOrder(), SortOptions.<Integer>external(2).withDirectory(dir));
+
+        assertThat(sorted.toList(), equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(sorted.toList(), equalTo(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void sortedLimitTopK() {
+        forEachStreamType(s -> s.sorted().limit(3).toList(), Arrays.asList(1, 2, 3), 9, 4, 7, 1, 8, 3, 2, 6, 5);
+        forEachStreamType(s -> s.sorted().limit(0).toList(), Arrays.asList(), 9, 4, 7);
+        forEachStreamType(s -> s.sorted().limit(10).toList(), Arrays.asList(4, 7, 9), 9, 4, 7);
+    }
+
+    @Test
+    public void sortedSkipLimit() {
+        forEachStreamType(s -> s.sorted().skip(2).limit(3).toList(), Arrays.asList(3, 4, 5), 9, 4, 7, 1, 8, 3, 2, 6, 5);
+    }
+
+    @Test
+    public void sortedLimitTopKDoesNotSpill() throws IOException {
+        List<Integer> result = ReactiveSeq.range(0, 1000)
+                                          .map(i -> 999 - i)
+                                          .sorted(Comparator.naturalOrder(), SortOptions.<Integer>external(10).withDirectory(dir))
+                                          .limit(5)
+                                          .toList();
+
+        assertThat(result, equalTo(Arrays.asList(0, 1, 2, 3, 4)));
+        assertThat(tempFiles(), equalTo(0l));
+    }
+
+    @Test
+    public void sortedLimitTopKIsStable() {
+        List<Tuple2<Integer, Integer>> result = ReactiveSeq.range(0, 20)
+                                                           .map(i -> new Tuple2<>(i % 2, i))
+                                                           .sorted(Comparator.comparing(Tuple2::v1), SortOptions.inMemory())
+                                                           .limit(4)
+                                                           .toList();
+
+        assertThat(result, equalTo(Arrays.asList(new Tuple2<>(0, 0), new Tuple2<>(0, 2), new Tuple2<>(0, 4), new Tuple2<>(0, 6))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidRunSize() {
+        SortOptions.external(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidMergeFactor() {
+        SortOptions.external(10).withMergeFactor(1);
+    }
+
+    @Test
+    public void multiPassMergeIsSortedAndStable() throws IOException {
+        List<Tuple2<Integer, Integer>> result = ReactiveSeq.range(0, 2000)
+                                                           .map(i -> new Tuple2<>(i % 7, i))
+                                                           .sorted(Comparator.comparing(Tuple2::v1),
+                                                                   SortOptions.<Tuple2<Integer, Integer>>external(10).withMergeFactor(4).withDirectory(dir))
+                                                           .toList();
+        List<Tuple2<Integer, Integer>> expected = ReactiveSeq.range(0, 2000)
+                                                             .map(i -> new Tuple2<>(i % 7, i))
+                                                             .sorted(Comparator.comparing(Tuple2::v1), SortOptions.inMemory())
+                                                             .toList();
+
+        assertThat(result, equalTo(expected));
+        assertThat(tempFiles(), equalTo(0l));
+    }
+
+    @Test
+    public void mergeFactorBoundsRunsMergedAtOnce() throws IOException {
+        Iterator<Integer> it = ReactiveSeq.range(0, 1000)
+                                          .map(i -> 999 - i)
+                                          .sorted(Comparator.naturalOrder(), SortOptions.<Integer>external(10).withMergeFactor(4).withDirectory(dir))
+                                          .iterator();
+
+        assertThat(it.next(), equalTo(0));
+        assertThat(tempFiles(), lessThanOrEqualTo(4l));
+        int count = 1;
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        assertThat(count, equalTo(1000));
+        assertThat(tempFiles(), equalTo(0l));
+    }
+
+    @Test
+    public void closeDeletesRunsOfAbandonedStream() throws IOException {
+        ReactiveSeq<Integer> sorted = ReactiveSeq.range(0, 1000)
+                                                 .map(i -> 999 - i)
+                                                 .sorted(Comparator.naturalOrder(), SortOptions.<Integer>external(10).withDirectory(dir))
+                                                 .map(i -> i * 2);
+        Iterator<Integer> it = sorted.iterator();
+
+        assertThat(it.next(), equalTo(0));
+        assertThat(tempFiles() > 0, equalTo(true));
+        sorted.close();
+        assertThat(tempFiles(), equalTo(0l));
+    }
+
+    @Test
+    public void failedSortDeletesRuns() throws IOException {
+        try {
+            ReactiveSeq.range(0, 1000)
+                       .map(i -> {
+                           if (i == 500)
+                               throw new IllegalStateException("boo!");
+                           return i;
+                       })
+                       .sorted(Comparator.naturalOrder(), SortOptions.<Integer>external(10).withDirectory(dir))
+                       .toList();
+            fail("expected the sort to fail");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), equalTo("boo!"));
+        }
+        assertThat(tempFiles(), equalTo(0l));
+    }
+}
@@ -0,0 +1,136 @@
+package com.aol.cyclops2.streams;
+
+import cyclops.companion.Monoids;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class SlidingWindowTest {
+
+    private <R> void forEachStreamType(Function<ReactiveSeq<Integer>,List<R>> fn, List<R> expected, Integer... values){
+        assertThat(fn.apply(ReactiveSeq.of(values)),equalTo(expected));
+        assertThat(fn.apply(Spouts.of(values)),equalTo(expected));
+        assertThat(fn.apply(ReactiveSeq.oneShotStream(Arrays.asList(values).stream())),equalTo(expected));
+        assertThat(fn.apply(Spouts.async(ReactiveSeq.of(values),Runnable::run)),equalTo(expected));
+    }
+
+    @Test
+    public void slidingViewMatchesSliding(){
+        for(int size=1;size<5;size++){
+            for(int increment=1;increment<5;increment++){
+                List<List<Integer>> expected = new ArrayList<>(ReactiveSeq.range(0,17).sliding(size,increment).toList());
+                int s = size;
+                int inc = increment;
+                forEachStreamType(r->r.slidingView(s,inc).toList(),expected,ReactiveSeq.range(0,17).toArray(Integer[]::new));
+            }
+        }
+    }
+    @Test
+    public void slidingView(){
+        forEachStreamType(s->s.slidingView(3,2).toList(),
+                          Arrays.asList(Arrays.asList(1,2,3),Arrays.asList(3,4,5),Arrays.asList(5,6)),1,2,3,4,5,6);
+    }
+    @Test
+    public void slidingViewEmpty(){
+        forEachStreamType(s->s.slidingView(3,1).toList(),Arrays.asList());
+    }
+    @Test
+    public void slidingViewShort(){
+        forEachStreamType(s->s.slidingView(3,1).toList(),Arrays.asList(Arrays.asList(1,2)),1,2);
+    }
+    @Test
+    public void slidingViewsRemainValid(){
+        List<List<Integer>> windows = ReactiveSeq.range(0,1000)
+                                                 .slidingView(10,1)
+                                                 .toList();
+        assertThat(windows.size(),equalTo(991));
+        for(int i=0;i<windows.size();i++)
+            assertThat(windows.get(i),equalTo(ReactiveSeq.range(i,i+10).toList()));
+    }
+    @Test(expected=UnsupportedOperationException.class)
+    public void slidingViewIsReadOnly(){
+        ReactiveSeq.of(1,2,3).slidingView(2,1).findFirst().get().set(0,10);
+    }
+    @Test
+    public void slidingBuffer(){
+        forEachStreamType(s->s.slidingBuffer(3,1).map(w->w.get(0)+w.get(w.size()-1)).toList(),
+                          Arrays.asList(4,6,8),1,2,3,4,5);
+    }
+    @Test
+    public void slidingBufferCopies(){
+        forEachStreamType(s->s.slidingBuffer(3,2).<List<Integer>>map(ArrayList::new).toList(),
+                          Arrays.asList(Arrays.asList(1,2,3),Arrays.asList(3,4,5),Arrays.asList(5,6)),1,2,3,4,5,6);
+    }
+    @Test
+    public void slidingReduce(){
+        forEachStreamType(s->s.slidingReduce(3,Monoids.intMax).toList(),Arrays.asList(3,4,5,5,5),1,2,3,4,5,1,2);
+    }
+    @Test
+    public void slidingReduceShort(){
+        forEachStreamType(s->s.slidingReduce(3,Monoids.intSum).toList(),Arrays.asList(3),1,2);
+    }
+    @Test
+    public void slidingReducePreservesOrder(){
+        List<String> result = ReactiveSeq.of("a","b","c","d","e")
+                                         .slidingReduce(3,Monoids.stringConcat)
+                                         .toList();
+        assertThat(result,equalTo(Arrays.asList("abc","bcd","cde")));
+    }
+    @Test
+    public void slidingReduceMatchesBruteForce(){
+        Random r = new Random(11);
+        List<Integer> data = new ArrayList<>();
+        for(int i=0;i<2000;i++)
+            data.add(r.nextInt(10_000));
+        List<Integer> expected = ReactiveSeq.fromIterable(data)
+                                            .sliding(25)
+                                            .map(w->w.foldLeft(Monoids.intMax))
+                                            .toList();
+        assertThat(ReactiveSeq.fromIterable(data).slidingReduce(25,Monoids.intMax).toList(),equalTo(expected));
+        assertThat(Spouts.fromIterable(data).slidingReduce(25,Monoids.intMax).toList(),equalTo(expected));
+    }
+    @Test
+    public void slidingSum(){
+        forEachStreamType(s->s.slidingSum(3,i->i).toList(),Arrays.asList(6.0,9.0,12.0),1,2,3,4,5);
+    }
+    @Test
+    public void slidingSumShort(){
+        forEachStreamType(s->s.slidingSum(3,i->i).toList(),Arrays.asList(3.0),1,2);
+    }
+    @Test
+    public void slidingSumLarge(){
+        List<Double> sums = ReactiveSeq.range(0,10_000)
+                                       .slidingSum(100,i->i*0.1)
+                                       .toList();
+        assertThat(sums.size(),equalTo(9901));
+        for(int i=0;i<sums.size();i++){
+            double expected = 0;
+            for(int j=i;j<i+100;j++)
+                expected+=j*0.1;
+            assertThat(Math.abs(sums.get(i)-expected)<0.0001,equalTo(true));
+        }
+    }
+    @Test
+    public void slidingIsReplayable(){
+        ReactiveSeq<List<Integer>> windows = ReactiveSeq.of(1,2,3).slidingView(2,1);
+        assertThat(windows.toList(),equalTo(Arrays.asList(Arrays.asList(1,2),Arrays.asList(2,3))));
+        assertThat(windows.toList(),equalTo(Arrays.asList(Arrays.asList(1,2),Arrays.asList(2,3))));
+    }
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidWindowSize(){
+        ReactiveSeq.of(1,2,3).slidingView(0,1).toList();
+    }
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidIncrement(){
+        ReactiveSeq.of(1,2,3).slidingBuffer(2,0).toList();
+    }
+}
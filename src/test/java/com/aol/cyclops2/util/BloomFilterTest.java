@@ -0,0 +1,58 @@
+package com.aol.cyclops2.util;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class BloomFilterTest {
+
+    @Test
+    public void noFalseNegatives(){
+        BloomFilter<Integer> filter = new BloomFilter<>(10_000,0.01);
+        for(int i=0;i<10_000;i++)
+            filter.put(i);
+        for(int i=0;i<10_000;i++)
+            assertTrue(filter.mightContain(i));
+    }
+    @Test
+    public void putReportsNewValues(){
+        BloomFilter<String> filter = new BloomFilter<>(100,0.01);
+        assertTrue(filter.put("hello"));
+        assertFalse(filter.put("hello"));
+        assertTrue(filter.put("world"));
+        filter.put(null);
+        assertTrue(filter.mightContain(null));
+    }
+    @Test
+    public void falsePositiveRateNearConfigured(){
+        BloomFilter<Integer> filter = new BloomFilter<>(10_000,0.01);
+        for(int i=0;i<10_000;i++)
+            filter.put(i);
+        int falsePositives = 0;
+        for(int i=10_000;i<110_000;i++){
+            if(filter.mightContain(i))
+                falsePositives++;
+        }
+        assertThat(falsePositives,lessThan(2_000));
+    }
+    @Test
+    public void sizing(){
+        BloomFilter<Integer> filter = new BloomFilter<>(1_000,0.01);
+        assertThat(filter.bitSize(),greaterThan(9_000l));
+        assertThat(filter.bitSize()%64,equalTo(0l));
+        assertThat(filter.hashFunctions(),equalTo(7));
+    }
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidFpp(){
+        new BloomFilter<>(1_000,1.0);
+    }
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidExpectedItems(){
+        new BloomFilter<>(0,0.01);
+    }
+}
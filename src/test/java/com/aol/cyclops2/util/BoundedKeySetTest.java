@@ -0,0 +1,44 @@
+package com.aol.cyclops2.util;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class BoundedKeySetTest {
+
+    @Test
+    public void leastRecentlySeenEvicted(){
+        BoundedKeySet<Integer> keys = new BoundedKeySet<>(2);
+        assertTrue(keys.add(1));
+        assertTrue(keys.add(2));
+        assertFalse(keys.add(1));
+        assertTrue(keys.add(3));
+        assertThat(keys.size(),equalTo(2));
+        assertFalse(keys.add(1));
+        assertTrue(keys.add(2));
+    }
+    @Test
+    public void nullKeys(){
+        BoundedKeySet<Integer> keys = new BoundedKeySet<>(2);
+        assertTrue(keys.add(null));
+        assertFalse(keys.add(null));
+    }
+    @Test
+    public void keysExpireAfterWindow() throws InterruptedException {
+        BoundedKeySet<Integer> keys = new BoundedKeySet<>(10,TimeUnit.MILLISECONDS.toNanos(20));
+        assertTrue(keys.add(1));
+        assertFalse(keys.add(1));
+        Thread.sleep(50);
+        assertTrue(keys.add(1));
+        assertThat(keys.size(),equalTo(1));
+    }
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidMaxKeys(){
+        new BoundedKeySet<>(0);
+    }
+}
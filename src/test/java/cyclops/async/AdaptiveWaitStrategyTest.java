@@ -0,0 +1,116 @@
+package cyclops.async;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import cyclops.async.adapters.Queue;
+import cyclops.async.wait.AdaptiveWaitStrategy;
+import cyclops.async.wait.WaitStrategy;
+import cyclops.stream.ReactiveSeq;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+import org.junit.Test;
+
+import cyclops.async.wait.WaitStrategy.Offerable;
+import cyclops.async.wait.WaitStrategy.Takeable;
+
+public class AdaptiveWaitStrategyTest {
+	int called = 0;
+	Takeable<String> takeable = ()->{
+		called++;
+		if(called<150)
+			return null;
+		return "hello";
+	};
+	Offerable offerable = ()->{
+		called++;
+		if(called<150)
+			return false;
+		return true;
+	};
+	@Test
+	public void testTakeable() throws InterruptedException {
+		called =0;
+		AdaptiveWaitStrategy<String> strategy = new AdaptiveWaitStrategy<>();
+		String result = strategy.take(takeable);
+		assertThat(result,equalTo("hello"));
+		assertThat(called,equalTo(150));
+		assertThat(strategy.waits(),equalTo(1l));
+		assertThat(strategy.spins()+strategy.yields()+strategy.parks(),equalTo(148l));
+	}
+	@Test
+	public void testOfferable() throws InterruptedException {
+		called =0;
+		AdaptiveWaitStrategy<String> strategy = new AdaptiveWaitStrategy<>();
+		boolean result = strategy.offer(offerable);
+		assertThat(result,equalTo(true));
+		assertThat(called,equalTo(150));
+		assertThat(strategy.waits(),equalTo(1l));
+		assertThat(strategy.spins(),equalTo(100l));
+		assertThat(strategy.yields(),equalTo(10l));
+		assertThat(strategy.parks(),equalTo(38l));
+	}
+	@Test
+	public void noWaitNotRecorded() throws InterruptedException {
+		AdaptiveWaitStrategy<String> strategy = new AdaptiveWaitStrategy<>();
+		assertThat(strategy.take(()->"hello"),equalTo("hello"));
+		assertThat(strategy.offer(()->true),equalTo(true));
+		assertThat(strategy.waits(),equalTo(0l));
+	}
+	@Test
+	public void shortWaitsIncreaseActiveWaiting() throws InterruptedException {
+		AdaptiveWaitStrategy<String> strategy = new AdaptiveWaitStrategy<>(1, TimeUnit.SECONDS);
+		int spins = strategy.spinLimit();
+		int yields = strategy.yieldLimit();
+		for(int i=0;i<3;i++){
+			called = 148;
+			strategy.take(takeable);
+		}
+		assertThat(strategy.spinLimit(),greaterThan(spins));
+		assertThat(strategy.yieldLimit(),greaterThan(yields));
+	}
+	@Test
+	public void longWaitsDecreaseActiveWaiting() throws InterruptedException {
+		AdaptiveWaitStrategy<String> strategy = new AdaptiveWaitStrategy<>(1, TimeUnit.NANOSECONDS);
+		int spins = strategy.spinLimit();
+		int yields = strategy.yieldLimit();
+		for(int i=0;i<3;i++){
+			called = 0;
+			strategy.take(takeable);
+		}
+		assertThat(strategy.spinLimit(),lessThan(spins));
+		assertThat(strategy.yieldLimit(),lessThan(yields));
+		assertThat(strategy.averageWaitNanos(),greaterThan(1d));
+	}
+	@Test
+	public void testwithQueue(){
+		Queue<String> q = new Queue<>(new ManyToOneConcurrentArrayQueue<String>(100),
+									new AdaptiveWaitStrategy<>(),
+									new AdaptiveWaitStrategy<>());
+
+		q.offer("hello");
+		assertThat(q.get(),equalTo("hello"));
+	}
+	@Test
+	public void testWithQueueFactory() throws Exception {
+		AdaptiveWaitStrategy<Integer> strategy = WaitStrategy.adaptive();
+		Queue<Integer> q = QueueFactories.<Integer>boundedNonBlockingQueue(10,strategy).build();
+		ReactiveSeq<Integer> stream = q.stream();
+		CompletableFuture<List<Integer>> result = CompletableFuture.supplyAsync(()->stream.toList());
+
+		ReactiveSeq.range(0,1000).forEach(q::offer);
+		q.close();
+
+		assertThat(result.get(),equalTo(ReactiveSeq.range(0,1000).toList()));
+	}
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidTarget(){
+		new AdaptiveWaitStrategy<String>(0, TimeUnit.MILLISECONDS);
+	}
+
+}
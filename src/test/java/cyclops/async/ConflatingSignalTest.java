@@ -0,0 +1,118 @@
+package cyclops.async;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import cyclops.async.adapters.Signal;
+import cyclops.async.adapters.Topic;
+import cyclops.stream.ReactiveSeq;
+import org.junit.Test;
+
+public class ConflatingSignalTest {
+
+	@Test
+	public void slowDiscreteSubscribersSeeLatest(){
+		Signal<Integer> signal = Signal.conflatingSignal();
+		ReactiveSeq<Integer> continuous = signal.getContinuous().stream();
+		ReactiveSeq<Integer> discrete = signal.getDiscrete().stream();
+
+		ReactiveSeq.range(0, 1000).forEach(signal::set);
+		signal.close();
+
+		assertThat(continuous.toList(), equalTo(ReactiveSeq.range(0, 1000).toList()));
+		assertThat(discrete.toList(), equalTo(Arrays.asList(999)));
+	}
+
+	@Test
+	public void continuousSeesRepeatedValues(){
+		Signal<Integer> signal = Signal.conflatingSignal();
+		Iterator<Integer> continuous = signal.getContinuous().stream().iterator();
+		Iterator<Integer> discrete = signal.getDiscrete().stream().iterator();
+
+		signal.set(5);
+		assertThat(continuous.next(), is(5));
+		assertThat(discrete.next(), is(5));
+		signal.set(5);
+		assertThat(continuous.next(), is(5));
+		signal.set(6);
+		assertThat(continuous.next(), is(6));
+		assertThat(discrete.next(), is(6));
+	}
+
+	@Test
+	public void discreteSkipsValueAlreadySeen(){
+		Signal<Integer> signal = Signal.conflatingSignal();
+		Iterator<Integer> discrete = signal.getDiscrete().stream().iterator();
+
+		signal.set(1);
+		assertThat(discrete.next(), is(1));
+		signal.set(2);
+		signal.set(1);
+		signal.set(3);
+		assertThat(discrete.next(), is(3));
+	}
+
+	@Test
+	public void nullValues(){
+		Topic<Integer> topic = Topic.conflating();
+		ReactiveSeq<Integer> stream = topic.stream();
+		topic.offer(1);
+		topic.offer(null);
+		topic.close();
+
+		assertThat(stream.toList(), equalTo(Arrays.asList((Integer)null)));
+	}
+
+	@Test
+	public void multipleSubscribers(){
+		Topic<String> topic = Topic.conflating();
+		ReactiveSeq<String> s1 = topic.stream();
+		ReactiveSeq<String> s2 = topic.stream();
+		topic.offer("hello");
+		topic.offer("world");
+		topic.close();
+
+		assertThat(s1.toList(), equalTo(Arrays.asList("world")));
+		assertThat(s2.toList(), equalTo(Arrays.asList("world")));
+	}
+
+	@Test
+	public void concurrentUpdatesAreOrdered() throws Exception {
+		Signal<Integer> signal = Signal.conflatingSignal();
+		ReactiveSeq<Integer> continuous = signal.getContinuous().stream();
+		CompletableFuture<List<Integer>> result = CompletableFuture.supplyAsync(() -> continuous.toList());
+
+		ReactiveSeq.range(0, 100000).forEach(signal::set);
+		signal.close();
+
+		List<Integer> seen = result.get();
+		assertThat(seen.size(), is(100000));
+		for (int i = 0; i < seen.size(); i++)
+			assertThat(seen.get(i), is(i));
+	}
+
+	@Test
+	public void idleSubscriberIsWokenByPublish() throws Exception {
+		Signal<Integer> signal = Signal.conflatingSignal();
+		Iterator<Integer> continuous = signal.getContinuous().stream().iterator();
+		Iterator<Integer> discrete = signal.getDiscrete().stream().iterator();
+		CompletableFuture<Integer> nextContinuous = CompletableFuture.supplyAsync(continuous::next);
+		CompletableFuture<Integer> nextDiscrete = CompletableFuture.supplyAsync(discrete::next);
+
+		Thread.sleep(100);
+		assertFalse(nextContinuous.isDone());
+		assertFalse(nextDiscrete.isDone());
+		signal.set(1);
+
+		assertThat(nextContinuous.get(500, TimeUnit.MILLISECONDS), is(1));
+		assertThat(nextDiscrete.get(500, TimeUnit.MILLISECONDS), is(1));
+	}
+}
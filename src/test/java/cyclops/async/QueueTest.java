@@ -9,10 +9,14 @@ import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -21,6 +25,8 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import cyclops.async.adapters.Queue;
+import cyclops.async.wait.YieldWait;
+import cyclops.stream.ReactiveSeq;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -62,6 +68,19 @@ public class QueueTest {
                 .toList().get(0)
                 .size(),is(8));
 
+    }
+    @Test
+    public void batchByTimeQuietQueue(){
+        Queue<Integer> queue = QueueFactories.<Integer>boundedQueue(10).build();
+        queue.add(1);
+        queue.add(2);
+
+        long start = System.currentTimeMillis();
+        assertThat(queue.streamGroupedByTime(100,TimeUnit.MILLISECONDS)
+                .findFirst().get()
+                .size(),is(2));
+        assertTrue(System.currentTimeMillis()-start < 5000);
+        queue.close();
     }
 	@Test
 	public void parallelStreamClose(){
@@ -346,6 +365,68 @@ public class QueueTest {
 
 	}
 
+	@Test
+	public void mpmcAddFull() {
+		Queue<Integer> q = QueueFactories.<Integer>boundedMpmcQueue(2).build();
+
+		assertTrue(q.add(1));
+		assertTrue(q.add(2));
+		assertFalse(q.add(3));
+
+	}
+	@Test
+	public void mpmcConcurrentConsumers() throws InterruptedException {
+		Queue<Integer> q = QueueFactories.<Integer>boundedMpmcQueue(16, new YieldWait<>()).build();
+		Set<Integer> consumed = ConcurrentHashMap.newKeySet();
+		AtomicInteger count = new AtomicInteger(0);
+
+		List<Thread> consumers = new ArrayList<>();
+		for(int c=0;c<4;c++){
+			Thread t = new Thread(()->{
+				try{
+					while(true){
+						consumed.add(q.get());
+						count.incrementAndGet();
+					}
+				}catch(Queue.ClosedQueueException e){
+
+				}
+			});
+			t.start();
+			consumers.add(t);
+		}
+		List<Thread> producers = new ArrayList<>();
+		for(int p=0;p<4;p++){
+			int start = p*1000;
+			Thread t = new Thread(()->{
+				for(int i=start;i<start+1000;i++)
+					q.offer(i);
+			});
+			t.start();
+			producers.add(t);
+		}
+		for(Thread t : producers)
+			t.join();
+		q.close();
+		for(Thread t : consumers)
+			t.join(10_000);
+
+		for(Thread t : consumers)
+			assertFalse(t.isAlive());
+		assertThat(count.get(),equalTo(4000));
+		assertThat(consumed.size(),equalTo(4000));
+	}
+	@Test
+	public void mpmcParallelStreamClose(){
+		Queue<Integer> q = QueueFactories.<Integer>boundedMpmcQueue(2000).build();
+		for(int i=0;i<1000;i++){
+			q.add(i);
+		}
+		q.close();
+
+		assertThat(q.jdkStream().parallel().count(),equalTo(1000l));
+	}
+
 	@Test
 	public void testAddFull() {
 		Queue<Integer> q = new Queue<>(new LinkedBlockingQueue<>(2));
@@ -520,6 +601,106 @@ public class QueueTest {
 
 	}
 
+	@Test
+	public void drainToMax(){
+		Queue<Integer> q = QueueFactories.<Integer>boundedQueue(100).build();
+		q.offerAll(ReactiveSeq.range(1, 11).toList());
+
+		List<Integer> drained = new ArrayList<>();
+		assertThat(q.drainTo(drained, 4), is(4));
+		assertThat(drained, equalTo(Arrays.asList(1, 2, 3, 4)));
+		assertThat(q.drainTo(drained, 100), is(6));
+		assertThat(drained, equalTo(ReactiveSeq.range(1, 11).toList()));
+	}
+	@Test
+	public void drainToStopsAtClose(){
+		Queue<Integer> q = new Queue<>();
+		q.stream();
+		q.offerAll(Arrays.asList(1, null, 3));
+		q.close();
+
+		List<Integer> drained = new ArrayList<>();
+		assertThat(q.drainTo(drained, 100), is(3));
+		assertThat(drained, equalTo(Arrays.asList(1, null, 3)));
+		try {
+			q.drainTo(drained, 100);
+			fail("Queue should be closed");
+		} catch (Queue.ClosedQueueException e) {
+			assertThat(drained.size(), is(3));
+		}
+	}
+	@Test
+	public void drainToHoldsBackPoisonPill(){
+		Queue<Integer> q = QueueFactories.<Integer>boundedQueue(2).build();
+		q.offer(1);
+		q.disconnectStreams(1);
+
+		List<Integer> drained = new ArrayList<>();
+		assertThat(q.drainTo(drained, 100), is(1));
+		//the queue is refilled to capacity after the Poison Pill has been read
+		assertTrue(q.add(2));
+		assertTrue(q.add(3));
+		try {
+			q.get();
+			fail("Poison Pill should be read before later data");
+		} catch (Queue.ClosedQueueException e) {
+			assertThat(q.get(), is(2));
+			assertThat(q.get(), is(3));
+		}
+	}
+	@Test
+	public void drainToNonBlocking(){
+		Queue<Integer> q = QueueFactories.<Integer>unboundedNonBlockingQueue().build();
+		q.offerAll(ReactiveSeq.range(0, 100).toList());
+
+		List<Integer> drained = new ArrayList<>();
+		assertThat(q.drainTo(drained, 1000), is(100));
+		assertThat(drained, equalTo(ReactiveSeq.range(0, 100).toList()));
+	}
+	@Test(expected = Queue.ClosedQueueException.class)
+	public void offerAllClosed(){
+		Queue<Integer> q = QueueFactories.<Integer>unboundedQueue().build();
+		q.close();
+		q.offerAll(Arrays.asList(1, 2, 3));
+	}
+	@Test
+	public void offerAllWaitsForCapacity() throws Exception {
+		Queue<Integer> q = QueueFactories.<Integer>boundedQueue(2).build();
+		Thread producer = new Thread(() -> {
+			q.offerAll(ReactiveSeq.range(0, 1000).toList());
+			q.close();
+		});
+		List<Integer> result = new ArrayList<>();
+		ReactiveSeq<Integer> stream = q.streamChunked(16);
+		producer.start();
+		stream.forEach(result::add);
+		producer.join(5000);
+
+		assertThat(result, equalTo(ReactiveSeq.range(0, 1000).toList()));
+	}
+	@Test
+	public void streamChunked(){
+		Queue<Integer> q = QueueFactories.<Integer>unboundedQueue().build();
+		ReactiveSeq<Integer> stream = q.streamChunked(64);
+		q.offerAll(ReactiveSeq.range(0, 1000).toList());
+		q.close();
+
+		assertThat(stream.toList(), equalTo(ReactiveSeq.range(0, 1000).toList()));
+	}
+	@Test
+	public void streamChunkedNonBlocking(){
+		Queue<Integer> q = QueueFactories.<Integer>unboundedNonBlockingQueue().build();
+		ReactiveSeq<Integer> stream = q.streamChunked(64);
+		q.offerAll(Arrays.asList(1, null, 3));
+		q.close();
+
+		assertThat(stream.toList(), equalTo(Arrays.asList(1, null, 3)));
+	}
+	@Test(expected = IllegalArgumentException.class)
+	public void streamChunkedInvalidSize(){
+		QueueFactories.<Integer>unboundedQueue().build().streamChunked(0);
+	}
+
 	boolean called = false;
 	@Test
 	public void stackOverflowQuestion() {
@@ -0,0 +1,147 @@
+package cyclops.async;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import cyclops.function.FluentFunctions;
+import cyclops.stream.ReactiveSeq;
+import org.junit.After;
+import org.junit.Test;
+
+public class RetryTest {
+
+	ExecutorService exec = Executors.newSingleThreadExecutor();
+	AtomicInteger attempts = new AtomicInteger(0);
+	Retry retry = Retry.exponential(1, TimeUnit.MILLISECONDS)
+					   .withExecutor(exec);
+
+	@After
+	public void tearDown(){
+		exec.shutdownNow();
+	}
+
+	private String failTwice(){
+		if(attempts.incrementAndGet()<3)
+			throw new UncheckedIOException(new IOException("attempt " + attempts.get()));
+		return "hello";
+	}
+
+	private String alwaysFail(){
+		attempts.incrementAndGet();
+		throw new IllegalStateException("failed");
+	}
+
+	private Throwable error(CompletableFuture<?> f) throws InterruptedException {
+		try{
+			f.get();
+			fail("exception expected");
+			return null;
+		}catch(ExecutionException e){
+			return e.getCause();
+		}
+	}
+
+	@Test
+	public void succeedsAfterFailures() throws Exception {
+		assertThat(retry.supply(this::failTwice).get(), equalTo("hello"));
+		assertThat(attempts.get(), equalTo(3));
+	}
+
+	@Test
+	public void givesUpAfterMaxAttempts() throws Exception {
+		Throwable error = error(retry.withMaxAttempts(4).supply(this::alwaysFail));
+		assertThat(error, instanceOf(IllegalStateException.class));
+		assertThat(attempts.get(), equalTo(4));
+	}
+
+	@Test
+	public void onlyRetriesMatchingErrors() throws Exception {
+		Throwable error = error(retry.retryOn(e->e instanceof UncheckedIOException).supply(this::alwaysFail));
+		assertThat(error, instanceOf(IllegalStateException.class));
+		assertThat(attempts.get(), equalTo(1));
+
+		attempts.set(0);
+		assertThat(retry.retryOn(e->e instanceof UncheckedIOException).supply(this::failTwice).get(), equalTo("hello"));
+	}
+
+	@Test
+	public void givesUpAfterMaxElapsed() throws Exception {
+		Throwable error = error(Retry.exponential(1, TimeUnit.SECONDS)
+									 .withMaxElapsed(100, TimeUnit.MILLISECONDS)
+									 .supply(this::alwaysFail));
+		assertThat(error, instanceOf(IllegalStateException.class));
+		assertThat(attempts.get(), equalTo(1));
+	}
+
+	@Test
+	public void executorIsFreeBetweenAttempts() throws Exception {
+		CompletableFuture<String> retrying = Retry.fixed(500, TimeUnit.MILLISECONDS)
+												  .withExecutor(exec)
+												  .supply(this::failTwice);
+		long start = System.currentTimeMillis();
+		CompletableFuture.supplyAsync(()->"other", exec).get();
+		assertTrue(System.currentTimeMillis() - start < 400);
+		assertThat(retrying.get(), equalTo("hello"));
+	}
+
+	@Test
+	public void jitter() throws Exception {
+		assertThat(retry.withJitter(1).supply(this::failTwice).get(), equalTo("hello"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidJitter(){
+		retry.withJitter(1.5);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidMaxAttempts(){
+		retry.withMaxAttempts(0);
+	}
+
+	@Test
+	public void reactiveSeq(){
+		ConcurrentHashMap<Integer, AtomicInteger> calls = new ConcurrentHashMap<>();
+		assertThat(ReactiveSeq.of(1, 2, 3)
+							  .retryAsync(i->{
+								  if(calls.computeIfAbsent(i, k->new AtomicInteger(0)).incrementAndGet()<2)
+									  throw new RuntimeException("first");
+								  return i * 10;
+							  }, retry)
+							  .toList(), containsInAnyOrder(10, 20, 30));
+	}
+
+	@Test
+	public void futureStream(){
+		ConcurrentHashMap<Integer, AtomicInteger> calls = new ConcurrentHashMap<>();
+		assertThat(new LazyReact(2,2).of(1, 2, 3)
+							  .retryAsync(i->{
+								  if(calls.computeIfAbsent(i, k->new AtomicInteger(0)).incrementAndGet()<2)
+									  throw new RuntimeException("first");
+								  return i * 10;
+							  }, Retry.exponential(1, TimeUnit.MILLISECONDS))
+							  .toList(), containsInAnyOrder(10, 20, 30));
+	}
+
+	@Test
+	public void fluentFunction() throws Exception {
+		assertThat(FluentFunctions.of((Integer i)->failTwice() + i)
+								  .retryAsync(retry)
+								  .apply(1)
+								  .get(), equalTo("hello1"));
+	}
+}
@@ -0,0 +1,170 @@
+package cyclops.async.adapters;
+
+import cyclops.async.wait.NoWaitRetry;
+import cyclops.stream.ReactiveSeq;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class RingBufferTopicTest {
+
+	@Test
+	public void multipleSubscribersGetSameMessages() {
+		Topic<String> topic = Topic.ringBuffer(16);
+
+		ReactiveSeq<String> data1 = topic.stream();
+		ReactiveSeq<String> data2 = topic.stream();
+		topic.fromStream(ReactiveSeq.of("hello", "world"));
+
+		assertThat(data1.limit(1).findFirst().get(), is("hello"));
+		assertThat(data2.limit(2).reduce("", (acc, next) -> acc + ' ' + next),
+				is(" hello world"));
+	}
+
+	@Test
+	public void closeCompletesSubscribers() {
+		Topic<Integer> topic = Topic.ringBuffer(16);
+
+		ReactiveSeq<Integer> data1 = topic.stream();
+		ReactiveSeq<Integer> data2 = topic.stream();
+		topic.offer(1);
+		topic.offer(2);
+		topic.offer(3);
+		topic.close();
+
+		assertThat(data1.toList(), equalTo(Arrays.asList(1, 2, 3)));
+		assertThat(data2.toList(), equalTo(Arrays.asList(1, 2, 3)));
+	}
+
+	@Test
+	public void nullValues() {
+		Topic<Integer> topic = Topic.ringBuffer(4);
+
+		ReactiveSeq<Integer> data = topic.stream();
+		topic.offer(1);
+		topic.offer(null);
+		topic.offer(3);
+		topic.close();
+
+		assertThat(data.toList(), equalTo(Arrays.asList(1, null, 3)));
+	}
+
+	@Test
+	public void publisherIsGatedOnSlowestSubscriber() throws Exception {
+		Topic<Integer> topic = Topic.ringBuffer(4);
+
+		ReactiveSeq<Integer> fast = topic.stream();
+		ReactiveSeq<Integer> slow = topic.stream();
+
+		CompletableFuture<List<Integer>> fastResult = CompletableFuture.supplyAsync(() -> fast.toList());
+		CompletableFuture<List<Integer>> slowResult = CompletableFuture.supplyAsync(() -> slow.peek(i -> sleep(1)).toList());
+
+		topic.fromStream(ReactiveSeq.range(0, 100));
+		topic.close();
+
+		List<Integer> expected = ReactiveSeq.range(0, 100).toList();
+		assertThat(fastResult.get(), equalTo(expected));
+		assertThat(slowResult.get(), equalTo(expected));
+	}
+
+	@Test
+	public void manyPublishers() throws Exception {
+		Topic<Integer> topic = Topic.ringBuffer(8, new NoWaitRetry<>(), Topic.SlowSubscriberPolicy.BLOCK);
+
+		ReactiveSeq<Integer> data1 = topic.stream();
+		ReactiveSeq<Integer> data2 = topic.stream();
+		CompletableFuture<List<Integer>> result1 = CompletableFuture.supplyAsync(() -> data1.toList());
+		CompletableFuture<List<Integer>> result2 = CompletableFuture.supplyAsync(() -> data2.toList());
+
+		List<Thread> publishers = new ArrayList<>();
+		for (int p = 0; p < 3; p++) {
+			int start = p * 1000;
+			Thread t = new Thread(() -> topic.fromStream(ReactiveSeq.range(start, start + 1000)));
+			t.start();
+			publishers.add(t);
+		}
+		for (Thread t : publishers)
+			t.join();
+		topic.close();
+
+		List<Integer> expected = ReactiveSeq.range(0, 3000).toList();
+		assertThat(result1.get().stream().sorted().collect(Collectors.toList()), equalTo(expected));
+		assertThat(result2.get().stream().sorted().collect(Collectors.toList()), equalTo(expected));
+		for (int p = 0; p < 3; p++) {
+			int start = p * 1000;
+			List<Integer> fromPublisher = result1.get().stream()
+												 .filter(i -> i >= start && i < start + 1000)
+												 .collect(Collectors.toList());
+			assertThat(fromPublisher, equalTo(ReactiveSeq.range(start, start + 1000).toList()));
+		}
+	}
+
+	@Test
+	public void dropSlowestNeverBlocksPublisher() {
+		Topic<Integer> topic = Topic.ringBuffer(4, new NoWaitRetry<>(), Topic.SlowSubscriberPolicy.DROP);
+
+		ReactiveSeq<Integer> dropped = topic.stream();
+		topic.fromStream(ReactiveSeq.range(0, 100));
+
+		ReactiveSeq<Integer> late = topic.stream();
+		topic.offer(100);
+		topic.close();
+
+		assertThat(dropped.toList(), equalTo(Arrays.asList()));
+		assertThat(late.toList(), equalTo(Arrays.asList(100)));
+	}
+
+	@Test
+	public void dropSlowestKeepsUpToDateSubscribers() {
+		Topic<Integer> topic = Topic.ringBuffer(4, new NoWaitRetry<>(), Topic.SlowSubscriberPolicy.DROP);
+
+		ReactiveSeq<Integer> slow = topic.stream();
+		ReactiveSeq<Integer> fast = topic.stream();
+		Queue<Integer> fastQueue = topic.getDistributor().getSubscribers().get(1);
+		for (int i = 0; i < 4; i++) {
+			topic.offer(i);
+			assertThat(fastQueue.get(), equalTo(i));
+		}
+		topic.offer(4);
+		topic.close();
+
+		assertThat(slow.toList(), equalTo(Arrays.asList()));
+		assertThat(fast.toList(), equalTo(Arrays.asList(4)));
+	}
+
+	@Test
+	public void disconnectedSubscribersDoNotGate() {
+		Topic<Integer> topic = Topic.ringBuffer(4);
+
+		ReactiveSeq<Integer> data = topic.stream();
+		topic.disconnect(data);
+		topic.fromStream(ReactiveSeq.range(0, 100));
+
+		ReactiveSeq<Integer> late = topic.stream();
+		topic.offer(100);
+		topic.close();
+
+		assertThat(late.toList(), equalTo(Arrays.asList(100)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidCapacity() {
+		Topic.ringBuffer(0);
+	}
+
+	private void sleep(long time) {
+		try {
+			Thread.sleep(time);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
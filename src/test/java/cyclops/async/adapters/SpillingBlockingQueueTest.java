@@ -0,0 +1,173 @@
+package cyclops.async.adapters;
+
+import com.aol.cyclops2.util.Serializer;
+import cyclops.async.QueueFactories;
+import cyclops.stream.ReactiveSeq;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class SpillingBlockingQueueTest {
+
+	@Test
+	public void spillsBeyondCapacityInOrder() {
+		SpillingBlockingQueue<Integer> queue = new SpillingBlockingQueue<>(10, Serializer.javaSerializer());
+		for (int i = 0; i < 1000; i++)
+			assertThat(queue.offer(i), is(true));
+
+		assertThat(queue.size(), is(1000));
+		assertThat(queue.spilledSize(), is(990));
+
+		List<Integer> result = new ArrayList<>();
+		queue.drainTo(result);
+		assertThat(result, equalTo(ReactiveSeq.range(0, 1000).toList()));
+		assertThat(queue.size(), is(0));
+	}
+
+	@Test
+	public void interleavedOffersStayInOrder() {
+		SpillingBlockingQueue<Integer> queue = new SpillingBlockingQueue<>(4, Serializer.javaSerializer());
+		List<Integer> result = new ArrayList<>();
+		int next = 0;
+		for (int round = 0; round < 100; round++) {
+			for (int i = 0; i < 7; i++)
+				queue.offer(next++);
+			for (int i = 0; i < 5; i++)
+				result.add(queue.poll());
+		}
+		queue.drainTo(result);
+		assertThat(result, equalTo(ReactiveSeq.range(0, next).toList()));
+	}
+
+	@Test
+	public void rollsOverSegments() {
+		AtomicInteger serialized = new AtomicInteger(0);
+		SpillingBlockingQueue<String> queue = new SpillingBlockingQueue<>(2, new Serializer<String>() {
+			@Override
+			public byte[] serialize(String value) {
+				serialized.incrementAndGet();
+				return value.getBytes(StandardCharsets.UTF_8);
+			}
+
+			@Override
+			public String deserialize(byte[] bytes) {
+				return new String(bytes, StandardCharsets.UTF_8);
+			}
+		}, null, 64);
+
+		List<String> data = ReactiveSeq.range(0, 100).map(i -> "value " + i).toList();
+		data.forEach(queue::offer);
+		queue.offer(new String(new char[200]).replace('\0', 'x'));
+
+		assertThat(serialized.get(), is(99));
+		List<String> result = new ArrayList<>();
+		queue.drainTo(result);
+		assertThat(result.subList(0, 100), equalTo(data));
+		assertThat(result.get(100).length(), is(200));
+	}
+
+	@Test
+	public void iteratorIncludesSpilledData() {
+		SpillingBlockingQueue<Integer> queue = new SpillingBlockingQueue<>(2, Serializer.javaSerializer());
+		Arrays.asList(1, 2, 3, 4).forEach(queue::offer);
+
+		assertThat(ReactiveSeq.fromIterable(queue).toList(), equalTo(Arrays.asList(1, 2, 3, 4)));
+		assertThat(queue.size(), is(4));
+		assertThat(queue.peek(), is(1));
+	}
+
+	@Test
+	public void pollTimesOutWhenEmpty() throws InterruptedException {
+		SpillingBlockingQueue<Integer> queue = new SpillingBlockingQueue<>(2, Serializer.javaSerializer());
+		assertThat(queue.poll(10, TimeUnit.MILLISECONDS), nullValue());
+	}
+
+	@Test
+	public void clearDiscardsSpilledData() {
+		SpillingBlockingQueue<Integer> queue = new SpillingBlockingQueue<>(2, Serializer.javaSerializer());
+		ReactiveSeq.range(0, 10).forEach(queue::offer);
+		queue.clear();
+		queue.offer(100);
+
+		assertThat(queue.spilledSize(), is(0));
+		assertThat(queue.poll(), is(100));
+	}
+
+	@Test
+	public void queueWithNullsAndClose() {
+		Queue<Integer> queue = QueueFactories.<Integer>spillingQueue(2).build();
+		ReactiveSeq<Integer> stream = queue.stream();
+		queue.offer(1);
+		queue.offer(null);
+		ReactiveSeq.range(2, 50).forEach(queue::offer);
+		queue.close();
+
+		List<Integer> expected = new ArrayList<>(Arrays.asList(1, null));
+		expected.addAll(ReactiveSeq.range(2, 50).toList());
+		assertThat(stream.toList(), equalTo(expected));
+	}
+
+	@Test
+	public void producerNeverBlocks() throws Exception {
+		Queue<Integer> queue = QueueFactories.<Integer>spillingQueue(16).build();
+		ReactiveSeq<Integer> stream = queue.stream();
+		CompletableFuture<List<Integer>> result = CompletableFuture.supplyAsync(() -> stream.toList());
+
+		ReactiveSeq.range(0, 10000).forEach(queue::offer);
+		queue.close();
+
+		assertThat(result.get(), equalTo(ReactiveSeq.range(0, 10000).toList()));
+	}
+
+	@Test
+	public void failedDeserializationIsReportedOnceAndSkipped() {
+		SpillingBlockingQueue<String> queue = new SpillingBlockingQueue<>(1, new Serializer<String>() {
+			@Override
+			public byte[] serialize(String value) {
+				return value.getBytes(StandardCharsets.UTF_8);
+			}
+
+			@Override
+			public String deserialize(byte[] bytes) {
+				String value = new String(bytes, StandardCharsets.UTF_8);
+				if (value.equals("bad"))
+					throw new IllegalStateException("boo!");
+				return value;
+			}
+		});
+		Arrays.asList("a", "b", "bad", "c").forEach(queue::offer);
+
+		assertThat(queue.poll(), is("a"));
+		assertThat(queue.poll(), is("b"));
+		try {
+			queue.poll();
+			fail("expected deserialization to fail");
+		} catch (IllegalStateException e) {
+			assertThat(e.getMessage(), is("boo!"));
+		}
+		assertThat(queue.poll(), is("c"));
+		assertThat(queue.size(), is(0));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidCapacity() {
+		new SpillingBlockingQueue<Integer>(0, Serializer.javaSerializer());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidSegmentSize() {
+		new SpillingBlockingQueue<Integer>(10, Serializer.javaSerializer(), null, 0);
+	}
+}